@@ -0,0 +1,107 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.java;
+
+import static com.redhat.qute.jdt.QuteProjectTest.loadMavenProject;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.redhat.qute.jdt.QuteProjectTest.QuteMavenProjectName;
+import com.redhat.qute.jdt.internal.java.QuteTemplateLinkCache;
+
+/**
+ * Tests for {@link QuteTemplateLinkCache}.
+ *
+ */
+public class QuteTemplateLinkCacheTest {
+
+	private static final String KIND = "codeLens";
+
+	@BeforeClass
+	public static void setUp() {
+		QuteTemplateLinkCache.getInstance().initialize();
+	}
+
+	@Test
+	public void javaFileChanged() throws Exception {
+		IJavaProject javaProject = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+		ITypeRoot typeRoot = javaProject.findType("org.acme.qute.HelloResource").getCompilationUnit();
+		AtomicInteger collects = new AtomicInteger();
+		Function<String, Map<String, List<?>>> collector = createCollector(collects);
+
+		QuteTemplateLinkCache cache = QuteTemplateLinkCache.getInstance();
+		cache.getLinks(typeRoot, KIND, collector);
+		cache.getLinks(typeRoot, KIND, collector);
+		assertEquals(1, collects.get());
+
+		// Another Java file of the project is saved
+		IFile item = (IFile) javaProject.findType("org.acme.qute.Item").getResource();
+		touch(item);
+		cache.getLinks(typeRoot, KIND, collector);
+		assertEquals(2, collects.get());
+	}
+
+	@Test
+	public void configFileChanged() throws Exception {
+		IJavaProject javaProject = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+		IFile yaml = javaProject.getProject().getFile("src/main/resources/application.yaml");
+		if (!yaml.exists()) {
+			yaml.create(new ByteArrayInputStream(new byte[0]), true, new NullProgressMonitor());
+		}
+		ITypeRoot typeRoot = javaProject.findType("org.acme.qute.HelloResource").getCompilationUnit();
+		AtomicInteger collects = new AtomicInteger();
+		Function<String, Map<String, List<?>>> collector = createCollector(collects);
+
+		QuteTemplateLinkCache cache = QuteTemplateLinkCache.getInstance();
+		cache.getLinks(typeRoot, KIND, collector);
+		cache.getLinks(typeRoot, KIND, collector);
+		assertEquals(1, collects.get());
+
+		// The template suffixes can be declared in application.yaml
+		yaml.setContents(new ByteArrayInputStream(
+				"quarkus:\n  qute:\n    suffixes: html,txt\n".getBytes(StandardCharsets.UTF_8)), IResource.NONE,
+				new NullProgressMonitor());
+		cache.getLinks(typeRoot, KIND, collector);
+		assertEquals(2, collects.get());
+	}
+
+	private static Function<String, Map<String, List<?>>> createCollector(AtomicInteger collects) {
+		return kind -> {
+			collects.incrementAndGet();
+			return Collections.emptyMap();
+		};
+	}
+
+	private static void touch(IFile file) throws Exception {
+		byte[] content = null;
+		try (InputStream contents = file.getContents()) {
+			content = contents.readAllBytes();
+		}
+		file.setContents(new ByteArrayInputStream(content), IResource.NONE, new NullProgressMonitor());
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.template;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.redhat.qute.jdt.internal.JavaUtils;
+import com.redhat.qute.jdt.internal.template.BinaryTemplatesCache;
+import com.redhat.qute.jdt.internal.template.BinaryTemplatesCache.JarTemplates;
+import com.redhat.qute.jdt.internal.template.BinaryTemplatesCache.JarTemplatesLoader;
+
+/**
+ * Tests for {@link BinaryTemplatesCache}.
+ *
+ */
+public class BinaryTemplatesCacheTest {
+
+	@Test
+	public void cacheHit() throws Exception {
+		IPackageFragmentRoot root = createJarRoot("binary-templates-hit", "hit.jar");
+		BinaryTemplatesCache cache = new BinaryTemplatesCache(BinaryTemplatesCache.DEFAULT_MAX_ENTRIES);
+		AtomicInteger loads = new AtomicInteger();
+		JarTemplatesLoader loader = createLoader(loads);
+
+		JarTemplates templates = cache.get(root, loader);
+		Assert.assertSame(templates, cache.get(root, loader));
+		Assert.assertEquals(1, loads.get());
+
+		// An evicted JAR is walked again
+		cache.evict(root);
+		Assert.assertEquals(0, cache.size());
+		cache.get(root, loader);
+		Assert.assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void jarChangedWhileWalking() throws Exception {
+		IPackageFragmentRoot root = createJarRoot("binary-templates-changed", "changed.jar");
+		File jarFile = root.getPath().toFile();
+		BinaryTemplatesCache cache = new BinaryTemplatesCache(BinaryTemplatesCache.DEFAULT_MAX_ENTRIES);
+		AtomicInteger loads = new AtomicInteger();
+		JarTemplatesLoader loader = r -> {
+			if (loads.incrementAndGet() == 1) {
+				// The JAR is updated while it is walked
+				jarFile.setLastModified(jarFile.lastModified() + 10000);
+			}
+			return new JarTemplates(null, null);
+		};
+
+		cache.get(root, loader);
+		// The JAR has changed since the timestamp has been read, it is walked again
+		cache.get(root, loader);
+		Assert.assertEquals(2, loads.get());
+		cache.get(root, loader);
+		Assert.assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void leastRecentlyUsedJarIsEvicted() throws Exception {
+		IPackageFragmentRoot root1 = createJarRoot("binary-templates-lru1", "lru1.jar");
+		IPackageFragmentRoot root2 = createJarRoot("binary-templates-lru2", "lru2.jar");
+		IPackageFragmentRoot root3 = createJarRoot("binary-templates-lru3", "lru3.jar");
+		BinaryTemplatesCache cache = new BinaryTemplatesCache(2);
+		AtomicInteger loads = new AtomicInteger();
+		JarTemplatesLoader loader = createLoader(loads);
+
+		cache.get(root1, loader);
+		cache.get(root2, loader);
+		// root1 becomes the most recently used JAR
+		cache.get(root1, loader);
+		cache.get(root3, loader);
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(3, loads.get());
+
+		// root2 has been evicted
+		cache.get(root1, loader);
+		Assert.assertEquals(3, loads.get());
+		cache.get(root2, loader);
+		Assert.assertEquals(4, loads.get());
+	}
+
+	private static JarTemplatesLoader createLoader(AtomicInteger loads) {
+		return root -> {
+			loads.incrementAndGet();
+			return new JarTemplates(Collections.emptyList(), null);
+		};
+	}
+
+	private static IPackageFragmentRoot createJarRoot(String projectName, String jarName) throws Exception {
+		File jarFile = new File(JavaUtils.getWorkingProjectDirectory(), jarName);
+		try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(jarFile))) {
+			jar.putNextEntry(new JarEntry("templates/hello.html"));
+			jar.write("Hello {name}!".getBytes(StandardCharsets.UTF_8));
+			jar.closeEntry();
+		}
+		String jarPath = jarFile.getAbsolutePath();
+		IJavaProject javaProject = JavaUtils.createJavaProject(projectName, new String[] { jarPath });
+		return javaProject.getPackageFragmentRoot(jarPath);
+	}
+}
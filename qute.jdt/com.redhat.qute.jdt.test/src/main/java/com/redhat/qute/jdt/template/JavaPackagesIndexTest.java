@@ -0,0 +1,95 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.template;
+
+import static com.redhat.qute.jdt.QuteProjectTest.loadMavenProject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NavigableSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.redhat.qute.jdt.QuteProjectTest.QuteMavenProjectName;
+import com.redhat.qute.jdt.internal.JavaUtils;
+import com.redhat.qute.jdt.internal.template.JavaPackagesIndex;
+
+/**
+ * Tests for {@link JavaPackagesIndex}.
+ *
+ */
+public class JavaPackagesIndexTest {
+
+	@Test
+	public void prefix() throws Exception {
+		IJavaProject javaProject = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+
+		NavigableSet<String> packages = JavaPackagesIndex.getInstance().getPackages(javaProject, "java.u",
+				new NullProgressMonitor());
+		Assert.assertTrue(packages.contains("java.util"));
+		Assert.assertTrue(packages.contains("java.util.concurrent"));
+		Assert.assertFalse(packages.contains("java.lang"));
+
+		packages = JavaPackagesIndex.getInstance().getPackages(javaProject, "org.acme.", new NullProgressMonitor());
+		Assert.assertTrue(packages.contains("org.acme.qute"));
+		Assert.assertFalse(packages.contains("java.util"));
+	}
+
+	@Test
+	public void packageAdded() throws Exception {
+		IJavaProject javaProject = JavaUtils.createJavaProject("java-packages-added", null);
+		Assert.assertTrue(JavaPackagesIndex.getInstance()
+				.getPackages(javaProject, "org.acme", new NullProgressMonitor()).isEmpty());
+
+		// The package created in the source folder invalidates the index
+		IPackageFragmentRoot root = javaProject.findPackageFragmentRoot(javaProject.getPath().append("src"));
+		root.createPackageFragment("org.acme.added", true, new NullProgressMonitor());
+
+		NavigableSet<String> packages = JavaPackagesIndex.getInstance().getPackages(javaProject, "org.acme",
+				new NullProgressMonitor());
+		Assert.assertEquals("[org.acme, org.acme.added]", packages.toString());
+	}
+
+	@Test
+	public void classpathChanged() throws Exception {
+		IJavaProject javaProject = JavaUtils.createJavaProject("java-packages-classpath", null);
+		Assert.assertTrue(JavaPackagesIndex.getInstance()
+				.getPackages(javaProject, "org.foo", new NullProgressMonitor()).isEmpty());
+
+		// The JAR added to the classpath invalidates the index
+		File jarFile = new File(JavaUtils.getWorkingProjectDirectory(), "java-packages-foo.jar");
+		try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(jarFile))) {
+			jar.putNextEntry(new JarEntry("org/foo/hello.txt"));
+			jar.write("Hello".getBytes(StandardCharsets.UTF_8));
+			jar.closeEntry();
+		}
+		IClasspathEntry[] rawClasspath = javaProject.getRawClasspath();
+		IClasspathEntry[] newClasspath = Arrays.copyOf(rawClasspath, rawClasspath.length + 1);
+		newClasspath[rawClasspath.length] = JavaCore.newLibraryEntry(new Path(jarFile.getAbsolutePath()), null, null);
+		javaProject.setRawClasspath(newClasspath, new NullProgressMonitor());
+
+		NavigableSet<String> packages = JavaPackagesIndex.getInstance().getPackages(javaProject, "org.foo",
+				new NullProgressMonitor());
+		Assert.assertEquals("[org.foo]", packages.toString());
+	}
+}
@@ -15,6 +15,8 @@ import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
 import com.redhat.qute.jdt.internal.JavaDataModelListenerManager;
+import com.redhat.qute.jdt.internal.java.QuteTemplateLinkCache;
+import com.redhat.qute.jdt.internal.template.BinaryTemplatesCache;
 import com.redhat.qute.jdt.internal.template.datamodel.DataModelProviderRegistry;
 
 /**
@@ -32,11 +34,14 @@ public class QutePlugin implements BundleActivator {
 		plugin = this;
 		JavaDataModelListenerManager.getInstance().initialize();
 		DataModelProviderRegistry.getInstance().initialize();
+		QuteTemplateLinkCache.getInstance().initialize();
 	}
 
 	public void stop(BundleContext context) throws Exception {
 		JavaDataModelListenerManager.getInstance().destroy();
 		DataModelProviderRegistry.getInstance().destroy();
+		QuteTemplateLinkCache.getInstance().destroy();
+		BinaryTemplatesCache.getInstance().clear();
 		plugin = null;
 	}
 
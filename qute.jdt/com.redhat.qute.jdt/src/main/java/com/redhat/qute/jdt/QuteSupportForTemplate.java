@@ -63,7 +63,9 @@ import com.redhat.qute.commons.QuteJavadocParams;
 import com.redhat.qute.commons.QuteProjectParams;
 import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.binary.BinaryTemplate;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateContentParams;
 import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
@@ -188,7 +190,30 @@ public class QuteSupportForTemplate {
 		if (javaProject == null) {
 			return null;
 		}
-		return QuarkusIntegrationForQute.getBinaryTemplates(javaProject, monitor);
+		return QuarkusIntegrationForQute.getBinaryTemplates(javaProject, params.isContentOnDemand(), monitor);
+	}
+
+	/**
+	 * Returns the binary templates with their content for the given binary
+	 * template URIs which belong to the given project Uri.
+	 *
+	 * @param params  the project uri and the binary template URIs.
+	 * @param utils   JDT LS utilities
+	 * @param monitor the progress monitor
+	 *
+	 * @return the binary templates with their content for the given binary
+	 *         template URIs.
+	 *
+	 * @throws CoreException
+	 */
+	public List<BinaryTemplate> getBinaryTemplateContents(QuteBinaryTemplateContentParams params, IJDTUtils utils,
+			IProgressMonitor monitor) throws CoreException {
+		String projectUri = params.getProjectUri();
+		IJavaProject javaProject = getJavaProjectFromProjectUri(projectUri);
+		if (javaProject == null) {
+			return null;
+		}
+		return QuarkusIntegrationForQute.getBinaryTemplateContents(javaProject, params.getUris(), monitor);
 	}
 
 	/**
@@ -205,6 +230,9 @@ public class QuteSupportForTemplate {
 	 */
 	public List<JavaTypeInfo> getJavaTypes(QuteJavaTypesParams params, IJDTUtils utils, IProgressMonitor monitor)
 			throws CoreException {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
 		String projectUri = params.getProjectUri();
 		IJavaProject javaProject = getJavaProjectFromProjectUri(projectUri);
 		if (javaProject == null) {
@@ -227,6 +255,9 @@ public class QuteSupportForTemplate {
 	 */
 	public Location getJavaDefinition(QuteJavaDefinitionParams params, IJDTUtils utils, IProgressMonitor monitor)
 			throws CoreException {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
 		IType type = getTypeFromParams(params.getSourceType(), params.getProjectUri(), monitor);
 		if (type == null) {
 			return null;
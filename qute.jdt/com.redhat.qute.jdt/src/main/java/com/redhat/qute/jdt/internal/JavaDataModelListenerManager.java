@@ -29,11 +29,15 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent.ProjectChangeInfo;
 import com.redhat.qute.jdt.IJavaDataModelChangedListener;
+import com.redhat.qute.jdt.internal.java.QuteTemplateLinkCache;
+import com.redhat.qute.jdt.internal.template.BinaryTemplatesCache;
+import com.redhat.qute.jdt.internal.template.JavaPackagesIndex;
 import com.redhat.qute.jdt.utils.JDTQuteProjectUtils;
 
 /**
@@ -74,16 +78,15 @@ public class JavaDataModelListenerManager {
 
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			if (listeners.isEmpty()) {
-				return;
-			}
 			// Collect project which have some Java changes:
 			// - create/delete Java project
 			// - classpath changed
 			// update, delete, add Java file
+			// The delta is processed even without listeners to invalidate the Java
+			// packages index.
 			Map<IJavaProject, ProjectChangeInfo> changedProjects = new HashMap<>();
 			processDelta(event.getDelta(), changedProjects);
-			if (changedProjects.isEmpty()) {
+			if (changedProjects.isEmpty() || listeners.isEmpty()) {
 				// No changes
 				return;
 			}
@@ -108,8 +111,24 @@ public class JavaDataModelListenerManager {
 			IJavaElement element = delta.getElement();
 			switch (element.getElementType()) {
 			case IJavaElement.JAVA_MODEL:
+				processDeltaChildren(delta, changedProjects);
+				break;
 			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (isCreatedOrDeleted(delta) || isArchiveChanged(delta.getFlags())) {
+					// a JAR is added/removed/changed
+					JavaPackagesIndex.getInstance().invalidate(element.getJavaProject());
+				}
+				if (isArchiveRemovedOrChanged(delta)) {
+					// a JAR is removed/changed, evict its templates
+					BinaryTemplatesCache.getInstance().evict((IPackageFragmentRoot) element);
+				}
+				processDeltaChildren(delta, changedProjects);
+				break;
 			case IJavaElement.PACKAGE_FRAGMENT:
+				if (isCreatedOrDeleted(delta)) {
+					// a package is created/deleted
+					JavaPackagesIndex.getInstance().invalidate(element.getJavaProject());
+				}
 				processDeltaChildren(delta, changedProjects);
 				break;
 			case IJavaElement.JAVA_PROJECT:
@@ -118,12 +137,17 @@ public class JavaDataModelListenerManager {
 					// or a classpath changed
 					IJavaProject project = (IJavaProject) element;
 					getProjectInfo(project, changedProjects);
+					JavaPackagesIndex.getInstance().invalidate(project);
+					QuteTemplateLinkCache.getInstance().invalidate();
 				}
 				processDeltaChildren(delta, changedProjects);
 				break;
 			case IJavaElement.COMPILATION_UNIT:
 				if (shouldReportJavaFileAsChanged(delta)) {
 					ICompilationUnit compilationUnit = (ICompilationUnit) element;
+					// the template links of the other Java files can depend on this Java file
+					// (@CheckedTemplate, TemplateInstance super types, etc)
+					QuteTemplateLinkCache.getInstance().invalidate(compilationUnit.getJavaProject());
 					String fullyQualifiedName = getQualifiedName(compilationUnit);
 					ProjectChangeInfo projectChangeInfo = getProjectInfo(compilationUnit.getJavaProject(),
 							changedProjects);
@@ -204,6 +228,16 @@ public class JavaDataModelListenerManager {
 					| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED));
 		}
 
+		private boolean isArchiveRemovedOrChanged(IJavaElementDelta delta) {
+			return delta.getKind() == IJavaElementDelta.REMOVED || 0 != (delta.getFlags()
+					& (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH));
+		}
+
+		private boolean isArchiveChanged(int flags) {
+			return 0 != (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+					| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH));
+		}
+
 		private void fireAsyncEvent(JavaDataModelChangeEvent event) {
 			synchronized (eventLock) {
 				// Merge with pending event if one exists
@@ -24,16 +24,13 @@ import static com.redhat.qute.jdt.utils.JDTTypeUtils.isConstructor;
 import static com.redhat.qute.jdt.utils.JDTTypeUtils.isNativeMember;
 import static com.redhat.qute.jdt.utils.JDTTypeUtils.isStaticMember;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -55,8 +52,6 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.lsp4j.Range;
-import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
-import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 
 import com.redhat.qute.jdt.internal.AnnotationLocationSupport;
 import com.redhat.qute.jdt.internal.QuteJavaConstants;
@@ -84,9 +79,6 @@ public abstract class AbstractQuteTemplateLinkCollector<T extends QuteTemplateLi
 
 	private static final Logger LOGGER = Logger.getLogger(AbstractQuteTemplateLinkCollector.class.getName());
 
-	private static String[] DEFAULT_SUFFIXES = { ".html", ".qute.html", ".qute.json", ".qute.txt", ".qute.yaml",
-			".json", ".txt", ".yaml" };
-
 	protected final IProgressMonitor monitor;
 
 	private int levelTypeDecl;
@@ -95,8 +87,6 @@ public abstract class AbstractQuteTemplateLinkCollector<T extends QuteTemplateLi
 
 	private CompilationUnit compilationUnit;
 
-	private final String[] suffixes;
-
 	private final T context;
 	protected final ITypeRoot typeRoot;
 	protected final IJDTUtils utils;
@@ -107,21 +97,6 @@ public abstract class AbstractQuteTemplateLinkCollector<T extends QuteTemplateLi
 		this.utils = context.getUtils();
 		this.monitor = monitor;
 		this.levelTypeDecl = 0;
-		IJavaProject javaProject = typeRoot.getJavaProject();
-		JDTMicroProfileProject mpProject = null;
-		try {
-			mpProject = JDTMicroProfileProjectManager.getInstance().getJDTMicroProfileProject(javaProject);
-		} catch (Exception e) {
-
-		}
-		String customSuffixes = mpProject != null ? mpProject.getProperty(QuteConfigConstants.QUARKUS_QUTE_SUFFIXES)
-				: null;
-		if (StringUtils.isNotBlank(customSuffixes)) {
-			this.suffixes = Arrays.stream(customSuffixes.split(",")).map(String::trim).filter(s -> !s.isEmpty())
-					.map(s -> s.startsWith(".") ? s : "." + s).toArray(String[]::new);
-		} else {
-			this.suffixes = DEFAULT_SUFFIXES;
-		}
 	}
 
 	@Override
@@ -482,6 +457,7 @@ public abstract class AbstractQuteTemplateLinkCollector<T extends QuteTemplateLi
 			IFile templateFile, TemplatePathInfo templatePathInfo) throws JavaModelException;
 
 	private IFile getTemplateFile(IProject project, String templateFilePathWithoutExtension) {
+		String[] suffixes = context.getTemplateSuffixes();
 		for (String suffix : suffixes) {
 			IFile templateFile = project.getFile(templateFilePathWithoutExtension + suffix);
 			if (templateFile.exists()) {
@@ -16,7 +16,9 @@ import static com.redhat.qute.jdt.utils.JDTQuteProjectUtils.hasQuteSupport;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
@@ -35,14 +37,18 @@ import com.redhat.qute.jdt.utils.IJDTUtils;
  */
 public class QuarkusIntegrationForQute {
 
+	private static final String CODE_LENS_KIND = "codeLens";
+
+	private static final String DIAGNOSTICS_KIND = "diagnostics";
+
+	private static final String DOCUMENT_LINK_KIND = "documentLink";
+
 	public static List<? extends CodeLens> codeLens(ITypeRoot typeRoot, IJDTUtils utils, IProgressMonitor monitor) {
 		if (typeRoot == null || !hasQuteSupport(typeRoot.getJavaProject())) {
 			return Collections.emptyList();
 		}
-		CompilationUnit cu = getASTRoot(typeRoot);
-		QuteJavaCodeLensCollectorContext context = new QuteJavaCodeLensCollectorContext(typeRoot, utils);
-		cu.accept(new QuteJavaCodeLensCollector(context, monitor));
-		return context.getCodeLenses();
+		return QuteTemplateLinkCache.getInstance().getLinks(typeRoot, CODE_LENS_KIND,
+				kind -> collectTemplateLinks(typeRoot, kind, utils, monitor));
 	}
 
 	public static void diagnostics(ITypeRoot typeRoot, List<Diagnostic> diagnostics, IJDTUtils utils,
@@ -50,19 +56,62 @@ public class QuarkusIntegrationForQute {
 		if (typeRoot == null || !hasQuteSupport(typeRoot.getJavaProject())) {
 			return;
 		}
-		CompilationUnit cu = getASTRoot(typeRoot);
-		QuteJavaDiagnosticsCollectorContext context = new QuteJavaDiagnosticsCollectorContext(typeRoot, diagnostics, utils);
-		cu.accept(new QuteJavaDiagnosticsCollector(context, monitor));
+		List<Diagnostic> templateDiagnostics = QuteTemplateLinkCache.getInstance().getLinks(typeRoot,
+				DIAGNOSTICS_KIND, kind -> collectTemplateLinks(typeRoot, kind, utils, monitor));
+		diagnostics.addAll(templateDiagnostics);
 	}
 
 	public static List<DocumentLink> documentLink(ITypeRoot typeRoot, IJDTUtils utils, IProgressMonitor monitor) {
 		if (typeRoot == null || !hasQuteSupport(typeRoot.getJavaProject())) {
 			return Collections.emptyList();
 		}
-		List<DocumentLink> links = new ArrayList<>();
+		return QuteTemplateLinkCache.getInstance().getLinks(typeRoot, DOCUMENT_LINK_KIND,
+				kind -> collectTemplateLinks(typeRoot, kind, utils, monitor));
+	}
+
+	/**
+	 * Collects the code lens, diagnostics and document links of the given Java
+	 * file with one AST and one visitor pass. The client generally requests them
+	 * in quick succession when a Java file is opened.
+	 *
+	 * <p>
+	 * The template files and the template suffixes are resolved once by the
+	 * shared collector, and each link is reported to the collector of each
+	 * kind.
+	 * </p>
+	 *
+	 * @param typeRoot the Java file.
+	 * @param kind     the link kind to collect and null to collect all kinds.
+	 * @param utils    the JDT LS utility.
+	 * @param monitor  the progress monitor.
+	 * @return the code lens, diagnostics and/or document links of the given Java
+	 *         file by kind.
+	 */
+	private static Map<String, List<?>> collectTemplateLinks(ITypeRoot typeRoot, String kind, IJDTUtils utils,
+			IProgressMonitor monitor) {
+		Map<String, List<?>> links = new HashMap<>();
+		List<AbstractQuteTemplateLinkCollector<?>> collectors = new ArrayList<>();
+		if (kind == null || CODE_LENS_KIND.equals(kind)) {
+			QuteJavaCodeLensCollectorContext codeLensContext = new QuteJavaCodeLensCollectorContext(typeRoot, utils);
+			collectors.add(new QuteJavaCodeLensCollector(codeLensContext, monitor));
+			links.put(CODE_LENS_KIND, codeLensContext.getCodeLenses());
+		}
+		if (kind == null || DIAGNOSTICS_KIND.equals(kind)) {
+			QuteJavaDiagnosticsCollectorContext diagnosticsContext = new QuteJavaDiagnosticsCollectorContext(typeRoot,
+					new ArrayList<>(), utils);
+			collectors.add(new QuteJavaDiagnosticsCollector(diagnosticsContext, monitor));
+			links.put(DIAGNOSTICS_KIND, diagnosticsContext.getDiagnostics());
+		}
+		if (kind == null || DOCUMENT_LINK_KIND.equals(kind)) {
+			QuteJavaDocumentLinkCollectorContext documentLinkContext = new QuteJavaDocumentLinkCollectorContext(
+					typeRoot, utils);
+			collectors.add(new QuteJavaDocumentLinkCollector(documentLinkContext, monitor));
+			links.put(DOCUMENT_LINK_KIND, documentLinkContext.getLinks());
+		}
+
 		CompilationUnit cu = getASTRoot(typeRoot);
-		QuteJavaDocumentLinkCollectorContext context = new QuteJavaDocumentLinkCollectorContext(typeRoot, utils);
-		cu.accept(new QuteJavaDocumentLinkCollector(context, monitor));
-		return context.getLinks();
+		cu.accept(new QuteJavaTemplateLinksCollector(new QuteTemplateLinkCollectorContext(typeRoot, utils), monitor,
+				collectors.toArray(new AbstractQuteTemplateLinkCollector<?>[collectors.size()])));
+		return links;
 	}
 }
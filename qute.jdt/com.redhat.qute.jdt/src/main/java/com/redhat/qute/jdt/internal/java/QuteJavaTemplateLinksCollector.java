@@ -0,0 +1,51 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.internal.java;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+
+import com.redhat.qute.jdt.utils.TemplatePathInfo;
+
+/**
+ * Collects the template links of a Java file once and reports them to several
+ * collectors (code lens, diagnostics, document link), so that the AST is
+ * visited and the template files are resolved only once for all the
+ * collectors.
+ */
+public class QuteJavaTemplateLinksCollector extends AbstractQuteTemplateLinkCollector<QuteTemplateLinkCollectorContext> {
+
+	private final List<AbstractQuteTemplateLinkCollector<?>> collectors;
+
+	public QuteJavaTemplateLinksCollector(QuteTemplateLinkCollectorContext context, IProgressMonitor monitor,
+			AbstractQuteTemplateLinkCollector<?>... collectors) {
+		super(context, monitor);
+		this.collectors = Arrays.asList(collectors);
+	}
+
+	@Override
+	protected void collectTemplateLink(String basePath, ASTNode fieldOrMethod, ASTNode locationAnnotation,
+			AbstractTypeDeclaration type, String className, String fieldOrMethodName, String location,
+			IFile templateFile, TemplatePathInfo templatePathInfo) throws JavaModelException {
+		for (AbstractQuteTemplateLinkCollector<?> collector : collectors) {
+			collector.collectTemplateLink(basePath, fieldOrMethod, locationAnnotation, type, className,
+					fieldOrMethodName, location, templateFile, templatePathInfo);
+		}
+	}
+
+}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.internal.java;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Cache of the template links (code lens, diagnostics, document links)
+ * collected for a Java file.
+ *
+ * <p>
+ * Collecting the template links of a Java file creates an AST with bindings
+ * and probes the template files for each <code>Template</code> field,
+ * <code>@CheckedTemplate</code> method and template record. The links of all
+ * kinds are collected with one AST and one visitor pass when one of the kinds
+ * is requested, are cached per Java file, and are collected again only
+ * when:
+ * </p>
+ *
+ * <ul>
+ * <li>the content of the Java file changes (modification stamp of the file
+ * and hash of the working copy source).</li>
+ * <li>the template files version changes: a file is added or removed, a
+ * config file (<code>application.properties</code>,
+ * <code>application.yaml</code>, <code>microprofile-config.properties</code>,
+ * etc) changes (template suffixes), or a classpath changes (see
+ * {@link #invalidate()}).</li>
+ * <li>a Java file of the project is saved, created or deleted: the
+ * <code>@CheckedTemplate</code> annotation, the <code>TemplateInstance</code>
+ * return type, etc, can come from another Java file (see
+ * {@link #invalidate(IJavaProject)}).</li>
+ * </ul>
+ */
+public class QuteTemplateLinkCache {
+
+	private static final Logger LOGGER = Logger.getLogger(QuteTemplateLinkCache.class.getName());
+
+	private static final QuteTemplateLinkCache INSTANCE = new QuteTemplateLinkCache();
+
+	private static final int MAX_ENTRIES = 200;
+
+	/**
+	 * Names of the config files read by JDTMicroProfileProject which can declare
+	 * the template suffixes: <code>application.properties</code>,
+	 * <code>application-${profile}.properties</code>,
+	 * <code>application.yaml</code>, <code>application.yml</code>,
+	 * <code>microprofile-config.properties</code> and
+	 * <code>microprofile-config-${profile}.properties</code>.
+	 */
+	private static final Pattern CONFIG_FILE_NAME_PATTERN = Pattern
+			.compile("(application|microprofile-config)(-[A-Za-z]+)?\\.properties|application\\.ya?ml");
+
+	public static QuteTemplateLinkCache getInstance() {
+		return INSTANCE;
+	}
+
+	private static class CachedLinks {
+
+		private final long modificationStamp;
+
+		private final int sourceHash;
+
+		private final long version;
+
+		private final long projectVersion;
+
+		private final Map<String, List<?>> links;
+
+		public CachedLinks(long modificationStamp, int sourceHash, long version, long projectVersion,
+				Map<String, List<?>> links) {
+			this.modificationStamp = modificationStamp;
+			this.sourceHash = sourceHash;
+			this.version = version;
+			this.projectVersion = projectVersion;
+			this.links = links;
+		}
+	}
+
+	private class TemplateFilesListener implements IResourceChangeListener {
+
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			IResourceDelta delta = event.getDelta();
+			if (delta == null) {
+				return;
+			}
+			long visitedVersion = version.get();
+			try {
+				delta.accept(d -> {
+					if (version.get() != visitedVersion) {
+						// Already invalidated by this event
+						return false;
+					}
+					IResource resource = d.getResource();
+					if (resource.isDerived()) {
+						// ex : target folder
+						return false;
+					}
+					if (resource.getType() == IResource.FILE && isTemplateFilesChange(d)) {
+						invalidate();
+						return false;
+					}
+					return true;
+				});
+			} catch (CoreException e) {
+				LOGGER.log(Level.SEVERE, "Error while tracking template files changes.", e);
+				invalidate();
+			}
+		}
+
+		private boolean isTemplateFilesChange(IResourceDelta delta) {
+			IFile file = (IFile) delta.getResource();
+			switch (delta.getKind()) {
+			case IResourceDelta.ADDED:
+			case IResourceDelta.REMOVED:
+				// A template file is created/deleted, Java files are ignored.
+				String extension = file.getFileExtension();
+				return !"java".equals(extension) && !"class".equals(extension);
+			case IResourceDelta.CHANGED:
+				// The template suffixes can be declared in the config files
+				return CONFIG_FILE_NAME_PATTERN.matcher(file.getName()).matches();
+			default:
+				return false;
+			}
+		}
+	}
+
+	private final Map<String, CachedLinks> cache;
+
+	private final AtomicLong version;
+
+	private final Map<String /* project name */, AtomicLong> projectVersions;
+
+	private volatile TemplateFilesListener listener;
+
+	private QuteTemplateLinkCache() {
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedLinks> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		};
+		this.version = new AtomicLong();
+		this.projectVersions = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the cached links of the given kind for the given Java file and
+	 * collects the links of all kinds with the given collector if the Java file
+	 * or the template files have changed.
+	 *
+	 * @param <T>       the link type.
+	 * @param typeRoot  the Java file.
+	 * @param kind      the link kind (ex : 'codeLens').
+	 * @param collector the collector of the links, by kind, which collects the
+	 *                  links of the given kind, or of all kinds when the given
+	 *                  kind is null.
+	 * @return the links of the given kind for the given Java file.
+	 */
+	public <T> List<T> getLinks(ITypeRoot typeRoot, String kind, Function<String, Map<String, List<?>>> collector) {
+		if (listener == null) {
+			// The template files changes are not tracked, the links cannot be cached,
+			// only the links of the given kind are collected.
+			return getLinks(collector.apply(kind), kind);
+		}
+		String key = typeRoot.getHandleIdentifier();
+		long currentVersion = version.get();
+		long currentProjectVersion = getProjectVersion(typeRoot.getJavaProject());
+		IResource resource = typeRoot.getResource();
+		long modificationStamp = resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+		int sourceHash = getSourceHash(typeRoot);
+		synchronized (cache) {
+			CachedLinks cached = cache.get(key);
+			if (cached != null && cached.version == currentVersion && cached.projectVersion == currentProjectVersion
+					&& cached.modificationStamp == modificationStamp && cached.sourceHash == sourceHash) {
+				return getLinks(cached.links, kind);
+			}
+		}
+		Map<String, List<?>> links = collector.apply(null);
+		synchronized (cache) {
+			cache.put(key,
+					new CachedLinks(modificationStamp, sourceHash, currentVersion, currentProjectVersion, links));
+		}
+		return getLinks(links, kind);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> getLinks(Map<String, List<?>> links, String kind) {
+		List<T> kindLinks = (List<T>) links.get(kind);
+		return kindLinks != null ? kindLinks : Collections.emptyList();
+	}
+
+	/**
+	 * Invalidate all the cached links.
+	 */
+	public void invalidate() {
+		version.incrementAndGet();
+	}
+
+	/**
+	 * Invalidate the cached links of the Java files of the given project.
+	 *
+	 * @param javaProject the Java project.
+	 */
+	public void invalidate(IJavaProject javaProject) {
+		projectVersions.computeIfAbsent(javaProject.getElementName(), k -> new AtomicLong()).incrementAndGet();
+	}
+
+	private long getProjectVersion(IJavaProject javaProject) {
+		if (javaProject == null) {
+			return 0;
+		}
+		AtomicLong projectVersion = projectVersions.get(javaProject.getElementName());
+		return projectVersion != null ? projectVersion.get() : 0;
+	}
+
+	/**
+	 * Start tracking the template files changes.
+	 */
+	public synchronized void initialize() {
+		if (listener != null) {
+			return;
+		}
+		listener = new TemplateFilesListener();
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Stop tracking the template files changes and clear the cache.
+	 */
+	public synchronized void destroy() {
+		if (listener != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(listener);
+			listener = null;
+		}
+		synchronized (cache) {
+			cache.clear();
+		}
+		projectVersions.clear();
+	}
+
+	private static int getSourceHash(ITypeRoot typeRoot) {
+		try {
+			// The source of a working copy changes without changing the modification
+			// stamp of the file
+			String source = typeRoot.getSource();
+			return source != null ? source.hashCode() : 0;
+		} catch (JavaModelException e) {
+			return 0;
+		}
+	}
+}
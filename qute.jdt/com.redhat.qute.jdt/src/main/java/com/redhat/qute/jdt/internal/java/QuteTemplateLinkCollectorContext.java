@@ -11,7 +11,12 @@
 *******************************************************************************/
 package com.redhat.qute.jdt.internal.java;
 
+import java.util.Arrays;
+
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
+import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 
 import com.redhat.qute.jdt.utils.IJDTUtils;
 import com.redhat.qute.jdt.utils.JDTQuteProjectUtils;
@@ -21,11 +26,16 @@ import com.redhat.qute.jdt.utils.JDTQuteProjectUtils;
  */
 public class QuteTemplateLinkCollectorContext {
 
+	private static final String[] DEFAULT_SUFFIXES = { ".html", ".qute.html", ".qute.json", ".qute.txt",
+			".qute.yaml", ".json", ".txt", ".yaml" };
+
 	private final ITypeRoot typeRoot;
 	private final IJDTUtils utils;
 
 	private String relativeResourcesFolder;
 
+	private String[] templateSuffixes;
+
 	public QuteTemplateLinkCollectorContext(ITypeRoot typeRoot, IJDTUtils utils) {
 		this.typeRoot = typeRoot;
 		this.utils = utils;
@@ -46,4 +56,40 @@ public class QuteTemplateLinkCollectorContext {
 		return relativeResourcesFolder;
 	}
 
+	/**
+	 * Returns the template suffixes declared with 'quarkus.qute.suffixes' and the
+	 * default suffixes otherwise.
+	 *
+	 * <p>
+	 * The suffixes are computed once per context: when the links of several kinds
+	 * are collected together, only the context of the collector which resolves
+	 * the template files computes them.
+	 * </p>
+	 *
+	 * @return the template suffixes.
+	 */
+	public String[] getTemplateSuffixes() {
+		if (templateSuffixes == null) {
+			this.templateSuffixes = computeTemplateSuffixes();
+		}
+		return templateSuffixes;
+	}
+
+	private String[] computeTemplateSuffixes() {
+		JDTMicroProfileProject mpProject = null;
+		try {
+			mpProject = JDTMicroProfileProjectManager.getInstance()
+					.getJDTMicroProfileProject(typeRoot.getJavaProject());
+		} catch (Exception e) {
+
+		}
+		String customSuffixes = mpProject != null ? mpProject.getProperty(QuteConfigConstants.QUARKUS_QUTE_SUFFIXES)
+				: null;
+		if (StringUtils.isNotBlank(customSuffixes)) {
+			return Arrays.stream(customSuffixes.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+					.map(s -> s.startsWith(".") ? s : "." + s).toArray(String[]::new);
+		}
+		return DEFAULT_SUFFIXES;
+	}
+
 }
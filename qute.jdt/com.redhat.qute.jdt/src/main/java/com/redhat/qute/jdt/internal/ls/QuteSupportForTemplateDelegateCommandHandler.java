@@ -14,6 +14,7 @@ package com.redhat.qute.jdt.internal.ls;
 import static com.redhat.qute.jdt.internal.ls.ArgumentUtils.getBoolean;
 import static com.redhat.qute.jdt.internal.ls.ArgumentUtils.getFirst;
 import static com.redhat.qute.jdt.internal.ls.ArgumentUtils.getString;
+import static com.redhat.qute.jdt.internal.ls.ArgumentUtils.getStringList;
 
 import java.nio.file.Path;
 import java.util.List;
@@ -42,7 +43,9 @@ import com.redhat.qute.commons.QuteProjectParams;
 import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
 import com.redhat.qute.commons.TemplateRootPath;
+import com.redhat.qute.commons.binary.BinaryTemplate;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateContentParams;
 import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
@@ -63,6 +66,10 @@ public class QuteSupportForTemplateDelegateCommandHandler extends AbstractQuteDe
 
 	private static final String PROJECT_URI_ATTR = "projectUri";
 
+	private static final String CONTENT_ON_DEMAND_ATTR = "contentOnDemand";
+
+	private static final String URIS_ATTR = "uris";
+
 	private static final String PATTERN_ATTR = "pattern";
 
 	private static final String SOURCE_TYPE_ATTR = "sourceType";
@@ -84,6 +91,8 @@ public class QuteSupportForTemplateDelegateCommandHandler extends AbstractQuteDe
 
 	private static final String QUTE_TEMPLATE_BINARY_TEMPLATES_COMMAND_ID = "qute/template/binaryTemplates";
 
+	private static final String QUTE_TEMPLATE_BINARY_TEMPLATE_CONTENTS_COMMAND_ID = "qute/template/binaryTemplateContents";
+
 	private static final String QUTE_TEMPLATE_JAVA_TYPES_COMMAND_ID = "qute/template/javaTypes";
 
 	private static final String QUTE_TEMPLATE_JAVA_DEFINITION_COMMAND_ID = "qute/template/javaDefinition";
@@ -107,6 +116,8 @@ public class QuteSupportForTemplateDelegateCommandHandler extends AbstractQuteDe
 			return getProjectDataModel(arguments, commandId, monitor);
 		case QUTE_TEMPLATE_BINARY_TEMPLATES_COMMAND_ID:
 			return getBinaryTemplates(arguments, commandId, monitor);
+		case QUTE_TEMPLATE_BINARY_TEMPLATE_CONTENTS_COMMAND_ID:
+			return getBinaryTemplateContents(arguments, commandId, monitor);
 		case QUTE_TEMPLATE_JAVA_TYPES_COMMAND_ID:
 			return getJavaTypes(arguments, commandId, monitor);
 		case QUTE_TEMPLATE_RESOLVED_JAVA_TYPE_COMMAND_ID:
@@ -211,7 +222,37 @@ public class QuteSupportForTemplateDelegateCommandHandler extends AbstractQuteDe
 			throw new UnsupportedOperationException(String.format(
 					"Command '%s' must be called with required QuteBinaryTemplateParams.projectUri!", commandId));
 		}
-		return new QuteBinaryTemplateParams(projectUri);
+		QuteBinaryTemplateParams params = new QuteBinaryTemplateParams(projectUri);
+		params.setContentOnDemand(getBoolean(obj, CONTENT_ON_DEMAND_ATTR));
+		return params;
+	}
+
+	private static List<BinaryTemplate> getBinaryTemplateContents(List<Object> arguments, String commandId,
+			IProgressMonitor monitor) throws CoreException {
+		QuteBinaryTemplateContentParams params = createBinaryTemplateContentParams(arguments, commandId);
+		return QuteSupportForTemplate.getInstance().getBinaryTemplateContents(params, JDTUtilsLSImpl.getInstance(),
+				monitor);
+	}
+
+	private static QuteBinaryTemplateContentParams createBinaryTemplateContentParams(List<Object> arguments,
+			String commandId) {
+		Map<String, Object> obj = getFirst(arguments);
+		if (obj == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with one QuteBinaryTemplateContentParams argument!", commandId));
+		}
+		String projectUri = getString(obj, PROJECT_URI_ATTR);
+		if (projectUri == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required QuteBinaryTemplateContentParams.projectUri!",
+					commandId));
+		}
+		List<String> uris = getStringList(obj, URIS_ATTR);
+		if (uris == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required QuteBinaryTemplateContentParams.uris!", commandId));
+		}
+		return new QuteBinaryTemplateContentParams(projectUri, uris);
 	}
 
 	/**
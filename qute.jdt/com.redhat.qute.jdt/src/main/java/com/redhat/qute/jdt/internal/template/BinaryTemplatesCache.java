@@ -0,0 +1,296 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.internal.template;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+/**
+ * Cache of the binary templates collected from the JARs, shared by all Java
+ * projects.
+ *
+ * <p>
+ * Walking the non-Java resources of a JAR to find the {@code templates/}
+ * entries is costly and is done for each JAR of the classpath each time a
+ * project is loaded or its classpath changes. The cache stores the templates
+ * collected for a JAR by its file path, and is invalidated when the timestamp
+ * or the size of the JAR file changes. A JAR which contains no templates is
+ * cached too, so that it is not walked again.
+ * </p>
+ *
+ * <p>
+ * The cache keeps the {@link #DEFAULT_MAX_ENTRIES} JARs which have been used
+ * most recently, and a JAR is evicted when it is removed from a classpath (see
+ * JavaDataModelListenerManager).
+ * </p>
+ *
+ * <p>
+ * The cached templates don't depend on a Java project: the URI of a template
+ * (which contains the handle identifier of the package fragment root) is
+ * built from {@link JarTemplate#getEntryPath()} for each project.
+ * </p>
+ */
+public class BinaryTemplatesCache {
+
+	/**
+	 * The default maximum number of cached JARs.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private static final BinaryTemplatesCache INSTANCE = new BinaryTemplatesCache(DEFAULT_MAX_ENTRIES);
+
+	public static BinaryTemplatesCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Loader of the templates of a JAR.
+	 */
+	@FunctionalInterface
+	public static interface JarTemplatesLoader {
+
+		/**
+		 * Returns the templates collected from the given JAR.
+		 *
+		 * @param root the package fragment root (JAR).
+		 * @return the templates collected from the given JAR.
+		 * @throws CoreException if an error occurs.
+		 */
+		JarTemplates load(IPackageFragmentRoot root) throws CoreException;
+	}
+
+	/**
+	 * Templates collected from a JAR.
+	 */
+	public static class JarTemplates {
+
+		private final List<JarTemplate> templates;
+
+		private final Map<String, String> properties;
+
+		private long timestamp;
+
+		private long length;
+
+		public JarTemplates(List<JarTemplate> templates, Map<String, String> properties) {
+			this.templates = templates;
+			this.properties = properties;
+		}
+
+		/**
+		 * Returns the templates of the JAR and null if the JAR has no
+		 * {@code templates/} entry.
+		 *
+		 * @return the templates of the JAR and null if the JAR has no
+		 *         {@code templates/} entry.
+		 */
+		public List<JarTemplate> getTemplates() {
+			return templates;
+		}
+
+		/**
+		 * Returns the properties of the {@code application.properties} of the JAR and
+		 * null otherwise.
+		 *
+		 * @return the properties of the {@code application.properties} of the JAR and
+		 *         null otherwise.
+		 */
+		public Map<String, String> getProperties() {
+			return properties;
+		}
+	}
+
+	/**
+	 * Template collected from a JAR.
+	 */
+	public static class JarTemplate {
+
+		private final String path;
+
+		private final String entryPath;
+
+		private final String content;
+
+		private final long size;
+
+		private final String checksum;
+
+		private final boolean altSyntaxExpr;
+
+		public JarTemplate(String path, String entryPath, String content, long size, String checksum,
+				boolean altSyntaxExpr) {
+			this.path = path;
+			this.entryPath = entryPath;
+			this.content = content;
+			this.size = size;
+			this.checksum = checksum;
+			this.altSyntaxExpr = altSyntaxExpr;
+		}
+
+		/**
+		 * Returns the template path relative to the {@code templates/} entry.
+		 *
+		 * @return the template path relative to the {@code templates/} entry.
+		 */
+		public String getPath() {
+			return path;
+		}
+
+		/**
+		 * Returns the full path of the JAR entry.
+		 *
+		 * @return the full path of the JAR entry.
+		 */
+		public String getEntryPath() {
+			return entryPath;
+		}
+
+		/**
+		 * Returns the template content.
+		 *
+		 * @return the template content.
+		 */
+		public String getContent() {
+			return content;
+		}
+
+		/**
+		 * Returns the size in bytes of the template content.
+		 *
+		 * @return the size in bytes of the template content.
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the CRC-32 of the template content as hexadecimal.
+		 *
+		 * @return the CRC-32 of the template content as hexadecimal.
+		 */
+		public String getChecksum() {
+			return checksum;
+		}
+
+		/**
+		 * Returns true if the template uses the alternative expression syntax and
+		 * false otherwise.
+		 *
+		 * @return true if the template uses the alternative expression syntax and
+		 *         false otherwise.
+		 */
+		public boolean isAltSyntaxExpr() {
+			return altSyntaxExpr;
+		}
+	}
+
+	private final Map<String, JarTemplates> cache;
+
+	public BinaryTemplatesCache(int maxEntries) {
+		this.cache = new LinkedHashMap<String, JarTemplates>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, JarTemplates> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns the templates of the given JAR from the cache, and loads them with
+	 * the given loader if the JAR is not cached or has changed since it was
+	 * cached.
+	 *
+	 * @param root   the package fragment root (JAR).
+	 * @param loader the loader which walks the JAR.
+	 * @return the templates of the given JAR.
+	 * @throws CoreException if an error occurs while loading the templates.
+	 */
+	public JarTemplates get(IPackageFragmentRoot root, JarTemplatesLoader loader) throws CoreException {
+		File file = getFile(root);
+		if (file == null || !file.isFile()) {
+			// JAR which is not a file (ex : class folder), don't cache it
+			return loader.load(root);
+		}
+		String key = file.getAbsolutePath();
+		// The timestamp and the size are read before walking the JAR: if the JAR
+		// changes during the walk, it will be walked again the next time.
+		long timestamp = file.lastModified();
+		long length = file.length();
+		JarTemplates templates = null;
+		synchronized (cache) {
+			templates = cache.get(key);
+		}
+		if (templates != null && templates.timestamp == timestamp && templates.length == length) {
+			return templates;
+		}
+		templates = loader.load(root);
+		templates.timestamp = timestamp;
+		templates.length = length;
+		synchronized (cache) {
+			cache.put(key, templates);
+		}
+		return templates;
+	}
+
+	/**
+	 * Remove the cached templates of the given JAR.
+	 *
+	 * @param root the package fragment root (JAR).
+	 */
+	public void evict(IPackageFragmentRoot root) {
+		File file = getFile(root);
+		if (file == null) {
+			return;
+		}
+		synchronized (cache) {
+			cache.remove(file.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * Returns the number of cached JARs.
+	 *
+	 * @return the number of cached JARs.
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Remove all the cached templates.
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	private static File getFile(IPackageFragmentRoot root) {
+		// A JAR which belongs to the workspace is located with its resource,
+		// an external JAR with its path.
+		IResource resource = root.getResource();
+		IPath location = resource != null ? resource.getLocation() : root.getPath();
+		return location != null ? location.toFile() : null;
+	}
+}
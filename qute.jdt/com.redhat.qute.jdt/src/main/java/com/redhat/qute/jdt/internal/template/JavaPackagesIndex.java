@@ -0,0 +1,128 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.internal.template;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Sorted index of the package names of each Java project (sources and
+ * libraries) used to complete package names by prefix (ex : when the user
+ * types <code>{@org.acme.</code> in a parameter declaration).
+ *
+ * <p>
+ * Without the index, each completion walks the children of all the package
+ * fragment roots of the project. The index is built once per project and is
+ * invalidated by {@link com.redhat.qute.jdt.internal.JavaDataModelListenerManager}
+ * when the classpath of the project changes or when a package is added or
+ * removed.
+ * </p>
+ */
+public class JavaPackagesIndex {
+
+	private static final Logger LOGGER = Logger.getLogger(JavaPackagesIndex.class.getName());
+
+	private static final JavaPackagesIndex INSTANCE = new JavaPackagesIndex();
+
+	public static JavaPackagesIndex getInstance() {
+		return INSTANCE;
+	}
+
+	private final Map<String, NavigableSet<String>> packagesByProject;
+
+	private final AtomicLong modificationCount;
+
+	private JavaPackagesIndex() {
+		this.packagesByProject = new ConcurrentHashMap<>();
+		this.modificationCount = new AtomicLong();
+	}
+
+	/**
+	 * Returns the sorted package names of the given Java project which start with
+	 * the given prefix.
+	 *
+	 * @param javaProject the Java project.
+	 * @param prefix      the package name prefix.
+	 * @param monitor     the progress monitor.
+	 * @return the sorted package names of the given Java project which start with
+	 *         the given prefix.
+	 * @throws JavaModelException if a JDT model error occurs.
+	 */
+	public NavigableSet<String> getPackages(IJavaProject javaProject, String prefix, IProgressMonitor monitor)
+			throws JavaModelException {
+		NavigableSet<String> packages = getPackages(javaProject, monitor);
+		return packages.subSet(prefix, true, prefix + Character.MAX_VALUE, false);
+	}
+
+	private NavigableSet<String> getPackages(IJavaProject javaProject, IProgressMonitor monitor)
+			throws JavaModelException {
+		String projectName = javaProject.getElementName();
+		NavigableSet<String> packages = packagesByProject.get(projectName);
+		if (packages != null) {
+			return packages;
+		}
+		long count = modificationCount.get();
+		packages = Collections.unmodifiableNavigableSet(collectPackages(javaProject, monitor));
+		synchronized (modificationCount) {
+			// Don't store an index which has been invalidated while it was built
+			if (count == modificationCount.get()) {
+				packagesByProject.put(projectName, packages);
+			}
+		}
+		return packages;
+	}
+
+	private static NavigableSet<String> collectPackages(IJavaProject javaProject, IProgressMonitor monitor)
+			throws JavaModelException {
+		NavigableSet<String> packages = new TreeSet<>();
+		IPackageFragmentRoot[] packageFragmentRoots = javaProject.getPackageFragmentRoots();
+		for (IPackageFragmentRoot packageFragmentRoot : packageFragmentRoots) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			try {
+				for (IJavaElement packageFragment : packageFragmentRoot.getChildren()) {
+					packages.add(packageFragment.getElementName());
+				}
+			} catch (JavaModelException e) {
+				LOGGER.log(Level.SEVERE, "Error while collecting packages in '" + packageFragmentRoot.getElementName()
+						+ "'.", e);
+			}
+		}
+		return packages;
+	}
+
+	/**
+	 * Invalidate the package names of the given Java project.
+	 *
+	 * @param javaProject the Java project.
+	 */
+	public void invalidate(IJavaProject javaProject) {
+		synchronized (modificationCount) {
+			modificationCount.incrementAndGet();
+			packagesByProject.remove(javaProject.getElementName());
+		}
+	}
+}
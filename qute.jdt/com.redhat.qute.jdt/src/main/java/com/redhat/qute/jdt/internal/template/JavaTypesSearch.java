@@ -12,7 +12,7 @@
 package com.redhat.qute.jdt.internal.template;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
@@ -20,10 +20,9 @@ import java.util.logging.Logger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.IPackageFragment;
-import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
@@ -95,20 +94,18 @@ public class JavaTypesSearch {
 
 	public List<JavaTypeInfo> search(IProgressMonitor monitor) throws JavaModelException {
 		List<JavaTypeInfo> javaTypes = new ArrayList<>();
-		collectPackages(javaTypes);
+		collectPackages(javaTypes, monitor);
 		collectClassesAndInterfaces(monitor, javaTypes);
 		return javaTypes;
 	}
 
-	private void collectPackages(List<JavaTypeInfo> javaTypes) {
+	private void collectPackages(List<JavaTypeInfo> javaTypes, IProgressMonitor monitor) {
 		if (packageName != null) {
-			Set<String> subPackages = new HashSet<>();
+			Set<String> subPackages = Collections.emptySet();
 			try {
-				// Loop for package root
-				IPackageFragmentRoot[] packageFragmentRoots = javaProject.getPackageFragmentRoots();
-				for (int i = 0; i < packageFragmentRoots.length; i++) {
-					fillWithSubPackages(packageName, packageFragmentRoots[i], subPackages);
-				}
+				// Query the package names index by prefix instead of walking all the package
+				// roots
+				subPackages = JavaPackagesIndex.getInstance().getPackages(javaProject, packageName, monitor);
 			} catch (JavaModelException e) {
 				LOGGER.log(Level.SEVERE, "Error while collecting sub packages for '" + packageName + "'.", e);
 			}
@@ -122,23 +119,6 @@ public class JavaTypesSearch {
 		}
 	}
 
-	private void fillWithSubPackages(String packageName, IPackageFragmentRoot packageFragmentRoot,
-			Set<String> subPackages) {
-		try {
-			IJavaElement[] allPackages = packageFragmentRoot.getChildren();
-			for (int i = 0; i < allPackages.length; i++) {
-				IPackageFragment packageFragment = (IPackageFragment) allPackages[i];
-				String subPackageName = packageFragment.getElementName();
-				if (subPackageName.startsWith(packageName)) {
-					subPackages.add(subPackageName);
-				}
-			}
-		} catch (JavaModelException e) {
-			LOGGER.log(Level.SEVERE, "Error while collecting sub packages for '" + packageName + "' in '"
-					+ packageFragmentRoot.getElementName() + "'.", e);
-		}
-	}
-
 	private void collectClassesAndInterfaces(IProgressMonitor monitor, List<JavaTypeInfo> javaTypes)
 			throws JavaModelException {
 		// Collect classes and interfaces according to the type name
@@ -153,6 +133,11 @@ public class JavaTypesSearch {
 
 					@Override
 					public void acceptTypeNameMatch(TypeNameMatch match) {
+						if (monitor.isCanceled()) {
+							// The completion has been cancelled (ex : the user continues to type),
+							// stop the search to not block the next Java types search.
+							throw new OperationCanceledException();
+						}
 						IType type = (IType) match.getType();
 						String typeSignature = AbstractTypeResolver.resolveJavaTypeSignature(type);
 
@@ -15,17 +15,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJarEntryResource;
 import org.eclipse.jdt.core.IJavaElement;
@@ -41,6 +46,8 @@ import com.redhat.qute.commons.binary.BinaryTemplateInfo;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.jdt.internal.template.BinaryTemplatesCache.JarTemplate;
+import com.redhat.qute.jdt.internal.template.BinaryTemplatesCache.JarTemplates;
 import com.redhat.qute.jdt.internal.template.datamodel.DataModelProviderRegistry;
 
 /**
@@ -94,17 +101,84 @@ public class QuarkusIntegrationForQute {
 	 * project. Templates are read from the {@code templates/} entry and its
 	 * sub-folders inside each JAR.
 	 *
-	 * @param javaProject the Java project.
-	 * @param monitor     the progress monitor.
+	 * <p>
+	 * When {@code contentOnDemand} is true, the template content is not sent:
+	 * only its size and checksum are set, and the content is loaded later with
+	 * {@link #getBinaryTemplateContents(IJavaProject, List, IProgressMonitor)}.
+	 * </p>
+	 *
+	 * @param javaProject     the Java project.
+	 * @param contentOnDemand true if the template content must not be sent.
+	 * @param monitor         the progress monitor.
 	 * @return the list of binary template infos found.
 	 * @throws CoreException if an error occurs.
 	 */
-	public static List<BinaryTemplateInfo> getBinaryTemplates(IJavaProject javaProject, IProgressMonitor monitor)
-			throws CoreException {
+	public static List<BinaryTemplateInfo> getBinaryTemplates(IJavaProject javaProject, boolean contentOnDemand,
+			IProgressMonitor monitor) throws CoreException {
 		List<BinaryTemplateInfo> binaryTemplates = new ArrayList<>();
+		for (IPackageFragmentRoot root : getLibraryRoots(javaProject)) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			BinaryTemplateInfo info = collectBinaryTemplates(root, contentOnDemand, null);
+			if (info != null) {
+				binaryTemplates.add(info);
+			}
+		}
+		return binaryTemplates;
+	}
 
-		// Iterate over each classpath entry and collect binary templates from JAR
-		// libraries
+	/**
+	 * Returns the binary templates with their content for the given binary
+	 * template URIs. Only the JARs referenced by the given URIs are visited.
+	 *
+	 * @param javaProject the Java project.
+	 * @param uris        the binary template URIs (see {@link #toUri}).
+	 * @param monitor     the progress monitor.
+	 * @return the binary templates with their content for the given URIs.
+	 * @throws CoreException if an error occurs.
+	 */
+	public static List<BinaryTemplate> getBinaryTemplateContents(IJavaProject javaProject, List<String> uris,
+			IProgressMonitor monitor) throws CoreException {
+		Set<String> templateUris = new HashSet<>(uris);
+		// The query of a JAR entry URI is the handle identifier of its JAR
+		Set<String> rootHandleIdentifiers = new HashSet<>();
+		for (String uri : uris) {
+			try {
+				String query = new URI(uri).getQuery();
+				if (query != null) {
+					rootHandleIdentifiers.add(query);
+				}
+			} catch (URISyntaxException e) {
+				LOGGER.log(Level.WARNING, "Invalid binary template URI '" + uri + "'", e);
+			}
+		}
+
+		List<BinaryTemplate> templates = new ArrayList<>();
+		for (IPackageFragmentRoot root : getLibraryRoots(javaProject)) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			if (rootHandleIdentifiers.contains(root.getHandleIdentifier())) {
+				BinaryTemplateInfo info = collectBinaryTemplates(root, false, templateUris);
+				if (info != null) {
+					templates.addAll(info.getTemplates());
+				}
+			}
+		}
+		return templates;
+	}
+
+	/**
+	 * Returns the existing JAR libraries (excluding test-scoped entries) of the
+	 * given Java project.
+	 *
+	 * @param javaProject the Java project.
+	 * @return the existing JAR libraries of the given Java project.
+	 * @throws JavaModelException if a JDT model error occurs.
+	 */
+	private static List<IPackageFragmentRoot> getLibraryRoots(IJavaProject javaProject) throws JavaModelException {
+		List<IPackageFragmentRoot> roots = new ArrayList<>();
 		IClasspathEntry[] resolvedClasspath = ((JavaProject) javaProject).getResolvedClasspath();
 		for (IClasspathEntry entry : resolvedClasspath) {
 			// Skip test-scoped entries
@@ -118,18 +192,77 @@ public class QuarkusIntegrationForQute {
 				if (root != null && root.exists()) {
 					// IPackageFragmentRoot may not exist if the Maven dependency is missing,
 					// e.g. a dependency with an incorrect groupId/artifactId/version.
-					BinaryTemplateInfo info = collectBinaryTemplates(root);
-					if (info != null) {
-						binaryTemplates.add(info);
-					}
+					roots.add(root);
 				}
 			}
 		}
-		return binaryTemplates;
+		return roots;
 	}
 
 	/**
-	 * Collects binary templates for the given package fragment root (JAR).
+	 * Returns the binary templates of the given package fragment root (JAR) for
+	 * the Java project of the given root.
+	 *
+	 * @param root            the package fragment root (JAR).
+	 * @param contentOnDemand true if the template content must not be set.
+	 * @param uris            the URIs of the templates to collect, or
+	 *                        {@code null} to collect all templates.
+	 * @return a {@link BinaryTemplateInfo} if templates were found, {@code null}
+	 *         otherwise.
+	 * @throws JavaModelException if a JDT model error occurs.
+	 * @throws CoreException      if another error occurs.
+	 */
+	private static BinaryTemplateInfo collectBinaryTemplates(IPackageFragmentRoot root, boolean contentOnDemand,
+			Set<String> uris) throws JavaModelException, CoreException {
+		JarTemplates jarTemplates = getJarTemplates(root);
+		if (jarTemplates.getTemplates() == null) {
+			return null;
+		}
+
+		List<BinaryTemplate> templates = new ArrayList<>();
+		for (JarTemplate jarTemplate : jarTemplates.getTemplates()) {
+			// The URI depends on the Java project of the root, it is not cached
+			String uri = toUri(root, jarTemplate.getEntryPath());
+			if (uris != null && !uris.contains(uri)) {
+				continue;
+			}
+			BinaryTemplate template = new BinaryTemplate();
+			template.setPath(jarTemplate.getPath());
+			template.setUri(uri);
+			if (contentOnDemand) {
+				// Only send the size and the checksum, the content is loaded on demand
+				template.setSize(jarTemplate.getSize());
+				template.setChecksum(jarTemplate.getChecksum());
+			} else {
+				template.setContent(jarTemplate.getContent());
+			}
+			template.setAltSyntaxExpr(jarTemplate.isAltSyntaxExpr());
+			templates.add(template);
+		}
+
+		BinaryTemplateInfo info = new BinaryTemplateInfo();
+		String jarName = root.getPath().lastSegment();
+		info.setBinaryName(jarName);
+		info.setTemplates(templates);
+		info.setProperties(jarTemplates.getProperties());
+		return info;
+	}
+
+	/**
+	 * Returns the templates of the given package fragment root (JAR) from the
+	 * cache, and walks the JAR only if it is not cached or has changed.
+	 *
+	 * @param root the package fragment root (JAR).
+	 * @return the templates of the given package fragment root (JAR).
+	 * @throws JavaModelException if a JDT model error occurs.
+	 * @throws CoreException      if another error occurs.
+	 */
+	private static JarTemplates getJarTemplates(IPackageFragmentRoot root) throws JavaModelException, CoreException {
+		return BinaryTemplatesCache.getInstance().get(root, QuarkusIntegrationForQute::walkJarTemplates);
+	}
+
+	/**
+	 * Walks the given package fragment root (JAR) to collect its templates.
 	 *
 	 * <p>
 	 * This method looks for:
@@ -143,15 +276,14 @@ public class QuarkusIntegrationForQute {
 	 * </p>
 	 *
 	 * @param root the package fragment root (JAR).
-	 * @return a {@link BinaryTemplateInfo} if templates were found, {@code null}
-	 *         otherwise.
+	 * @return the templates of the JAR, with {@code null} templates if the JAR
+	 *         has no {@code templates/} entry.
 	 * @throws JavaModelException if a JDT model error occurs.
 	 * @throws CoreException      if another error occurs.
 	 */
-	private static BinaryTemplateInfo collectBinaryTemplates(IPackageFragmentRoot root)
-			throws JavaModelException, CoreException {
+	private static JarTemplates walkJarTemplates(IPackageFragmentRoot root) throws JavaModelException, CoreException {
 
-		List<BinaryTemplate> templates = null;
+		List<JarTemplate> templates = null;
 
 		IJavaElement[] children = root.getChildren();
 		for (IJavaElement child : children) {
@@ -191,12 +323,8 @@ public class QuarkusIntegrationForQute {
 			}
 		}
 
+		Map<String, String> properties = null;
 		if (templates != null) {
-			BinaryTemplateInfo info = new BinaryTemplateInfo();
-			String jarName = root.getPath().lastSegment();
-			info.setBinaryName(jarName);
-			info.setTemplates(templates);
-
 			// Look for application.properties at the root of the JAR.
 			// Note: root.getNonJavaResources() returns root-level resources (not packages).
 			Object[] rootResources = root.getNonJavaResources();
@@ -205,16 +333,14 @@ public class QuarkusIntegrationForQute {
 					if (resource instanceof IJarEntryResource) {
 						IJarEntryResource jarEntry = (IJarEntryResource) resource;
 						if (APPLICATION_PROPERTIES_ENTRY.equals(jarEntry.getName())) {
-							info.setProperties(parseProperties(jarEntry));
+							properties = parseProperties(jarEntry);
 							break;
 						}
 					}
 				}
 			}
-			return info;
 		}
-
-		return null;
+		return new JarTemplates(templates, properties);
 	}
 
 	/**
@@ -243,25 +369,23 @@ public class QuarkusIntegrationForQute {
 	 * @param currentPath the relative path of the parent folder from
 	 *                    {@code templates/} (empty string for the root level).
 	 * @param altSyntaxExpr 
-	 * @param templates   the list to fill with collected binary templates.
+	 * @param templates   the list to fill with collected templates.
 	 * @throws CoreException if an error occurs while reading the resource.
 	 */
-	private static void collectJarEntry(IJarEntryResource resource, String currentPath, boolean altSyntaxExpr, List<BinaryTemplate> templates)
-			throws CoreException {
+	private static void collectJarEntry(IJarEntryResource resource, String currentPath, boolean altSyntaxExpr,
+			List<JarTemplate> templates) throws CoreException {
 
 		if (resource.isFile()) {
 			// Build the full relative path by appending the file name to the current path
 			String fileName = resource.getName();
 			String path = currentPath.isEmpty() ? fileName : currentPath + "/" + fileName;
-			String uri = toUri(resource);
+			String entryPath = resource.getFullPath().toPortableString();
 			String content = convertStreamToString(resource.getContents());
-
-			BinaryTemplate template = new BinaryTemplate();
-			template.setPath(path);
-			template.setUri(uri);
-			template.setContent(content);
-			template.setAltSyntaxExpr(altSyntaxExpr);
-			templates.add(template);
+			byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+			CRC32 crc = new CRC32();
+			crc.update(bytes);
+			templates.add(new JarTemplate(path, entryPath, content, bytes.length, Long.toHexString(crc.getValue()),
+					altSyntaxExpr));
 			return;
 		}
 
@@ -362,22 +486,22 @@ public class QuarkusIntegrationForQute {
 	private static final String CONTENTS_AUTHORITY = "jarentry";
 
 	/**
-	 * Builds a {@code jdt://jarentry/...} URI string for the given JAR entry
-	 * resource. The URI encodes the full path and the JAR handle identifier so that
-	 * the resource can be located unambiguously.
+	 * Builds a {@code jdt://jarentry/...} URI string for the given JAR entry path
+	 * of the given package fragment root. The URI encodes the full path and the
+	 * JAR handle identifier so that the resource can be located unambiguously.
 	 *
 	 * @see <a href=
 	 *      "https://github.com/microsoft/vscode-java-dependency/blob/27c306b770c23b1eba1f9a7c3e70d2793baced68/jdtls.ext/com.microsoft.jdtls.ext.core/src/com/microsoft/jdtls/ext/core/ExtUtils.java#L39">ExtUtils.java</a>
 	 *
-	 * @param jarEntryFile the JAR entry resource.
+	 * @param fragmentRoot the package fragment root (JAR).
+	 * @param entryPath    the full path of the JAR entry.
 	 * @return the URI as an ASCII string, or {@code null} if the URI could not be
 	 *         built.
 	 */
-	private static String toUri(IJarEntryResource jarEntryFile) {
-		IPackageFragmentRoot fragmentRoot = jarEntryFile.getPackageFragmentRoot();
+	private static String toUri(IPackageFragmentRoot fragmentRoot, String entryPath) {
 		try {
-			return new URI(JDT_SCHEME, CONTENTS_AUTHORITY, jarEntryFile.getFullPath().toPortableString(),
-					fragmentRoot.getHandleIdentifier(), null).toASCIIString();
+			return new URI(JDT_SCHEME, CONTENTS_AUTHORITY, entryPath, fragmentRoot.getHandleIdentifier(), null)
+					.toASCIIString();
 		} catch (URISyntaxException e) {
 			LOGGER.log(Level.SEVERE, "Error while generating URI for jar entry file", e);
 			return null;
@@ -33,6 +33,7 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 
 import com.redhat.qute.commons.ProjectFeature;
@@ -361,7 +362,19 @@ public class JDTQuteProjectUtils {
 		}
 	}
 
+	/**
+	 * Returns the AST with bindings of the given Java file. The AST shared by JDT
+	 * for the active Java file is reused when it is available, otherwise a new AST
+	 * is created.
+	 *
+	 * @param typeRoot the Java file.
+	 * @return the AST with bindings of the given Java file.
+	 */
 	public static CompilationUnit getASTRoot(ITypeRoot typeRoot) {
+		CompilationUnit sharedAST = SharedASTProviderCore.getAST(typeRoot, SharedASTProviderCore.WAIT_NO, null);
+		if (sharedAST != null) {
+			return sharedAST;
+		}
 		return ASTResolving.createQuickFixAST((ICompilationUnit) typeRoot, null);
 	}
 }
@@ -0,0 +1,121 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons;
+
+import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
+
+/**
+ * Qute Java template usages parameters, used to find the template expressions
+ * which resolve to a given Java field or method.
+ *
+ */
+public class QuteJavaTemplateUsagesParams {
+
+	private String projectUri;
+
+	private String sourceType;
+
+	private String sourceField;
+
+	private String sourceMethod;
+
+	public QuteJavaTemplateUsagesParams() {
+
+	}
+
+	public QuteJavaTemplateUsagesParams(String sourceType, String projectUri) {
+		setSourceType(sourceType);
+		setProjectUri(projectUri);
+	}
+
+	/**
+	 * Returns the Qute project Uri.
+	 *
+	 * @return the Qute project Uri.
+	 */
+	public String getProjectUri() {
+		return projectUri;
+	}
+
+	/**
+	 * Set the Qute project Uri.
+	 *
+	 * @param projectUri the Qute project Uri.
+	 */
+	public void setProjectUri(String projectUri) {
+		this.projectUri = projectUri;
+	}
+
+	/**
+	 * Returns the Java source type which declares the member.
+	 *
+	 * @return the Java source type which declares the member.
+	 */
+	public String getSourceType() {
+		return sourceType;
+	}
+
+	/**
+	 * Set the Java source type which declares the member.
+	 *
+	 * @param sourceType the Java source type which declares the member.
+	 */
+	public void setSourceType(String sourceType) {
+		this.sourceType = sourceType;
+	}
+
+	/**
+	 * Returns the Java source field and null otherwise.
+	 *
+	 * @return the Java source field and null otherwise.
+	 */
+	public String getSourceField() {
+		return sourceField;
+	}
+
+	/**
+	 * Set the Java source field.
+	 *
+	 * @param sourceField the Java source field.
+	 */
+	public void setSourceField(String sourceField) {
+		this.sourceField = sourceField;
+	}
+
+	/**
+	 * Returns the Java source method and null otherwise.
+	 *
+	 * @return the Java source method and null otherwise.
+	 */
+	public String getSourceMethod() {
+		return sourceMethod;
+	}
+
+	/**
+	 * Set the Java source method.
+	 *
+	 * @param sourceMethod the Java source method.
+	 */
+	public void setSourceMethod(String sourceMethod) {
+		this.sourceMethod = sourceMethod;
+	}
+
+	@Override
+	public String toString() {
+		ToStringBuilder b = new ToStringBuilder(this);
+		b.add("projectUri", this.projectUri);
+		b.add("sourceType", this.sourceType);
+		b.add("sourceField", this.sourceField);
+		b.add("sourceMethod", this.sourceMethod);
+		return b.toString();
+	}
+}
@@ -22,4 +22,10 @@ public class QuteTelemetryConstants {
 	 */
 	public static final String FILE_OPENED = "qute.file.opened";
 
+	/**
+	 * telemetry event to emit periodically with the latency statistics of the
+	 * requests
+	 */
+	public static final String REQUEST_STATS = "qute.request.stats";
+
 }
@@ -26,6 +26,10 @@ public class BinaryTemplate {
 
 	private String content;
 
+	private long size;
+
+	private String checksum;
+
 	private boolean altSyntaxExpr;
 
 	/**
@@ -84,9 +88,12 @@ public class BinaryTemplate {
 	}
 
 	/**
-	 * Returns the template content.
+	 * Returns the template content and null if the content must be loaded on
+	 * demand with the 'qute/template/binaryTemplateContents' request (see
+	 * {@link QuteBinaryTemplateParams#isContentOnDemand()}).
 	 *
-	 * @return the template content.
+	 * @return the template content and null if the content must be loaded on
+	 *         demand.
 	 */
 	public String getContent() {
 		return content;
@@ -101,6 +108,45 @@ public class BinaryTemplate {
 		this.content = content;
 	}
 
+	/**
+	 * Returns the size in bytes of the template content.
+	 *
+	 * @return the size in bytes of the template content.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Sets the size in bytes of the template content.
+	 *
+	 * @param size the size in bytes of the template content.
+	 */
+	public void setSize(long size) {
+		this.size = size;
+	}
+
+	/**
+	 * Returns the checksum (CRC-32 as hexadecimal) of the template content and
+	 * null otherwise.
+	 *
+	 * @return the checksum (CRC-32 as hexadecimal) of the template content and
+	 *         null otherwise.
+	 */
+	public String getChecksum() {
+		return checksum;
+	}
+
+	/**
+	 * Sets the checksum (CRC-32 as hexadecimal) of the template content.
+	 *
+	 * @param checksum the checksum (CRC-32 as hexadecimal) of the template
+	 *                 content.
+	 */
+	public void setChecksum(String checksum) {
+		this.checksum = checksum;
+	}
+
 	public boolean isAltSyntaxExpr() {
 		return altSyntaxExpr;
 	}
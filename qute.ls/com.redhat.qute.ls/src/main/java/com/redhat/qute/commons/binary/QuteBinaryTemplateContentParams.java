@@ -0,0 +1,71 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.binary;
+
+import java.util.List;
+
+/**
+ * Parameters of the 'qute/template/binaryTemplateContents' request which loads
+ * the content of the given binary templates.
+ *
+ */
+public class QuteBinaryTemplateContentParams {
+
+	private String projectUri;
+
+	private List<String> uris;
+
+	public QuteBinaryTemplateContentParams() {
+	}
+
+	public QuteBinaryTemplateContentParams(String projectUri, List<String> uris) {
+		setProjectUri(projectUri);
+		setUris(uris);
+	}
+
+	/**
+	 * Returns the Qute project Uri.
+	 * 
+	 * @return the Qute project Uri.
+	 */
+	public String getProjectUri() {
+		return projectUri;
+	}
+
+	/**
+	 * Set the Qute project Uri.
+	 * 
+	 * @param projectUri the Qute project Uri.
+	 */
+	public void setProjectUri(String projectUri) {
+		this.projectUri = projectUri;
+	}
+
+	/**
+	 * Returns the URIs of the binary templates to load (see
+	 * {@link BinaryTemplate#getUri()}).
+	 * 
+	 * @return the URIs of the binary templates to load.
+	 */
+	public List<String> getUris() {
+		return uris;
+	}
+
+	/**
+	 * Set the URIs of the binary templates to load.
+	 * 
+	 * @param uris the URIs of the binary templates to load.
+	 */
+	public void setUris(List<String> uris) {
+		this.uris = uris;
+	}
+}
@@ -15,6 +15,8 @@ public class QuteBinaryTemplateParams {
 
 	private String projectUri;
 
+	private boolean contentOnDemand;
+
 	public QuteBinaryTemplateParams() {
 	}
 
@@ -39,4 +41,27 @@ public class QuteBinaryTemplateParams {
 	public void setProjectUri(String projectUri) {
 		this.projectUri = projectUri;
 	}
+
+	/**
+	 * Returns true if the binary templates must be returned without their content
+	 * (only path, uri, size and checksum) and false otherwise. The content is then
+	 * loaded on demand with the 'qute/template/binaryTemplateContents' request.
+	 * 
+	 * @return true if the binary templates must be returned without their content
+	 *         and false otherwise.
+	 */
+	public boolean isContentOnDemand() {
+		return contentOnDemand;
+	}
+
+	/**
+	 * Set true if the binary templates must be returned without their content and
+	 * false otherwise.
+	 * 
+	 * @param contentOnDemand true if the binary templates must be returned without
+	 *                        their content and false otherwise.
+	 */
+	public void setContentOnDemand(boolean contentOnDemand) {
+		this.contentOnDemand = contentOnDemand;
+	}
 }
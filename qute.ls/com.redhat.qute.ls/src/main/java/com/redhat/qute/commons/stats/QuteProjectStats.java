@@ -0,0 +1,395 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.stats;
+
+import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
+
+/**
+ * Memory and cache statistics of a Qute project.
+ *
+ */
+public class QuteProjectStats {
+
+	private String uri;
+
+	private boolean loaded;
+
+	private int openedDocuments;
+
+	private int closedDocuments;
+
+	private int binaryDocuments;
+
+	private long templateContentBytes;
+
+	private int resolvedJavaTypes;
+
+	private int pendingJavaTypes;
+
+	private long javaTypeCacheHits;
+
+	private long javaTypeCacheMisses;
+
+	private int dataModelTemplates;
+
+	private int valueResolvers;
+
+	private int namespaceResolvers;
+
+	private int includeUsages;
+
+	private int javaMemberUsages;
+
+	private int indexedSymbols;
+
+	private int roqDataFiles;
+
+	/**
+	 * Returns the Qute project Uri.
+	 *
+	 * @return the Qute project Uri.
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Set the Qute project Uri.
+	 *
+	 * @param uri the Qute project Uri.
+	 */
+	public void setUri(String uri) {
+		this.uri = uri;
+	}
+
+	/**
+	 * Returns true if the Qute project is loaded and false otherwise.
+	 *
+	 * @return true if the Qute project is loaded and false otherwise.
+	 */
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Set true if the Qute project is loaded and false otherwise.
+	 *
+	 * @param loaded true if the Qute project is loaded and false otherwise.
+	 */
+	public void setLoaded(boolean loaded) {
+		this.loaded = loaded;
+	}
+
+	/**
+	 * Returns the number of opened template documents.
+	 *
+	 * @return the number of opened template documents.
+	 */
+	public int getOpenedDocuments() {
+		return openedDocuments;
+	}
+
+	/**
+	 * Set the number of opened template documents.
+	 *
+	 * @param openedDocuments the number of opened template documents.
+	 */
+	public void setOpenedDocuments(int openedDocuments) {
+		this.openedDocuments = openedDocuments;
+	}
+
+	/**
+	 * Returns the number of closed template documents.
+	 *
+	 * @return the number of closed template documents.
+	 */
+	public int getClosedDocuments() {
+		return closedDocuments;
+	}
+
+	/**
+	 * Set the number of closed template documents.
+	 *
+	 * @param closedDocuments the number of closed template documents.
+	 */
+	public void setClosedDocuments(int closedDocuments) {
+		this.closedDocuments = closedDocuments;
+	}
+
+	/**
+	 * Returns the number of binary template documents.
+	 *
+	 * @return the number of binary template documents.
+	 */
+	public int getBinaryDocuments() {
+		return binaryDocuments;
+	}
+
+	/**
+	 * Set the number of binary template documents.
+	 *
+	 * @param binaryDocuments the number of binary template documents.
+	 */
+	public void setBinaryDocuments(int binaryDocuments) {
+		this.binaryDocuments = binaryDocuments;
+	}
+
+	/**
+	 * Returns the approximate bytes retained by the content of the template documents.
+	 *
+	 * @return the approximate bytes retained by the content of the template documents.
+	 */
+	public long getTemplateContentBytes() {
+		return templateContentBytes;
+	}
+
+	/**
+	 * Set the approximate bytes retained by the content of the template documents.
+	 *
+	 * @param templateContentBytes the approximate bytes retained by the content of the template documents.
+	 */
+	public void setTemplateContentBytes(long templateContentBytes) {
+		this.templateContentBytes = templateContentBytes;
+	}
+
+	/**
+	 * Returns the number of Java types in the resolved Java types cache.
+	 *
+	 * @return the number of Java types in the resolved Java types cache.
+	 */
+	public int getResolvedJavaTypes() {
+		return resolvedJavaTypes;
+	}
+
+	/**
+	 * Set the number of Java types in the resolved Java types cache.
+	 *
+	 * @param resolvedJavaTypes the number of Java types in the resolved Java types cache.
+	 */
+	public void setResolvedJavaTypes(int resolvedJavaTypes) {
+		this.resolvedJavaTypes = resolvedJavaTypes;
+	}
+
+	/**
+	 * Returns the number of Java types which are resolving.
+	 *
+	 * @return the number of Java types which are resolving.
+	 */
+	public int getPendingJavaTypes() {
+		return pendingJavaTypes;
+	}
+
+	/**
+	 * Set the number of Java types which are resolving.
+	 *
+	 * @param pendingJavaTypes the number of Java types which are resolving.
+	 */
+	public void setPendingJavaTypes(int pendingJavaTypes) {
+		this.pendingJavaTypes = pendingJavaTypes;
+	}
+
+	/**
+	 * Returns the number of Java type resolutions served by the cache.
+	 *
+	 * @return the number of Java type resolutions served by the cache.
+	 */
+	public long getJavaTypeCacheHits() {
+		return javaTypeCacheHits;
+	}
+
+	/**
+	 * Set the number of Java type resolutions served by the cache.
+	 *
+	 * @param javaTypeCacheHits the number of Java type resolutions served by the cache.
+	 */
+	public void setJavaTypeCacheHits(long javaTypeCacheHits) {
+		this.javaTypeCacheHits = javaTypeCacheHits;
+	}
+
+	/**
+	 * Returns the number of Java type resolutions not served by the cache.
+	 *
+	 * @return the number of Java type resolutions not served by the cache.
+	 */
+	public long getJavaTypeCacheMisses() {
+		return javaTypeCacheMisses;
+	}
+
+	/**
+	 * Set the number of Java type resolutions not served by the cache.
+	 *
+	 * @param javaTypeCacheMisses the number of Java type resolutions not served by the cache.
+	 */
+	public void setJavaTypeCacheMisses(long javaTypeCacheMisses) {
+		this.javaTypeCacheMisses = javaTypeCacheMisses;
+	}
+
+	/**
+	 * Returns the number of templates of the data model.
+	 *
+	 * @return the number of templates of the data model.
+	 */
+	public int getDataModelTemplates() {
+		return dataModelTemplates;
+	}
+
+	/**
+	 * Set the number of templates of the data model.
+	 *
+	 * @param dataModelTemplates the number of templates of the data model.
+	 */
+	public void setDataModelTemplates(int dataModelTemplates) {
+		this.dataModelTemplates = dataModelTemplates;
+	}
+
+	/**
+	 * Returns the number of value resolvers of the data model.
+	 *
+	 * @return the number of value resolvers of the data model.
+	 */
+	public int getValueResolvers() {
+		return valueResolvers;
+	}
+
+	/**
+	 * Set the number of value resolvers of the data model.
+	 *
+	 * @param valueResolvers the number of value resolvers of the data model.
+	 */
+	public void setValueResolvers(int valueResolvers) {
+		this.valueResolvers = valueResolvers;
+	}
+
+	/**
+	 * Returns the number of namespace resolvers of the data model.
+	 *
+	 * @return the number of namespace resolvers of the data model.
+	 */
+	public int getNamespaceResolvers() {
+		return namespaceResolvers;
+	}
+
+	/**
+	 * Set the number of namespace resolvers of the data model.
+	 *
+	 * @param namespaceResolvers the number of namespace resolvers of the data model.
+	 */
+	public void setNamespaceResolvers(int namespaceResolvers) {
+		this.namespaceResolvers = namespaceResolvers;
+	}
+
+	/**
+	 * Returns the number of keys of the include usages registry.
+	 *
+	 * @return the number of keys of the include usages registry.
+	 */
+	public int getIncludeUsages() {
+		return includeUsages;
+	}
+
+	/**
+	 * Set the number of keys of the include usages registry.
+	 *
+	 * @param includeUsages the number of keys of the include usages registry.
+	 */
+	public void setIncludeUsages(int includeUsages) {
+		this.includeUsages = includeUsages;
+	}
+
+	/**
+	 * Returns the number of Java members of the Java member usages registry.
+	 *
+	 * @return the number of Java members of the Java member usages registry.
+	 */
+	public int getJavaMemberUsages() {
+		return javaMemberUsages;
+	}
+
+	/**
+	 * Set the number of Java members of the Java member usages registry.
+	 *
+	 * @param javaMemberUsages the number of Java members of the Java member usages registry.
+	 */
+	public void setJavaMemberUsages(int javaMemberUsages) {
+		this.javaMemberUsages = javaMemberUsages;
+	}
+
+	/**
+	 * Returns the number of symbols of the workspace symbol index.
+	 *
+	 * @return the number of symbols of the workspace symbol index.
+	 */
+	public int getIndexedSymbols() {
+		return indexedSymbols;
+	}
+
+	/**
+	 * Set the number of symbols of the workspace symbol index.
+	 *
+	 * @param indexedSymbols the number of symbols of the workspace symbol index.
+	 */
+	public void setIndexedSymbols(int indexedSymbols) {
+		this.indexedSymbols = indexedSymbols;
+	}
+
+	/**
+	 * Returns the number of Roq data files.
+	 *
+	 * @return the number of Roq data files.
+	 */
+	public int getRoqDataFiles() {
+		return roqDataFiles;
+	}
+
+	/**
+	 * Set the number of Roq data files.
+	 *
+	 * @param roqDataFiles the number of Roq data files.
+	 */
+	public void setRoqDataFiles(int roqDataFiles) {
+		this.roqDataFiles = roqDataFiles;
+	}
+
+	/**
+	 * Returns the hit rate (between 0 and 1) of the resolved Java types cache.
+	 *
+	 * @return the hit rate (between 0 and 1) of the resolved Java types cache.
+	 */
+	public double getJavaTypeCacheHitRate() {
+		long total = javaTypeCacheHits + javaTypeCacheMisses;
+		return total > 0 ? (double) javaTypeCacheHits / total : 0;
+	}
+
+	@Override
+	public String toString() {
+		ToStringBuilder b = new ToStringBuilder(this);
+		b.add("uri", this.uri);
+		b.add("loaded", this.loaded);
+		b.add("openedDocuments", this.openedDocuments);
+		b.add("closedDocuments", this.closedDocuments);
+		b.add("binaryDocuments", this.binaryDocuments);
+		b.add("templateContentBytes", this.templateContentBytes);
+		b.add("resolvedJavaTypes", this.resolvedJavaTypes);
+		b.add("pendingJavaTypes", this.pendingJavaTypes);
+		b.add("javaTypeCacheHits", this.javaTypeCacheHits);
+		b.add("javaTypeCacheMisses", this.javaTypeCacheMisses);
+		b.add("javaTypeCacheHitRate", getJavaTypeCacheHitRate());
+		b.add("dataModelTemplates", this.dataModelTemplates);
+		b.add("valueResolvers", this.valueResolvers);
+		b.add("namespaceResolvers", this.namespaceResolvers);
+		b.add("includeUsages", this.includeUsages);
+		b.add("javaMemberUsages", this.javaMemberUsages);
+		b.add("indexedSymbols", this.indexedSymbols);
+		b.add("roqDataFiles", this.roqDataFiles);
+		return b.toString();
+	}
+}
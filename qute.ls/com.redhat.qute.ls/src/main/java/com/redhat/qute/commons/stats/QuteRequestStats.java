@@ -0,0 +1,280 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.stats;
+
+import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
+
+/**
+ * Latency statistics of a request handled by the Qute language server, or of a
+ * request sent to the JDT side.
+ *
+ */
+public class QuteRequestStats {
+
+	private String method;
+
+	private String kind;
+
+	private long count;
+
+	private long cancelled;
+
+	private long failed;
+
+	private double meanMillis;
+
+	private double p50Millis;
+
+	private double p90Millis;
+
+	private double p99Millis;
+
+	private double maxMillis;
+
+	private double queueWaitMeanMillis;
+
+	private double queueWaitMaxMillis;
+
+	/**
+	 * Returns the measured method (ex : 'textDocument/hover').
+	 *
+	 * @return the measured method (ex : 'textDocument/hover').
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * Set the measured method (ex : 'textDocument/hover').
+	 *
+	 * @param method the measured method (ex : 'textDocument/hover').
+	 */
+	public void setMethod(String method) {
+		this.method = method;
+	}
+
+	/**
+	 * Returns the kind of the measured request ('request', 'jdt' or 'validation').
+	 *
+	 * @return the kind of the measured request ('request', 'jdt' or 'validation').
+	 */
+	public String getKind() {
+		return kind;
+	}
+
+	/**
+	 * Set the kind of the measured request ('request', 'jdt' or 'validation').
+	 *
+	 * @param kind the kind of the measured request ('request', 'jdt' or 'validation').
+	 */
+	public void setKind(String kind) {
+		this.kind = kind;
+	}
+
+	/**
+	 * Returns the number of completed requests.
+	 *
+	 * @return the number of completed requests.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Set the number of completed requests.
+	 *
+	 * @param count the number of completed requests.
+	 */
+	public void setCount(long count) {
+		this.count = count;
+	}
+
+	/**
+	 * Returns the number of cancelled requests.
+	 *
+	 * @return the number of cancelled requests.
+	 */
+	public long getCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Set the number of cancelled requests.
+	 *
+	 * @param cancelled the number of cancelled requests.
+	 */
+	public void setCancelled(long cancelled) {
+		this.cancelled = cancelled;
+	}
+
+	/**
+	 * Returns the number of failed requests.
+	 *
+	 * @return the number of failed requests.
+	 */
+	public long getFailed() {
+		return failed;
+	}
+
+	/**
+	 * Set the number of failed requests.
+	 *
+	 * @param failed the number of failed requests.
+	 */
+	public void setFailed(long failed) {
+		this.failed = failed;
+	}
+
+	/**
+	 * Returns the mean latency in milliseconds.
+	 *
+	 * @return the mean latency in milliseconds.
+	 */
+	public double getMeanMillis() {
+		return meanMillis;
+	}
+
+	/**
+	 * Set the mean latency in milliseconds.
+	 *
+	 * @param meanMillis the mean latency in milliseconds.
+	 */
+	public void setMeanMillis(double meanMillis) {
+		this.meanMillis = meanMillis;
+	}
+
+	/**
+	 * Returns the approximated median latency in milliseconds.
+	 *
+	 * @return the approximated median latency in milliseconds.
+	 */
+	public double getP50Millis() {
+		return p50Millis;
+	}
+
+	/**
+	 * Set the approximated median latency in milliseconds.
+	 *
+	 * @param p50Millis the approximated median latency in milliseconds.
+	 */
+	public void setP50Millis(double p50Millis) {
+		this.p50Millis = p50Millis;
+	}
+
+	/**
+	 * Returns the approximated 90th percentile latency in milliseconds.
+	 *
+	 * @return the approximated 90th percentile latency in milliseconds.
+	 */
+	public double getP90Millis() {
+		return p90Millis;
+	}
+
+	/**
+	 * Set the approximated 90th percentile latency in milliseconds.
+	 *
+	 * @param p90Millis the approximated 90th percentile latency in milliseconds.
+	 */
+	public void setP90Millis(double p90Millis) {
+		this.p90Millis = p90Millis;
+	}
+
+	/**
+	 * Returns the approximated 99th percentile latency in milliseconds.
+	 *
+	 * @return the approximated 99th percentile latency in milliseconds.
+	 */
+	public double getP99Millis() {
+		return p99Millis;
+	}
+
+	/**
+	 * Set the approximated 99th percentile latency in milliseconds.
+	 *
+	 * @param p99Millis the approximated 99th percentile latency in milliseconds.
+	 */
+	public void setP99Millis(double p99Millis) {
+		this.p99Millis = p99Millis;
+	}
+
+	/**
+	 * Returns the max latency in milliseconds.
+	 *
+	 * @return the max latency in milliseconds.
+	 */
+	public double getMaxMillis() {
+		return maxMillis;
+	}
+
+	/**
+	 * Set the max latency in milliseconds.
+	 *
+	 * @param maxMillis the max latency in milliseconds.
+	 */
+	public void setMaxMillis(double maxMillis) {
+		this.maxMillis = maxMillis;
+	}
+
+	/**
+	 * Returns the mean time in milliseconds spent waiting for a thread of the async executor.
+	 *
+	 * @return the mean time in milliseconds spent waiting for a thread of the async executor.
+	 */
+	public double getQueueWaitMeanMillis() {
+		return queueWaitMeanMillis;
+	}
+
+	/**
+	 * Set the mean time in milliseconds spent waiting for a thread of the async executor.
+	 *
+	 * @param queueWaitMeanMillis the mean time in milliseconds spent waiting for a thread of the async executor.
+	 */
+	public void setQueueWaitMeanMillis(double queueWaitMeanMillis) {
+		this.queueWaitMeanMillis = queueWaitMeanMillis;
+	}
+
+	/**
+	 * Returns the max time in milliseconds spent waiting for a thread of the async executor.
+	 *
+	 * @return the max time in milliseconds spent waiting for a thread of the async executor.
+	 */
+	public double getQueueWaitMaxMillis() {
+		return queueWaitMaxMillis;
+	}
+
+	/**
+	 * Set the max time in milliseconds spent waiting for a thread of the async executor.
+	 *
+	 * @param queueWaitMaxMillis the max time in milliseconds spent waiting for a thread of the async executor.
+	 */
+	public void setQueueWaitMaxMillis(double queueWaitMaxMillis) {
+		this.queueWaitMaxMillis = queueWaitMaxMillis;
+	}
+
+	@Override
+	public String toString() {
+		ToStringBuilder b = new ToStringBuilder(this);
+		b.add("method", this.method);
+		b.add("kind", this.kind);
+		b.add("count", this.count);
+		b.add("cancelled", this.cancelled);
+		b.add("failed", this.failed);
+		b.add("meanMillis", this.meanMillis);
+		b.add("p50Millis", this.p50Millis);
+		b.add("p90Millis", this.p90Millis);
+		b.add("p99Millis", this.p99Millis);
+		b.add("maxMillis", this.maxMillis);
+		b.add("queueWaitMeanMillis", this.queueWaitMeanMillis);
+		b.add("queueWaitMaxMillis", this.queueWaitMaxMillis);
+		return b.toString();
+	}
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.stats;
+
+import java.util.List;
+
+import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
+
+/**
+ * Memory and cache statistics of the Qute language server, returned by the
+ * 'qute/server/stats' request.
+ *
+ */
+public class QuteServerStats {
+
+	private long usedHeapBytes;
+
+	private long maxHeapBytes;
+
+	private int sharedBinaryTemplates;
+
+	private long sharedBinaryTemplateContentBytes;
+
+	private List<QuteProjectStats> projects;
+
+	private List<QuteRequestStats> requests;
+
+	/**
+	 * Returns the used heap bytes of the server.
+	 *
+	 * @return the used heap bytes of the server.
+	 */
+	public long getUsedHeapBytes() {
+		return usedHeapBytes;
+	}
+
+	/**
+	 * Set the used heap bytes of the server.
+	 *
+	 * @param usedHeapBytes the used heap bytes of the server.
+	 */
+	public void setUsedHeapBytes(long usedHeapBytes) {
+		this.usedHeapBytes = usedHeapBytes;
+	}
+
+	/**
+	 * Returns the max heap bytes of the server.
+	 *
+	 * @return the max heap bytes of the server.
+	 */
+	public long getMaxHeapBytes() {
+		return maxHeapBytes;
+	}
+
+	/**
+	 * Set the max heap bytes of the server.
+	 *
+	 * @param maxHeapBytes the max heap bytes of the server.
+	 */
+	public void setMaxHeapBytes(long maxHeapBytes) {
+		this.maxHeapBytes = maxHeapBytes;
+	}
+
+	/**
+	 * Returns the number of binary templates shared by the Qute projects.
+	 *
+	 * @return the number of binary templates shared by the Qute projects.
+	 */
+	public int getSharedBinaryTemplates() {
+		return sharedBinaryTemplates;
+	}
+
+	/**
+	 * Set the number of binary templates shared by the Qute projects.
+	 *
+	 * @param sharedBinaryTemplates the number of binary templates shared by the
+	 *                              Qute projects.
+	 */
+	public void setSharedBinaryTemplates(int sharedBinaryTemplates) {
+		this.sharedBinaryTemplates = sharedBinaryTemplates;
+	}
+
+	/**
+	 * Returns the approximate bytes retained by the content of the binary
+	 * templates shared by the Qute projects.
+	 *
+	 * @return the approximate bytes retained by the content of the binary
+	 *         templates shared by the Qute projects.
+	 */
+	public long getSharedBinaryTemplateContentBytes() {
+		return sharedBinaryTemplateContentBytes;
+	}
+
+	/**
+	 * Set the approximate bytes retained by the content of the binary templates
+	 * shared by the Qute projects.
+	 *
+	 * @param sharedBinaryTemplateContentBytes the approximate bytes retained by the
+	 *                                         content of the binary templates
+	 *                                         shared by the Qute projects.
+	 */
+	public void setSharedBinaryTemplateContentBytes(long sharedBinaryTemplateContentBytes) {
+		this.sharedBinaryTemplateContentBytes = sharedBinaryTemplateContentBytes;
+	}
+
+	/**
+	 * Returns the statistics of the Qute projects.
+	 *
+	 * @return the statistics of the Qute projects.
+	 */
+	public List<QuteProjectStats> getProjects() {
+		return projects;
+	}
+
+	/**
+	 * Set the statistics of the Qute projects.
+	 *
+	 * @param projects the statistics of the Qute projects.
+	 */
+	public void setProjects(List<QuteProjectStats> projects) {
+		this.projects = projects;
+	}
+
+	/**
+	 * Returns the latency statistics of the requests.
+	 *
+	 * @return the latency statistics of the requests.
+	 */
+	public List<QuteRequestStats> getRequests() {
+		return requests;
+	}
+
+	/**
+	 * Set the latency statistics of the requests.
+	 *
+	 * @param requests the latency statistics of the requests.
+	 */
+	public void setRequests(List<QuteRequestStats> requests) {
+		this.requests = requests;
+	}
+
+	@Override
+	public String toString() {
+		ToStringBuilder b = new ToStringBuilder(this);
+		b.add("usedHeapBytes", this.usedHeapBytes);
+		b.add("maxHeapBytes", this.maxHeapBytes);
+		b.add("sharedBinaryTemplates", this.sharedBinaryTemplates);
+		b.add("sharedBinaryTemplateContentBytes", this.sharedBinaryTemplateContentBytes);
+		b.add("projects", this.projects);
+		b.add("requests", this.requests);
+		return b.toString();
+	}
+}
@@ -15,11 +15,15 @@ import static com.redhat.qute.utils.VersionHelper.getVersion;
 import static org.eclipse.lsp4j.jsonrpc.CompletableFutures.computeAsync;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
@@ -39,19 +43,25 @@ import org.eclipse.lsp4j.services.TextDocumentService;
 
 import com.redhat.qute.commons.JavaTypeInfo;
 import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.QuteTelemetryConstants;
 import com.redhat.qute.commons.QuteJavaDefinitionParams;
+import com.redhat.qute.commons.QuteJavaTemplateUsagesParams;
 import com.redhat.qute.commons.QuteJavaTypesParams;
 import com.redhat.qute.commons.QuteJavadocParams;
 import com.redhat.qute.commons.QuteProjectParams;
 import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.TelemetryEvent;
+import com.redhat.qute.commons.binary.BinaryTemplate;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateContentParams;
 import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
 import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
+import com.redhat.qute.commons.stats.QuteServerStats;
 import com.redhat.qute.ls.api.QuteBinaryTemplateProvider;
 import com.redhat.qute.ls.api.QuteDataModelProjectProvider;
 import com.redhat.qute.ls.api.QuteJavaDefinitionProvider;
@@ -63,8 +73,10 @@ import com.redhat.qute.ls.api.QuteProjectInfoProvider;
 import com.redhat.qute.ls.api.QuteResolvedJavaTypeProvider;
 import com.redhat.qute.ls.api.QuteTemplateProvider;
 import com.redhat.qute.ls.commons.ParentProcessWatcher.ProcessLanguageServer;
+import com.redhat.qute.ls.commons.QuteExecutors;
 import com.redhat.qute.ls.commons.client.ExtendedClientCapabilities;
 import com.redhat.qute.ls.commons.client.InitializationOptionsExtendedClientCapabilities;
+import com.redhat.qute.ls.commons.metrics.RequestMetrics;
 import com.redhat.qute.ls.template.TemplateFileTextDocumentService;
 import com.redhat.qute.parser.template.Template;
 import com.redhat.qute.project.ProgressSupport;
@@ -108,8 +120,15 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 
 	private QuteCapabilityManager capabilityManager;
 
+	private final RequestMetrics requestMetrics;
+
+	private ScheduledFuture<?> statsLogger;
+
+	private ScheduledFuture<?> requestTelemetry;
+
 	public QuteLanguageServer() {
 		this.sharedSettings = new SharedSettings();
+		this.requestMetrics = new RequestMetrics();
 		this.projectRegistry = createProjectRegistry();
 		this.quteLanguageService = new QuteLanguageService(projectRegistry);
 		this.textDocumentService = new QuteTextDocumentService(this);
@@ -136,8 +155,15 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 		ServerCapabilities serverCapabilities = ServerCapabilitiesInitializer
 				.getNonDynamicServerCapabilities(capabilityManager.getClientCapabilities());
 
-		projectRegistry.setDidChangeWatchedFilesSupported(
-				capabilityManager.getClientCapabilities().isDidChangeWatchedFilesRegistered());
+		boolean didChangeWatchedFilesSupported = capabilityManager.getClientCapabilities()
+				.isDidChangeWatchedFilesRegistered();
+		projectRegistry.setDidChangeWatchedFilesSupported(didChangeWatchedFilesSupported);
+		projectRegistry.setBinaryTemplateContentOnDemand(
+				capabilityManager.getClientCapabilities().isBinaryTemplateContentsSupported());
+		if (!didChangeWatchedFilesSupported && !"false".equals(System.getProperty("watchFiles"))) {
+			// The LSP client cannot send file events, watch the files on the server side
+			projectRegistry.startServerFileWatcher();
+		}
 
 		InitializeResult initializeResult = new InitializeResult(serverCapabilities);
 		return CompletableFuture.completedFuture(initializeResult);
@@ -158,6 +184,41 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 		getCapabilityManager().registerExecuteCommand(getWorkspaceService().getCommandIds());
 		// The Qute language server is initialized, load all Qute projects
 		loadQuteProjects();
+		startStatsLogger();
+		startRequestTelemetry();
+	}
+
+	/**
+	 * Log periodically the memory and cache statistics of the server when the
+	 * <code>statsLogInterval</code> system property (in seconds) is defined.
+	 */
+	private void startStatsLogger() {
+		long interval = Long.getLong("statsLogInterval", 0);
+		if (interval > 0) {
+			statsLogger = QuteExecutors.getScheduler().scheduleAtFixedRate(() -> {
+				try {
+					LOGGER.info("Qute server stats: " + getStats());
+				} catch (Exception e) {
+					LOGGER.log(Level.WARNING, "Error while computing the Qute server stats", e);
+				}
+			}, interval, interval, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Send periodically the request latency statistics as telemetry events when
+	 * the <code>requestTelemetryInterval</code> system property (in seconds) is
+	 * defined.
+	 */
+	private void startRequestTelemetry() {
+		long interval = Long.getLong("requestTelemetryInterval", 0);
+		if (interval > 0) {
+			requestTelemetry = QuteExecutors.getScheduler().scheduleAtFixedRate(() -> {
+				Map<String, Object> properties = new HashMap<>();
+				properties.put("requests", requestMetrics.getStats());
+				telemetryEvent(new TelemetryEvent(QuteTelemetryConstants.REQUEST_STATS, properties));
+			}, interval, interval, TimeUnit.SECONDS);
+		}
 	}
 
 	/**
@@ -202,9 +263,16 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 	@Override
 	public CompletableFuture<Object> shutdown() {
 		if (capabilityManager.getClientCapabilities().shouldLanguageServerExitOnShutdown()) {
-			ScheduledExecutorService delayer = Executors.newScheduledThreadPool(1);
+			ScheduledExecutorService delayer = QuteExecutors.isVirtualThreadsEnabled() ? QuteExecutors.getScheduler()
+					: Executors.newScheduledThreadPool(1);
 			delayer.schedule(() -> exit(0), 1, TimeUnit.SECONDS);
 		}
+		if (statsLogger != null) {
+			statsLogger.cancel(false);
+		}
+		if (requestTelemetry != null) {
+			requestTelemetry.cancel(false);
+		}
 		textDocumentService.dispose();
 		projectRegistry.dispose();
 		return computeAsync(cc -> new Object());
@@ -260,7 +328,7 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 
 	@Override
 	public CompletableFuture<Collection<ProjectInfo>> getProjects() {
-		return getLanguageClient().getProjects();
+		return requestMetrics.measureJdt("qute/template/projects", () -> getLanguageClient().getProjects());
 	}
 
 	@Override
@@ -273,31 +341,48 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 		projectRegistry.projectRemoved(project);
 	}
 
+	@Override
+	public CompletableFuture<List<Location>> getJavaMemberTemplateUsages(QuteJavaTemplateUsagesParams params) {
+		return CompletableFuture.completedFuture(projectRegistry.findJavaMemberTemplateUsages(params));
+	}
+
+	@Override
+	public CompletableFuture<QuteServerStats> getServerStats() {
+		return CompletableFuture.supplyAsync(this::getStats, QuteExecutors.getAsyncExecutor());
+	}
+
+	private QuteServerStats getStats() {
+		QuteServerStats stats = projectRegistry.getStats();
+		stats.setRequests(requestMetrics.getStats());
+		return stats;
+	}
+
 	@Override
 	public CompletableFuture<ProjectInfo> getProjectInfo(QuteProjectParams params) {
-		return getLanguageClient().getProjectInfo(params);
+		return requestMetrics.measureJdt("qute/template/project", () -> getLanguageClient().getProjectInfo(params));
 	}
 
 	// Other requests / notifications
 
 	@Override
 	public CompletableFuture<List<JavaTypeInfo>> getJavaTypes(QuteJavaTypesParams params) {
-		return getLanguageClient().getJavaTypes(params);
+		return requestMetrics.measureJdt("qute/template/javaTypes", () -> getLanguageClient().getJavaTypes(params));
 	}
 
 	@Override
 	public CompletableFuture<Location> getJavaDefinition(QuteJavaDefinitionParams params) {
-		return getLanguageClient().getJavaDefinition(params);
+		return requestMetrics.measureJdt("qute/template/javaDefinition", () -> getLanguageClient().getJavaDefinition(params));
 	}
 
 	@Override
 	public CompletableFuture<ResolvedJavaTypeInfo> getResolvedJavaType(QuteResolvedJavaTypeParams params) {
-		return getLanguageClient().getResolvedJavaType(params);
+		return requestMetrics.measureJdt("qute/template/resolvedJavaType",
+				() -> getLanguageClient().getResolvedJavaType(params));
 	}
 
 	@Override
 	public CompletableFuture<String> getJavadoc(QuteJavadocParams params) {
-		return getLanguageClient().getJavadoc(params);
+		return requestMetrics.measureJdt("qute/template/javadoc", () -> getLanguageClient().getJavadoc(params));
 	}
 
 	@Override
@@ -310,15 +395,27 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 		return projectRegistry;
 	}
 
+	public RequestMetrics getRequestMetrics() {
+		return requestMetrics;
+	}
+
 	@Override
 	public CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> getDataModelProject(
 			QuteDataModelProjectParams params) {
-		return getLanguageClient().getDataModelProject(params);
+		return requestMetrics.measureJdt("qute/template/projectDataModel",
+				() -> getLanguageClient().getDataModelProject(params));
 	}
 
 	@Override
 	public CompletableFuture<List<BinaryTemplateInfo>> getBinaryTemplates(QuteBinaryTemplateParams params) {
-		return getLanguageClient().getBinaryTemplates(params);
+		return requestMetrics.measureJdt("qute/template/binaryTemplates",
+				() -> getLanguageClient().getBinaryTemplates(params));
+	}
+
+	@Override
+	public CompletableFuture<List<BinaryTemplate>> getBinaryTemplateContents(QuteBinaryTemplateContentParams params) {
+		return requestMetrics.measureJdt("qute/template/binaryTemplateContents",
+				() -> getLanguageClient().getBinaryTemplateContents(params));
 	}
 
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
@@ -15,7 +15,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import org.eclipse.lsp4j.jsonrpc.Launcher;
@@ -26,6 +25,7 @@ import org.eclipse.lsp4j.services.LanguageServer;
 
 import com.redhat.qute.ls.api.QuteLanguageClientAPI;
 import com.redhat.qute.ls.commons.ParentProcessWatcher;
+import com.redhat.qute.ls.commons.QuteExecutors;
 
 /**
  * Qute server launcher
@@ -45,6 +45,24 @@ public class QuteServerLauncher {
 	 * <i>runAsync</i>: if defined and value is true then received message are
 	 * processed in a separate thread than the LSP4J thread.
 	 * </ul>
+	 * <ul>
+	 * <i>virtualThreads</i>: if defined and value is true and the JVM supports
+	 * virtual threads, request handlers, validation tasks and future continuations
+	 * are executed on virtual threads.
+	 * </ul>
+	 * <ul>
+	 * <i>watchFiles</i>: if defined and value is false then the template files are
+	 * not watched on the server side when the LSP client doesn't support
+	 * 'workspace/didChangeWatchedFiles'.
+	 * </ul>
+	 * <ul>
+	 * <i>statsLogInterval</i>: if defined, the memory and cache statistics of the
+	 * server (see 'qute/server/stats') are logged every given seconds.
+	 * </ul>
+	 * <ul>
+	 * <i>requestTelemetryInterval</i>: if defined, the latency statistics of the
+	 * requests are sent as telemetry events every given seconds.
+	 * </ul>
 	 *
 	 * @param args
 	 */
@@ -53,13 +71,14 @@ public class QuteServerLauncher {
 		Function<MessageConsumer, MessageConsumer> wrapper;
 		wrapper = it -> it;
 		if ("true".equals(System.getProperty("runAsync"))) {
-			wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg));
+			wrapper = it -> msg -> CompletableFuture.runAsync(() -> it.consume(msg),
+					QuteExecutors.getAsyncExecutor());
 		}
 		if (!"false".equals(System.getProperty("watchParentProcess"))) {
 			wrapper = new ParentProcessWatcher(server, wrapper);
 		}
 		Launcher<LanguageClient> launcher = createServerLauncher(server, System.in, System.out,
-				Executors.newCachedThreadPool(), wrapper);
+				QuteExecutors.getRequestExecutor(), wrapper);
 
 		server.setClient(launcher.getRemoteProxy());
 		launcher.startListening();
@@ -49,6 +49,10 @@ import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
 import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RenameParams;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensParams;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.TextDocumentClientCapabilities;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
@@ -60,6 +64,7 @@ import org.eclipse.lsp4j.services.TextDocumentService;
 
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
 import com.redhat.qute.ls.commons.client.ExtendedClientCapabilities;
+import com.redhat.qute.ls.commons.metrics.RequestMetrics;
 import com.redhat.qute.ls.java.JavaFileTextDocumentService;
 import com.redhat.qute.ls.template.TemplateFileTextDocumentService;
 import com.redhat.qute.project.QuteProject;
@@ -84,13 +89,16 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 
 	private final TemplateFileTextDocumentService templateFileTextDocumentService;
 
+	private final RequestMetrics requestMetrics;
+
 	public QuteTextDocumentService(QuteLanguageServer quteLanguageServer) {
 		this.sharedSettings = quteLanguageServer.getSharedSettings();
+		this.requestMetrics = quteLanguageServer.getRequestMetrics();
 		this.javaFileTextDocumentService = new JavaFileTextDocumentService(() -> quteLanguageServer.getLanguageClient(),
 				sharedSettings);
 		this.templateFileTextDocumentService = new TemplateFileTextDocumentService(
 				quteLanguageServer.getQuteLanguageService(), quteLanguageServer,
-				() -> quteLanguageServer.getLanguageClient(), sharedSettings);
+				() -> quteLanguageServer.getLanguageClient(), sharedSettings, requestMetrics);
 	}
 
 	/**
@@ -145,7 +153,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams position) {
 		TextDocumentService service = getTextDocumentService(position.getTextDocument());
 		if (service != null) {
-			return service.completion(position);
+			return requestMetrics.measure("textDocument/completion", () -> service.completion(position));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -156,14 +164,15 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 		if (data == null) {
 			return CompletableFuture.completedFuture(null);
 		}
-		return templateFileTextDocumentService.resolveCompletionItem(unresolved, data);
+		return requestMetrics.measure("completionItem/resolve",
+				() -> templateFileTextDocumentService.resolveCompletionItem(unresolved, data));
 	}
 
 	@Override
 	public CompletableFuture<Hover> hover(HoverParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.hover(params);
+			return requestMetrics.measure("textDocument/hover", () -> service.hover(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -173,7 +182,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 			DocumentSymbolParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.documentSymbol(params);
+			return requestMetrics.measure("textDocument/documentSymbol", () -> service.documentSymbol(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -183,7 +192,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 			DefinitionParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.definition(params);
+			return requestMetrics.measure("textDocument/definition", () -> service.definition(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -192,7 +201,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<List<? extends TextEdit>> formatting(DocumentFormattingParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.formatting(params);
+			return requestMetrics.measure("textDocument/formatting", () -> service.formatting(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -201,7 +210,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<List<? extends TextEdit>> rangeFormatting(DocumentRangeFormattingParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.rangeFormatting(params);
+			return requestMetrics.measure("textDocument/rangeFormatting", () -> service.rangeFormatting(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -210,7 +219,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(CodeActionParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.codeAction(params);
+			return requestMetrics.measure("textDocument/codeAction", () -> service.codeAction(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -219,7 +228,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.codeLens(params);
+			return requestMetrics.measure("textDocument/codeLens", () -> service.codeLens(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -228,7 +237,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<List<? extends DocumentHighlight>> documentHighlight(DocumentHighlightParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.documentHighlight(params);
+			return requestMetrics.measure("textDocument/documentHighlight", () -> service.documentHighlight(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -237,7 +246,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<List<DocumentLink>> documentLink(DocumentLinkParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.documentLink(params);
+			return requestMetrics.measure("textDocument/documentLink", () -> service.documentLink(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -246,7 +255,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<List<? extends Location>> references(ReferenceParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.references(params);
+			return requestMetrics.measure("textDocument/references", () -> service.references(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -255,7 +264,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<WorkspaceEdit> rename(RenameParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.rename(params);
+			return requestMetrics.measure("textDocument/rename", () -> service.rename(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -264,7 +273,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<LinkedEditingRanges> linkedEditingRange(LinkedEditingRangeParams params) {
 		TextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.linkedEditingRange(params);
+			return requestMetrics.measure("textDocument/linkedEditingRange", () -> service.linkedEditingRange(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -273,7 +282,27 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 	public CompletableFuture<List<InlayHint>> inlayHint(InlayHintParams params) {
 		AbstractTextDocumentService service = getTextDocumentService(params.getTextDocument());
 		if (service != null) {
-			return service.inlayHint(params);
+			return requestMetrics.measure("textDocument/inlayHint", () -> service.inlayHint(params));
+		}
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
+		AbstractTextDocumentService service = getTextDocumentService(params.getTextDocument());
+		if (service != null) {
+			return requestMetrics.measure("textDocument/semanticTokens/full", () -> service.semanticTokensFull(params));
+		}
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@Override
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+			SemanticTokensDeltaParams params) {
+		AbstractTextDocumentService service = getTextDocumentService(params.getTextDocument());
+		if (service != null) {
+			return requestMetrics.measure("textDocument/semanticTokens/full/delta",
+					() -> service.semanticTokensFullDelta(params));
 		}
 		return CompletableFuture.completedFuture(null);
 	}
@@ -288,7 +317,7 @@ public class QuteTextDocumentService implements TextDocumentService, TemplateVal
 			TextDocumentIdentifier textDocument = new TextDocumentIdentifier(data.getTextDocumentUri());
 			AbstractTextDocumentService service = getTextDocumentService(textDocument);
 			if (service != null) {
-				return service.resolveCodeAction(codeAction);
+				return requestMetrics.measure("codeAction/resolve", () -> service.resolveCodeAction(codeAction));
 			}
 		}
 		return CompletableFuture.completedFuture(null);
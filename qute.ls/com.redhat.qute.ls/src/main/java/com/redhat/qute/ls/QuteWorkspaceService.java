@@ -22,13 +22,21 @@ import java.util.function.Function;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
 import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 import org.eclipse.lsp4j.services.WorkspaceService;
 
+import com.redhat.qute.ls.commons.QuteExecutors;
+import com.redhat.qute.ls.commons.RequestCancelChecker;
+import com.redhat.qute.ls.commons.metrics.RequestMetrics;
+import com.redhat.qute.ls.commons.metrics.RequestMetrics.RequestTimer;
+import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.project.extensions.roq.RoqInsertFrontMatterCommanHandler;
 import com.redhat.qute.services.commands.IDelegateCommandHandler;
 import com.redhat.qute.services.commands.QuteGenerateCommandHandler;
@@ -69,19 +77,21 @@ public class QuteWorkspaceService implements WorkspaceService {
 				throw new ResponseErrorException(new ResponseError(ResponseErrorCode.InternalError,
 						"No command handler for the command: " + params.getCommand(), null));
 			}
-			return computeAsync(cancelChecker -> {
-				try {
-					return handler.executeCommand(params, quteLanguageServer.getSharedSettings(), cancelChecker);
-				} catch (Exception e) {
-					if (e instanceof ResponseErrorException) {
-						throw (ResponseErrorException) e;
-					} else if (e instanceof CancellationException) {
-						throw (CancellationException) e;
-					}
-					throw new ResponseErrorException(
-							new ResponseError(ResponseErrorCode.UnknownErrorCode, e.getMessage(), e));
-				}
-			});
+			return quteLanguageServer.getRequestMetrics().measure("workspace/executeCommand",
+					() -> computeAsync(cancelChecker -> {
+						try {
+							return handler.executeCommand(params, quteLanguageServer.getSharedSettings(),
+									cancelChecker);
+						} catch (Exception e) {
+							if (e instanceof ResponseErrorException) {
+								throw (ResponseErrorException) e;
+							} else if (e instanceof CancellationException) {
+								throw (CancellationException) e;
+							}
+							throw new ResponseErrorException(
+									new ResponseError(ResponseErrorCode.UnknownErrorCode, e.getMessage(), e));
+						}
+					}));
 		}
 	}
 
@@ -100,14 +110,31 @@ public class QuteWorkspaceService implements WorkspaceService {
 		return commands;
 	}
 
+	@Override
+	public CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> symbol(
+			WorkspaceSymbolParams params) {
+		return quteLanguageServer.getRequestMetrics().measure("workspace/symbol", () -> computeAsync(cancelChecker -> {
+			List<QuteProject> projects = new ArrayList<>(quteLanguageServer.getProjectRegistry().getProjects());
+			List<WorkspaceSymbol> symbols = quteLanguageServer.getQuteLanguageService()
+					.findWorkspaceSymbols(params.getQuery(), projects, cancelChecker);
+			return CompletableFuture.completedFuture(Either.forRight(symbols));
+		}));
+	}
+
 	public List<String> getCommandIds() {
 		return new ArrayList<>(commands.keySet());
 	}
 
 	public static <R> CompletableFuture<R> computeAsync(Function<CancelChecker, CompletableFuture<R>> code) {
+		RequestTimer request = RequestMetrics.getCurrentRequest();
 		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(cancelChecker -> code.apply(cancelChecker));
-		start.complete(new FutureCancelChecker(result));
+		CompletableFuture<R> result = start.thenComposeAsync(cancelChecker -> {
+			if (request != null) {
+				request.started();
+			}
+			return code.apply(cancelChecker);
+		}, QuteExecutors.getAsyncExecutor());
+		start.complete(new RequestCancelChecker(result));
 		return result;
 	}
 
@@ -16,7 +16,9 @@ import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 
+import com.redhat.qute.commons.binary.BinaryTemplate;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateContentParams;
 import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
 
 /**
@@ -29,4 +31,16 @@ public interface QuteBinaryTemplateProvider {
 
 	@JsonRequest("qute/template/binaryTemplates")
 	CompletableFuture<List<BinaryTemplateInfo>> getBinaryTemplates(QuteBinaryTemplateParams params);
+
+	/**
+	 * Returns the binary templates (uri and content) for the given URIs. This
+	 * request is used when the binary templates have been collected without their
+	 * content (see {@link QuteBinaryTemplateParams#isContentOnDemand()}).
+	 * 
+	 * @param params the project Uri and the URIs of the binary templates.
+	 * 
+	 * @return the binary templates (uri and content) for the given URIs.
+	 */
+	@JsonRequest("qute/template/binaryTemplateContents")
+	CompletableFuture<List<BinaryTemplate>> getBinaryTemplateContents(QuteBinaryTemplateContentParams params);
 }
@@ -11,11 +11,18 @@
 *******************************************************************************/
 package com.redhat.qute.ls.api;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.services.LanguageServer;
 
 import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.QuteJavaTemplateUsagesParams;
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
+import com.redhat.qute.commons.stats.QuteServerStats;
 
 /**
  * Qute language server API.
@@ -55,4 +62,31 @@ public interface QuteLanguageServerAPI extends LanguageServer {
 	 */
 	@JsonNotification("qute/template/project/removed")
 	void projectRemoved(ProjectInfo project);
+
+	/**
+	 * Returns the template locations which resolve to the given Java field or
+	 * method (ex : 'org.acme.Item#price' is used by '{item.price}').
+	 *
+	 * <p>
+	 * The locations come from the last validation of the templates, so this
+	 * request can be used by the Java code lens and references without
+	 * resolving again all templates.
+	 * </p>
+	 *
+	 * @param params the Java member parameters.
+	 * @return the template locations which resolve to the given Java field or
+	 *         method.
+	 */
+	@JsonRequest("qute/java/templateUsages")
+	CompletableFuture<List<Location>> getJavaMemberTemplateUsages(QuteJavaTemplateUsagesParams params);
+
+	/**
+	 * Returns the memory and cache statistics of the server (document counts,
+	 * cache sizes and hit rates, pending Java types, data model sizes, etc) per
+	 * Qute project.
+	 *
+	 * @return the memory and cache statistics of the server.
+	 */
+	@JsonRequest("qute/server/stats")
+	CompletableFuture<QuteServerStats> getServerStats();
 }
@@ -18,8 +18,9 @@ import java.util.function.Function;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
+
+import com.redhat.qute.ls.commons.metrics.RequestMetrics;
+import com.redhat.qute.ls.commons.metrics.RequestMetrics.RequestTimer;
 
 /**
  * The cache of {@link TextDocument} linked to a model.
@@ -108,7 +109,12 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 	 */
 	public <R> CompletableFuture<R> computeModelAsync(TextDocumentIdentifier documentIdentifier,
 			BiFunction<T, CancelChecker, R> code) {
-		return CompletableFutures.computeAsync(cancelChecker -> {
+		RequestTimer request = RequestMetrics.getCurrentRequest();
+		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
+		CompletableFuture<R> result = start.thenApplyAsync(cancelChecker -> {
+			if (request != null) {
+				request.started();
+			}
 			// Get or parse the model.
 			T model = getModel(documentIdentifier);
 			if (model == null) {
@@ -117,7 +123,9 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 			cancelChecker.checkCanceled();
 			// Apply the function code by using the parsed model.
 			return code.apply(model, cancelChecker);
-		});
+		}, QuteExecutors.getAsyncExecutor());
+		start.complete(new RequestCancelChecker(result));
+		return result;
 	}
 
 	/**
@@ -146,9 +154,15 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 	}
 
 	private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
+		RequestTimer request = RequestMetrics.getCurrentRequest();
 		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
-		CompletableFuture<R> result = start.thenComposeAsync(code);
-		start.complete(new FutureCancelChecker(result));
+		CompletableFuture<R> result = start.thenComposeAsync(cancelChecker -> {
+			if (request != null) {
+				request.started();
+			}
+			return code.apply(cancelChecker);
+		}, QuteExecutors.getAsyncExecutor());
+		start.complete(new RequestCancelChecker(result));
 		return result;
 	}
 }
\ No newline at end of file
@@ -56,7 +56,8 @@ public final class ParentProcessWatcher implements Runnable, Function<MessageCon
 	public ParentProcessWatcher(ProcessLanguageServer server, Function<MessageConsumer, MessageConsumer> wrapper) {
 		this.server = server;
 		this.wrapper = wrapper;
-		service = Executors.newScheduledThreadPool(1);
+		service = QuteExecutors.isVirtualThreadsEnabled() ? QuteExecutors.getScheduler()
+				: Executors.newScheduledThreadPool(1);
 		task = service.scheduleWithFixedDelay(this, POLL_DELAY_SECS, POLL_DELAY_SECS, TimeUnit.SECONDS);
 	}
 
@@ -0,0 +1,168 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executors used by the Qute language server.
+ *
+ * <p>
+ * By default the server uses the historical threading model (cached thread
+ * pool for JSON-RPC dispatch, common fork-join pool for asynchronous tasks).
+ * When the <code>virtualThreads</code> system property is set to
+ * <code>true</code> and the JVM supports virtual threads (Java 21+), the
+ * following entry points are executed on virtual threads:
+ * </p>
+ * <ul>
+ * <li>the JSON-RPC dispatch ({@link #getRequestExecutor()}).</li>
+ * <li>the request handlers which compute a result with a parsed model
+ * ({@link ModelTextDocuments}) and the 'workspace' requests.</li>
+ * <li>the validation, the revalidation and the watched files batches.</li>
+ * <li>the loading of the closed templates.</li>
+ * </ul>
+ *
+ * <p>
+ * The other continuations (<code>thenApply</code>, <code>thenCompose</code>,
+ * etc.) are not dispatched: they are executed by the thread which completes
+ * the previous stage (ex : a virtual thread for an entry point above, the
+ * LSP4J thread for a response of the LSP client).
+ * </p>
+ *
+ * <p>
+ * In virtual thread mode, delayed tasks (validation delay, parent process
+ * watcher, etc.) are scheduled with one shared scheduler (see
+ * {@link #getScheduler()}) instead of one scheduler per component.
+ * </p>
+ *
+ */
+public class QuteExecutors {
+
+	private static final Logger LOGGER = Logger.getLogger(QuteExecutors.class.getName());
+
+	private static final String VIRTUAL_THREADS_PROPERTY = "virtualThreads";
+
+	private static final ExecutorService VIRTUAL_THREAD_EXECUTOR = createVirtualThreadExecutor(
+			System.getProperty(VIRTUAL_THREADS_PROPERTY));
+
+	private static ScheduledExecutorService scheduler;
+
+	private QuteExecutors() {
+
+	}
+
+	/**
+	 * Returns true if the virtual thread execution mode is enabled and false
+	 * otherwise.
+	 *
+	 * @return true if the virtual thread execution mode is enabled and false
+	 *         otherwise.
+	 */
+	public static boolean isVirtualThreadsEnabled() {
+		return VIRTUAL_THREAD_EXECUTOR != null;
+	}
+
+	/**
+	 * Returns the executor service used by LSP4J to dispatch JSON-RPC requests.
+	 *
+	 * @return the executor service used by LSP4J to dispatch JSON-RPC requests.
+	 */
+	public static ExecutorService getRequestExecutor() {
+		if (VIRTUAL_THREAD_EXECUTOR != null) {
+			return VIRTUAL_THREAD_EXECUTOR;
+		}
+		return Executors.newCachedThreadPool();
+	}
+
+	/**
+	 * Returns the executor used to execute asynchronous tasks (request handlers,
+	 * validation, future continuations).
+	 *
+	 * @return the executor used to execute asynchronous tasks.
+	 */
+	public static Executor getAsyncExecutor() {
+		if (VIRTUAL_THREAD_EXECUTOR != null) {
+			return VIRTUAL_THREAD_EXECUTOR;
+		}
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Returns the shared scheduler used to execute delayed tasks.
+	 *
+	 * <p>
+	 * The scheduler thread must only be used to start the tasks, a task which
+	 * could block must be dispatched with {@link #getAsyncExecutor()}.
+	 * </p>
+	 *
+	 * @return the shared scheduler used to execute delayed tasks.
+	 */
+	public static synchronized ScheduledExecutorService getScheduler() {
+		if (scheduler == null) {
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "qute-scheduler");
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.setRemoveOnCancelPolicy(true);
+			scheduler = executor;
+		}
+		return scheduler;
+	}
+
+	/**
+	 * Returns true if the given executor is the shared scheduler and false
+	 * otherwise.
+	 *
+	 * @param executor the executor.
+	 * @return true if the given executor is the shared scheduler and false
+	 *         otherwise.
+	 */
+	public static synchronized boolean isSharedScheduler(Executor executor) {
+		return executor != null && executor == scheduler;
+	}
+
+	/**
+	 * Returns the virtual thread executor if the given <code>virtualThreads</code>
+	 * property value is <code>true</code> and the JVM supports virtual threads,
+	 * and null otherwise.
+	 *
+	 * @param virtualThreads the <code>virtualThreads</code> system property value.
+	 * @return the virtual thread executor if the virtual threads are enabled and
+	 *         supported and null otherwise.
+	 */
+	static ExecutorService createVirtualThreadExecutor(String virtualThreads) {
+		if (!"true".equals(virtualThreads)) {
+			return null;
+		}
+		try {
+			// Executors#newVirtualThreadPerTaskExecutor is only available with Java 21+
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			ExecutorService executor = (ExecutorService) method.invoke(null);
+			LOGGER.info("Qute server uses virtual threads");
+			return executor;
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Virtual threads are not supported by the JVM '"
+					+ System.getProperty("java.version") + "', Qute server uses platform threads.");
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
+
+/**
+ * Cancel checker of a LSP request which propagates the cancellation of the
+ * request to the futures of the requests sent to the JDT side (Java types,
+ * Javadoc, etc).
+ *
+ * <p>
+ * When a LSP request is cancelled, LSP4J only cancels the future returned to
+ * the client. The futures composed inside this future (ex : a Javadoc
+ * requested from the JDT side) are not cancelled and the JDT side continues
+ * to search. Cancelling the future of a request sent with the language client
+ * sends a '$/cancelRequest' notification which cancels the progress monitor
+ * used by the JDT side.
+ * </p>
+ */
+public class RequestCancelChecker extends FutureCancelChecker {
+
+	private final CompletableFuture<?> request;
+
+	public RequestCancelChecker(CompletableFuture<?> request) {
+		super(request);
+		this.request = request;
+	}
+
+	/**
+	 * Cancel the given future when the LSP request is cancelled.
+	 *
+	 * @param <T>    the result type.
+	 * @param future the future of a request sent to the JDT side.
+	 *
+	 * @return the given future.
+	 */
+	public <T> CompletableFuture<T> cancelWithRequest(CompletableFuture<T> future) {
+		if (future == null || future.isDone()) {
+			return future;
+		}
+		if (request.isCancelled()) {
+			future.cancel(true);
+			return future;
+		}
+		request.whenComplete((result, error) -> {
+			if (request.isCancelled()) {
+				future.cancel(true);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Cancel the given future when the LSP request of the given cancel checker is
+	 * cancelled.
+	 *
+	 * <p>
+	 * The given future must not be shared with other requests (ex : a resolved
+	 * Java type future stored in a cache must not be given).
+	 * </p>
+	 *
+	 * @param <T>           the result type.
+	 * @param future        the future of a request sent to the JDT side.
+	 * @param cancelChecker the cancel checker of the LSP request.
+	 *
+	 * @return the given future.
+	 */
+	public static <T> CompletableFuture<T> cancelWithRequest(CompletableFuture<T> future,
+			CancelChecker cancelChecker) {
+		if (cancelChecker instanceof RequestCancelChecker) {
+			return ((RequestCancelChecker) cancelChecker).cancelWithRequest(future);
+		}
+		return future;
+	}
+}
@@ -13,6 +13,7 @@ package com.redhat.qute.ls.commons;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -32,6 +33,8 @@ public class ValidatorDelayer<T extends TextDocument> {
 
     private final ScheduledExecutorService executorService;
 
+    private final Executor validationExecutor;
+
     private final Consumer<T> validator;
 
     private final Map<String, Future<?>> pendingValidationRequests;
@@ -39,12 +42,18 @@ public class ValidatorDelayer<T extends TextDocument> {
     private final long validationDelayMs;
 
     public ValidatorDelayer(Consumer<T> validator) {
-        this(Executors.newScheduledThreadPool(2), validator, DEFAULT_VALIDATION_DELAY_MS);
+        this(QuteExecutors.isVirtualThreadsEnabled() ? QuteExecutors.getScheduler()
+                : Executors.newScheduledThreadPool(2), validator, DEFAULT_VALIDATION_DELAY_MS);
     }
 
     public ValidatorDelayer(ScheduledExecutorService executorService, Consumer<T> validator,
             long validationDelayMs) {
         this.executorService = executorService;
+        // The shared scheduler must not be blocked by the validation, the validation
+        // is done with the async executor.
+        this.validationExecutor = QuteExecutors.isSharedScheduler(executorService)
+                ? QuteExecutors.getAsyncExecutor()
+                : null;
         this.validator = validator;
         this.pendingValidationRequests = new HashMap<>();
         this.validationDelayMs = validationDelayMs;
@@ -66,7 +75,11 @@ public class ValidatorDelayer<T extends TextDocument> {
                 pendingValidationRequests.remove(uri);
             }
             if (version == document.getVersion()) {
-                validator.accept(document);
+                if (validationExecutor != null) {
+                    validationExecutor.execute(() -> validator.accept(document));
+                } else {
+                    validator.accept(document);
+                }
             }
         }, validationDelayMs, TimeUnit.MILLISECONDS);
         synchronized (pendingValidationRequests) {
@@ -97,6 +110,14 @@ public class ValidatorDelayer<T extends TextDocument> {
 	}
 
 	public void dispose() {
+		if (validationExecutor != null) {
+			// The scheduler is shared, cancel only the pending validations
+			synchronized (pendingValidationRequests) {
+				pendingValidationRequests.values().forEach(request -> request.cancel(true));
+				pendingValidationRequests.clear();
+			}
+			return;
+		}
 		executorService.shutdownNow();
 	}
 }
@@ -20,6 +20,8 @@ public class ExtendedClientCapabilities {
 
 	private boolean shouldLanguageServerExitOnShutdown;
 
+	private boolean binaryTemplateContentsSupport;
+
 	public CommandCapabilities getCommands() {
 		return commands;
 	}
@@ -47,4 +49,29 @@ public class ExtendedClientCapabilities {
 	public boolean shouldLanguageServerExitOnShutdown() {
 		return shouldLanguageServerExitOnShutdown;
 	}
+
+	/**
+	 * Returns true if the client supports the
+	 * 'qute/template/binaryTemplateContents' request, which allows the language
+	 * server to collect the binary templates without their content and load the
+	 * content on demand, and false otherwise.
+	 *
+	 * @return true if the client supports the
+	 *         'qute/template/binaryTemplateContents' request and false otherwise.
+	 */
+	public boolean isBinaryTemplateContentsSupport() {
+		return binaryTemplateContentsSupport;
+	}
+
+	/**
+	 * Set true if the client supports the 'qute/template/binaryTemplateContents'
+	 * request and false otherwise.
+	 *
+	 * @param binaryTemplateContentsSupport true if the client supports the
+	 *                                      'qute/template/binaryTemplateContents'
+	 *                                      request and false otherwise.
+	 */
+	public void setBinaryTemplateContentsSupport(boolean binaryTemplateContentsSupport) {
+		this.binaryTemplateContentsSupport = binaryTemplateContentsSupport;
+	}
 }
\ No newline at end of file
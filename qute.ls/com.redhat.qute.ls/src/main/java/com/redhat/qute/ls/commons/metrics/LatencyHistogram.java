@@ -0,0 +1,123 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with fixed buckets (from 1ms to 10s).
+ *
+ * <p>
+ * The percentiles are approximated with the upper bound of the bucket which
+ * contains the percentile (capped by the max recorded latency), which is
+ * enough to detect tail latency regressions.
+ * </p>
+ */
+public class LatencyHistogram {
+
+	private static final long[] BUCKET_UPPER_BOUNDS_MS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000,
+			10000, Long.MAX_VALUE };
+
+	private final AtomicLongArray buckets;
+
+	private final AtomicLong count;
+
+	private final AtomicLong totalNanos;
+
+	private final AtomicLong maxNanos;
+
+	public LatencyHistogram() {
+		this.buckets = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MS.length);
+		this.count = new AtomicLong();
+		this.totalNanos = new AtomicLong();
+		this.maxNanos = new AtomicLong();
+	}
+
+	/**
+	 * Record the given latency.
+	 *
+	 * @param nanos the latency in nanoseconds.
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		int bucket = 0;
+		while (millis >= BUCKET_UPPER_BOUNDS_MS[bucket]) {
+			bucket++;
+		}
+		buckets.incrementAndGet(bucket);
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 *
+	 * @return the number of recorded latencies.
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns the mean latency in milliseconds.
+	 *
+	 * @return the mean latency in milliseconds.
+	 */
+	public double getMeanMillis() {
+		long n = count.get();
+		return n > 0 ? totalNanos.get() / (n * 1_000_000d) : 0;
+	}
+
+	/**
+	 * Returns the max latency in milliseconds.
+	 *
+	 * @return the max latency in milliseconds.
+	 */
+	public double getMaxMillis() {
+		return maxNanos.get() / 1_000_000d;
+	}
+
+	/**
+	 * Returns the approximated latency in milliseconds of the given percentile.
+	 *
+	 * @param percentile the percentile (ex : 0.99).
+	 *
+	 * @return the approximated latency in milliseconds of the given percentile.
+	 */
+	public double getPercentileMillis(double percentile) {
+		long n = 0;
+		long[] counts = new long[BUCKET_UPPER_BOUNDS_MS.length];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = buckets.get(i);
+			n += counts[i];
+		}
+		if (n == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(percentile * n);
+		long cumulated = 0;
+		double max = getMaxMillis();
+		for (int i = 0; i < counts.length; i++) {
+			cumulated += counts[i];
+			if (cumulated >= rank) {
+				return Math.min(BUCKET_UPPER_BOUNDS_MS[i], max);
+			}
+		}
+		return max;
+	}
+}
@@ -0,0 +1,242 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+
+import com.redhat.qute.commons.stats.QuteRequestStats;
+
+/**
+ * Latency and throughput metrics of the requests handled by the Qute language
+ * server (completion, hover, etc), of the requests sent to the JDT side
+ * (resolved Java type, data model, etc) and of the validation.
+ *
+ * <p>
+ * For each method, the metrics record a latency histogram, the number of
+ * completed, cancelled and failed requests, and the time spent waiting for a
+ * thread of the async executor (see {@link #getCurrentRequest()}).
+ * </p>
+ */
+public class RequestMetrics {
+
+	public static final String REQUEST_KIND = "request";
+
+	public static final String JDT_KIND = "jdt";
+
+	public static final String VALIDATION_KIND = "validation";
+
+	private static final ThreadLocal<RequestTimer> CURRENT_REQUEST = new ThreadLocal<>();
+
+	private static class MethodMetrics {
+
+		private final String method;
+
+		private final String kind;
+
+		private final LatencyHistogram latency;
+
+		private final LatencyHistogram queueWait;
+
+		private final AtomicLong cancelled;
+
+		private final AtomicLong failed;
+
+		public MethodMetrics(String method, String kind) {
+			this.method = method;
+			this.kind = kind;
+			this.latency = new LatencyHistogram();
+			this.queueWait = new LatencyHistogram();
+			this.cancelled = new AtomicLong();
+			this.failed = new AtomicLong();
+		}
+	}
+
+	/**
+	 * Timer of a request.
+	 */
+	public static class RequestTimer {
+
+		private final MethodMetrics metrics;
+
+		private final long startNanos;
+
+		private final AtomicBoolean started;
+
+		private RequestTimer(MethodMetrics metrics) {
+			this(metrics, System.nanoTime());
+		}
+
+		private RequestTimer(MethodMetrics metrics, long startNanos) {
+			this.metrics = metrics;
+			this.startNanos = startNanos;
+			this.started = new AtomicBoolean();
+		}
+
+		/**
+		 * Mark the request as started by a thread of the async executor. Only the
+		 * first call records the queue wait time.
+		 */
+		public void started() {
+			if (started.compareAndSet(false, true)) {
+				metrics.queueWait.record(System.nanoTime() - startNanos);
+			}
+		}
+
+		private void done(Throwable error) {
+			metrics.latency.record(System.nanoTime() - startNanos);
+			if (error != null) {
+				if (isCancelled(error)) {
+					metrics.cancelled.incrementAndGet();
+				} else {
+					metrics.failed.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	private final Map<String, MethodMetrics> methods;
+
+	public RequestMetrics() {
+		this.methods = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Measure the given request.
+	 *
+	 * @param <R>     the result type.
+	 * @param method  the method name (ex : 'textDocument/hover').
+	 * @param request the request to execute.
+	 *
+	 * @return the future of the given request.
+	 */
+	public <R> CompletableFuture<R> measure(String method, Supplier<CompletableFuture<R>> request) {
+		return measure(method, REQUEST_KIND, request);
+	}
+
+	/**
+	 * Measure the given request sent to the JDT side.
+	 *
+	 * @param <R>     the result type.
+	 * @param method  the JDT request name (ex : 'qute/template/javaTypes').
+	 * @param request the request to send.
+	 *
+	 * @return the future of the given request.
+	 */
+	public <R> CompletableFuture<R> measureJdt(String method, Supplier<CompletableFuture<R>> request) {
+		return measure(method, JDT_KIND, request);
+	}
+
+	private <R> CompletableFuture<R> measure(String method, String kind, Supplier<CompletableFuture<R>> request) {
+		RequestTimer timer = new RequestTimer(getMethodMetrics(method, kind));
+		RequestTimer previous = CURRENT_REQUEST.get();
+		CURRENT_REQUEST.set(timer);
+		CompletableFuture<R> future = null;
+		try {
+			future = request.get();
+		} catch (RuntimeException e) {
+			timer.done(e);
+			throw e;
+		} finally {
+			if (previous != null) {
+				CURRENT_REQUEST.set(previous);
+			} else {
+				CURRENT_REQUEST.remove();
+			}
+		}
+		if (future == null) {
+			timer.done(null);
+			return null;
+		}
+		// The original future is returned to keep the cancellation support of LSP4J
+		future.whenComplete((result, error) -> timer.done(error));
+		return future;
+	}
+
+	/**
+	 * Record the latency of a template validation.
+	 *
+	 * @param startNanos the start time of the validation given by
+	 *                   {@link System#nanoTime()}.
+	 * @param error      the error of the validation and null otherwise.
+	 */
+	public void recordValidation(long startNanos, Throwable error) {
+		new RequestTimer(getMethodMetrics(VALIDATION_KIND, VALIDATION_KIND), startNanos).done(error);
+	}
+
+	/**
+	 * Returns the timer of the request which is executing in the current thread
+	 * and null otherwise. The timer must be captured before submitting a task to
+	 * the async executor, and the task must call {@link RequestTimer#started()} to
+	 * record the queue wait time.
+	 *
+	 * @return the timer of the request which is executing in the current thread
+	 *         and null otherwise.
+	 */
+	public static RequestTimer getCurrentRequest() {
+		return CURRENT_REQUEST.get();
+	}
+
+	/**
+	 * Returns the statistics of the measured methods sorted by kind and method.
+	 *
+	 * @return the statistics of the measured methods sorted by kind and method.
+	 */
+	public List<QuteRequestStats> getStats() {
+		List<QuteRequestStats> stats = new ArrayList<>(methods.size());
+		for (MethodMetrics metrics : methods.values()) {
+			QuteRequestStats methodStats = new QuteRequestStats();
+			methodStats.setMethod(metrics.method);
+			methodStats.setKind(metrics.kind);
+			methodStats.setCount(metrics.latency.getCount());
+			methodStats.setCancelled(metrics.cancelled.get());
+			methodStats.setFailed(metrics.failed.get());
+			methodStats.setMeanMillis(metrics.latency.getMeanMillis());
+			methodStats.setP50Millis(metrics.latency.getPercentileMillis(0.5));
+			methodStats.setP90Millis(metrics.latency.getPercentileMillis(0.9));
+			methodStats.setP99Millis(metrics.latency.getPercentileMillis(0.99));
+			methodStats.setMaxMillis(metrics.latency.getMaxMillis());
+			methodStats.setQueueWaitMeanMillis(metrics.queueWait.getMeanMillis());
+			methodStats.setQueueWaitMaxMillis(metrics.queueWait.getMaxMillis());
+			stats.add(methodStats);
+		}
+		stats.sort(Comparator.comparing(QuteRequestStats::getKind).thenComparing(QuteRequestStats::getMethod));
+		return stats;
+	}
+
+	private MethodMetrics getMethodMetrics(String method, String kind) {
+		return methods.computeIfAbsent(method, m -> new MethodMetrics(m, kind));
+	}
+
+	private static boolean isCancelled(Throwable error) {
+		if (error instanceof CompletionException && error.getCause() != null) {
+			error = error.getCause();
+		}
+		if (error instanceof CancellationException) {
+			return true;
+		}
+		return error instanceof ResponseErrorException && ((ResponseErrorException) error).getResponseError()
+				.getCode() == ResponseErrorCode.RequestCancelled.getValue();
+	}
+}
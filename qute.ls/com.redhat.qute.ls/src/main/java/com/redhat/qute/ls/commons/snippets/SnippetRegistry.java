@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -56,8 +57,40 @@ public class SnippetRegistry<T extends Snippet> {
 
 	private static final Logger LOGGER = Logger.getLogger(SnippetRegistry.class.getName());
 
+	/**
+	 * Rendered content of a snippet which is reused until the snippet is
+	 * registered again or its body changes.
+	 */
+	private static class RenderedSnippet {
+
+		private final List<String> body;
+
+		private final boolean canSupportMarkdown;
+
+		private final String lineDelimiter;
+
+		private final MarkupContent documentation;
+
+		public RenderedSnippet(List<String> body, boolean canSupportMarkdown, String lineDelimiter,
+				MarkupContent documentation) {
+			this.body = body;
+			this.canSupportMarkdown = canSupportMarkdown;
+			this.lineDelimiter = lineDelimiter;
+			this.documentation = documentation;
+		}
+
+		public boolean isValid(Snippet snippet, boolean canSupportMarkdown, String lineDelimiter) {
+			// The body is compared by identity since a snippet like a user tag
+			// re-creates its body when it changes.
+			return body == snippet.getBody() && this.canSupportMarkdown == canSupportMarkdown
+					&& Objects.equals(this.lineDelimiter, lineDelimiter);
+		}
+	}
+
 	private final List<T> snippets;
 
+	private final Map<Snippet, RenderedSnippet> renderedSnippets;
+
 	public SnippetRegistry() {
 		this(null, true);
 	}
@@ -71,6 +104,7 @@ public class SnippetRegistry<T extends Snippet> {
 	 */
 	public SnippetRegistry(String languageId, boolean loadDefault) {
 		snippets = new ArrayList<>();
+		renderedSnippets = Collections.synchronizedMap(new IdentityHashMap<>());
 		// Load snippets from SPI
 		if (loadDefault) {
 			ServiceLoader<ISnippetRegistryLoader> loaders = ServiceLoader.load(ISnippetRegistryLoader.class);
@@ -95,6 +129,7 @@ public class SnippetRegistry<T extends Snippet> {
 	public void registerSnippet(T snippet) {
 		if (isValid(snippet) && !snippets.contains(snippet)) {
 			snippets.add(snippet);
+			renderedSnippets.remove(snippet);
 		}
 	}
 
@@ -106,6 +141,7 @@ public class SnippetRegistry<T extends Snippet> {
 	public void unregisterSnippet(T snippet) {
 		if (isValid(snippet)) {
 			snippets.remove(snippet);
+			renderedSnippets.remove(snippet);
 		}
 	}
 
@@ -300,15 +336,21 @@ public class SnippetRegistry<T extends Snippet> {
 			return Collections.emptyList();
 		}
 		Map<String, String> model = new HashMap<>();
+		// Several snippets share the same context (ex : all user tags use the 'in
+		// text' context), the context filter is evaluated only once per context.
+		Map<ISnippetContext<?>, Boolean> matchedContexts = new IdentityHashMap<>();
 		return getSnippets().stream().filter(snippet -> {
-			return snippet.match(contextFilter, model);
+			if (!snippet.hasContext()) {
+				return true;
+			}
+			return matchedContexts.computeIfAbsent(snippet.getContext(),
+					context -> snippet.match(contextFilter, model));
 		}).map(snippet -> {
 			CompletionItem item = new CompletionItem();
 			item.setLabel(snippet.getLabel());
 			item.setLabelDetails(snippet.getLabelDetails());
 			item.setKind(snippet.getKind() != null ? snippet.getKind() : CompletionItemKind.Snippet);
-			item.setDocumentation(
-					Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
+			item.setDocumentation(Either.forRight(getDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
 			String prefix = snippet.getPrefixes().get(0);
 			item.setFilterText(prefixFilter + prefix);
 			item.setDetail(snippet.getDescription());
@@ -347,6 +389,22 @@ public class SnippetRegistry<T extends Snippet> {
 		}
 	}
 
+	private MarkupContent getDocumentation(Snippet snippet, Map<String, String> model, boolean canSupportMarkdown,
+			String lineDelimiter) {
+		if (!model.isEmpty()) {
+			// The documentation depends on the model filled by the context filter
+			return createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter);
+		}
+		RenderedSnippet rendered = renderedSnippets.get(snippet);
+		if (rendered == null || !rendered.isValid(snippet, canSupportMarkdown, lineDelimiter)) {
+			List<String> body = snippet.getBody();
+			rendered = new RenderedSnippet(body, canSupportMarkdown, lineDelimiter,
+					createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter));
+			renderedSnippets.put(snippet, rendered);
+		}
+		return rendered.documentation;
+	}
+
 	private static MarkupContent createDocumentation(Snippet snippet, Map<String, String> model,
 			boolean canSupportMarkdown, String lineDelimiter) {
 		StringBuilder doc = new StringBuilder();
@@ -0,0 +1,201 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.template;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.redhat.qute.ls.commons.QuteExecutors;
+import com.redhat.qute.ls.commons.TextDocument;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.project.QuteTextDocument;
+
+/**
+ * Coalesce the revalidation of Qute templates which wait for Java types (data
+ * model, project loading, resolved Java types) to be resolved.
+ *
+ * <p>
+ * The coalescer records which documents wait on which futures. When a batch of
+ * futures completes, each affected document is revalidated once, and pending
+ * revalidations superseded by a newer version of the document are dropped.
+ * </p>
+ *
+ */
+class RevalidationCoalescer {
+
+	private static final Logger LOGGER = Logger.getLogger(RevalidationCoalescer.class.getName());
+
+	private static final long BATCH_DELAY_MS = 20;
+
+	private static class PendingRevalidation {
+
+		private final QuteTextDocument document;
+
+		private final Template template;
+
+		private final int version;
+
+		private final Set<CompletableFuture<?>> futures;
+
+		public PendingRevalidation(QuteTextDocument document, Template template, Collection<CompletableFuture<?>> futures) {
+			this.document = document;
+			this.template = template;
+			this.version = getVersion(document);
+			this.futures = new HashSet<>(futures);
+		}
+
+		/**
+		 * Returns true if the document has changed since the validation which has
+		 * registered this pending revalidation and false otherwise.
+		 *
+		 * @return true if the document has changed since the validation which has
+		 *         registered this pending revalidation and false otherwise.
+		 */
+		public boolean isSuperseded() {
+			if (document instanceof TextDocument) {
+				return version != getVersion(document);
+			}
+			return document.getTemplate() != template;
+		}
+
+		public boolean isReady() {
+			return futures.stream().allMatch(CompletableFuture::isDone);
+		}
+
+		private static int getVersion(QuteTextDocument document) {
+			return document instanceof TextDocument ? ((TextDocument) document).getVersion() : 0;
+		}
+	}
+
+	private final Consumer<QuteTextDocument> validator;
+
+	private final Map<String /* document uri */, PendingRevalidation> pendingRevalidations;
+
+	private final Map<CompletableFuture<?>, Set<String /* document uri */>> waitingDocuments;
+
+	private final Map<String /* document uri */, PendingRevalidation> readyRevalidations;
+
+	private boolean flushScheduled;
+
+	public RevalidationCoalescer(Consumer<QuteTextDocument> validator) {
+		this.validator = validator;
+		this.pendingRevalidations = new HashMap<>();
+		this.waitingDocuments = new IdentityHashMap<>();
+		this.readyRevalidations = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Revalidate the given document once all the given futures are completed.
+	 *
+	 * <p>
+	 * A previous pending revalidation of the same document is replaced.
+	 * </p>
+	 *
+	 * @param document the document to revalidate.
+	 * @param template the validated template.
+	 * @param futures  the futures that the document is waiting on.
+	 */
+	public void revalidateWhenResolved(QuteTextDocument document, Template template,
+			Collection<CompletableFuture<?>> futures) {
+		String uri = document.getUri();
+		PendingRevalidation revalidation = new PendingRevalidation(document, template, futures);
+		List<CompletableFuture<?>> newFutures = new ArrayList<>();
+		synchronized (this) {
+			readyRevalidations.remove(uri);
+			pendingRevalidations.put(uri, revalidation);
+			for (CompletableFuture<?> future : revalidation.futures) {
+				Set<String> uris = waitingDocuments.get(future);
+				if (uris == null) {
+					uris = new HashSet<>();
+					waitingDocuments.put(future, uris);
+					newFutures.add(future);
+				}
+				uris.add(uri);
+			}
+		}
+		// Register the completion listener outside the lock, since the future could
+		// be already completed.
+		for (CompletableFuture<?> future : newFutures) {
+			future.whenComplete((result, error) -> onResolved(future));
+		}
+	}
+
+	/**
+	 * Cancel the pending revalidation of the given document uri.
+	 *
+	 * @param uri the document uri.
+	 */
+	public synchronized void cancel(String uri) {
+		pendingRevalidations.remove(uri);
+		readyRevalidations.remove(uri);
+	}
+
+	private void onResolved(CompletableFuture<?> future) {
+		synchronized (this) {
+			Set<String> uris = waitingDocuments.remove(future);
+			if (uris == null) {
+				return;
+			}
+			for (String uri : uris) {
+				PendingRevalidation revalidation = pendingRevalidations.get(uri);
+				if (revalidation != null && revalidation.futures.contains(future) && revalidation.isReady()) {
+					pendingRevalidations.remove(uri);
+					readyRevalidations.put(uri, revalidation);
+				}
+			}
+			if (readyRevalidations.isEmpty() || flushScheduled) {
+				return;
+			}
+			flushScheduled = true;
+		}
+		// Wait a little to collect the other futures of the batch which complete at
+		// the same time.
+		QuteExecutors.getScheduler().schedule(
+				() -> QuteExecutors.getAsyncExecutor().execute(this::flush), BATCH_DELAY_MS,
+				TimeUnit.MILLISECONDS);
+	}
+
+	private void flush() {
+		List<PendingRevalidation> revalidations = null;
+		synchronized (this) {
+			flushScheduled = false;
+			revalidations = new ArrayList<>(readyRevalidations.values());
+			readyRevalidations.clear();
+		}
+		for (PendingRevalidation revalidation : revalidations) {
+			if (!revalidation.isSuperseded()) {
+				try {
+					validator.accept(revalidation.document);
+				} catch (CancellationException e) {
+					// The document has changed during the validation
+				} catch (Exception e) {
+					LOGGER.log(Level.SEVERE,
+							"Error while revalidating '" + revalidation.document.getUri() + "'.", e);
+				}
+			}
+		}
+	}
+
+}
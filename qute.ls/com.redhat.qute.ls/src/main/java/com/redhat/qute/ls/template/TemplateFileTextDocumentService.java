@@ -52,6 +52,10 @@ import org.eclipse.lsp4j.LocationLink;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RenameParams;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensParams;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
@@ -68,6 +72,7 @@ import com.redhat.qute.ls.api.QuteProjectInfoProvider;
 import com.redhat.qute.ls.api.QuteTemplateProvider;
 import com.redhat.qute.ls.commons.ModelTextDocument;
 import com.redhat.qute.ls.commons.ValidatorDelayer;
+import com.redhat.qute.ls.commons.metrics.RequestMetrics;
 import com.redhat.qute.parser.injection.InjectionDetector;
 import com.redhat.qute.parser.template.Template;
 import com.redhat.qute.parser.template.TemplateParser;
@@ -101,13 +106,16 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 	private final QuteOpenedTextDocuments openedDocuments;
 	private final QuteProjectRegistry projectRegistry;
 	private ValidatorDelayer<ModelTextDocument<Template>> validatorDelayer;
+	private final RevalidationCoalescer revalidationCoalescer;
+	private final RequestMetrics requestMetrics;
 	private boolean hasOpenedAQuteDocument;
 
 	public TemplateFileTextDocumentService(QuteLanguageService quteLanguageService,
 			QuteProjectInfoProvider projectInfoProvider, Supplier<QuteLanguageClientAPI> languageClientProvider,
-			SharedSettings sharedSettings) {
+			SharedSettings sharedSettings, RequestMetrics requestMetrics) {
 		super(languageClientProvider, sharedSettings);
 		this.quteLanguageService = quteLanguageService;
+		this.requestMetrics = requestMetrics;
 		this.projectRegistry = quteLanguageService.getProjectRegistry();
 		this.openedDocuments = new QuteOpenedTextDocuments((document, cancelChecker) -> {
 			QuteOpenedTextDocument openedDocument = (QuteOpenedTextDocument) document;
@@ -119,6 +127,7 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<Template>>((template) -> {
 			triggerValidationFor((QuteTextDocument) template);
 		});
+		this.revalidationCoalescer = new RevalidationCoalescer(this::triggerValidationFor);
 
 	}
 
@@ -213,8 +222,9 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 			return CompletableFuture.completedFuture(unresolved);
 		}
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(uri);
-		return getTemplate(identifier, (template, cancelChecker) -> {
-			return getQuteLanguageService().resolveCompletionItem(unresolved, data, template, cancelChecker);
+		return getTemplateCompose(identifier, (template, cancelChecker) -> {
+			return getQuteLanguageService().resolveCompletionItem(unresolved, data, template,
+					sharedSettings.getCompletionSettings(), cancelChecker);
 		});
 	}
 
@@ -365,6 +375,48 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 		});
 	}
 
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
+		return getTemplateCompose(params.getTextDocument(), (template, cancelChecker) -> {
+			ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template);
+			CompletableFuture<SemanticTokens> tokens = getQuteLanguageService().getSemanticTokens(template,
+					resolvingJavaTypeContext, cancelChecker);
+			if (!resolvingJavaTypeContext.isEmpty()) {
+				// Some Java types was not loaded, wait for that all Java types are resolved to
+				// compute the semantic tokens with the unresolved members.
+				CompletableFuture<Void> allFutures = CompletableFuture.allOf(
+						resolvingJavaTypeContext.toArray(new CompletableFuture[resolvingJavaTypeContext.size()]));
+				return allFutures.thenCompose(Void -> {
+					cancelChecker.checkCanceled();
+					return semanticTokensFull(params);
+				});
+			}
+			return tokens;
+		});
+	}
+
+	@Override
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+			SemanticTokensDeltaParams params) {
+		return getTemplateCompose(params.getTextDocument(), (template, cancelChecker) -> {
+			ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template);
+			CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> tokens = getQuteLanguageService()
+					.getSemanticTokensDelta(template, params.getPreviousResultId(), resolvingJavaTypeContext,
+							cancelChecker);
+			if (!resolvingJavaTypeContext.isEmpty()) {
+				// Some Java types was not loaded, wait for that all Java types are resolved to
+				// compute the semantic tokens with the unresolved members.
+				CompletableFuture<Void> allFutures = CompletableFuture.allOf(
+						resolvingJavaTypeContext.toArray(new CompletableFuture[resolvingJavaTypeContext.size()]));
+				return allFutures.thenCompose(Void -> {
+					cancelChecker.checkCanceled();
+					return semanticTokensFullDelta(params);
+				});
+			}
+			return tokens;
+		});
+	}
+
 	@Override
 	public CompletableFuture<CodeAction> resolveCodeAction(CodeAction codeAction) {
 		QuteLanguageClientAPI languageClient = getLanguageClient();
@@ -398,8 +450,8 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 			// and get the binary template from loaded Qute project.
 			String uri = documentIdentifier.getUri();
 			return projectRegistry.getBinaryDocument(uri) //
-					.thenApply(binaryDocument -> {
-						Template template = binaryDocument != null ? binaryDocument.getTemplate() : null;
+					.thenCompose(TemplateFileTextDocumentService::getBinaryTemplate) //
+					.thenApply(template -> {
 						if (template == null) {
 							return null;
 						}
@@ -431,22 +483,32 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 			// Binary template is opened, wait for all Qute projects are loaded
 			// and get the binary template from loaded Qute project.
 			String uri = documentIdentifier.getUri();
-			return projectRegistry.getBinaryDocument(uri).thenCompose(binaryDocument -> {
-				// binaryDocument can be null if the project is not registered or not yet
-				// loaded.
-				Template template = binaryDocument != null ? binaryDocument.getTemplate() : null;
-				// The binary document exists but its template is not yet available
-				// (e.g. project not fully loaded).
-				if (template == null) {
-					return CompletableFuture.completedFuture(null);
-				}
-				return code.apply(template, NO_CANCELLABLE);
-			});
+			return projectRegistry.getBinaryDocument(uri) //
+					.thenCompose(TemplateFileTextDocumentService::getBinaryTemplate) //
+					.thenCompose(template -> {
+						// The binary document exists but its template is not yet available
+						// (e.g. project not fully loaded).
+						if (template == null) {
+							return CompletableFuture.completedFuture(null);
+						}
+						return code.apply(template, NO_CANCELLABLE);
+					});
 		}
 		// Source template is opened, wait parsing Template and return it.
 		return openedDocuments.computeModelAsyncCompose(documentIdentifier, code);
 	}
 
+	private static CompletableFuture<Template> getBinaryTemplate(QuteTextDocument binaryDocument) {
+		// binaryDocument can be null if the project is not registered or not yet
+		// loaded.
+		if (binaryDocument == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		// Wait for the content of the binary template without blocking the request
+		// thread.
+		return binaryDocument.getTemplateFuture();
+	}
+
 	public void validationSettingsChanged() {
 		validateAllTemplates();
 	}
@@ -463,6 +525,17 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 
 	@Override
 	public void triggerValidationFor(QuteTextDocument document) {
+		long start = System.nanoTime();
+		try {
+			doValidate(document);
+			requestMetrics.recordValidation(start, null);
+		} catch (RuntimeException e) {
+			requestMetrics.recordValidation(start, e);
+			throw e;
+		}
+	}
+
+	private void doValidate(QuteTextDocument document) {
 		var template = document.getTemplate();
 
 		// Collect diagnostics
@@ -484,12 +557,11 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 
 		if (!resolvingJavaTypeContext.isEmpty()) {
 			// Some Java types was not loaded, wait for that all Java types are resolved to
-			// retrigger the validation.
-			CompletableFuture<Void> allFutures = CompletableFuture
-					.allOf(resolvingJavaTypeContext.toArray(new CompletableFuture[resolvingJavaTypeContext.size()]));
-			allFutures.thenAccept(Void -> {
-				triggerValidationFor(document);
-			});
+			// retrigger the validation. The revalidation is coalesced with the
+			// revalidation of the other documents which wait for the same Java types.
+			revalidationCoalescer.revalidateWhenResolved(document, template, resolvingJavaTypeContext);
+		} else {
+			revalidationCoalescer.cancel(document.getUri());
 		}
 	}
 
@@ -31,6 +31,7 @@ import com.redhat.qute.parser.expression.ObjectPart;
 import com.redhat.qute.parser.expression.Part;
 import com.redhat.qute.parser.expression.Parts.PartKind;
 import com.redhat.qute.parser.template.ParameterDeclaration.JavaTypeRangeOffset;
+import com.redhat.qute.project.ExpressionTypeTable;
 import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.project.QuteProjectRegistry;
 import com.redhat.qute.project.QuteTextDocument;
@@ -56,6 +57,8 @@ public class Template extends Node {
 
 	private Character expressionCommand;
 
+	private ExpressionTypeTable expressionTypeTable;
+
 	public Template(TextDocument textDocument) {
 		super(0, textDocument.getText().length());
 		this.textDocument = textDocument;
@@ -227,6 +230,32 @@ public class Template extends Node {
 		return projectRegistry.getDataModelTemplate(this);
 	}
 
+	/**
+	 * Returns the expression type table of the template for the current data model
+	 * version and null if the data model of the project is not loaded.
+	 *
+	 * @return the expression type table of the template for the current data model
+	 *         version and null if the data model of the project is not loaded.
+	 */
+	public synchronized ExpressionTypeTable getExpressionTypeTable() {
+		QuteProject project = getProject();
+		if (project == null || !project.isDataModelLoaded()) {
+			// Some parts could be resolved with null Java type while the data model is
+			// loading, don't cache them.
+			return null;
+		}
+		int templateVersion = textDocument.getVersion();
+		// The table depends on the Java data model and on the call sites of this
+		// template only, the usages of the other templates don't invalidate it.
+		long dataModelVersion = project.getJavaDataModelVersion();
+		long callSitesVersion = project.getCallSitesVersion(this);
+		if (expressionTypeTable == null
+				|| !expressionTypeTable.isValid(templateVersion, dataModelVersion, callSitesVersion)) {
+			expressionTypeTable = new ExpressionTypeTable(templateVersion, dataModelVersion, callSitesVersion);
+		}
+		return expressionTypeTable;
+	}
+
 	/**
 	 * Returns the template configuration.
 	 * 
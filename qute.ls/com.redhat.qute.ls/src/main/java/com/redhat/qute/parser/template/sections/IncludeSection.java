@@ -11,7 +11,6 @@
 *******************************************************************************/
 package com.redhat.qute.parser.template.sections;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -89,7 +88,7 @@ public class IncludeSection extends CustomSection {
 
 		// 1. Try to get a valid template from the Qute project
 		Path templatePath = getReferencedTemplateFile(referencedTemplateId, project);
-		if (templatePath != null && Files.exists(templatePath)) {
+		if (templatePath != null && project.getFiles().exists(templatePath)) {
 			// Returns the valid template from the Qute project
 			return new TemplatePath(templatePath, referencedTemplateId, fragmentId, true);
 		}
@@ -100,7 +99,8 @@ public class IncludeSection extends CustomSection {
 			for (QuteProject projectDependency : project.getProjectDependencies()) {
 				if (projectDependency != null) {
 					Path dependencyTemplatePath = getReferencedTemplateFile(referencedTemplateId, projectDependency);
-					if (dependencyTemplatePath != null && Files.exists(dependencyTemplatePath)) {
+					if (dependencyTemplatePath != null
+							&& projectDependency.getFiles().exists(dependencyTemplatePath)) {
 						return new TemplatePath(dependencyTemplatePath, referencedTemplateId, fragmentId, true);
 					}
 				}
@@ -135,7 +135,7 @@ public class IncludeSection extends CustomSection {
 				Path templateBaseDir = rootPath.getBasePath();
 				if (templateBaseDir != null) {
 					Path referencedTemplateFile = templateBaseDir.resolve(referencedTemplateId + suffix);
-					if (Files.exists(referencedTemplateFile)) {
+					if (project.getFiles().exists(referencedTemplateFile)) {
 						// The template file exists
 						return referencedTemplateFile;
 					}
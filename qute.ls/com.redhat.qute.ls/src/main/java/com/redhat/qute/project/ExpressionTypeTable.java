@@ -0,0 +1,161 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.redhat.qute.commons.JavaMemberInfo;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.parser.expression.Part;
+import com.redhat.qute.parser.template.Template;
+
+/**
+ * Side table which stores, for a given (template version, Java data model
+ * version, call sites version), the resolved Java type and the Java member of
+ * each expression {@link Part}.
+ *
+ * <p>
+ * The table is filled lazily, when a feature (diagnostics, hover, inlay hint,
+ * code lens, completion) resolves a part with
+ * {@link JavaDataModelCache#resolveJavaType(Part)} or
+ * {@link QuteProject#findMember(ResolvedJavaTypeInfo, Part)}. Since a part is
+ * resolved by resolving the previous parts of the expression, the table is
+ * filled in document order and the other features just do a lookup.
+ * </p>
+ *
+ * @see Template#getExpressionTypeTable()
+ */
+public class ExpressionTypeTable {
+
+	private static class MemberEntry {
+
+		private final ResolvedJavaTypeInfo baseType;
+
+		private final JavaMemberInfo member;
+
+		public MemberEntry(ResolvedJavaTypeInfo baseType, JavaMemberInfo member) {
+			this.baseType = baseType;
+			this.member = member;
+		}
+	}
+
+	private final int templateVersion;
+
+	private final long dataModelVersion;
+
+	private final long callSitesVersion;
+
+	private final Map<Part, CompletableFuture<ResolvedJavaTypeInfo>> resolvedTypes;
+
+	private final Map<Part, MemberEntry> members;
+
+	public ExpressionTypeTable(int templateVersion, long dataModelVersion, long callSitesVersion) {
+		this.templateVersion = templateVersion;
+		this.dataModelVersion = dataModelVersion;
+		this.callSitesVersion = callSitesVersion;
+		this.resolvedTypes = new IdentityHashMap<>();
+		this.members = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Returns true if the table was built for the given template, Java data model
+	 * and call sites versions and false otherwise.
+	 *
+	 * @param templateVersion  the template version.
+	 * @param dataModelVersion the Java data model version.
+	 * @param callSitesVersion the version of the call sites of the template.
+	 * @return true if the table was built for the given template, Java data model
+	 *         and call sites versions and false otherwise.
+	 */
+	public boolean isValid(int templateVersion, long dataModelVersion, long callSitesVersion) {
+		return this.templateVersion == templateVersion && this.dataModelVersion == dataModelVersion
+				&& this.callSitesVersion == callSitesVersion;
+	}
+
+	/**
+	 * Returns the resolved Java type future of the given part and null if the part
+	 * has not been resolved yet.
+	 *
+	 * @param part the part.
+	 * @return the resolved Java type future of the given part and null if the part
+	 *         has not been resolved yet.
+	 */
+	public synchronized CompletableFuture<ResolvedJavaTypeInfo> getResolvedType(Part part) {
+		CompletableFuture<ResolvedJavaTypeInfo> future = resolvedTypes.get(part);
+		if (future != null && (future.isCompletedExceptionally() || future.isCancelled())) {
+			// The resolution has failed (ex : JDT request cancelled), resolve it again.
+			resolvedTypes.remove(part);
+			return null;
+		}
+		return future;
+	}
+
+	/**
+	 * Register the resolved Java type future of the given part.
+	 *
+	 * @param part     the part.
+	 * @param resolved the resolved Java type future.
+	 */
+	public synchronized void putResolvedType(Part part, CompletableFuture<ResolvedJavaTypeInfo> resolved) {
+		resolvedTypes.put(part, resolved);
+	}
+
+	/**
+	 * Returns true if the member of the given part has been already searched in
+	 * the given base type and false otherwise.
+	 *
+	 * @param part     the part.
+	 * @param baseType the Java base type.
+	 * @return true if the member of the given part has been already searched in
+	 *         the given base type and false otherwise.
+	 */
+	public synchronized boolean hasMember(Part part, ResolvedJavaTypeInfo baseType) {
+		MemberEntry entry = members.get(part);
+		return entry != null && entry.baseType == baseType;
+	}
+
+	/**
+	 * Returns the member of the given part searched in the given base type and
+	 * null otherwise.
+	 *
+	 * @param part     the part.
+	 * @param baseType the Java base type.
+	 * @return the member of the given part searched in the given base type and
+	 *         null otherwise.
+	 */
+	public synchronized JavaMemberInfo getMember(Part part, ResolvedJavaTypeInfo baseType) {
+		MemberEntry entry = members.get(part);
+		return entry != null && entry.baseType == baseType ? entry.member : null;
+	}
+
+	/**
+	 * Register the member of the given part found in the given base type.
+	 *
+	 * @param part     the part.
+	 * @param baseType the Java base type.
+	 * @param member   the member and null if the member doesn't exist.
+	 */
+	public synchronized void putMember(Part part, ResolvedJavaTypeInfo baseType, JavaMemberInfo member) {
+		members.put(part, new MemberEntry(baseType, member));
+	}
+
+	/**
+	 * Returns the number of resolved parts.
+	 *
+	 * @return the number of resolved parts.
+	 */
+	public synchronized int size() {
+		return resolvedTypes.size();
+	}
+}
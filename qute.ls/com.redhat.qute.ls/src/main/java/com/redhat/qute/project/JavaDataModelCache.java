@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import com.redhat.qute.commons.JavaElementKind;
@@ -49,6 +50,7 @@ import com.redhat.qute.parser.template.Node;
 import com.redhat.qute.parser.template.NodeKind;
 import com.redhat.qute.parser.template.Parameter;
 import com.redhat.qute.parser.template.Section;
+import com.redhat.qute.parser.template.Template;
 import com.redhat.qute.project.datamodel.resolvers.ValueResolver;
 import com.redhat.qute.services.QuteCompletableFutures;
 import com.redhat.qute.utils.StringUtils;
@@ -143,8 +145,36 @@ public class JavaDataModelCache implements JavaTypeResolver{
 
 	private final QuteProject project;
 
+	private final AtomicLong cacheHits;
+
+	private final AtomicLong cacheMisses;
+
 	public JavaDataModelCache(QuteProject project) {
 		this.project = project;
+		this.cacheHits = new AtomicLong();
+		this.cacheMisses = new AtomicLong();
+	}
+
+	/**
+	 * Returns the number of Java type resolutions served by the resolved Java
+	 * types cache.
+	 *
+	 * @return the number of Java type resolutions served by the resolved Java
+	 *         types cache.
+	 */
+	public long getCacheHits() {
+		return cacheHits.get();
+	}
+
+	/**
+	 * Returns the number of Java type resolutions not served by the resolved Java
+	 * types cache.
+	 *
+	 * @return the number of Java type resolutions not served by the resolved Java
+	 *         types cache.
+	 */
+	public long getCacheMisses() {
+		return cacheMisses.get();
 	}
 
 	/**
@@ -227,8 +257,10 @@ public class JavaDataModelCache implements JavaTypeResolver{
 			JavaTypeInfoProvider javaTypeInfo) {
 		CompletableFuture<ResolvedJavaTypeInfo> future = getValidResolvedJavaTypeInCache(className);
 		if (future != null) {
+			cacheHits.incrementAndGet();
 			return future;
 		}
+		cacheMisses.incrementAndGet();
 		return resolveJavaType(className, javaTypeInfo, new HashSet<>());
 	}
 
@@ -412,9 +444,20 @@ public class JavaDataModelCache implements JavaTypeResolver{
 	}
 
 	private CompletableFuture<ResolvedJavaTypeInfo> resolveJavaType(Parts parts, int partIndex) {
+		// The resolved types of the previous parts are stored in the expression type
+		// table shared by all features (diagnostics, hover, inlay hint, etc)
+		Template template = parts.getOwnerTemplate();
+		ExpressionTypeTable table = template != null ? template.getExpressionTypeTable() : null;
 		CompletableFuture<ResolvedJavaTypeInfo> future = null;
 		for (int i = 0; i < partIndex + 1; i++) {
 			Part current = (parts.getChild(i));
+			if (table != null) {
+				CompletableFuture<ResolvedJavaTypeInfo> resolved = table.getResolvedType(current);
+				if (resolved != null) {
+					future = resolved;
+					continue;
+				}
+			}
 			switch (current.getPartKind()) {
 			case Object:
 				ObjectPart objectPart = (ObjectPart) current;
@@ -446,6 +489,9 @@ public class JavaDataModelCache implements JavaTypeResolver{
 				break;
 			default:
 			}
+			if (table != null && future != null) {
+				table.putResolvedType(current, future);
+			}
 		}
 		return future != null ? future : RESOLVED_JAVA_TYPE_INFO_NULL_FUTURE;
 	}
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,6 +32,7 @@ import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -55,6 +57,7 @@ import com.redhat.qute.commons.TemplateRootPath;
 import com.redhat.qute.commons.annotations.TemplateDataAnnotation;
 import com.redhat.qute.commons.binary.BinaryTemplate;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateContentParams;
 import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
 import com.redhat.qute.commons.config.PropertyConfig;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
@@ -65,6 +68,7 @@ import com.redhat.qute.commons.datamodel.resolvers.NamespaceResolverInfo;
 import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
 import com.redhat.qute.commons.jaxrs.JaxRsParamKind;
 import com.redhat.qute.commons.jaxrs.RestParam;
+import com.redhat.qute.commons.stats.QuteProjectStats;
 import com.redhat.qute.parser.expression.Part;
 import com.redhat.qute.parser.injection.InjectionDetector;
 import com.redhat.qute.parser.template.LiteralSupport;
@@ -85,8 +89,11 @@ import com.redhat.qute.project.datamodel.resolvers.MessageValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.TypeValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.ValueResolver;
+import com.redhat.qute.project.documents.BinaryTemplateStore;
+import com.redhat.qute.project.documents.BinaryTemplateStore.SharedBinaryTemplate;
 import com.redhat.qute.project.documents.QuteBinaryTextDocument;
 import com.redhat.qute.project.documents.QuteClosedTextDocuments;
+import com.redhat.qute.project.documents.QuteOpenedTextDocument;
 import com.redhat.qute.project.documents.SearchInfoQuery;
 import com.redhat.qute.project.documents.TemplateValidator;
 import com.redhat.qute.project.extensions.CodeLensParticipant;
@@ -102,9 +109,13 @@ import com.redhat.qute.project.extensions.ProjectExtension;
 import com.redhat.qute.project.extensions.ProjectExtensionContext;
 import com.redhat.qute.project.extensions.TemplateLanguageInjectionParticipant;
 import com.redhat.qute.project.extensions.config.ApplicationPropertiesProjectExtension;
+import com.redhat.qute.project.extensions.roq.RoqProjectExtension;
+import com.redhat.qute.project.files.ProjectFileIndex;
+import com.redhat.qute.project.symbols.WorkspaceSymbolIndex;
 import com.redhat.qute.project.tags.UserTag;
 import com.redhat.qute.project.tags.UserTagRegistry;
 import com.redhat.qute.project.usages.IncludeUsagesRegistry;
+import com.redhat.qute.project.usages.JavaMemberUsagesRegistry;
 import com.redhat.qute.services.QuteCompletableFutures;
 import com.redhat.qute.services.completions.CompletionRequest;
 import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
@@ -189,8 +200,18 @@ public class QuteProject implements JavaTypeResolver {
 
 	private final IncludeUsagesRegistry includeUsagesRegistry;
 
+	private final WorkspaceSymbolIndex symbolIndex;
+
+	private final JavaMemberUsagesRegistry javaMemberUsagesRegistry;
+
+	private final ProjectFileIndex files;
+
 	private CompletableFuture<QuteProject> loadQuteProjectFuture;
 
+	private CompletableFuture<QuteProject> loadOwnContentFuture;
+
+	private final AtomicLong dataModelVersion;
+
 	private final ApplicationPropertiesProjectExtension applicationProperties;
 
 	public QuteProject(ProjectInfo projectInfo, QuteProjectRegistry projectRegistry) {
@@ -205,8 +226,14 @@ public class QuteProject implements JavaTypeResolver {
 		this.closedDocuments = new QuteClosedTextDocuments(this, sourceDocuments);
 		this.projectRegistry = projectRegistry;
 		this.resolvedJavaTypes = new HashMap<>();
+		this.dataModelVersion = new AtomicLong();
 		this.tagRegistry = new UserTagRegistry(this, templateRootPaths);
 		this.includeUsagesRegistry = new IncludeUsagesRegistry(this);
+		this.symbolIndex = new WorkspaceSymbolIndex();
+		this.javaMemberUsagesRegistry = new JavaMemberUsagesRegistry();
+		List<Path> fileRoots = getFileRoots(projectFolder, templateRootPaths, sourcePaths);
+		this.files = new ProjectFileIndex(() -> fileRoots, projectRegistry::isWatchedFileEventsAvailable,
+				projectRegistry::isWatchedFile);
 		this.filterInNativeMode = new NativeModeJavaTypeFilter(this);
 		this.validator = projectRegistry.getValidator();
 		this.javaCache = new JavaDataModelCache(this);
@@ -303,46 +330,36 @@ public class QuteProject implements JavaTypeResolver {
 		}
 
 		if (progressContext != null) {
-			progressContext.report("Loading Qute binary templates for '" + projectName + "' Qute project.", 10);
+			progressContext.report(
+					"Loading Qute binary templates and data model for '" + projectName + "' Qute project.", 10);
 		}
 
-		loadQuteProjectFuture = this.getBinaryTemplates() //
-				.thenCompose(binaryTemplates -> {
+		// The binary templates and the data model are fetched concurrently
+		CompletableFuture<List<BinaryTemplateInfo>> binaryTemplates = this.getBinaryTemplates();
+		CompletableFuture<ExtendedDataModelProject> dataModel = this.getDataModelProject();
+		loadOwnContentFuture = CompletableFuture.allOf(binaryTemplates, dataModel) //
+				.thenApply(_unused -> {
 					if (progressContext != null) {
-						progressContext.report("Loading Qute data model for '" + projectName + "' Qute project.", 20);
+						progressContext.report("Loading Qute templates for '" + projectName + "' Qute project.", 40);
 					}
 
-					return this.getDataModelProject() //
-							.thenCompose(dataModel -> {
-								if (progressContext != null) {
-									progressContext.report(
-											"Loading Qute templates for '" + projectName + "' Qute project.", 40);
-								}
-
-								// Register use tags
-								registerUserTags();
-
-								// Load closed templates
-								closedDocuments.loadClosedTemplatesIfNeeded(progressContext);
-
-								if (progressContext != null) {
-									progressContext.endProgress();
-								}
+					// Register use tags
+					registerUserTags();
 
-								return CompletableFuture.completedFuture(this);
-							}).exceptionally((a) -> {
-								if (progressContext != null) {
-									progressContext.endProgress();
-								}
-								return this;
-							});
+					// Load closed templates
+					closedDocuments.loadClosedTemplatesIfNeeded(progressContext);
 
+					if (progressContext != null) {
+						progressContext.endProgress();
+					}
+					return this;
 				}).exceptionally((a) -> {
 					if (progressContext != null) {
 						progressContext.endProgress();
 					}
 					return this;
-				})
+				});
+		loadQuteProjectFuture = loadOwnContentFuture
 				// Once this project is loaded, wait for its dependencies to be loaded too.
 				.thenCompose(self -> waitForDependencies(new HashSet<>()) //
 						.thenApply(_unused -> self));
@@ -385,6 +402,19 @@ public class QuteProject implements JavaTypeResolver {
 		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
 	}
 
+	/**
+	 * Returns the future which is completed when the binary templates, the data
+	 * model and the closed templates of this project are loaded, without waiting
+	 * for the project dependencies, and null if the project loading is not
+	 * started.
+	 *
+	 * @return the future which is completed when the own content of this project
+	 *         is loaded and null if the project loading is not started.
+	 */
+	CompletableFuture<QuteProject> getLoadOwnContentFuture() {
+		return loadOwnContentFuture;
+	}
+
 	private boolean isQuteProjectLoaded() {
 		return isFutureLoaded(loadQuteProjectFuture);
 	}
@@ -400,6 +430,24 @@ public class QuteProject implements JavaTypeResolver {
 				.collect(Collectors.toSet());
 	}
 
+	private static List<Path> getFileRoots(Path projectFolder, List<TemplateRootPath> templateRootPaths,
+			Set<Path> sourcePaths) {
+		List<Path> roots = new ArrayList<>();
+		if (projectFolder != null) {
+			roots.add(projectFolder);
+		}
+		if (templateRootPaths != null) {
+			for (TemplateRootPath rootPath : templateRootPaths) {
+				Path basePath = rootPath.getBasePath();
+				if (basePath != null) {
+					roots.add(basePath);
+				}
+			}
+		}
+		roots.addAll(sourcePaths);
+		return roots;
+	}
+
 	public void validateClosedTemplates(ProgressContext progressContext) {
 		if (validator != null) {
 			// Load closed document if needed and validate all closed documents when data
@@ -711,6 +759,9 @@ public class QuteProject implements JavaTypeResolver {
 	 */
 	public QuteTextDocument onDidDeleteTemplate(Path templateFilePath) {
 		QuteTextDocument document = removeDocumentFromCache(templateFilePath);
+		if (document != null) {
+			javaMemberUsagesRegistry.removeUsages(document.getUri());
+		}
 		return document;
 	}
 
@@ -730,6 +781,8 @@ public class QuteProject implements JavaTypeResolver {
 				}
 				// Evict include usages for the removed document
 				includeUsagesRegistry.removeUsages(removedDocument);
+				// Evict workspace symbols for the removed document
+				symbolIndex.removeDocument(templateFilePath);
 
 			}
 			return removedDocument;
@@ -745,6 +798,16 @@ public class QuteProject implements JavaTypeResolver {
 		return closedDocuments.onDidCreateTemplate(templateFilePath);
 	}
 
+	/**
+	 * Create or update several Qute template files, read and parsed in parallel.
+	 *
+	 * @param templateFilePaths the Qute template file paths.
+	 * @return the created or updated Qute templates.
+	 */
+	public List<QuteTextDocument> onDidCreateTemplates(List<Path> templateFilePaths) {
+		return closedDocuments.onDidCreateTemplates(templateFilePaths);
+	}
+
 	/**
 	 * Returns list of all opened/closed Qute template document of the project.
 	 * 
@@ -792,9 +855,13 @@ public class QuteProject implements JavaTypeResolver {
 		}
 		QuteBinaryTemplateParams params = new QuteBinaryTemplateParams();
 		params.setProjectUri(getUri());
+		// The content of the binary templates is loaded when a template is required
+		// (see loadBinaryTemplateContents)
+		params.setContentOnDemand(projectRegistry.isBinaryTemplateContentOnDemand());
 		return getBinaryTemplates(params) //
 				.thenApply(binaryTemplates -> {
-					// Register binary templates
+					// Register binary templates: the content of the templates which is loaded on
+					// demand is loaded when a template of the JAR is required.
 					registerBinaryTemplates(binaryTemplates);
 					return binaryTemplates;
 				});
@@ -804,9 +871,107 @@ public class QuteProject implements JavaTypeResolver {
 		return projectRegistry.getBinaryTemplates(params);
 	}
 
+	/**
+	 * Loads the content of the binary templates of the given JAR which have been
+	 * collected without their content.
+	 * 
+	 * <p>
+	 * The content is loaded when a template of the JAR is first required (user tag,
+	 * include, definition, opening of the template, etc). The templates of a JAR
+	 * (layouts, partials, tags) are generally used together, so the content of all
+	 * the templates of the JAR is loaded with one
+	 * 'qute/template/binaryTemplateContents' request. The loading is shared with
+	 * the other projects which depend on the same JAR (see
+	 * {@link BinaryTemplateStore#loadContents}).
+	 * </p>
+	 * 
+	 * @param binaryName the JAR name.
+	 * 
+	 * @return the future which loads the content of the binary templates of the
+	 *         given JAR.
+	 */
+	public CompletableFuture<Void> loadBinaryTemplateContents(String binaryName) {
+		List<QuteBinaryTextDocument> documents = new ArrayList<>();
+		for (QuteTextDocument document : new ArrayList<>(binaryDocuments.values())) {
+			if (document instanceof QuteBinaryTextDocument && Objects.equals(binaryName, document.getOrigin())) {
+				documents.add((QuteBinaryTextDocument) document);
+			}
+		}
+		return projectRegistry.getBinaryTemplateStore() //
+				.loadContents(binaryName, () -> loadBinaryTemplateContents(documents)) //
+				.handle((_unused, e) -> {
+					if (e != null) {
+						LOGGER.log(Level.WARNING,
+								"Error while loading the content of the binary templates of '" + binaryName + "'.", e);
+					}
+					onDidLoadBinaryTemplateContents(documents);
+					return null;
+				});
+	}
+
+	private CompletableFuture<Void> loadBinaryTemplateContents(List<QuteBinaryTextDocument> binaryDocuments) {
+		Map<String, QuteBinaryTextDocument> documents = new HashMap<>();
+		for (QuteBinaryTextDocument document : binaryDocuments) {
+			if (document.getContent() == null) {
+				documents.put(normalizeUriIfNeeded(document.getUri()), document);
+			}
+		}
+		if (documents.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		List<String> uris = documents.values().stream() //
+				.map(QuteTextDocument::getUri) //
+				.collect(Collectors.toList());
+		return getBinaryTemplateContents(new QuteBinaryTemplateContentParams(getUri(), uris)) //
+				.thenAccept(templates -> {
+					if (templates == null) {
+						return;
+					}
+					for (BinaryTemplate template : templates) {
+						QuteBinaryTextDocument document = documents.get(normalizeUriIfNeeded(template.getUri()));
+						if (document != null && template.getContent() != null) {
+							document.getSharedTemplate().setContent(template.getContent());
+						}
+					}
+				});
+	}
+
+	/**
+	 * Updates the given binary templates once the content of their JAR is loaded
+	 * and validates the templates of the project with the loaded content.
+	 * 
+	 * @param documents the binary templates of the loaded JAR.
+	 */
+	private void onDidLoadBinaryTemplateContents(List<QuteBinaryTextDocument> documents) {
+		boolean updated = false;
+		for (QuteBinaryTextDocument document : documents) {
+			if (document.onDidLoadContent()) {
+				updated = true;
+			}
+		}
+		if (updated) {
+			// The templates which call the user tags or include the templates of the JAR
+			// have been validated with an empty content.
+			TemplateValidator validator = projectRegistry.getValidator();
+			if (validator != null) {
+				validator.triggerValidationFor(Collections.singletonList(this));
+			}
+		}
+	}
+
+	protected CompletableFuture<List<BinaryTemplate>> getBinaryTemplateContents(
+			QuteBinaryTemplateContentParams params) {
+		return projectRegistry.getBinaryTemplateContents(params);
+	}
+
 	public CompletableFuture<ExtendedDataModelProject> getDataModelProject() {
 		if (!isFutureLoaded(dataModelProjectFuture)) {
+			// The project extensions (ex : Roq themes) use the binary templates, they
+			// must be registered before initializing the extensions.
+			CompletableFuture<List<BinaryTemplateInfo>> binaryTemplates = getBinaryTemplates() //
+					.exceptionally(_unused -> null);
 			dataModelProjectFuture = loadDataModelProject() //
+					.thenCombine(binaryTemplates, (model, _unused) -> model) //
 					.thenApply(model -> {
 						ProjectExtensionContext context = new ProjectExtensionContext();
 						for (ProjectExtension extension : getExtensions()) {
@@ -818,6 +983,7 @@ public class QuteProject implements JavaTypeResolver {
 							}
 						}
 						context.reparseTemplates();
+						dataModelVersion.incrementAndGet();
 						return model;
 
 					});
@@ -867,6 +1033,7 @@ public class QuteProject implements JavaTypeResolver {
 			resolvedJavaTypes.clear();
 		}
 		targetAnnotations = null;
+		dataModelVersion.incrementAndGet();
 	}
 
 	/**
@@ -1048,6 +1215,93 @@ public class QuteProject implements JavaTypeResolver {
 	}
 
 	public void dispose() {
+		// Release the binary template contents shared with the other projects
+		BinaryTemplateStore store = projectRegistry.getBinaryTemplateStore();
+		for (QuteTextDocument document : new ArrayList<>(binaryDocuments.values())) {
+			if (document instanceof QuteBinaryTextDocument) {
+				store.release(((QuteBinaryTextDocument) document).getSharedTemplate());
+			}
+		}
+	}
+
+	/**
+	 * Returns the memory and cache statistics of the project, computed from the
+	 * counters and the sizes of the caches (without loading or parsing anything).
+	 * 
+	 * @return the memory and cache statistics of the project.
+	 */
+	public QuteProjectStats getStats() {
+		QuteProjectStats stats = new QuteProjectStats();
+		stats.setUri(uri);
+		stats.setLoaded(isQuteProjectLoaded());
+
+		// Documents
+		int opened = 0;
+		int closed = 0;
+		long contentBytes = 0;
+		for (QuteTextDocument document : new ArrayList<>(sourceDocuments.values())) {
+			if (document instanceof QuteOpenedTextDocument) {
+				opened++;
+				contentBytes += getContentBytes(((QuteOpenedTextDocument) document).getText());
+			} else {
+				closed++;
+				Template template = document.getTemplate();
+				contentBytes += template != null ? getContentBytes(template.getText()) : 0;
+			}
+		}
+		int binary = 0;
+		for (QuteTextDocument document : new ArrayList<>(binaryDocuments.values())) {
+			binary++;
+			if (document instanceof QuteBinaryTextDocument) {
+				// Don't load or parse the binary template to compute the stats
+				contentBytes += getContentBytes(((QuteBinaryTextDocument) document).getSharedTemplate().getContent());
+			}
+		}
+		stats.setOpenedDocuments(opened);
+		stats.setClosedDocuments(closed);
+		stats.setBinaryDocuments(binary);
+		stats.setTemplateContentBytes(contentBytes);
+
+		// Resolved Java types
+		int pending = 0;
+		Collection<CompletableFuture<ResolvedJavaTypeInfo>> javaTypes = new ArrayList<>(resolvedJavaTypes.values());
+		for (CompletableFuture<ResolvedJavaTypeInfo> future : javaTypes) {
+			if (!future.isDone()) {
+				pending++;
+			}
+		}
+		stats.setResolvedJavaTypes(javaTypes.size());
+		stats.setPendingJavaTypes(pending);
+		stats.setJavaTypeCacheHits(javaCache.getCacheHits());
+		stats.setJavaTypeCacheMisses(javaCache.getCacheMisses());
+
+		// Data model
+		ExtendedDataModelProject dataModel = getDataModelProject().getNow(null);
+		if (dataModel != null) {
+			stats.setDataModelTemplates(size(dataModel.getTemplates()));
+			stats.setValueResolvers(size(dataModel.getValueResolvers()));
+			stats.setNamespaceResolvers(
+					dataModel.getNamespaceResolverInfos() != null ? dataModel.getNamespaceResolverInfos().size() : 0);
+		}
+
+		// Registries
+		stats.setIncludeUsages(includeUsagesRegistry.size());
+		stats.setJavaMemberUsages(javaMemberUsagesRegistry.size());
+		stats.setIndexedSymbols(symbolIndex.getSymbolCount());
+		RoqProjectExtension roq = RoqProjectExtension.getRoqProjectExtension(this);
+		if (roq != null) {
+			stats.setRoqDataFiles(roq.getDataFileCount());
+		}
+		return stats;
+	}
+
+	private static long getContentBytes(String content) {
+		// A Java String retains 1 or 2 bytes per character, take the worst case
+		return content != null ? content.length() * 2L : 0;
+	}
+
+	private static int size(Collection<?> collection) {
+		return collection != null ? collection.size() : 0;
 	}
 
 	/**
@@ -1811,7 +2065,66 @@ public class QuteProject implements JavaTypeResolver {
 				});
 	}
 
+	/**
+	 * Returns true if the data model of the project is loaded and false otherwise.
+	 *
+	 * @return true if the data model of the project is loaded and false otherwise.
+	 */
+	public boolean isDataModelLoaded() {
+		return isFutureLoaded(dataModelProjectFuture);
+	}
+
+	/**
+	 * Returns the data model version which is updated when the Java data model,
+	 * the user tag or include usages change.
+	 *
+	 * @return the data model version.
+	 */
+	public long getDataModelVersion() {
+		return dataModelVersion.get() + tagRegistry.getModificationCount()
+				+ includeUsagesRegistry.getModificationCount();
+	}
+
+	/**
+	 * Returns the Java data model version which is updated when the data model is
+	 * loaded or when Java types are reset.
+	 *
+	 * @return the Java data model version.
+	 */
+	public long getJavaDataModelVersion() {
+		return dataModelVersion.get();
+	}
+
+	/**
+	 * Returns the version of the call sites of the given template (user tag or
+	 * include usages) which is updated when the parameters passed to the template
+	 * change.
+	 *
+	 * @param template the template.
+	 * @return the version of the call sites of the given template.
+	 */
+	public long getCallSitesVersion(Template template) {
+		if (template.isUserTag()) {
+			return tagRegistry.getModificationCount(template.getUserTagName());
+		}
+		String templateId = template.getTemplateId();
+		return templateId != null ? includeUsagesRegistry.getModificationCount(templateId) : 0;
+	}
+
 	public JavaMemberInfo findMember(ResolvedJavaTypeInfo baseType, Part part) {
+		Template template = part.getOwnerTemplate();
+		ExpressionTypeTable table = template != null ? template.getExpressionTypeTable() : null;
+		if (table != null && table.hasMember(part, baseType)) {
+			return table.getMember(part, baseType);
+		}
+		JavaMemberInfo member = doFindMember(baseType, part);
+		if (table != null) {
+			table.putMember(part, baseType, member);
+		}
+		return member;
+	}
+
+	private JavaMemberInfo doFindMember(ResolvedJavaTypeInfo baseType, Part part) {
 		// 1. Try Java reflection first (fields and methods from Java type)
 		JavaMemberInfo member = findPropertyWithJavaReflection(baseType, part.getPartName());
 		if (member != null) {
@@ -2149,6 +2462,32 @@ public class QuteProject implements JavaTypeResolver {
 		return sourcePaths;
 	}
 
+	/**
+	 * Returns the directories of the Qute project to watch with the server-side
+	 * file watcher (template roots, source folders and the directories of the
+	 * project extensions, like Roq content/data directories).
+	 * 
+	 * @return the directories of the Qute project to watch.
+	 */
+	public Set<Path> getWatchedDirectories() {
+		Set<Path> dirs = new LinkedHashSet<>();
+		if (templateRootPaths != null) {
+			for (TemplateRootPath rootPath : templateRootPaths) {
+				Path basePath = rootPath.getBasePath();
+				if (basePath != null) {
+					dirs.add(basePath);
+				}
+			}
+		}
+		dirs.addAll(sourcePaths);
+		for (DidChangeWatchedFilesParticipant participant : didChangeWatchedFilesParticipants) {
+			if (participant.isEnabled()) {
+				dirs.addAll(participant.getWatchedDirectories());
+			}
+		}
+		return dirs;
+	}
+
 	/**
 	 * Returns the Qute project extension list.
 	 * 
@@ -2217,16 +2556,31 @@ public class QuteProject implements JavaTypeResolver {
 	}
 
 	protected void registerBinaryTemplates(List<BinaryTemplateInfo> binaryTemplates) {
+		BinaryTemplateStore store = projectRegistry.getBinaryTemplateStore();
+		List<QuteBinaryTextDocument> documents = new ArrayList<>();
 		for (BinaryTemplateInfo binaryTemplate : binaryTemplates) {
 			String binaryName = binaryTemplate.getBinaryName();
 			Map<String, String> properties = binaryTemplate.getProperties();
 			List<BinaryTemplate> templates = binaryTemplate.getTemplates();
 			for (BinaryTemplate template : templates) {
-				QuteBinaryTextDocument document = new QuteBinaryTextDocument(template, binaryName, properties,
-						template.isAltSyntaxExpr() ? '=' : null, this);
+				SharedBinaryTemplate sharedTemplate = store.acquire(binaryName, template);
+				// The content is hosted by the store, don't retain it with the binary
+				// templates response.
+				template.setContent(null);
+				QuteBinaryTextDocument document = new QuteBinaryTextDocument(template, sharedTemplate, binaryName,
+						properties, template.isAltSyntaxExpr() ? '=' : null, this);
 				registerBinaryDocument(document);
+				documents.add(document);
 			}
 		}
+		// Binary templates are parsed lazily, so the usages of the binary templates
+		// which call a user tag or include a template are collected when they are
+		// registered. The usages of the templates collected without their content are
+		// collected when the content of their JAR is loaded (see
+		// loadBinaryTemplateContents).
+		for (QuteBinaryTextDocument document : documents) {
+			document.onDidLoadContent();
+		}
 	}
 
 	public void registerSourceDocument(QuteTextDocument document) {
@@ -2237,6 +2591,7 @@ public class QuteProject implements JavaTypeResolver {
 		sourceDocuments.put(document.getTemplatePath(), document);
 		addInTemplateIdCache(document);
 		registerUserTagIfNeeded(document);
+		symbolIndex.addDocument(document);
 	}
 
 	void registerBinaryDocument(QuteTextDocument document) {
@@ -2303,6 +2658,39 @@ public class QuteProject implements JavaTypeResolver {
 		return includeUsagesRegistry;
 	}
 
+	/**
+	 * Returns the index of the symbols declared in the source templates of the
+	 * project.
+	 *
+	 * @return the index of the symbols declared in the source templates of the
+	 *         project.
+	 */
+	public WorkspaceSymbolIndex getSymbolIndex() {
+		return symbolIndex;
+	}
+
+	/**
+	 * Returns the registry of the template usages of Java members, filled by the
+	 * template validation.
+	 *
+	 * @return the registry of the template usages of Java members, filled by the
+	 *         template validation.
+	 */
+	public JavaMemberUsagesRegistry getJavaMemberUsagesRegistry() {
+		return javaMemberUsagesRegistry;
+	}
+
+	/**
+	 * Returns the in-memory index of the project files, updated with the watched
+	 * file events.
+	 *
+	 * @return the in-memory index of the project files, updated with the watched
+	 *         file events.
+	 */
+	public ProjectFileIndex getFiles() {
+		return files;
+	}
+
 	public String getFullyQualifiedName(String shortName) {
 		return javaCache.getFullyQualifiedName(shortName);
 	}
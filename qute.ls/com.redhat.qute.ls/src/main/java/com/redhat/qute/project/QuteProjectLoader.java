@@ -0,0 +1,170 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Loader of several Qute projects.
+ *
+ * <p>
+ * The projects are loaded in the order of the project dependency graph (a
+ * project dependency is loaded before the projects which depend on it). The
+ * independent projects are loaded concurrently, the number of projects which
+ * are fetching their binary templates, data model and closed templates at the
+ * same time is limited with the <code>projectLoadingConcurrency</code> system
+ * property.
+ * </p>
+ */
+class QuteProjectLoader {
+
+	private static final String CONCURRENCY_PROPERTY = "projectLoadingConcurrency";
+
+	private static class LoadTask {
+
+		private final QuteProject project;
+
+		private final CompletableFuture<QuteProject> loaded;
+
+		public LoadTask(QuteProject project) {
+			this.project = project;
+			this.loaded = new CompletableFuture<>();
+		}
+	}
+
+	private final int concurrency;
+
+	private final Deque<LoadTask> pendingTasks;
+
+	private final Consumer<QuteProject> onProjectLoaded;
+
+	private int runningProjects;
+
+	QuteProjectLoader(Consumer<QuteProject> onProjectLoaded) {
+		this(getDefaultConcurrency(), onProjectLoaded);
+	}
+
+	QuteProjectLoader(int concurrency, Consumer<QuteProject> onProjectLoaded) {
+		this.concurrency = Math.max(1, concurrency);
+		this.onProjectLoaded = onProjectLoaded;
+		this.pendingTasks = new ArrayDeque<>();
+	}
+
+	/**
+	 * Load the given projects.
+	 *
+	 * @param projects the projects to load.
+	 *
+	 * @return the future which is completed when all given projects (and their
+	 *         dependencies) are loaded.
+	 */
+	CompletableFuture<Void> load(Collection<QuteProject> projects) {
+		List<QuteProject> orderedProjects = sortByDependencies(projects);
+		List<CompletableFuture<QuteProject>> futures = new ArrayList<>(orderedProjects.size());
+		synchronized (pendingTasks) {
+			for (QuteProject project : orderedProjects) {
+				LoadTask task = new LoadTask(project);
+				pendingTasks.add(task);
+				futures.add(task.loaded);
+			}
+		}
+		startNextProjects();
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+	}
+
+	private void startNextProjects() {
+		List<LoadTask> tasks = new ArrayList<>();
+		synchronized (pendingTasks) {
+			while (runningProjects < concurrency && !pendingTasks.isEmpty()) {
+				tasks.add(pendingTasks.poll());
+				runningProjects++;
+			}
+		}
+		for (LoadTask task : tasks) {
+			start(task);
+		}
+	}
+
+	private void start(LoadTask task) {
+		QuteProject project = task.project;
+		CompletableFuture<QuteProject> loaded = null;
+		try {
+			loaded = project.load();
+		} catch (Exception e) {
+			loaded = CompletableFuture.failedFuture(e);
+		}
+		// The next project can be started as soon as the binary templates, the data
+		// model and the closed templates of the project are loaded (without waiting
+		// for the project dependencies which are started before).
+		CompletableFuture<QuteProject> ownContentLoaded = project.getLoadOwnContentFuture();
+		(ownContentLoaded != null ? ownContentLoaded : loaded).whenComplete((p, e) -> {
+			synchronized (pendingTasks) {
+				runningProjects--;
+			}
+			startNextProjects();
+		});
+		loaded.whenComplete((p, e) -> {
+			if (e != null) {
+				task.loaded.completeExceptionally(e);
+			} else {
+				onProjectLoaded.accept(p);
+				task.loaded.complete(p);
+			}
+		});
+	}
+
+	/**
+	 * Returns the given projects sorted by dependencies: a project dependency is
+	 * before the projects which depend on it. Circular dependencies are ignored.
+	 *
+	 * @param projects the projects to sort.
+	 *
+	 * @return the given projects sorted by dependencies.
+	 */
+	static List<QuteProject> sortByDependencies(Collection<QuteProject> projects) {
+		Set<QuteProject> all = new HashSet<>(projects);
+		Set<QuteProject> sorted = new LinkedHashSet<>();
+		Set<QuteProject> visiting = new HashSet<>();
+		for (QuteProject project : projects) {
+			visit(project, all, visiting, sorted);
+		}
+		return new ArrayList<>(sorted);
+	}
+
+	private static void visit(QuteProject project, Set<QuteProject> projects, Set<QuteProject> visiting,
+			Set<QuteProject> sorted) {
+		if (sorted.contains(project) || !visiting.add(project)) {
+			// Already sorted or circular dependency
+			return;
+		}
+		for (QuteProject dependency : project.getProjectDependencies()) {
+			if (projects.contains(dependency)) {
+				visit(dependency, projects, visiting, sorted);
+			}
+		}
+		visiting.remove(project);
+		sorted.add(project);
+	}
+
+	private static int getDefaultConcurrency() {
+		return Integer.getInteger(CONCURRENCY_PROPERTY, Math.max(2, Runtime.getRuntime().availableProcessors()));
+	}
+}
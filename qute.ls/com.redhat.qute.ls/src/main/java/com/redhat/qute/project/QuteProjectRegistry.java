@@ -14,17 +14,26 @@ package com.redhat.qute.project;
 import static com.redhat.qute.services.QuteCompletableFutures.EXTENDED_TEMPLATE_DATAMODEL_NULL_FUTURE;
 import static com.redhat.qute.utils.FutureUtils.isFutureLoaded;
 
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.FileChangeType;
@@ -35,12 +44,15 @@ import com.redhat.qute.commons.FileUtils;
 import com.redhat.qute.commons.JavaTypeInfo;
 import com.redhat.qute.commons.ProjectInfo;
 import com.redhat.qute.commons.QuteJavaDefinitionParams;
+import com.redhat.qute.commons.QuteJavaTemplateUsagesParams;
 import com.redhat.qute.commons.QuteJavaTypesParams;
 import com.redhat.qute.commons.QuteJavadocParams;
 import com.redhat.qute.commons.QuteProjectParams;
 import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.binary.BinaryTemplate;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateContentParams;
 import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
@@ -48,6 +60,8 @@ import com.redhat.qute.commons.datamodel.DataModelTemplate;
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent.ProjectChangeInfo;
 import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
+import com.redhat.qute.commons.stats.QuteProjectStats;
+import com.redhat.qute.commons.stats.QuteServerStats;
 import com.redhat.qute.ls.api.QuteBinaryTemplateProvider;
 import com.redhat.qute.ls.api.QuteDataModelProjectProvider;
 import com.redhat.qute.ls.api.QuteJavaDefinitionProvider;
@@ -59,14 +73,17 @@ import com.redhat.qute.parser.template.Template;
 import com.redhat.qute.project.datamodel.ExtendedDataModelTemplate;
 import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.ValueResolversRegistry;
+import com.redhat.qute.project.documents.BinaryTemplateStore;
 import com.redhat.qute.project.documents.QuteOpenedTextDocument;
 import com.redhat.qute.project.documents.TemplateValidator;
 import com.redhat.qute.project.extensions.DidChangeWatchedFilesParticipant;
 import com.redhat.qute.project.extensions.ProjectExtensionContext;
+import com.redhat.qute.project.files.ServerFileWatcher;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.services.nativemode.ReflectionJavaTypeFilter;
 import com.redhat.qute.settings.QuteNativeSettings;
 import com.redhat.qute.settings.SharedSettings;
+import com.redhat.qute.settings.capabilities.QuteCapabilityManager;
 
 /**
  * Registry which hosts Qute project {@link QuteProject}.
@@ -77,6 +94,13 @@ import com.redhat.qute.settings.SharedSettings;
 public class QuteProjectRegistry
 		implements QuteDataModelProjectProvider, QuteBinaryTemplateProvider, QuteJavadocProvider {
 
+	private static final Logger LOGGER = Logger.getLogger(QuteProjectRegistry.class.getName());
+
+	private static final List<PathMatcher> WATCHED_FILE_NAME_MATCHERS = QuteCapabilityManager.WATCHED_FILE_NAME_PATTERNS
+			.stream() //
+			.map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern)) //
+			.collect(Collectors.toList());
+
 	private final ValueResolversRegistry valueResolversRegistry;
 
 	private final Map<String /* project uri */, QuteProject> projects;
@@ -104,6 +128,14 @@ public class QuteProjectRegistry
 
 	private boolean asyncValidation = true;
 
+	private boolean binaryTemplateContentOnDemand;
+
+	private final WatchedFilesEventBatcher watchedFilesBatcher;
+
+	private final BinaryTemplateStore binaryTemplateStore;
+
+	private ServerFileWatcher serverFileWatcher;
+
 	private CompletableFuture<Collection<QuteProject>> loadQuteProjectsFuture;
 
 	public QuteProjectRegistry(QuteProjectInfoProvider projectInfoProvider, QuteJavaTypesProvider javaTypeProvider,
@@ -124,6 +156,8 @@ public class QuteProjectRegistry
 		this.validator = validator;
 		this.progressSupportProvider = progressSupportProvider;
 		this.sharedSettings = sharedSettings;
+		this.watchedFilesBatcher = new WatchedFilesEventBatcher(this::processWatchedFileEvents);
+		this.binaryTemplateStore = new BinaryTemplateStore();
 	}
 
 	/**
@@ -147,6 +181,87 @@ public class QuteProjectRegistry
 		return didChangeWatchedFilesSupported;
 	}
 
+	/**
+	 * Start the server-side file watcher which watches the directories of the
+	 * loaded Qute projects and feeds the same pipeline than
+	 * 'workspace/didChangeWatchedFiles'. This watcher must be used only when the
+	 * LSP client doesn't support 'workspace/didChangeWatchedFiles'. The
+	 * directories of a Qute project are watched once the project is loaded.
+	 */
+	public synchronized void startServerFileWatcher() {
+		if (serverFileWatcher != null) {
+			return;
+		}
+		ServerFileWatcher watcher = new ServerFileWatcher(watchedFilesBatcher::addEvents);
+		try {
+			watcher.start();
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while starting the server-side file watcher", e);
+			return;
+		}
+		serverFileWatcher = watcher;
+	}
+
+	/**
+	 * Returns true if the file events are received (from the LSP client or from
+	 * the server-side file watcher) and false otherwise.
+	 *
+	 * @return true if the file events are received (from the LSP client or from
+	 *         the server-side file watcher) and false otherwise.
+	 */
+	public boolean isWatchedFileEventsAvailable() {
+		return didChangeWatchedFilesSupported || serverFileWatcher != null;
+	}
+
+	/**
+	 * Returns true if the file events of the given file or directory are received
+	 * and false otherwise.
+	 *
+	 * <p>
+	 * The server-side file watcher reports the events of all files and
+	 * directories, whereas the LSP client reports only the events of the files
+	 * which match {@link QuteCapabilityManager#WATCHED_FILE_NAME_PATTERNS}.
+	 * </p>
+	 *
+	 * @param path the file or directory path.
+	 * @return true if the file events of the given file or directory are received
+	 *         and false otherwise.
+	 */
+	public boolean isWatchedFile(Path path) {
+		if (serverFileWatcher != null) {
+			return true;
+		}
+		if (!didChangeWatchedFilesSupported) {
+			return false;
+		}
+		Path fileName = path.getFileName();
+		if (fileName == null) {
+			return false;
+		}
+		for (PathMatcher matcher : WATCHED_FILE_NAME_MATCHERS) {
+			if (matcher.matches(fileName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void watchProject(QuteProject project) {
+		ServerFileWatcher watcher = serverFileWatcher;
+		if (watcher != null) {
+			watcher.watch(project.getWatchedDirectories());
+		}
+	}
+
+	private void unwatchProject(QuteProject project) {
+		ServerFileWatcher watcher = serverFileWatcher;
+		if (watcher != null) {
+			for (Path dir : project.getWatchedDirectories()) {
+				watcher.unwatch(dir);
+			}
+		}
+	}
+
 	/**
 	 * Returns the Qute project by the given uri <code>projectUri</code> and null
 	 * otherwise.
@@ -275,6 +390,11 @@ public class QuteProjectRegistry
 		return binaryTemplateProvider.getBinaryTemplates(params);
 	}
 
+	@Override
+	public CompletableFuture<List<BinaryTemplate>> getBinaryTemplateContents(QuteBinaryTemplateContentParams params) {
+		return binaryTemplateProvider.getBinaryTemplateContents(params);
+	}
+
 	@Override
 	public CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> getDataModelProject(
 			QuteDataModelProjectParams params) {
@@ -335,82 +455,218 @@ public class QuteProjectRegistry
 		return projects.values();
 	}
 
+	/**
+	 * Returns the template locations which resolve to the Java field / method of
+	 * the given parameters and an empty list otherwise.
+	 *
+	 * <p>
+	 * The templates of the given project and of the projects which depend on it
+	 * (directly or transitively) are searched.
+	 * </p>
+	 *
+	 * @param params the Java member parameters.
+	 * @return the template locations which resolve to the Java field / method of
+	 *         the given parameters and an empty list otherwise.
+	 */
+	public List<Location> findJavaMemberTemplateUsages(QuteJavaTemplateUsagesParams params) {
+		String sourceType = params.getSourceType();
+		boolean method = params.getSourceField() == null;
+		String memberName = method ? params.getSourceMethod() : params.getSourceField();
+		if (sourceType == null || memberName == null) {
+			return Collections.emptyList();
+		}
+		String projectUri = params.getProjectUri();
+		List<Location> locations = new ArrayList<>();
+		for (QuteProject project : new ArrayList<>(getProjects())) {
+			if (projectUri == null || isProjectOrDependentProject(project, projectUri)) {
+				locations.addAll(project.getJavaMemberUsagesRegistry().findUsages(sourceType, memberName, method));
+			}
+		}
+		return locations;
+	}
+
+	private static boolean isProjectOrDependentProject(QuteProject project, String projectUri) {
+		return isProjectOrDependentProject(project, projectUri, new HashSet<>());
+	}
+
+	private static boolean isProjectOrDependentProject(QuteProject project, String projectUri,
+			Set<QuteProject> visited) {
+		if (!visited.add(project)) {
+			return false;
+		}
+		if (projectUri.equals(project.getUri())) {
+			return true;
+		}
+		for (QuteProject dependency : project.getProjectDependencies()) {
+			if (isProjectOrDependentProject(dependency, projectUri, visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
-		Set<QuteProject> projectsToValidate = new HashSet<>();
-		List<FileEvent> changes = params.getChanges();
 		// For some reason, vscode fill changes with several FileEvent which are the
 		// same
 		// Filter it.
-		Map<Path, Set<FileChangeType>> fileEvents = toFileEventMap(changes);
+		Map<Path, Set<FileChangeType>> fileEvents = toFileEventMap(params.getChanges());
+		// The successive batches of a burst (ex : git checkout) are merged and
+		// processed once.
+		watchedFilesBatcher.addEvents(fileEvents);
+	}
+
+	/**
+	 * Set the delay used to merge the successive 'workspace/didChangeWatchedFiles'
+	 * notifications. A delay lower or equal to 0 processes the file events
+	 * immediately.
+	 *
+	 * @param delayMs the delay in milliseconds.
+	 */
+	public void setDidChangeWatchedFilesDelay(long delayMs) {
+		watchedFilesBatcher.setDebounceDelay(delayMs);
+	}
+
+	private void processWatchedFileEvents(Map<Path, Set<FileChangeType>> fileEvents) {
+		// Group the file events by project
+		Map<QuteProject, Map<Path, Set<FileChangeType>>> eventsByProject = new LinkedHashMap<>();
+		for (Map.Entry<Path, Set<FileChangeType>> pathEvent : fileEvents.entrySet()) {
+			QuteProject project = findProjectFor(pathEvent.getKey());
+			if (project != null) {
+				eventsByProject.computeIfAbsent(project, p -> new LinkedHashMap<>()) //
+						.put(pathEvent.getKey(), pathEvent.getValue());
+			}
+		}
+
+		Set<QuteProject> projectsToValidate = new HashSet<>();
+		for (Map.Entry<QuteProject, Map<Path, Set<FileChangeType>>> projectEvents : eventsByProject.entrySet()) {
+			processWatchedFileEvents(projectEvents.getKey(), projectEvents.getValue(), projectsToValidate);
+		}
+
+		if (projectsToValidate.isEmpty()) {
+			return;
+		}
+
+		// trigger validation for all opened and closed Qute template files which belong
+		// to the project list.
+		if (validator != null) {
+			validator.triggerValidationFor(projectsToValidate);
+		}
+	}
+
+	private void processWatchedFileEvents(QuteProject project, Map<Path, Set<FileChangeType>> fileEvents,
+			Set<QuteProject> projectsToValidate) {
+		List<Path> templatesToLoad = new ArrayList<>();
+		boolean userTagChanged = false;
 		for (Map.Entry<Path, Set<FileChangeType>> pathEvent : fileEvents.entrySet()) {
 			Path filePath = pathEvent.getKey();
 			Set<FileChangeType> changeTypes = pathEvent.getValue();
-			QuteProject project = findProjectFor(filePath);
-			if (project != null) {
-				if (project.isInTemplateFolders(filePath)) {
-					// Some qute templates are deleted, created, or changed
-					// Collect impacted Qute projects
-					Path templatePath = filePath;
-					QuteTextDocument updatedDocument = project.findSourceDocument(templatePath);
-					if (updatedDocument != null && updatedDocument.isOpened()) {
-						projectsToValidate.add(project);
-					} else {
-						// In case of closed document, we collect the project and update the cache
-						if (changeTypes.contains(FileChangeType.Changed)
-								|| changeTypes.contains(FileChangeType.Created)) {
-							// The template is created, update the cache and collect the project
-							updatedDocument = project.onDidCreateTemplate(templatePath);
-							if (updatedDocument != null) {
-								projectsToValidate.add(updatedDocument.getProject());
-							}
-						} else if (changeTypes.contains(FileChangeType.Deleted)) {
-							// The template is deleted, update the cache, collect the project and publish
-							// empty diagnostics for this file
-							updatedDocument = project.onDidDeleteTemplate(templatePath);
-							if (validator != null) {
-								// Clear diagnostics for the deleted file in this case.
-								validator.clearDiagnosticsFor(FileUtils.toUri(filePath));
-							}
-							projectsToValidate.add(project);
-						}
-					}
 
-					if (updatedDocument != null && updatedDocument.isUserTag()) {
-						// User tag has been created, deleted, modified, all templates from project
-						// dependencies must also
-						// be triggered.
-						for (QuteProject p : this.projects.values()) {
-							if (p != project && p.getProjectDependencies().contains(project)) {
-								projectsToValidate.add(p);
-							}
-						}
+			// Update the index of the project files
+			project.getFiles().didChangeWatchedFile(filePath, changeTypes);
+
+			if (project.isInTemplateFolders(filePath)) {
+				// Some qute templates are deleted, created, or changed
+				// Collect impacted Qute projects
+				Path templatePath = filePath;
+				QuteTextDocument updatedDocument = project.findSourceDocument(templatePath);
+				if (updatedDocument == null
+						&& (changeTypes.contains(FileChangeType.Deleted) || Files.isDirectory(filePath))) {
+					// A directory is deleted or scanned again (ex : the server file watcher has
+					// lost events), delete the closed templates of the directory which no longer
+					// exist.
+					if (deleteMissingTemplates(project, filePath, projectsToValidate)) {
+						userTagChanged = true;
 					}
+					continue;
 				}
-				ProjectExtensionContext context = new ProjectExtensionContext();
-				for (DidChangeWatchedFilesParticipant participant : project.getDidChangeWatchedFilesParticipants()) {
-					if (participant.isEnabled()) {
-						if (participant.didChangeWatchedFile(filePath, changeTypes, context)) {
-							projectsToValidate.add(project);
+				if (updatedDocument != null && updatedDocument.isOpened()) {
+					projectsToValidate.add(project);
+				} else {
+					// In case of closed document, we collect the project and update the cache
+					if (changeTypes.contains(FileChangeType.Changed)
+							|| changeTypes.contains(FileChangeType.Created)) {
+						// The template is created, it will be read with the other created / changed
+						// templates.
+						templatesToLoad.add(templatePath);
+					} else if (changeTypes.contains(FileChangeType.Deleted)) {
+						// The template is deleted, update the cache, collect the project and publish
+						// empty diagnostics for this file
+						updatedDocument = project.onDidDeleteTemplate(templatePath);
+						if (validator != null) {
+							// Clear diagnostics for the deleted file in this case.
+							validator.clearDiagnosticsFor(FileUtils.toUri(filePath));
 						}
+						projectsToValidate.add(project);
 					}
 				}
-				context.reparseTemplates();
+				if (updatedDocument != null && updatedDocument.isUserTag()) {
+					userTagChanged = true;
+				}
 			}
 		}
 
-		if (projectsToValidate.isEmpty()) {
-			return;
+		if (!templatesToLoad.isEmpty()) {
+			// Read and parse the created / changed templates in parallel, update the cache
+			// and collect the project
+			for (QuteTextDocument updatedDocument : project.onDidCreateTemplates(templatesToLoad)) {
+				projectsToValidate.add(updatedDocument.getProject());
+				if (updatedDocument.isUserTag()) {
+					userTagChanged = true;
+				}
+			}
 		}
 
-		// trigger validation for all opened and closed Qute template files which belong
-		// to the project list.
-		if (validator != null) {
-			validator.triggerValidationFor(projectsToValidate);
+		if (userTagChanged) {
+			// User tag has been created, deleted, modified, all templates from project
+			// dependencies must also
+			// be triggered.
+			for (QuteProject p : this.projects.values()) {
+				if (p != project && p.getProjectDependencies().contains(project)) {
+					projectsToValidate.add(p);
+				}
+			}
+		}
+
+		// Participants are called once with the file events of the project, and the
+		// templates are reparsed once.
+		ProjectExtensionContext context = new ProjectExtensionContext();
+		for (DidChangeWatchedFilesParticipant participant : project.getDidChangeWatchedFilesParticipants()) {
+			if (participant.isEnabled() && participant.didChangeWatchedFiles(fileEvents, context)) {
+				projectsToValidate.add(project);
+			}
+		}
+		context.reparseTemplates();
+	}
+
+	/**
+	 * Delete the closed templates of the given directory which no longer exist.
+	 *
+	 * @param project            the project.
+	 * @param dir                the directory.
+	 * @param projectsToValidate the projects to validate.
+	 *
+	 * @return true if a user tag has been deleted and false otherwise.
+	 */
+	private boolean deleteMissingTemplates(QuteProject project, Path dir, Set<QuteProject> projectsToValidate) {
+		boolean userTagChanged = false;
+		for (QuteTextDocument document : new ArrayList<>(project.getSourceDocuments())) {
+			Path templatePath = document.getTemplatePath();
+			if (!document.isOpened() && templatePath.startsWith(dir) && !Files.exists(templatePath)) {
+				project.onDidDeleteTemplate(templatePath);
+				if (validator != null) {
+					validator.clearDiagnosticsFor(FileUtils.toUri(templatePath));
+				}
+				projectsToValidate.add(project);
+				if (document.isUserTag()) {
+					userTagChanged = true;
+				}
+			}
 		}
+		return userTagChanged;
 	}
 
 	private Map<Path, Set<FileChangeType>> toFileEventMap(List<FileEvent> changes) {
-		Map<Path, Set<FileChangeType>> result = new HashMap<>();
+		Map<Path, Set<FileChangeType>> result = new LinkedHashMap<>();
 		for (FileEvent fileEvent : changes) {
 			String fileUri = fileEvent.getUri();
 			Path filePath = FileUtils.createPath(fileUri);
@@ -426,7 +682,65 @@ public class QuteProjectRegistry
 		return result;
 	}
 
+	/**
+	 * Returns the memory and cache statistics of the server and the Qute projects.
+	 *
+	 * @return the memory and cache statistics of the server and the Qute projects.
+	 */
+	public QuteServerStats getStats() {
+		QuteServerStats stats = new QuteServerStats();
+		Runtime runtime = Runtime.getRuntime();
+		stats.setUsedHeapBytes(runtime.totalMemory() - runtime.freeMemory());
+		stats.setMaxHeapBytes(runtime.maxMemory());
+		stats.setSharedBinaryTemplates(binaryTemplateStore.size());
+		stats.setSharedBinaryTemplateContentBytes(binaryTemplateStore.getContentBytes());
+		List<QuteProjectStats> projectStats = new ArrayList<>();
+		for (QuteProject project : new ArrayList<>(projects.values())) {
+			projectStats.add(project.getStats());
+		}
+		stats.setProjects(projectStats);
+		return stats;
+	}
+
+	/**
+	 * Returns the store of the binary template contents shared by the Qute
+	 * projects.
+	 *
+	 * @return the store of the binary template contents shared by the Qute
+	 *         projects.
+	 */
+	public BinaryTemplateStore getBinaryTemplateStore() {
+		return binaryTemplateStore;
+	}
+
+	/**
+	 * Set true if the binary templates must be collected without their content
+	 * (loaded on demand with the 'qute/template/binaryTemplateContents' request)
+	 * and false otherwise.
+	 *
+	 * @param binaryTemplateContentOnDemand true if the binary templates must be
+	 *                                      collected without their content and
+	 *                                      false otherwise.
+	 */
+	public void setBinaryTemplateContentOnDemand(boolean binaryTemplateContentOnDemand) {
+		this.binaryTemplateContentOnDemand = binaryTemplateContentOnDemand;
+	}
+
+	/**
+	 * Returns true if the binary templates must be collected without their
+	 * content and false otherwise.
+	 *
+	 * @return true if the binary templates must be collected without their
+	 *         content and false otherwise.
+	 */
+	public boolean isBinaryTemplateContentOnDemand() {
+		return binaryTemplateContentOnDemand;
+	}
+
 	public void dispose() {
+		if (serverFileWatcher != null) {
+			serverFileWatcher.dispose();
+		}
 		for (QuteProject project : projects.values()) {
 			project.dispose();
 		}
@@ -518,23 +832,24 @@ public class QuteProjectRegistry
 		AtomicInteger increment = new AtomicInteger();
 		int delta = projects.isEmpty() ? 100 : 100 / projects.size();
 
-		// 3. Start loading all projects — projectDependencies is already populated.
-		CompletableFuture<QuteProject>[] futures = new CompletableFuture[projects.size()];
-		int i = 0;
+		// 3. Load all projects — projectDependencies is already populated. The
+		// independent projects are loaded concurrently, and a project dependency is
+		// started before the projects which depend on it.
+		List<QuteProject> projectsToLoad = new ArrayList<>(projects.size());
 		for (ProjectInfo projectInfo : projects) {
 			QuteProject project = getProject(projectInfo.getUri());
-			CompletableFuture<QuteProject> future = project.load();
-			future.thenApply(p -> {
-				if (progressContext != null) {
-					progressContext.report("Qute project '" + project.getUri() + "' loaded.",
-							increment.addAndGet(delta));
-				}
-				return null;
-			});
-			futures[i++] = future;
+			if (project != null) {
+				projectsToLoad.add(project);
+			}
 		}
-
-		return CompletableFuture.allOf(futures).thenApply(_unused -> this.projects.values());
+		QuteProjectLoader loader = new QuteProjectLoader(project -> {
+			watchProject(project);
+			if (progressContext != null) {
+				progressContext.report("Qute project '" + project.getUri() + "' loaded.",
+						increment.addAndGet(delta));
+			}
+		});
+		return loader.load(projectsToLoad).thenApply(_unused -> this.projects.values());
 	}
 
 	public void projectAdded(ProjectInfo projectInfo) {
@@ -551,13 +866,15 @@ public class QuteProjectRegistry
 				}
 			}
 		}
-		project.load();
+		project.load() //
+				.thenAccept(this::watchProject);
 	}
 
 	public void projectRemoved(ProjectInfo projectInfo) {
 		String projectUri = projectInfo.getUri();
 		QuteProject project = getProject(projectUri);
 		if (project != null) {
+			unwatchProject(project);
 			project.dispose();
 			projects.remove(projectUri);
 		}
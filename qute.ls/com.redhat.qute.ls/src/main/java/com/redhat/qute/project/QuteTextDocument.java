@@ -56,6 +56,16 @@ public interface QuteTextDocument {
 	 */
 	Template getTemplate();
 
+	/**
+	 * Returns the parsed template in a future which is completed when the content
+	 * of the template is available.
+	 *
+	 * @return the parsed template in a future.
+	 */
+	default CompletableFuture<Template> getTemplateFuture() {
+		return CompletableFuture.completedFuture(getTemplate());
+	}
+
 	/**
 	 * Returns the owner project information of the template.
 	 *
@@ -0,0 +1,170 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.FileChangeType;
+
+import com.redhat.qute.ls.commons.QuteExecutors;
+
+/**
+ * Batcher of the 'workspace/didChangeWatchedFiles' events.
+ *
+ * <p>
+ * A 'git checkout' or a front-end build produces several big batches of file
+ * events in a row. The batcher merges the successive batches, dedupes the
+ * paths and processes them once the burst is finished (no new event during the
+ * debounce delay, or the max delay since the first pending event is reached).
+ * </p>
+ */
+class WatchedFilesEventBatcher {
+
+	private static final Logger LOGGER = Logger.getLogger(WatchedFilesEventBatcher.class.getName());
+
+	static final long DEFAULT_DEBOUNCE_DELAY_MS = 100;
+
+	private static final long MAX_DELAY_MS = 1000;
+
+	private final Consumer<Map<Path, Set<FileChangeType>>> processor;
+
+	private final Object processLock;
+
+	private long debounceDelayMs;
+
+	private Map<Path, Set<FileChangeType>> pendingEvents;
+
+	private long firstPendingEventTime;
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	public WatchedFilesEventBatcher(Consumer<Map<Path, Set<FileChangeType>>> processor) {
+		this.processor = processor;
+		this.processLock = new Object();
+		this.debounceDelayMs = DEFAULT_DEBOUNCE_DELAY_MS;
+		this.pendingEvents = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Set the debounce delay. A delay lower or equal to 0 processes the events
+	 * immediately.
+	 *
+	 * @param debounceDelayMs the debounce delay in milliseconds.
+	 */
+	public void setDebounceDelay(long debounceDelayMs) {
+		this.debounceDelayMs = debounceDelayMs;
+	}
+
+	/**
+	 * Add the given file events to the pending events.
+	 *
+	 * @param events the file events.
+	 */
+	public void addEvents(Map<Path, Set<FileChangeType>> events) {
+		if (debounceDelayMs <= 0) {
+			synchronized (this) {
+				merge(events);
+			}
+			flush();
+			return;
+		}
+		synchronized (this) {
+			long now = System.currentTimeMillis();
+			if (pendingEvents.isEmpty()) {
+				firstPendingEventTime = now;
+			}
+			merge(events);
+			if (scheduledFlush != null) {
+				if (now - firstPendingEventTime >= MAX_DELAY_MS) {
+					// The burst is too long, keep the current scheduled flush
+					return;
+				}
+				scheduledFlush.cancel(false);
+			}
+			scheduledFlush = QuteExecutors.getScheduler().schedule(
+					() -> QuteExecutors.getAsyncExecutor().execute(this::flush), debounceDelayMs,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void merge(Map<Path, Set<FileChangeType>> events) {
+		for (Map.Entry<Path, Set<FileChangeType>> event : events.entrySet()) {
+			Set<FileChangeType> changeTypes = pendingEvents.get(event.getKey());
+			if (changeTypes == null) {
+				changeTypes = EnumSet.noneOf(FileChangeType.class);
+				pendingEvents.put(event.getKey(), changeTypes);
+			}
+			changeTypes.addAll(event.getValue());
+		}
+	}
+
+	/**
+	 * Process the pending events.
+	 */
+	void flush() {
+		// Process one batch at a time, in the order of the events
+		synchronized (processLock) {
+			Map<Path, Set<FileChangeType>> events = null;
+			synchronized (this) {
+				if (pendingEvents.isEmpty()) {
+					return;
+				}
+				events = pendingEvents;
+				pendingEvents = new LinkedHashMap<>();
+				scheduledFlush = null;
+			}
+			for (Map.Entry<Path, Set<FileChangeType>> event : events.entrySet()) {
+				event.setValue(normalize(event.getKey(), event.getValue()));
+			}
+			try {
+				processor.accept(events);
+			} catch (Exception e) {
+				LOGGER.log(Level.SEVERE, "Error while processing watched file events", e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the change type of the given path when several events have been
+	 * merged for the same path (ex : created then deleted).
+	 *
+	 * @param path        the file path.
+	 * @param changeTypes the merged change types.
+	 *
+	 * @return the change type of the given path.
+	 */
+	private static Set<FileChangeType> normalize(Path path, Set<FileChangeType> changeTypes) {
+		if (changeTypes.size() <= 1 || !changeTypes.contains(FileChangeType.Deleted)) {
+			return changeTypes;
+		}
+		if (Files.exists(path)) {
+			// ex : deleted then created again
+			Set<FileChangeType> result = EnumSet.copyOf(changeTypes);
+			result.remove(FileChangeType.Deleted);
+			result.add(FileChangeType.Changed);
+			return result;
+		}
+		// ex : created then deleted
+		return Collections.singleton(FileChangeType.Deleted);
+	}
+}
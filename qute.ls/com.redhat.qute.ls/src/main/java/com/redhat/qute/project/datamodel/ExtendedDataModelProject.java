@@ -47,6 +47,7 @@ import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.TypeValueResolver;
 import com.redhat.qute.project.extensions.DataModelTemplateParticipant;
 import com.redhat.qute.project.extensions.ProjectExtension;
+import com.redhat.qute.project.files.ProjectFileIndex;
 import com.redhat.qute.utils.JSONUtility;
 import com.redhat.qute.utils.StringUtils;
 
@@ -288,6 +289,10 @@ public class ExtendedDataModelProject extends DataModelProject<ExtendedDataModel
 		return project.getSourcePaths();
 	}
 
+	public ProjectFileIndex getFiles() {
+		return project.getFiles();
+	}
+
 	public Path getConfigAsPath(PropertyConfig property) {
 		Path projectFolder = project.getProjectFolder();
 		if (projectFolder == null) {
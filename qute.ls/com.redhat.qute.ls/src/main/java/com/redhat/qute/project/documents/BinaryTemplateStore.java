@@ -0,0 +1,261 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.documents;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import com.redhat.qute.commons.binary.BinaryTemplate;
+
+/**
+ * Store of the binary template contents shared by all Qute projects.
+ *
+ * <p>
+ * In a multi-module workspace, each project which depends on the same JAR
+ * (Quarkus, Renarde, Roq, etc) receives the same binary templates. The store
+ * keeps one content per (JAR name, template path, checksum) which is
+ * referenced by the binary documents of each project. The content is removed
+ * from the store when the last project which references it releases it.
+ * </p>
+ *
+ * <p>
+ * When the binary templates are collected without their content, the checksum
+ * is given by the JDT side and the content is set once it is loaded on demand
+ * by one of the projects. The loading of the content of a JAR is shared by the
+ * projects (see {@link #loadContents(String, Supplier)}).
+ * </p>
+ */
+public class BinaryTemplateStore {
+
+	/**
+	 * Binary template content shared by the projects.
+	 */
+	public static class SharedBinaryTemplate {
+
+		private final String binaryName;
+
+		private final String path;
+
+		private final String checksum;
+
+		private final Character expressionCommand;
+
+		private volatile String content;
+
+		private BinaryTemplateUsages usages;
+
+		private int references;
+
+		private SharedBinaryTemplate(String binaryName, String path, String checksum, Character expressionCommand,
+				String content) {
+			this.binaryName = binaryName;
+			this.path = path;
+			this.checksum = checksum;
+			this.expressionCommand = expressionCommand;
+			this.content = content;
+		}
+
+		/**
+		 * Returns the JAR name of the binary template.
+		 *
+		 * @return the JAR name of the binary template.
+		 */
+		public String getBinaryName() {
+			return binaryName;
+		}
+
+		/**
+		 * Returns the template path relative to the <code>templates/</code> entry of
+		 * the JAR.
+		 *
+		 * @return the template path relative to the <code>templates/</code> entry of
+		 *         the JAR.
+		 */
+		public String getPath() {
+			return path;
+		}
+
+		/**
+		 * Returns the checksum of the template content.
+		 *
+		 * @return the checksum of the template content.
+		 */
+		public String getChecksum() {
+			return checksum;
+		}
+
+		/**
+		 * Returns the template content and null if the content is not loaded.
+		 *
+		 * @return the template content and null if the content is not loaded.
+		 */
+		public String getContent() {
+			return content;
+		}
+
+		/**
+		 * Set the template content loaded on demand.
+		 *
+		 * @param content the template content.
+		 */
+		public void setContent(String content) {
+			if (this.content == null) {
+				this.content = content;
+			}
+		}
+
+		/**
+		 * Returns the user tag and include usages of the template, collected once for
+		 * all the projects, and null if the content is not loaded.
+		 *
+		 * @return the user tag and include usages of the template and null if the
+		 *         content is not loaded.
+		 */
+		public synchronized BinaryTemplateUsages getUsages() {
+			if (usages == null) {
+				String content = this.content;
+				if (content == null) {
+					return null;
+				}
+				usages = BinaryTemplateUsages.collect(content, path, expressionCommand);
+			}
+			return usages;
+		}
+
+		private String getKey() {
+			return BinaryTemplateStore.getKey(binaryName, path, checksum);
+		}
+	}
+
+	private final Map<String, SharedBinaryTemplate> templates;
+
+	private final Map<String /* JAR name */, CompletableFuture<Void>> contentFutures;
+
+	public BinaryTemplateStore() {
+		this.templates = new HashMap<>();
+		this.contentFutures = new HashMap<>();
+	}
+
+	/**
+	 * Returns the shared binary template for the given binary template loaded from
+	 * the given JAR and increments its references.
+	 *
+	 * @param binaryName the JAR name.
+	 * @param template   the binary template loaded from the JAR.
+	 *
+	 * @return the shared binary template for the given binary template.
+	 */
+	public synchronized SharedBinaryTemplate acquire(String binaryName, BinaryTemplate template) {
+		String content = template.getContent();
+		String checksum = content != null ? getChecksum(content)
+				: template.getChecksum() != null ? template.getChecksum() : template.getUri();
+		String key = getKey(binaryName, template.getPath(), checksum);
+		SharedBinaryTemplate shared = templates.get(key);
+		if (shared == null) {
+			shared = new SharedBinaryTemplate(binaryName, template.getPath(), checksum,
+					template.isAltSyntaxExpr() ? '=' : null, content);
+			templates.put(key, shared);
+		}
+		shared.references++;
+		return shared;
+	}
+
+	/**
+	 * Decrements the references of the given shared binary template and removes
+	 * it from the store when it is no longer referenced.
+	 *
+	 * @param shared the shared binary template to release.
+	 */
+	public synchronized void release(SharedBinaryTemplate shared) {
+		String key = shared.getKey();
+		if (templates.get(key) == shared && --shared.references <= 0) {
+			templates.remove(key);
+		}
+	}
+
+	/**
+	 * Returns the future which loads the content of the binary templates of the
+	 * given JAR.
+	 *
+	 * <p>
+	 * While the content of a JAR is loading, the projects which depend on the JAR
+	 * wait for the same future instead of sending another request. The loaded
+	 * content is hosted by the shared binary templates, so the future is removed
+	 * from the store once it is completed.
+	 * </p>
+	 *
+	 * @param binaryName the JAR name.
+	 * @param loader     the loader of the content, called when the content of the
+	 *                   JAR is not loading.
+	 *
+	 * @return the future which loads the content of the binary templates of the
+	 *         given JAR.
+	 */
+	public CompletableFuture<Void> loadContents(String binaryName, Supplier<CompletableFuture<Void>> loader) {
+		synchronized (contentFutures) {
+			CompletableFuture<Void> future = contentFutures.get(binaryName);
+			if (future != null) {
+				return future;
+			}
+			CompletableFuture<Void> loading = loader.get();
+			if (!loading.isDone()) {
+				contentFutures.put(binaryName, loading);
+				loading.whenComplete((_unused, e) -> {
+					synchronized (contentFutures) {
+						contentFutures.remove(binaryName, loading);
+					}
+				});
+			}
+			return loading;
+		}
+	}
+
+	/**
+	 * Returns the number of binary templates of the store.
+	 *
+	 * @return the number of binary templates of the store.
+	 */
+	public synchronized int size() {
+		return templates.size();
+	}
+
+	/**
+	 * Returns the approximate bytes retained by the content of the binary
+	 * templates of the store.
+	 *
+	 * @return the approximate bytes retained by the content of the binary
+	 *         templates of the store.
+	 */
+	public synchronized long getContentBytes() {
+		long bytes = 0;
+		for (SharedBinaryTemplate template : templates.values()) {
+			String content = template.getContent();
+			bytes += content != null ? content.length() * 2L : 0;
+		}
+		return bytes;
+	}
+
+	private static String getKey(String binaryName, String path, String checksum) {
+		return Objects.toString(binaryName, "") + "!/" + path + "#" + checksum;
+	}
+
+	private static String getChecksum(String content) {
+		CRC32 crc = new CRC32();
+		crc.update(content.getBytes(StandardCharsets.UTF_8));
+		return Long.toHexString(crc.getValue());
+	}
+}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.documents;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.redhat.qute.parser.NodeBase;
+import com.redhat.qute.parser.template.ASTVisitor;
+import com.redhat.qute.parser.template.Node;
+import com.redhat.qute.parser.template.Parameter;
+import com.redhat.qute.parser.template.Section;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.parser.template.sections.CustomSection;
+import com.redhat.qute.parser.template.sections.IncludeSection;
+import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.project.documents.BinaryTemplateStore.SharedBinaryTemplate;
+import com.redhat.qute.project.usages.UsagesCollector;
+
+/**
+ * User tag and include usages of a binary template, shared by the projects
+ * which depend on the same JAR.
+ *
+ * <p>
+ * The usages are collected once per {@link SharedBinaryTemplate} and are stored
+ * as lightweight data: the user tag name or the included template id and the
+ * start offset of each call site. The AST used to collect them is not retained.
+ * </p>
+ *
+ * <p>
+ * Each project registers the usages of its binary document in its user tag and
+ * include usages registries (see {@link #registerUsages(QuteBinaryTextDocument)}).
+ * The parameters of the call sites are resolved with the template of the binary
+ * document, which is parsed only when a feature (type inference, hover,
+ * completion, find references, etc) requires them.
+ * </p>
+ */
+public class BinaryTemplateUsages {
+
+	private static final BinaryTemplateUsages NO_USAGES = new BinaryTemplateUsages(Collections.emptyMap(),
+			Collections.emptyMap());
+
+	private final Map<String /* user tag name */, int[]> userTagOffsets;
+
+	private final Map<String /* included template id */, int[]> includeOffsets;
+
+	private BinaryTemplateUsages(Map<String, int[]> userTagOffsets, Map<String, int[]> includeOffsets) {
+		this.userTagOffsets = userTagOffsets;
+		this.includeOffsets = includeOffsets;
+	}
+
+	/**
+	 * Collects the user tag and include usages of the given template content.
+	 *
+	 * @param content           the template content.
+	 * @param templateId        the template id.
+	 * @param expressionCommand the expression command of the template.
+	 *
+	 * @return the user tag and include usages of the given template content.
+	 */
+	static BinaryTemplateUsages collect(String content, String templateId, Character expressionCommand) {
+		if (!content.contains("{#")) {
+			// The template has no section
+			return NO_USAGES;
+		}
+		Template template = TemplateParser.parse(content, templateId, expressionCommand);
+		OffsetsCollector collector = new OffsetsCollector(templateId);
+		template.accept(collector);
+		if (collector.userTagOffsets.isEmpty() && collector.includeOffsets.isEmpty()) {
+			return NO_USAGES;
+		}
+		return new BinaryTemplateUsages(toArrays(collector.userTagOffsets), toArrays(collector.includeOffsets));
+	}
+
+	/**
+	 * Registers the usages in the user tag and include usages registries of the
+	 * project of the given binary document.
+	 *
+	 * @param document the binary document of a project.
+	 */
+	public void registerUsages(QuteBinaryTextDocument document) {
+		QuteProject project = document.getProject();
+		if (!userTagOffsets.isEmpty()) {
+			project.getTagRegistry().updateUsages(document, createParameters(userTagOffsets, document));
+		}
+		if (!includeOffsets.isEmpty()) {
+			project.getIncludeUsagesRegistry().updateUsages(document, createParameters(includeOffsets, document));
+		}
+	}
+
+	private static Map<String, List<? extends NodeBase<?>>> createParameters(Map<String, int[]> offsetsByKey,
+			QuteBinaryTextDocument document) {
+		Map<String, List<? extends NodeBase<?>>> parameters = new HashMap<>();
+		for (Map.Entry<String, int[]> entry : offsetsByKey.entrySet()) {
+			parameters.put(entry.getKey(), new CallSiteParameters(document, entry.getValue()));
+		}
+		return parameters;
+	}
+
+	private static Map<String, int[]> toArrays(Map<String, List<Integer>> offsetsByKey) {
+		Map<String, int[]> result = new HashMap<>();
+		for (Map.Entry<String, List<Integer>> entry : offsetsByKey.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+		}
+		return result;
+	}
+
+	/**
+	 * Collects the start offsets of the call sites with the same rules as
+	 * {@link UsagesCollector}.
+	 */
+	private static class OffsetsCollector extends ASTVisitor {
+
+		private final String templateId;
+
+		private final Map<String, List<Integer>> userTagOffsets = new HashMap<>();
+
+		private final Map<String, List<Integer>> includeOffsets = new HashMap<>();
+
+		public OffsetsCollector(String templateId) {
+			this.templateId = templateId;
+		}
+
+		@Override
+		public boolean visit(CustomSection node) {
+			if (!node.getParameters().isEmpty()) {
+				// user tag is called, e.g.:
+				// {#myTag name="foo" count=10 /}
+				userTagOffsets.computeIfAbsent(node.getTag(), k -> new ArrayList<>()).add(node.getStart());
+			}
+			return super.visit(node);
+		}
+
+		@Override
+		public boolean visit(IncludeSection section) {
+			List<Parameter> parameters = section.getParameters();
+			if (!parameters.isEmpty()) {
+				// {#include templateId title="foo" /}
+				String includedTemplateId = parameters.get(0).getValue();
+				if (!includedTemplateId.isEmpty()) {
+					if (includedTemplateId.startsWith("$")) {
+						includedTemplateId = templateId + includedTemplateId;
+					}
+					includeOffsets.computeIfAbsent(includedTemplateId, k -> new ArrayList<>())
+							.add(section.getStart());
+				}
+			}
+			return super.visit(section);
+		}
+	}
+
+	/**
+	 * Parameters of the call sites of a user tag or of an included template,
+	 * resolved with the template of the binary document when they are first
+	 * required.
+	 */
+	private static class CallSiteParameters extends AbstractList<NodeBase<?>> {
+
+		private final QuteBinaryTextDocument document;
+
+		private final int[] offsets;
+
+		private Template template;
+
+		private List<Parameter> parameters;
+
+		public CallSiteParameters(QuteBinaryTextDocument document, int[] offsets) {
+			this.document = document;
+			this.offsets = offsets;
+		}
+
+		@Override
+		public NodeBase<?> get(int index) {
+			return getParameters().get(index);
+		}
+
+		@Override
+		public int size() {
+			return getParameters().size();
+		}
+
+		private synchronized List<Parameter> getParameters() {
+			Template current = document.getTemplate();
+			if (parameters == null || template != current) {
+				// Parse the template of the project (or use the template parsed again) to
+				// resolve the parameters of the call sites.
+				List<Parameter> parameters = new ArrayList<>();
+				if (current != null) {
+					for (int offset : offsets) {
+						Section section = findSectionAt(current, offset);
+						if (section != null) {
+							parameters.addAll(section.getParameters());
+						}
+					}
+				}
+				this.template = current;
+				this.parameters = parameters;
+			}
+			return parameters;
+		}
+
+		private static Section findSectionAt(Template template, int offset) {
+			Node node = template.findNodeAt(offset + 1);
+			while (node != null) {
+				if (node instanceof Section && node.getStart() == offset) {
+					return (Section) node;
+				}
+				node = node.getParent();
+			}
+			return null;
+		}
+	}
+}
@@ -13,14 +13,32 @@ package com.redhat.qute.project.documents;
 
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.redhat.qute.commons.TemplateRootPath;
 import com.redhat.qute.commons.binary.BinaryTemplate;
+import com.redhat.qute.parser.template.Template;
 import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.project.documents.BinaryTemplateStore.SharedBinaryTemplate;
+import com.redhat.qute.project.usages.UsagesCollector;
 
 /**
  * Qute binary template document.
  * 
+ * <p>
+ * The content of the template is shared with the other projects which depend
+ * on the same JAR (see {@link BinaryTemplateStore}) and the template is parsed
+ * only when it is required (user tag, include, definition, etc). The user tag
+ * and include usages of the template are collected once for all the projects
+ * (see {@link BinaryTemplateUsages}) and registered by {@link #collectUsages()}
+ * without parsing the template. When the binary templates have been collected
+ * without their content, the content of the JAR is loaded when one of its
+ * templates is first required (see
+ * {@link QuteProject#loadBinaryTemplateContents}): {@link #getTemplate()} never
+ * waits for the content, {@link #getTemplateFuture()} must be used to wait for
+ * it.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  */
@@ -28,16 +46,21 @@ public class QuteBinaryTextDocument extends QuteReadOnlyTextDocument {
 
 	private final BinaryTemplate binaryTemplate;
 
+	private final SharedBinaryTemplate sharedTemplate;
+
 	private final String binaryName;
 
 	private final Map<String, String> properties;
 
 	private final Character expressionCommand;
 
-	public QuteBinaryTextDocument(BinaryTemplate binaryTemplate, String binaryName, Map<String, String> properties,
-			Character expressionCommand, QuteProject project) {
-		super(binaryTemplate.getUri(), binaryTemplate.getPath(), binaryTemplate.getContent(), project);
+	private volatile boolean contentLoaded;
+
+	public QuteBinaryTextDocument(BinaryTemplate binaryTemplate, SharedBinaryTemplate sharedTemplate,
+			String binaryName, Map<String, String> properties, Character expressionCommand, QuteProject project) {
+		super(binaryTemplate.getUri(), binaryTemplate.getPath(), project);
 		this.binaryTemplate = binaryTemplate;
+		this.sharedTemplate = sharedTemplate;
 		this.binaryName = binaryName;
 		this.properties = properties;
 		this.expressionCommand = expressionCommand;
@@ -71,9 +94,110 @@ public class QuteBinaryTextDocument extends QuteReadOnlyTextDocument {
 		return properties.get(name);
 	}
 
+	@Override
+	public Template getTemplate() {
+		Template template = super.template;
+		if (template == null) {
+			if (!contentLoaded) {
+				// Load the content of the JAR, or register the usages of the templates of the
+				// JAR if the content has been loaded by another project which depends on the
+				// same JAR. Don't block the caller (request, validation).
+				getProject().loadBinaryTemplateContents(binaryName);
+			}
+			template = loadTemplateSync();
+		}
+		return template;
+	}
+
+	private synchronized Template loadTemplateSync() {
+		if (super.template != null) {
+			return super.template;
+		}
+		String content = getContent();
+		if (content == null) {
+			// The content is not loaded yet, don't cache the empty template to parse the
+			// content the next time.
+			return loadTemplate(binaryTemplate.getUri(), binaryTemplate.getPath(), "");
+		}
+		Template template = loadTemplate(binaryTemplate.getUri(), binaryTemplate.getPath(), content);
+		super.template = template;
+		return template;
+	}
+
+	@Override
+	public CompletableFuture<Template> getTemplateFuture() {
+		if (super.template != null || contentLoaded) {
+			return CompletableFuture.completedFuture(getTemplate());
+		}
+		return getProject().loadBinaryTemplateContents(binaryName) //
+				.thenApply(_unused -> getTemplate());
+	}
+
+	/**
+	 * Registers the user tag and include usages of the template, shared with the
+	 * other projects, in the usages registries of the project if its content is
+	 * loaded.
+	 */
+	public void collectUsages() {
+		BinaryTemplateUsages usages = sharedTemplate.getUsages();
+		if (usages != null) {
+			usages.registerUsages(this);
+		}
+	}
+
+	@Override
+	protected UsagesCollector createUsagesCollector(QuteProject project) {
+		// The user tag and include usages are registered from the usages shared with
+		// the other projects (see collectUsages), only the usages of the language
+		// injections (ex : Roq front matter) are collected when the template is parsed.
+		return new UsagesCollector(this, null, null);
+	}
+
+	/**
+	 * Updates the document once the content of the template is loaded: the user
+	 * tag parameters computed with an empty template are evicted and the usages of
+	 * the template are collected.
+	 * 
+	 * @return true if the document has been updated and false if the content is
+	 *         not loaded yet or if the document has already been updated.
+	 */
+	public boolean onDidLoadContent() {
+		synchronized (this) {
+			if (contentLoaded || getContent() == null) {
+				return false;
+			}
+			contentLoaded = true;
+		}
+		if (isUserTag()) {
+			getUserTag().clear();
+		}
+		collectUsages();
+		return true;
+	}
+
 	@Override
 	public void reparseTemplate() {
-		super.template = loadTemplate(binaryTemplate.getUri(), binaryTemplate.getPath(), binaryTemplate.getContent());
+		// The template will be parsed with the new project state the next time it
+		// is required.
+		super.template = null;
+	}
+
+	/**
+	 * Returns the template content and null if the content is not loaded yet.
+	 * 
+	 * @return the template content and null if the content is not loaded yet.
+	 */
+	public String getContent() {
+		return sharedTemplate.getContent();
+	}
+
+	/**
+	 * Returns the binary template content shared with the other projects.
+	 * 
+	 * @return the binary template content shared with the other projects.
+	 */
+	public SharedBinaryTemplate getSharedTemplate() {
+		return sharedTemplate;
 	}
 
 	@Override
@@ -14,12 +14,15 @@ package com.redhat.qute.project.documents;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.redhat.qute.commons.TemplateRootPath;
+import com.redhat.qute.ls.commons.QuteExecutors;
 import com.redhat.qute.project.ProgressContext;
 import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.project.QuteTextDocument;
@@ -83,7 +86,10 @@ public class QuteClosedTextDocuments {
 		if (progressContext != null) {
 			progressContext.report("Parsing the " + totalFiles + " template files", 5);
 		}
-		// Step 2: loop for each template path to parse file as Qute template
+		// Step 2: parse the template files as Qute template in parallel
+		List<CompletableFuture<QuteTextDocument>> parsedDocuments = parseClosedTemplates(templatePaths, false);
+
+		// Step 3: register the parsed templates in the order of the template paths
 		for (int i = 0; i < totalFiles; i++) {
 			Path path = templatePaths.get(i);
 			if (progressContext != null) {
@@ -91,11 +97,53 @@ public class QuteClosedTextDocuments {
 				progressContext.report("Parsing " + path.getFileName() + " template (" + i + "/" + totalFiles + ")",
 						percent);
 			}
-			tryToAddClosedTemplate(path, false);
+			QuteTextDocument document = parsedDocuments.get(i).join();
+			if (document != null) {
+				registerClosedTemplate(document, false);
+			}
 		}
 		scanned = true;
 	}
 
+	private List<CompletableFuture<QuteTextDocument>> parseClosedTemplates(List<Path> templatePaths, boolean force) {
+		List<CompletableFuture<QuteTextDocument>> parsedDocuments = new ArrayList<>(templatePaths.size());
+		for (Path path : templatePaths) {
+			parsedDocuments.add(CompletableFuture.supplyAsync(() -> createClosedTemplate(path, force),
+					QuteExecutors.getAsyncExecutor()));
+		}
+		return parsedDocuments;
+	}
+
+	/**
+	 * Returns the parsed closed template of the given path and null if the
+	 * template is not valid or already loaded (when force is false).
+	 *
+	 * @param path  the template file path.
+	 * @param force true if the template must be parsed even if it is already
+	 *              loaded and false otherwise.
+	 *
+	 * @return the parsed closed template of the given path and null if the
+	 *         template is not valid or already loaded (when force is false).
+	 */
+	private QuteTextDocument createClosedTemplate(Path path, boolean force) {
+		if (!isValidTemplate(path) || (!force && project.findSourceDocument(path) != null)) {
+			return null;
+		}
+		return new QuteClosedTextDocument(path, project);
+	}
+
+	private boolean registerClosedTemplate(QuteTextDocument document, boolean force) {
+		Path path = document.getTemplatePath();
+		synchronized (sourceDocuments) {
+			if (!force && project.findSourceDocument(path) != null) {
+				// The template has been opened or loaded while it was parsed
+				return false;
+			}
+			project.registerSourceDocument(document);
+			return true;
+		}
+	}
+
 	private List<Path> collectTemplatePaths(List<Path> rootPaths) {
 		List<Path> templatePaths = new ArrayList<>();
 		for (Path rootPath : rootPaths) {
@@ -175,6 +223,30 @@ public class QuteClosedTextDocuments {
 		return tryToAddClosedTemplate(path, true);
 	}
 
+	/**
+	 * Callback called when several Qute text files are created or changed. The
+	 * files are read and parsed in parallel.
+	 * 
+	 * @param paths the template file paths.
+	 * 
+	 * @return the updated closed documents.
+	 */
+	public List<QuteTextDocument> onDidCreateTemplates(List<Path> paths) {
+		if (paths.size() == 1) {
+			QuteTextDocument document = onDidCreateTemplate(paths.get(0));
+			return document != null ? List.of(document) : Collections.emptyList();
+		}
+		List<CompletableFuture<QuteTextDocument>> parsedDocuments = parseClosedTemplates(paths, true);
+		List<QuteTextDocument> documents = new ArrayList<>(paths.size());
+		for (CompletableFuture<QuteTextDocument> parsedDocument : parsedDocuments) {
+			QuteTextDocument document = parsedDocument.join();
+			if (document != null && registerClosedTemplate(document, true)) {
+				documents.add(document);
+			}
+		}
+		return documents;
+	}
+
 	/**
 	 * Callback called when a Qute text document is closed (when the editor is
 	 * closed).
@@ -116,6 +116,8 @@ public class QuteOpenedTextDocument extends ModelTextDocument<Template> implemen
 				if (project != null) {
 					template.setProjectUri(project.getUri());
 					processCallVisitor(template, project);
+					// Re-index the workspace symbols of the new parsed template
+					project.getSymbolIndex().updateDocument(this, template);
 				}
 			}
 		}
@@ -56,7 +56,7 @@ public abstract class QuteReadOnlyTextDocument implements QuteTextDocument {
 
 	private final QuteProject project;
 
-	protected Template template;
+	protected volatile Template template;
 
 	private UserTag userTag;
 
@@ -67,10 +67,22 @@ public abstract class QuteReadOnlyTextDocument implements QuteTextDocument {
 	private String userTagName;
 
 	public QuteReadOnlyTextDocument(String uri, String templateId, String templateContent, QuteProject project) {
+		this(uri, templateId, project);
+		this.template = loadTemplate(uri, templateId, templateContent);
+	}
+
+	/**
+	 * Creates a read-only document which is not parsed at construction time. The
+	 * subclass must parse the template when {@link #getTemplate()} is called.
+	 *
+	 * @param uri        the document uri.
+	 * @param templateId the template id.
+	 * @param project    the Qute project.
+	 */
+	protected QuteReadOnlyTextDocument(String uri, String templateId, QuteProject project) {
 		this.uri = uri;
 		this.templateId = templateId;
 		this.project = project;
-		this.template = loadTemplate(uri, templateId, templateContent);
 	}
 
 	protected Template loadTemplate(String uri, String templateId, String templateContent) {
@@ -224,15 +236,24 @@ public abstract class QuteReadOnlyTextDocument implements QuteTextDocument {
 				project = template.getProject();
 			}
 			if (project != null && templateId != null) {
-				// Trackers created inline — single use only, not stored
-				UsageTracker userTagTracker = new UsageTracker(project.getTagRegistry());
-				UsageTracker includeTracker = new UsageTracker(project.getIncludeUsagesRegistry());
-				UsagesCollector collector = new UsagesCollector(this, userTagTracker, includeTracker);
-				template.accept(collector);
+				template.accept(createUsagesCollector(project));
 			}
 		}
 	}
 
+	/**
+	 * Creates the usage collector used once to visit the template at load time.
+	 *
+	 * @param project the owning project
+	 * @return the usage collector.
+	 */
+	protected UsagesCollector createUsagesCollector(QuteProject project) {
+		// Trackers created inline — single use only, not stored
+		UsageTracker userTagTracker = new UsageTracker(project.getTagRegistry());
+		UsageTracker includeTracker = new UsageTracker(project.getIncludeUsagesRegistry());
+		return new UsagesCollector(this, userTagTracker, includeTracker);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T getUserData(Key<T> key) {
@@ -12,6 +12,9 @@
 package com.redhat.qute.project.extensions;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.lsp4j.FileChangeType;
@@ -38,4 +41,42 @@ public interface DidChangeWatchedFilesParticipant extends BaseParticpant {
 	 */
 	boolean didChangeWatchedFile(Path filePath, Set<FileChangeType> changeTypes, ProjectExtensionContext context);
 
+	/**
+	 * Handles the file system change events of a batch.
+	 * 
+	 * <p>
+	 * Called once with all the watched files of the project which are created,
+	 * modified, or deleted. The default implementation calls
+	 * {@link #didChangeWatchedFile(Path, Set, ProjectExtensionContext)} for each
+	 * file. Override it to rebuild the resources of the participant once per
+	 * batch instead of once per file.
+	 * </p>
+	 * 
+	 * @param fileEvents the changed files with their file change events.
+	 * @param context    the project extension context.
+	 * @return true if this participant handled at least one file change, false
+	 *         otherwise
+	 */
+	default boolean didChangeWatchedFiles(Map<Path, Set<FileChangeType>> fileEvents,
+			ProjectExtensionContext context) {
+		boolean handled = false;
+		for (Map.Entry<Path, Set<FileChangeType>> pathEvent : fileEvents.entrySet()) {
+			if (didChangeWatchedFile(pathEvent.getKey(), pathEvent.getValue(), context)) {
+				handled = true;
+			}
+		}
+		return handled;
+	}
+
+	/**
+	 * Returns the directories, outside of the template roots and the source
+	 * folders, which must be watched by the server-side file watcher when the LSP
+	 * client doesn't support 'workspace/didChangeWatchedFiles'.
+	 * 
+	 * @return the directories to watch.
+	 */
+	default Collection<Path> getWatchedDirectories() {
+		return Collections.emptyList();
+	}
+
 }
\ No newline at end of file
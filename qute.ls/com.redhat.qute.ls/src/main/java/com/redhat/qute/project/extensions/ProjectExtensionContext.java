@@ -1,16 +1,17 @@
 package com.redhat.qute.project.extensions;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import com.redhat.qute.project.QuteTextDocument;
 
 public class ProjectExtensionContext {
 
-	private final List<QuteTextDocument> documentsToReparse;
+	// A document is reparsed once even if several file changes require it
+	private final Set<QuteTextDocument> documentsToReparse;
 
 	public ProjectExtensionContext() {
-		this.documentsToReparse = new ArrayList<>();
+		this.documentsToReparse = new LinkedHashSet<>();
 	}
 
 	public void reparseTemplate(QuteTextDocument document) {
@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -375,27 +376,41 @@ public class RoqProjectExtension extends AbstractProjectExtension
 	 * @param dataModelProject The project to register with
 	 */
 	private void registerRoqDataFile(Path file, ExtendedDataModelProject dataModelProject) {
+		ResolverCache resolver = createResolverCache(file);
+		if (resolver != null) {
+			// Cache both resolvers for this file
+			dataResolverCache.put(file, resolver);
+
+			// Register both resolvers with the data model
+			dataModelProject.getCustomValueResolvers().add(resolver.cdi);
+			dataModelProject.getCustomValueResolvers().add(resolver.inject);
+		}
+	}
+
+	/**
+	 * Creates the cdi and inject resolvers of the given data file.
+	 * 
+	 * @param file The data file
+	 * @return the resolvers of the data file and null if the file extension has
+	 *         no registered loader.
+	 */
+	private ResolverCache createResolverCache(Path file) {
 		// Get file extension (e.g., "yaml", "json")
 		String fileExtension = getFileExtension(file);
 
 		// Look up the appropriate loader
 		DataLoader dataLoader = dataLoaderRegistrty.get(fileExtension);
 
-		if (dataLoader != null) {
-			// Create resolver for cdi namespace
-			RoqDataFile cdiResolver = new RoqDataFile(file, "cdi", dataLoader);
-
-			// Create resolver for inject namespace (reuses fields from cdi)
-			RoqDataFile injectResolver = cdiResolver.create("inject");
-
-			// Cache both resolvers for this file
-			dataResolverCache.put(file, new ResolverCache(cdiResolver, injectResolver));
-
-			// Register both resolvers with the data model
-			dataModelProject.getCustomValueResolvers().add(cdiResolver);
-			dataModelProject.getCustomValueResolvers().add(injectResolver);
+		if (dataLoader == null) {
+			// Unsupported file type, silently ignore
+			return null;
 		}
-		// Else: Unsupported file type, silently ignore
+		// Create resolver for cdi namespace
+		RoqDataFile cdiResolver = new RoqDataFile(file, "cdi", dataLoader);
+
+		// Create resolver for inject namespace (reuses fields from cdi)
+		RoqDataFile injectResolver = cdiResolver.create("inject");
+		return new ResolverCache(cdiResolver, injectResolver);
 	}
 
 	/**
@@ -435,43 +450,78 @@ public class RoqProjectExtension extends AbstractProjectExtension
 	@Override
 	public boolean didChangeWatchedFile(Path filePath, Set<FileChangeType> changeTypes,
 			ProjectExtensionContext context) {
-		// Check if the file is in our data directory
-		if (dataDir != null && filePath.startsWith(dataDir)) {
-			var dataModelProject = getDataModelProject();
+		return didChangeWatchedFiles(Collections.singletonMap(filePath, changeTypes), context);
+	}
 
-			if (changeTypes.contains(FileChangeType.Changed)) {
-				// File modified - reload it
+	/**
+	 * Handles the file system change events of a batch for data files.
+	 * 
+	 * <p>
+	 * The resolvers of the changed data files are collected and the custom value
+	 * resolvers of the data model are updated once for the whole batch.
+	 * </p>
+	 * 
+	 * @param fileEvents The changed files with the types of changes
+	 * @return true if this extension handled at least one file, false otherwise
+	 */
+	@Override
+	public boolean didChangeWatchedFiles(Map<Path, Set<FileChangeType>> fileEvents,
+			ProjectExtensionContext context) {
+		if (dataDir == null) {
+			return false;
+		}
+		boolean handled = false;
+		Set<CustomValueResolver> removedResolvers = new HashSet<>();
+		List<CustomValueResolver> addedResolvers = new ArrayList<>();
+		for (Map.Entry<Path, Set<FileChangeType>> pathEvent : fileEvents.entrySet()) {
+			Path filePath = pathEvent.getKey();
+			Set<FileChangeType> changeTypes = pathEvent.getValue();
+			// Check if the file is in our data directory
+			if (!filePath.startsWith(dataDir)) {
+				// Not our file
+				continue;
+			}
+
+			if (changeTypes.contains(FileChangeType.Changed) || changeTypes.contains(FileChangeType.Created)) {
+				// File modified or created - (re)load it
 
 				// Remove old resolvers
 				ResolverCache resolver = dataResolverCache.remove(filePath);
 				if (resolver != null) {
-					dataModelProject.getCustomValueResolvers().remove(resolver.cdi);
-					dataModelProject.getCustomValueResolvers().remove(resolver.inject);
+					removedResolvers.add(resolver.cdi);
+					removedResolvers.add(resolver.inject);
 				}
 
 				// Register new resolvers with fresh data
-				registerRoqDataFile(filePath, dataModelProject);
-				return true;
-
-			} else if (changeTypes.contains(FileChangeType.Created)) {
-				// New file created - register it
-				registerRoqDataFile(filePath, dataModelProject);
-				return true;
+				resolver = createResolverCache(filePath);
+				if (resolver != null) {
+					dataResolverCache.put(filePath, resolver);
+					addedResolvers.add(resolver.cdi);
+					addedResolvers.add(resolver.inject);
+				}
+				handled = true;
 
 			} else if (changeTypes.contains(FileChangeType.Deleted)) {
 				// File deleted - remove resolvers
 				ResolverCache resolver = dataResolverCache.remove(filePath);
 				if (resolver != null) {
-					dataModelProject.getCustomValueResolvers().remove(resolver.cdi);
-					dataModelProject.getCustomValueResolvers().remove(resolver.inject);
-					return true;
+					removedResolvers.add(resolver.cdi);
+					removedResolvers.add(resolver.inject);
+					handled = true;
 				}
-				return false;
 			}
 		}
 
-		// Not our file
-		return false;
+		if (handled) {
+			// Update the resolvers of the data model once for the whole batch
+			var dataModelProject = getDataModelProject();
+			List<CustomValueResolver> customValueResolvers = dataModelProject.getCustomValueResolvers();
+			if (!removedResolvers.isEmpty()) {
+				customValueResolvers.removeAll(removedResolvers);
+			}
+			customValueResolvers.addAll(addedResolvers);
+		}
+		return handled;
 	}
 
 	/**
@@ -557,6 +607,27 @@ public class RoqProjectExtension extends AbstractProjectExtension
 		return dataDir;
 	}
 
+	/**
+	 * Returns the number of loaded Roq data files.
+	 * 
+	 * @return the number of loaded Roq data files.
+	 */
+	public int getDataFileCount() {
+		return dataResolverCache.size();
+	}
+
+	@Override
+	public Collection<Path> getWatchedDirectories() {
+		List<Path> dirs = new ArrayList<>(2);
+		if (contentDir != null) {
+			dirs.add(contentDir);
+		}
+		if (dataDir != null) {
+			dirs.add(dataDir);
+		}
+		return dirs;
+	}
+
 	public static RoqProjectExtension getRoqProjectExtension(Template template) {
 		return getRoqProjectExtension(template.getProject());
 	}
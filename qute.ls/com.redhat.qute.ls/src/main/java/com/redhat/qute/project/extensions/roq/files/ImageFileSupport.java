@@ -11,12 +11,12 @@
 *******************************************************************************/
 package com.redhat.qute.project.extensions.roq.files;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import com.redhat.qute.parser.template.sections.TemplatePath;
 import com.redhat.qute.project.datamodel.ExtendedDataModelProject;
 import com.redhat.qute.project.extensions.roq.RoqProjectExtension;
+import com.redhat.qute.project.files.ProjectFileIndex;
 
 /**
  * Image files support.
@@ -63,16 +63,17 @@ public class ImageFileSupport extends RoqFileSupport {
 		// 1. Check if image exists in the folder of the given file path
 		Path imagesFolder = filePath.getParent();
 		Path imagesPath = imagesFolder.resolve(imageFilePath);
-		if (Files.exists(imagesPath)) {
+		var dataModelProject = getDataModelProject();
+		ProjectFileIndex files = dataModelProject.getFiles();
+		if (files.exists(imagesPath)) {
 			return new TemplatePath(imagesPath, imageFilePath, true);
 		}
 
 		// 2. Check if image exists in the public.images folder
-		var dataModelProject = getDataModelProject();
 		Path projectFolder = dataModelProject.getProjectFolder();
 		imagesFolder = projectFolder.resolve(PUBLIC_IMAGES_FOLDER);
 		Path publicImagePath = imagesFolder.resolve(imageFilePath);
-		return new TemplatePath(publicImagePath, imageFilePath);
+		return new TemplatePath(publicImagePath, imageFilePath, files.exists(publicImagePath));
 	}
 
 	private static boolean isHttpImagePath(String imagePath) {
@@ -13,7 +13,6 @@ package com.redhat.qute.project.extensions.roq.files;
 
 import static com.redhat.qute.services.completions.QuteCompletionForTemplateIds.createTemplateIds;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +23,7 @@ import com.redhat.qute.parser.template.sections.TemplatePath;
 import com.redhat.qute.project.QuteTextDocument;
 import com.redhat.qute.project.datamodel.ExtendedDataModelProject;
 import com.redhat.qute.project.extensions.roq.RoqProjectExtension;
+import com.redhat.qute.project.files.ProjectFileIndex;
 import com.redhat.qute.utils.StringUtils;
 
 /**
@@ -182,6 +182,7 @@ public class LayoutFileSupport extends RoqFileSupport {
 
 	private TemplatePath getLayoutPathFromSource(String layoutFileName, ExtendedDataModelProject dataModelProject) {
 		Path projectFolder = dataModelProject.getProjectFolder();
+		ProjectFileIndex files = dataModelProject.getFiles();
 
 		// 1. Collect existing templates folder (templates,
 		// src/main/resources/templates)
@@ -190,14 +191,14 @@ public class LayoutFileSupport extends RoqFileSupport {
 		List<Path> existingTemplatesFolder = new ArrayList<>();
 		if (projectFolder != null) {
 			Path templatesFolder = projectFolder.resolve(TEMPLATES_FOLDER);
-			if (Files.exists(templatesFolder)) {
+			if (files.exists(templatesFolder)) {
 				existingTemplatesFolder.add(templatesFolder);
 			}
 		}
 		// 1.2 src/main/resources/templates
 		for (Path sourcePath : dataModelProject.getSourcePaths()) {
 			Path templatesFolder = sourcePath.resolve(TEMPLATES_FOLDER);
-			if (Files.exists(templatesFolder)) {
+			if (files.exists(templatesFolder)) {
 				existingTemplatesFolder.add(templatesFolder);
 			}
 		}
@@ -213,7 +214,7 @@ public class LayoutFileSupport extends RoqFileSupport {
 			}
 			return new TemplatePath(
 					baseDir.resolve(TEMPLATES_FOLDER).resolve(LAYOUTS_FOLDER).resolve(layoutFileName + HTML_EXTENSION),
-					layoutFileName);
+					layoutFileName, false);
 		}
 
 		// 2. Collect existing templates/layouts folder (templates,
@@ -223,7 +224,7 @@ public class LayoutFileSupport extends RoqFileSupport {
 		List<Path> existingLayoutFolder = new ArrayList<>();
 		for (Path templatesFolder : existingTemplatesFolder) {
 			Path layoutsFolder = templatesFolder.resolve(LAYOUTS_FOLDER);
-			if (Files.exists(layoutsFolder)) {
+			if (files.exists(layoutsFolder)) {
 				existingLayoutFolder.add(layoutsFolder);
 			}
 		}
@@ -232,17 +233,18 @@ public class LayoutFileSupport extends RoqFileSupport {
 		if (existingLayoutFolder.isEmpty()) {
 			return new TemplatePath(
 					existingTemplatesFolder.get(0).resolve(LAYOUTS_FOLDER).resolve(layoutFileName + HTML_EXTENSION),
-					layoutFileName);
+					layoutFileName, false);
 		}
 
 		for (Path layoutsFolder : existingLayoutFolder) {
 			Path layoutFile = layoutsFolder.resolve(layoutFileName + HTML_EXTENSION);
-			if (Files.exists(layoutFile)) {
+			if (files.exists(layoutFile)) {
 				return new TemplatePath(layoutFile, layoutFileName, true);
 			}
 		}
 
-		return new TemplatePath(existingLayoutFolder.get(0).resolve(layoutFileName + HTML_EXTENSION), layoutFileName);
+		return new TemplatePath(existingLayoutFolder.get(0).resolve(layoutFileName + HTML_EXTENSION), layoutFileName,
+				false);
 	}
 
 	private Set<String> getAvailableThemes() {
@@ -11,15 +11,13 @@
 *******************************************************************************/
 package com.redhat.qute.project.extensions.roq.files;
 
-import java.io.IOException;
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import com.redhat.qute.project.datamodel.ExtendedDataModelProject;
 import com.redhat.qute.project.extensions.roq.RoqProjectExtension;
+import com.redhat.qute.project.files.ProjectFileIndex;
 
 /**
  * Base class for layout, theme-layout, image files support.
@@ -60,19 +58,16 @@ public abstract class RoqFileSupport {
 
 	protected void collectFiles(Path parent, Path dir, RoqFileSupport.FileCollector collector,
 			Predicate<Path> filterFile) {
-		if (dir != null && Files.isDirectory(dir)) {
-			try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
-				for (Path file : stream) {
-					if (Files.isDirectory(file)) {
-						collectFiles(parent, file, collector, filterFile);
-					} else {
-						if (filterFile.test(file)) {
-							collector.collect(parent, file, null, false, null);
-						}
+		if (dir != null) {
+			ProjectFileIndex files = getDataModelProject().getFiles();
+			for (Path file : files.getChildren(dir)) {
+				if (files.isDirectory(file)) {
+					collectFiles(parent, file, collector, filterFile);
+				} else {
+					if (filterFile.test(file)) {
+						collector.collect(parent, file, null, false, null);
 					}
 				}
-			} catch (IOException e) {
-				// Silently ignore - data directory may not exist yet
 			}
 		}
 	}
@@ -396,7 +396,7 @@ public class YamlFrontMatterCompletion {
 				CompletionItem item = createCompletionFile(imagePath, range, snippetsSupported);
 
 				// Documentation
-				MarkupContent documentation = getImageDocumentation(new TemplatePath(image, templateId), hasMarkdown);
+				MarkupContent documentation = getImageDocumentation(new TemplatePath(image, templateId, true), hasMarkdown);
 				item.setDocumentation(documentation);
 
 				completionItems.add(item);
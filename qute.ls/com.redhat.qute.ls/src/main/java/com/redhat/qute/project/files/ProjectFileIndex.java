@@ -0,0 +1,346 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.files;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.lsp4j.FileChangeType;
+
+/**
+ * In-memory index of the files of a Qute project (templates, content, images,
+ * layouts, etc).
+ *
+ * <p>
+ * The content of a directory which belongs to the project is read from the
+ * disk the first time it is required and then kept in memory. The index is
+ * updated with the file events of 'workspace/didChangeWatchedFiles', so the
+ * existence checks and directory listings done by the document links,
+ * definitions and diagnostics don't access to the disk.
+ * </p>
+ *
+ * <p>
+ * When the LSP client doesn't support 'workspace/didChangeWatchedFiles', when
+ * the path doesn't belong to the project or when the file events of the path
+ * are not received (ex : a file suffix or a directory which is not watched by
+ * the LSP client), the disk is used.
+ * </p>
+ *
+ * <p>
+ * A cached directory listing is used only if the directory and its parent
+ * directories still exist, because the deletion of a directory can be reported
+ * without the events of its files.
+ * </p>
+ */
+public class ProjectFileIndex {
+
+	/**
+	 * The cached content of a directory.
+	 */
+	private static class DirectoryContent {
+
+		private static final DirectoryContent NOT_FOUND = new DirectoryContent(Collections.emptyMap());
+
+		private final Map<Path /* file name */, Boolean /* is directory */> children;
+
+		private DirectoryContent(Map<Path, Boolean> children) {
+			this.children = children;
+		}
+
+		public boolean exists() {
+			return this != NOT_FOUND;
+		}
+	}
+
+	private final Supplier<Collection<Path>> rootsProvider;
+
+	private final BooleanSupplier enabled;
+
+	private final Predicate<Path> watched;
+
+	private final Map<Path /* directory */, DirectoryContent> directories;
+
+	public ProjectFileIndex(Supplier<Collection<Path>> rootsProvider, BooleanSupplier enabled) {
+		this(rootsProvider, enabled, path -> true);
+	}
+
+	/**
+	 * Create an index of the project files.
+	 *
+	 * @param rootsProvider the provider of the indexed root directories.
+	 * @param enabled       returns true if the file events are received.
+	 * @param watched       returns true if the file events of the given file or
+	 *                      directory are received.
+	 */
+	public ProjectFileIndex(Supplier<Collection<Path>> rootsProvider, BooleanSupplier enabled,
+			Predicate<Path> watched) {
+		this.rootsProvider = rootsProvider;
+		this.enabled = enabled;
+		this.watched = watched;
+		this.directories = new HashMap<>();
+	}
+
+	/**
+	 * Returns true if the given file or directory exists and false otherwise.
+	 *
+	 * @param path the file or directory path.
+	 *
+	 * @return true if the given file or directory exists and false otherwise.
+	 */
+	public boolean exists(Path path) {
+		if (path == null) {
+			return false;
+		}
+		if (!isIndexed(path) || !watched.test(path)) {
+			return Files.exists(path);
+		}
+		synchronized (directories) {
+			Path parent = path.getParent();
+			if (parent == null || !isIndexed(parent)) {
+				// root directory
+				return existsDirectory(path);
+			}
+			return existsDirectory(parent) && getDirectoryContent(parent).children.containsKey(path.getFileName());
+		}
+	}
+
+	/**
+	 * Returns true if the given path is an existing directory and false otherwise.
+	 *
+	 * @param path the directory path.
+	 *
+	 * @return true if the given path is an existing directory and false otherwise.
+	 */
+	public boolean isDirectory(Path path) {
+		if (path == null) {
+			return false;
+		}
+		if (!isIndexed(path) || !watched.test(path)) {
+			return Files.isDirectory(path);
+		}
+		synchronized (directories) {
+			Path parent = path.getParent();
+			if (parent == null || !isIndexed(parent)) {
+				// root directory
+				return existsDirectory(path);
+			}
+			if (!existsDirectory(parent)) {
+				return false;
+			}
+			Boolean directory = getDirectoryContent(parent).children.get(path.getFileName());
+			return directory != null && directory;
+		}
+	}
+
+	/**
+	 * Returns the files and directories of the given directory and an empty list
+	 * if the directory doesn't exist.
+	 *
+	 * @param dir the directory path.
+	 *
+	 * @return the files and directories of the given directory and an empty list
+	 *         if the directory doesn't exist.
+	 */
+	public List<Path> getChildren(Path dir) {
+		if (dir == null) {
+			return Collections.emptyList();
+		}
+		if (!isIndexed(dir) || !watched.test(dir)) {
+			// Children could be created / deleted without file events
+			return toList(dir, readDirectoryContent(dir));
+		}
+		synchronized (directories) {
+			if (!existsDirectory(dir)) {
+				return Collections.emptyList();
+			}
+			return toList(dir, getDirectoryContent(dir));
+		}
+	}
+
+	/**
+	 * Update the index with the given file events.
+	 *
+	 * @param path        the created, changed or deleted file path.
+	 * @param changeTypes the file events.
+	 */
+	public void didChangeWatchedFile(Path path, Set<FileChangeType> changeTypes) {
+		if (!isIndexed(path)) {
+			return;
+		}
+		if (changeTypes.contains(FileChangeType.Deleted)) {
+			if (Files.exists(path)) {
+				// ex : file deleted and created again
+				onDidCreate(path);
+			} else {
+				onDidDelete(path);
+			}
+		} else {
+			// Created or changed (a changed event can be received for a file which was
+			// not known)
+			onDidCreate(path);
+		}
+	}
+
+	private void onDidCreate(Path path) {
+		boolean directory = Files.isDirectory(path);
+		synchronized (directories) {
+			Path child = path;
+			boolean childIsDirectory = directory;
+			Path parent = path.getParent();
+			while (parent != null && isIndexed(parent)) {
+				DirectoryContent content = directories.get(parent);
+				if (content != null) {
+					if (!content.exists()) {
+						// The parent directory has been created too
+						content = new DirectoryContent(new LinkedHashMap<>());
+						directories.put(parent, content);
+					}
+					content.children.put(child.getFileName(), childIsDirectory);
+				}
+				child = parent;
+				childIsDirectory = true;
+				parent = parent.getParent();
+			}
+			if (directory) {
+				// The content of the created directory and of its sub directories will be
+				// read if it is required.
+				evict(path);
+			}
+		}
+	}
+
+	private void onDidDelete(Path path) {
+		synchronized (directories) {
+			Path parent = path.getParent();
+			if (parent != null) {
+				DirectoryContent content = directories.get(parent);
+				if (content != null) {
+					content.children.remove(path.getFileName());
+				}
+			}
+			// Evict the deleted directory and its sub directories
+			evict(path);
+		}
+	}
+
+	/**
+	 * Returns true if the given indexed directory and its parent directories still
+	 * exist and false otherwise.
+	 *
+	 * <p>
+	 * The index is used for the directories whose events are received, the disk
+	 * is used for the other directories (ex : the LSP client doesn't report the
+	 * deletion of a directory when it watches only some file name patterns).
+	 * </p>
+	 *
+	 * @param dir the directory path.
+	 * @return true if the given indexed directory and its parent directories still
+	 *         exist and false otherwise.
+	 */
+	private boolean existsDirectory(Path dir) {
+		Path current = dir;
+		while (true) {
+			if (!watched.test(current)) {
+				if (Files.isDirectory(current)) {
+					// The parent directories exist too
+					return true;
+				}
+				// The directory has been deleted without file events
+				onDidDelete(current);
+				return false;
+			}
+			Path parent = current.getParent();
+			if (parent == null || !isIndexed(parent)) {
+				// root directory
+				return getDirectoryContent(current).exists();
+			}
+			DirectoryContent parentContent = directories.get(parent);
+			if (parentContent != null) {
+				Boolean directory = parentContent.children.get(current.getFileName());
+				if (directory == null || !directory) {
+					return false;
+				}
+			}
+			current = parent;
+		}
+	}
+
+	private void evict(Path dir) {
+		Iterator<Path> dirs = directories.keySet().iterator();
+		while (dirs.hasNext()) {
+			if (dirs.next().startsWith(dir)) {
+				dirs.remove();
+			}
+		}
+	}
+
+	private DirectoryContent getDirectoryContent(Path dir) {
+		DirectoryContent content = directories.get(dir);
+		if (content == null) {
+			content = readDirectoryContent(dir);
+			directories.put(dir, content);
+		}
+		return content;
+	}
+
+	private static DirectoryContent readDirectoryContent(Path dir) {
+		if (!Files.isDirectory(dir)) {
+			return DirectoryContent.NOT_FOUND;
+		}
+		Map<Path, Boolean> children = new LinkedHashMap<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+			for (Path file : stream) {
+				children.put(file.getFileName(), Files.isDirectory(file));
+			}
+		} catch (IOException e) {
+			// Silently ignore - directory may have been deleted
+		}
+		return new DirectoryContent(children);
+	}
+
+	private static List<Path> toList(Path dir, DirectoryContent content) {
+		if (content.children.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<Path> files = new ArrayList<>(content.children.size());
+		for (Path name : content.children.keySet()) {
+			files.add(dir.resolve(name));
+		}
+		return files;
+	}
+
+	private boolean isIndexed(Path path) {
+		if (!enabled.getAsBoolean()) {
+			return false;
+		}
+		for (Path root : rootsProvider.get()) {
+			if (path.startsWith(root)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,306 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.files;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.FileChangeType;
+
+/**
+ * Server-side file watcher built on {@link WatchService}.
+ *
+ * <p>
+ * This watcher is used when the LSP client doesn't support the
+ * 'workspace/didChangeWatchedFiles' notification: the directories (template
+ * roots, source folders, Roq content/data directories, etc) are watched
+ * recursively and the file events are given to the consumer as if they were
+ * sent by the client. All the events which are available when the watcher
+ * thread wakes up are grouped in one batch.
+ * </p>
+ */
+public class ServerFileWatcher {
+
+	private static final Logger LOGGER = Logger.getLogger(ServerFileWatcher.class.getName());
+
+	private final Consumer<Map<Path, Set<FileChangeType>>> eventsConsumer;
+
+	private final Map<WatchKey, Path> keys;
+
+	private final Map<Path, WatchKey> directories;
+
+	private WatchService watchService;
+
+	private Thread watcherThread;
+
+	public ServerFileWatcher(Consumer<Map<Path, Set<FileChangeType>>> eventsConsumer) {
+		this.eventsConsumer = eventsConsumer;
+		this.keys = new HashMap<>();
+		this.directories = new HashMap<>();
+	}
+
+	/**
+	 * Start the watcher thread.
+	 *
+	 * @throws IOException if the watch service cannot be created.
+	 */
+	public synchronized void start() throws IOException {
+		if (watchService != null) {
+			return;
+		}
+		watchService = FileSystems.getDefault().newWatchService();
+		watcherThread = new Thread(this::processEvents, "Qute file watcher");
+		watcherThread.setDaemon(true);
+		watcherThread.start();
+	}
+
+	/**
+	 * Watch recursively the given directories.
+	 *
+	 * @param roots the directories to watch.
+	 */
+	public void watch(Collection<Path> roots) {
+		for (Path root : roots) {
+			if (root != null && Files.isDirectory(root)) {
+				registerAll(root, null, null);
+			}
+		}
+	}
+
+	/**
+	 * Stop watching the given directory and its sub directories.
+	 *
+	 * @param root the directory.
+	 */
+	public synchronized void unwatch(Path root) {
+		Iterator<Map.Entry<Path, WatchKey>> it = directories.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Path, WatchKey> entry = it.next();
+			if (entry.getKey().startsWith(root)) {
+				WatchKey key = entry.getValue();
+				key.cancel();
+				keys.remove(key);
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the given directory is watched and false otherwise.
+	 *
+	 * @param dir the directory.
+	 *
+	 * @return true if the given directory is watched and false otherwise.
+	 */
+	synchronized boolean isWatched(Path dir) {
+		return directories.containsKey(dir);
+	}
+
+	/**
+	 * Stop the watcher.
+	 */
+	public synchronized void dispose() {
+		if (watchService == null) {
+			return;
+		}
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while closing the file watcher", e);
+		}
+		watchService = null;
+		watcherThread = null;
+		keys.clear();
+		directories.clear();
+	}
+
+	/**
+	 * Register the given directory and its sub directories.
+	 *
+	 * @param root           the directory to register.
+	 * @param events         the map to fill with the files of the directory (when
+	 *                       the directory is created after the watch, the files
+	 *                       created before the registration have no event) and
+	 *                       null otherwise.
+	 * @param fileChangeType the change type of the file events.
+	 */
+	private void registerAll(Path root, Map<Path, Set<FileChangeType>> events, FileChangeType fileChangeType) {
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+					return register(dir) ? FileVisitResult.CONTINUE : FileVisitResult.SKIP_SUBTREE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					if (events != null) {
+						addEvent(file, fileChangeType, events);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while watching '" + root + "'", e);
+		}
+	}
+
+	private synchronized boolean register(Path dir) throws IOException {
+		if (watchService == null) {
+			return false;
+		}
+		if (directories.containsKey(dir)) {
+			return true;
+		}
+		WatchKey key = dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+		keys.put(key, dir);
+		directories.put(dir, key);
+		return true;
+	}
+
+	private void processEvents() {
+		WatchService service = watchService;
+		while (true) {
+			WatchKey key = null;
+			try {
+				key = service.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			Map<Path, Set<FileChangeType>> events = new LinkedHashMap<>();
+			try {
+				// Group all available events in one batch
+				while (key != null) {
+					collectEvents(key, events);
+					key = service.poll();
+				}
+			} catch (ClosedWatchServiceException e) {
+				return;
+			}
+			if (!events.isEmpty()) {
+				try {
+					eventsConsumer.accept(events);
+				} catch (Exception e) {
+					LOGGER.log(Level.SEVERE, "Error while processing file watcher events", e);
+				}
+			}
+		}
+	}
+
+	private void collectEvents(WatchKey key, Map<Path, Set<FileChangeType>> events) {
+		Path dir = null;
+		synchronized (this) {
+			dir = keys.get(key);
+		}
+		if (dir == null) {
+			key.cancel();
+			return;
+		}
+		for (WatchEvent<?> event : key.pollEvents()) {
+			WatchEvent.Kind<?> kind = event.kind();
+			if (kind == OVERFLOW) {
+				LOGGER.warning("File watcher events lost for '" + dir + "', the directory is scanned again");
+				rescan(dir, events);
+				continue;
+			}
+			Path path = dir.resolve((Path) event.context());
+			if (kind == ENTRY_CREATE) {
+				if (Files.isDirectory(path)) {
+					registerAll(path, events, FileChangeType.Created);
+				} else {
+					addEvent(path, FileChangeType.Created, events);
+				}
+			} else if (kind == ENTRY_DELETE) {
+				unwatch(path);
+				addEvent(path, FileChangeType.Deleted, events);
+			} else if (kind == ENTRY_MODIFY) {
+				if (!Files.isDirectory(path)) {
+					addEvent(path, FileChangeType.Changed, events);
+				}
+			}
+		}
+		if (!key.reset()) {
+			// The directory is no longer accessible
+			unwatch(dir);
+		}
+	}
+
+	/**
+	 * Scan again the given directory when its file events have been lost: the
+	 * sub directories which no longer exist are deleted, the new sub directories
+	 * are watched, and a changed event is added for the directory (the project
+	 * file index evicts its content) and for each file of the directory (the
+	 * closed templates are read again).
+	 *
+	 * @param dir    the directory to scan.
+	 * @param events the map to fill with the file events.
+	 */
+	void rescan(Path dir, Map<Path, Set<FileChangeType>> events) {
+		List<Path> deletedDirectories = new ArrayList<>();
+		synchronized (this) {
+			for (Path watchedDir : directories.keySet()) {
+				if (watchedDir.startsWith(dir) && !Files.isDirectory(watchedDir)) {
+					deletedDirectories.add(watchedDir);
+				}
+			}
+		}
+		for (Path deletedDirectory : deletedDirectories) {
+			unwatch(deletedDirectory);
+			addEvent(deletedDirectory, FileChangeType.Deleted, events);
+		}
+		if (Files.isDirectory(dir)) {
+			addEvent(dir, FileChangeType.Changed, events);
+			registerAll(dir, events, FileChangeType.Changed);
+		}
+	}
+
+	private static void addEvent(Path path, FileChangeType changeType, Map<Path, Set<FileChangeType>> events) {
+		Set<FileChangeType> changeTypes = events.get(path);
+		if (changeTypes == null) {
+			changeTypes = EnumSet.noneOf(FileChangeType.class);
+			events.put(path, changeTypes);
+		}
+		changeTypes.add(changeType);
+	}
+}
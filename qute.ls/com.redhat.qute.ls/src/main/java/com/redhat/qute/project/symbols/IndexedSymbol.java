@@ -0,0 +1,99 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.symbols;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.utils.QutePositionUtility;
+
+/**
+ * Symbol stored in the {@link WorkspaceSymbolIndex}.
+ *
+ * <p>
+ * The symbol stores offsets and the LSP range is computed only when the symbol
+ * matches a workspace symbol query.
+ * </p>
+ *
+ */
+public class IndexedSymbol {
+
+	private final String name;
+
+	private final String lowerCaseName;
+
+	private final SymbolKind kind;
+
+	private final int start;
+
+	private final int end;
+
+	private final Template template;
+
+	private final String containerName;
+
+	public IndexedSymbol(String name, SymbolKind kind, int start, int end, Template template, String containerName) {
+		this.name = name;
+		this.lowerCaseName = name.toLowerCase();
+		this.kind = kind;
+		this.start = start;
+		this.end = end;
+		this.template = template;
+		this.containerName = containerName;
+	}
+
+	/**
+	 * Returns the symbol name.
+	 *
+	 * @return the symbol name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	String getLowerCaseName() {
+		return lowerCaseName;
+	}
+
+	/**
+	 * Returns the symbol kind.
+	 *
+	 * @return the symbol kind.
+	 */
+	public SymbolKind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Returns the template id of the template which declares the symbol.
+	 *
+	 * @return the template id of the template which declares the symbol.
+	 */
+	public String getContainerName() {
+		return containerName;
+	}
+
+	/**
+	 * Returns the LSP workspace symbol.
+	 *
+	 * @return the LSP workspace symbol.
+	 */
+	public WorkspaceSymbol toWorkspaceSymbol() {
+		Range range = QutePositionUtility.createRange(start, end, template);
+		return new WorkspaceSymbol(name, kind, Either.forLeft(new Location(template.getUri(), range)),
+				containerName);
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.symbols;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.SymbolKind;
+
+import com.redhat.qute.parser.template.ASTVisitor;
+import com.redhat.qute.parser.template.Parameter;
+import com.redhat.qute.parser.template.ParameterDeclaration;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.sections.AssignSection;
+import com.redhat.qute.parser.template.sections.FragmentSection;
+import com.redhat.qute.parser.template.sections.LetSection;
+import com.redhat.qute.parser.template.sections.SetSection;
+import com.redhat.qute.utils.StringUtils;
+
+/**
+ * Collect the symbols of a template which are indexed by
+ * {@link WorkspaceSymbolIndex}:
+ *
+ * <ul>
+ * <li>fragment ids '{#fragment id=foo}'</li>
+ * <li>#let, #set aliases '{#let name=value}'</li>
+ * <li>parameter declarations '{@org.acme.Item item}'</li>
+ * </ul>
+ *
+ */
+class WorkspaceSymbolCollector extends ASTVisitor {
+
+	private final Template template;
+
+	private final String containerName;
+
+	private final List<IndexedSymbol> symbols;
+
+	public WorkspaceSymbolCollector(Template template, String containerName) {
+		this.template = template;
+		this.containerName = containerName;
+		this.symbols = new ArrayList<>();
+	}
+
+	@Override
+	public boolean visit(FragmentSection node) {
+		Parameter id = node.getIdParameter();
+		if (id != null) {
+			String fragmentId = node.getId();
+			if (!StringUtils.isEmpty(fragmentId)) {
+				addSymbol(fragmentId, SymbolKind.Module, id.getStart(), id.getEnd());
+			}
+		}
+		return super.visit(node);
+	}
+
+	@Override
+	public boolean visit(LetSection node) {
+		collectAliases(node);
+		return super.visit(node);
+	}
+
+	@Override
+	public boolean visit(SetSection node) {
+		collectAliases(node);
+		return super.visit(node);
+	}
+
+	private void collectAliases(AssignSection section) {
+		for (Parameter parameter : section.getParameters()) {
+			String name = parameter.getName();
+			if (!StringUtils.isEmpty(name)) {
+				addSymbol(name, SymbolKind.Variable, parameter.getStartName(), parameter.getEndName());
+			}
+		}
+	}
+
+	@Override
+	public boolean visit(ParameterDeclaration node) {
+		String alias = node.getAlias();
+		if (!StringUtils.isEmpty(alias)) {
+			addSymbol(alias, SymbolKind.Field, node.getAliasStart(), node.getAliasEnd());
+		}
+		return super.visit(node);
+	}
+
+	void addSymbol(String name, SymbolKind kind, int start, int end) {
+		symbols.add(new IndexedSymbol(name, kind, start, end, template, containerName));
+	}
+
+	public List<IndexedSymbol> getSymbols() {
+		return symbols;
+	}
+}
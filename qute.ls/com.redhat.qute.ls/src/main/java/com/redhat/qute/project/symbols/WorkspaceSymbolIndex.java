@@ -0,0 +1,275 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.symbols;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.project.QuteTextDocument;
+import com.redhat.qute.utils.StringUtils;
+
+/**
+ * Inverted index of the symbols (fragment ids, user tag names, #let/#set
+ * aliases, parameter declarations) declared in the source templates of a
+ * project, used by 'workspace/symbol'.
+ *
+ * <p>
+ * Symbols are stored in a sorted map keyed by their lower case name:
+ * </p>
+ * <ul>
+ * <li>a prefix query is a sub map lookup.</li>
+ * <li>a camel case query (ex : 'uTN' for 'userTagName') is matched against the
+ * symbols which start with the first character of the query.</li>
+ * </ul>
+ *
+ * <p>
+ * Templates are indexed when they are registered and opened templates are
+ * re-indexed each time they are parsed again, so that a query only reads the
+ * index.
+ * </p>
+ *
+ */
+public class WorkspaceSymbolIndex {
+
+	private static class IndexedDocument {
+
+		private final QuteTextDocument document;
+
+		private List<IndexedSymbol> symbols;
+
+		public IndexedDocument(QuteTextDocument document) {
+			this.document = document;
+			this.symbols = Collections.emptyList();
+		}
+	}
+
+	private final Map<Path, IndexedDocument> documents;
+
+	private final NavigableMap<String /* lower case name */, List<IndexedSymbol>> symbolsByName;
+
+	public WorkspaceSymbolIndex() {
+		this.documents = new HashMap<>();
+		this.symbolsByName = new TreeMap<>();
+	}
+
+	/**
+	 * Index the symbols of the given template document.
+	 *
+	 * @param document the template document.
+	 */
+	public void addDocument(QuteTextDocument document) {
+		Path templatePath = document.getTemplatePath();
+		if (templatePath == null) {
+			return;
+		}
+		// Get the template outside the lock: an opened template could be parsed here.
+		Template template = document.getTemplate();
+		synchronized (this) {
+			removeDocument(templatePath);
+			IndexedDocument indexedDocument = new IndexedDocument(document);
+			documents.put(templatePath, indexedDocument);
+			indexSymbols(indexedDocument, template);
+		}
+	}
+
+	/**
+	 * Re-index the symbols of the given template document which has been parsed
+	 * again.
+	 *
+	 * @param document the template document.
+	 * @param template the new parsed template.
+	 */
+	public synchronized void updateDocument(QuteTextDocument document, Template template) {
+		Path templatePath = document.getTemplatePath();
+		if (templatePath == null) {
+			return;
+		}
+		IndexedDocument indexedDocument = documents.get(templatePath);
+		if (indexedDocument == null || indexedDocument.document != document) {
+			// The document is not registered yet, it will be indexed by addDocument.
+			return;
+		}
+		removeSymbols(indexedDocument);
+		indexSymbols(indexedDocument, template);
+	}
+
+	/**
+	 * Remove the symbols of the given template document.
+	 *
+	 * @param templatePath the template file path.
+	 */
+	public synchronized void removeDocument(Path templatePath) {
+		IndexedDocument indexedDocument = documents.remove(templatePath);
+		if (indexedDocument != null) {
+			removeSymbols(indexedDocument);
+		}
+	}
+
+	/**
+	 * Returns the number of indexed symbols.
+	 *
+	 * @return the number of indexed symbols.
+	 */
+	public synchronized int getSymbolCount() {
+		int count = 0;
+		for (List<IndexedSymbol> symbols : symbolsByName.values()) {
+			count += symbols.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the symbols which match the given query (prefix or camel case) and
+	 * an empty list otherwise.
+	 *
+	 * @param query         the query (empty to get all symbols).
+	 * @param maxResults    the max results.
+	 * @param cancelChecker the cancel checker.
+	 * @return the symbols which match the given query (prefix or camel case) and
+	 *         an empty list otherwise.
+	 */
+	public synchronized List<IndexedSymbol> findSymbols(String query, int maxResults, CancelChecker cancelChecker) {
+		cancelChecker.checkCanceled();
+
+		List<IndexedSymbol> result = new ArrayList<>();
+		if (StringUtils.isEmpty(query)) {
+			collect(symbolsByName, null, maxResults, result);
+			return result;
+		}
+		String lowerCaseQuery = query.toLowerCase();
+		// 1. Prefix matches
+		NavigableMap<String, List<IndexedSymbol>> prefixMatches = symbolsByName.subMap(lowerCaseQuery, true,
+				lowerCaseQuery + Character.MAX_VALUE, false);
+		collect(prefixMatches, null, maxResults, result);
+		// 2. Camel case matches among the symbols which start with the first
+		// character of the query
+		if (result.size() < maxResults && lowerCaseQuery.length() > 1) {
+			String firstChar = lowerCaseQuery.substring(0, 1);
+			NavigableMap<String, List<IndexedSymbol>> candidates = symbolsByName.subMap(firstChar, true,
+					firstChar + Character.MAX_VALUE, false);
+			collect(candidates, query, maxResults, result);
+		}
+		return result;
+	}
+
+	private static void collect(NavigableMap<String, List<IndexedSymbol>> symbols, String camelCaseQuery,
+			int maxResults, List<IndexedSymbol> result) {
+		String lowerCasePrefix = camelCaseQuery != null ? camelCaseQuery.toLowerCase() : null;
+		for (Map.Entry<String, List<IndexedSymbol>> entry : symbols.entrySet()) {
+			if (lowerCasePrefix != null && entry.getKey().startsWith(lowerCasePrefix)) {
+				// Already collected as prefix match
+				continue;
+			}
+			for (IndexedSymbol symbol : entry.getValue()) {
+				if (result.size() >= maxResults) {
+					return;
+				}
+				if (camelCaseQuery == null || isCamelCaseMatch(camelCaseQuery, symbol.getName())) {
+					result.add(symbol);
+				}
+			}
+		}
+	}
+
+	private void indexSymbols(IndexedDocument indexedDocument, Template template) {
+		if (template == null) {
+			return;
+		}
+		QuteTextDocument document = indexedDocument.document;
+		WorkspaceSymbolCollector collector = new WorkspaceSymbolCollector(template, document.getTemplateId());
+		if (document.isUserTag()) {
+			String tagName = document.getUserTagName();
+			if (!StringUtils.isEmpty(tagName)) {
+				collector.addSymbol(tagName, SymbolKind.Function, 0, 0);
+			}
+		}
+		template.accept(collector);
+		indexedDocument.symbols = collector.getSymbols();
+		for (IndexedSymbol symbol : indexedDocument.symbols) {
+			symbolsByName.computeIfAbsent(symbol.getLowerCaseName(), k -> new ArrayList<>()).add(symbol);
+		}
+	}
+
+	private void removeSymbols(IndexedDocument indexedDocument) {
+		for (IndexedSymbol symbol : indexedDocument.symbols) {
+			List<IndexedSymbol> symbols = symbolsByName.get(symbol.getLowerCaseName());
+			if (symbols != null) {
+				symbols.remove(symbol);
+				if (symbols.isEmpty()) {
+					symbolsByName.remove(symbol.getLowerCaseName());
+				}
+			}
+		}
+		indexedDocument.symbols = Collections.emptyList();
+	}
+
+	/**
+	 * Returns true if the given query matches the given name with camel case
+	 * (ex : 'uTN' or 'usTagN' matches 'userTagName', 'rD' matches
+	 * 'roq-default/hero') and false otherwise.
+	 *
+	 * @param query the query.
+	 * @param name  the symbol name.
+	 * @return true if the given query matches the given name with camel case and
+	 *         false otherwise.
+	 */
+	static boolean isCamelCaseMatch(String query, String name) {
+		return isCamelCaseMatch(query, 0, name, 0);
+	}
+
+	private static boolean isCamelCaseMatch(String query, int queryIndex, String name, int nameIndex) {
+		if (queryIndex == query.length()) {
+			return true;
+		}
+		if (nameIndex >= name.length()
+				|| Character.toLowerCase(query.charAt(queryIndex)) != Character.toLowerCase(name.charAt(nameIndex))) {
+			return false;
+		}
+		if (queryIndex + 1 == query.length()) {
+			return true;
+		}
+		// Continue in the current word
+		if (nameIndex + 1 < name.length() && !isWordStart(name, nameIndex + 1)
+				&& isCamelCaseMatch(query, queryIndex + 1, name, nameIndex + 1)) {
+			return true;
+		}
+		// Or jump to the start of a next word
+		for (int i = nameIndex + 1; i < name.length(); i++) {
+			if (isWordStart(name, i) && isCamelCaseMatch(query, queryIndex + 1, name, i)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isWordStart(String name, int index) {
+		if (index == 0) {
+			return true;
+		}
+		char c = name.charAt(index);
+		char previous = name.charAt(index - 1);
+		if (Character.isUpperCase(c)) {
+			return !Character.isUpperCase(previous);
+		}
+		return Character.isLetterOrDigit(c) && !Character.isLetterOrDigit(previous);
+	}
+}
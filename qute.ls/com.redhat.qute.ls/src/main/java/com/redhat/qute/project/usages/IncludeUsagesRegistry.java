@@ -84,6 +84,16 @@ public class IncludeUsagesRegistry extends UsagesRegistry<IncludeUsages> {
 		return null;
 	}
 
+	@Override
+	protected String getModificationKey(String key) {
+		// The usages of 'base', 'base.html' and 'base$menu' are resolved for the
+		// same template 'base.html'
+		int fragmentIndex = key.indexOf('$');
+		String id = fragmentIndex != -1 ? key.substring(0, fragmentIndex) : key;
+		int index = id.indexOf('.');
+		return index != -1 ? id.substring(0, index) : id;
+	}
+
 	private static String getId(String templateId, String fragmentId) {
 		if (fragmentId == null) {
 			return templateId;
@@ -0,0 +1,208 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.usages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Range;
+
+import com.redhat.qute.commons.JavaMemberInfo;
+import com.redhat.qute.commons.JavaMethodInfo;
+
+/**
+ * Reverse index which stores, for a Java member (field, method, template
+ * extension method), the template locations which resolve to it.
+ *
+ * <p>
+ * The index is filled by the template validation: each validated template
+ * replaces its previous usages with {@link #updateUsages(String, Map)}. Finding
+ * the usages of a Java member is a map lookup and doesn't require to resolve
+ * again the expressions of all templates.
+ * </p>
+ *
+ * <p>
+ * A getter and the field of a property share the same key (ex :
+ * <code>getPrice()</code>, <code>isPrice()</code> and <code>price</code> are
+ * keyed by <code>price</code>), since <code>{item.price}</code> resolves to the
+ * getter when it exists, and the usages are searched with the field or the
+ * getter. A method with parameters (ex : <code>getPrice(String)</code>) is not
+ * a getter and is keyed by its name.
+ * </p>
+ *
+ */
+public class JavaMemberUsagesRegistry {
+
+	/**
+	 * Template usages grouped by member key (see {@link #getKey(JavaMemberInfo)}),
+	 * then by template uri.
+	 */
+	private final Map<String, Map<String, List<Range>>> usagesByMember = new HashMap<>();
+
+	/**
+	 * Reverse index: for each template uri, the set of member keys it contributes
+	 * to.
+	 */
+	private final Map<String, Set<String>> keysByTemplate = new HashMap<>();
+
+	/**
+	 * Replace the usages of the given template.
+	 *
+	 * @param templateUri the template uri.
+	 * @param usages      the ranges of the template expression parts grouped by
+	 *                    member key.
+	 */
+	public synchronized void updateUsages(String templateUri, Map<String, List<Range>> usages) {
+		removeUsages(templateUri);
+		if (usages.isEmpty()) {
+			return;
+		}
+		for (Map.Entry<String, List<Range>> entry : usages.entrySet()) {
+			usagesByMember.computeIfAbsent(entry.getKey(), k -> new LinkedHashMap<>()) //
+					.put(templateUri, entry.getValue());
+		}
+		keysByTemplate.put(templateUri, usages.keySet());
+	}
+
+	/**
+	 * Remove the usages of the given template.
+	 *
+	 * @param templateUri the template uri.
+	 */
+	public synchronized void removeUsages(String templateUri) {
+		Set<String> keys = keysByTemplate.remove(templateUri);
+		if (keys == null) {
+			return;
+		}
+		for (String key : keys) {
+			Map<String, List<Range>> usages = usagesByMember.get(key);
+			if (usages != null) {
+				usages.remove(templateUri);
+				if (usages.isEmpty()) {
+					usagesByMember.remove(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the template locations which resolve to the given Java member and an
+	 * empty list otherwise.
+	 *
+	 * @param sourceType the Java type which declares the member.
+	 * @param memberName the field or method name.
+	 * @param method     true if the member is a method and false if it is a
+	 *                   field.
+	 * @return the template locations which resolve to the given Java member and
+	 *         an empty list otherwise.
+	 */
+	public synchronized List<Location> findUsages(String sourceType, String memberName, boolean method) {
+		List<Location> locations = new ArrayList<>();
+		if (method) {
+			// The parameters of the method are unknown: collect the usages of the getter
+			// (keyed by the property name) and of the method with parameters (keyed by the
+			// method name)
+			String propertyName = getPropertyName(memberName);
+			collectUsages(getKey(sourceType, propertyName), locations);
+			if (!propertyName.equals(memberName)) {
+				collectUsages(getKey(sourceType, memberName), locations);
+			}
+		} else {
+			collectUsages(getKey(sourceType, memberName), locations);
+		}
+		return locations;
+	}
+
+	private void collectUsages(String key, List<Location> locations) {
+		Map<String, List<Range>> usages = usagesByMember.get(key);
+		if (usages == null) {
+			return;
+		}
+		for (Map.Entry<String, List<Range>> entry : usages.entrySet()) {
+			for (Range range : entry.getValue()) {
+				locations.add(new Location(entry.getKey(), range));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of Java members which have template usages.
+	 *
+	 * @return the number of Java members which have template usages.
+	 */
+	public synchronized int size() {
+		return usagesByMember.size();
+	}
+
+	/**
+	 * Returns the key of the given Java member and null if the member has no
+	 * owner type.
+	 *
+	 * @param member the Java member.
+	 * @return the key of the given Java member and null if the member has no
+	 *         owner type.
+	 */
+	public static String getKey(JavaMemberInfo member) {
+		if (member.getGenericMember() != null) {
+			// ex : get(int) of java.util.List<org.acme.Item> -> get(int) of
+			// java.util.List<E>
+			member = member.getGenericMember();
+		}
+		String sourceType = member.getSourceType();
+		if (sourceType == null) {
+			return null;
+		}
+		String memberName = member.getName();
+		if (member instanceof JavaMethodInfo && !((JavaMethodInfo) member).hasParameters()) {
+			// Getter (ex : getPrice() -> price)
+			memberName = getPropertyName(memberName);
+		}
+		return getKey(sourceType, memberName);
+	}
+
+	private static String getKey(String sourceType, String memberName) {
+		int index = sourceType.indexOf('<');
+		if (index != -1) {
+			// Remove generic
+			sourceType = sourceType.substring(0, index);
+		}
+		return sourceType + '#' + memberName;
+	}
+
+	/**
+	 * Returns the property name of the given getter name (ex : getPrice -> price,
+	 * isAvailable -> available) and the given member name otherwise.
+	 *
+	 * @param memberName the field or method name.
+	 * @return the property name of the given getter name and the given member
+	 *         name otherwise.
+	 */
+	private static String getPropertyName(String memberName) {
+		int prefixLength = 0;
+		if (memberName.startsWith("get")) {
+			prefixLength = 3;
+		} else if (memberName.startsWith("is")) {
+			prefixLength = 2;
+		}
+		if (prefixLength == 0 || memberName.length() == prefixLength
+				|| !Character.isUpperCase(memberName.charAt(prefixLength))) {
+			return memberName;
+		}
+		return Character.toLowerCase(memberName.charAt(prefixLength)) + memberName.substring(prefixLength + 1);
+	}
+}
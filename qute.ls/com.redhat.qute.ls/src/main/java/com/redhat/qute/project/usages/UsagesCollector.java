@@ -69,7 +69,9 @@ import com.redhat.qute.project.extensions.LanguageInjectionService;
  *
  * <p>
  * For read-only documents, the collector is used only once and the trackers are
- * not stored.
+ * not stored. For binary documents, the trackers are null: their user tag and
+ * include usages are collected once for all the projects which depend on the
+ * same JAR.
  * </p>
  */
 public class UsagesCollector extends ASTVisitor {
@@ -168,8 +170,10 @@ public class UsagesCollector extends ASTVisitor {
 	 * </p>
 	 *
 	 * @param source         the document being visited
-	 * @param userTagTracker tracker for user tag usages
-	 * @param includeTracker tracker for include section usages
+	 * @param userTagTracker tracker for user tag usages, or null if they must not
+	 *                       be collected
+	 * @param includeTracker tracker for include section usages, or null if they
+	 *                       must not be collected
 	 */
 	public UsagesCollector(QuteTextDocument source, UsageTracker userTagTracker, UsageTracker includeTracker) {
 		this.source = source;
@@ -179,22 +183,30 @@ public class UsagesCollector extends ASTVisitor {
 
 	@Override
 	public boolean visit(Template node) {
-		userTagTracker.beginVisit();
-		includeTracker.beginVisit();
+		if (userTagTracker != null) {
+			userTagTracker.beginVisit();
+		}
+		if (includeTracker != null) {
+			includeTracker.beginVisit();
+		}
 		return super.visit(node);
 	}
 
 	@Override
 	public void endVisit(Template node) {
-		userTagTracker.flush(source);
-		includeTracker.flush(source);
+		if (userTagTracker != null) {
+			userTagTracker.flush(source);
+		}
+		if (includeTracker != null) {
+			includeTracker.flush(source);
+		}
 		super.endVisit(node);
 	}
 
 	@Override
 	public boolean visit(CustomSection node) {
 		List<Parameter> parameters = node.getParameters();
-		if (!parameters.isEmpty()) {
+		if (userTagTracker != null && !parameters.isEmpty()) {
 			// user tag is called, e.g.:
 			// {#myTag name="foo" count=10 /}
 			userTagTracker.collect(node.getTag(), parameters);
@@ -205,7 +217,7 @@ public class UsagesCollector extends ASTVisitor {
 	@Override
 	public boolean visit(IncludeSection section) {
 		List<Parameter> parameters = section.getParameters();
-		if (!parameters.isEmpty()) {
+		if (includeTracker != null && !parameters.isEmpty()) {
 			/// {#include templateId title="foo" /}
 			// First parameter is the included template id
 			String includedTemplateId = parameters.get(0).getValue();
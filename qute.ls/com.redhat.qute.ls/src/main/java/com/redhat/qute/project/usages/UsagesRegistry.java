@@ -79,6 +79,18 @@ public abstract class UsagesRegistry<T extends ParameterUsages> {
 	 */
 	private final Map<QuteTextDocument, Set<String>> keysBySource = new IdentityHashMap<>();
 
+	/**
+	 * Number of modifications of the registry, used to invalidate the caches which
+	 * depend on usages (ex : expression type table).
+	 */
+	private volatile long modificationCount;
+
+	/**
+	 * Registry modification count of the last modification of each key, used to
+	 * invalidate only the caches of the called templates.
+	 */
+	private final Map<String, Long> modificationCountByKey = new HashMap<>();
+
 	/**
 	 * Updates the usages contributed by a given source document during the parsing
 	 * cycle.
@@ -101,11 +113,13 @@ public abstract class UsagesRegistry<T extends ParameterUsages> {
 	 */
 	public synchronized void updateUsages(QuteTextDocument source, Map<String, List<? extends NodeBase<?>>> usages) {
 		String templateId = source.getTemplateId();
+		modificationCount++;
 
 		// Remove all previous usages contributed by this source using the reverse index
 		Set<String> oldKeys = keysBySource.get(source);
 		if (oldKeys != null) {
 			for (String key : oldKeys) {
+				markModified(key);
 				T keyUsages = usagesByKey.get(key);
 				if (keyUsages != null) {
 					keyUsages.removeParameters(templateId);
@@ -124,6 +138,7 @@ public abstract class UsagesRegistry<T extends ParameterUsages> {
 			Set<String> newKeys = new HashSet<>();
 			for (Map.Entry<String, List<? extends NodeBase<?>>> entry : usages.entrySet()) {
 				String key = entry.getKey();
+				markModified(key);
 				T keyUsages = getOrCreateUsages(key);
 				keyUsages.putParameters(templateId, entry.getValue());
 				newKeys.add(key);
@@ -146,8 +161,10 @@ public abstract class UsagesRegistry<T extends ParameterUsages> {
 	public synchronized void removeUsages(QuteTextDocument source) {
 		String templateId = source.getTemplateId();
 		Set<String> oldKeys = keysBySource.remove(source);
+		modificationCount++;
 		if (oldKeys != null) {
 			for (String key : oldKeys) {
+				markModified(key);
 				T keyUsages = usagesByKey.get(key);
 				if (keyUsages != null) {
 					keyUsages.removeParameters(templateId);
@@ -178,6 +195,8 @@ public abstract class UsagesRegistry<T extends ParameterUsages> {
 	 */
 	public synchronized void addUsage(String key, TemplatePath templatePath, NodeBase<?> usage) {
 		getOrCreateUsages(key).addParameter(templatePath, usage);
+		modificationCount++;
+		markModified(key);
 	}
 
 	/**
@@ -191,9 +210,65 @@ public abstract class UsagesRegistry<T extends ParameterUsages> {
 		T usages = usagesByKey.get(key);
 		if (usages != null) {
 			usages.removeParameter(templatePath);
+			modificationCount++;
+			markModified(key);
 		}
 	}
 
+	/**
+	 * Returns the number of modifications of the registry.
+	 *
+	 * @return the number of modifications of the registry.
+	 */
+	public long getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * Returns the registry modification count of the last modification of the
+	 * usages of the given key and 0 if the usages of the key have never been
+	 * modified.
+	 *
+	 * @param key the user tag name or included template id
+	 * @return the registry modification count of the last modification of the
+	 *         usages of the given key and 0 otherwise.
+	 */
+	public synchronized long getModificationCount(String key) {
+		Long count = modificationCountByKey.get(getModificationKey(key));
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * Returns the key used to track the modifications of the usages of the given
+	 * key.
+	 *
+	 * <p>
+	 * Subclasses can group several keys (ex : the fragments of a template) under
+	 * the same modification key.
+	 * </p>
+	 *
+	 * @param key the user tag name or included template id
+	 * @return the key used to track the modifications of the usages of the given
+	 *         key.
+	 */
+	protected String getModificationKey(String key) {
+		return key;
+	}
+
+	private void markModified(String key) {
+		modificationCountByKey.put(getModificationKey(key), modificationCount);
+	}
+
+	/**
+	 * Returns the number of keys (user tag names or included template ids) of the
+	 * registry.
+	 *
+	 * @return the number of keys of the registry.
+	 */
+	public synchronized int size() {
+		return usagesByKey.size();
+	}
+
 	/**
 	 * Returns the existing {@link ParameterUsages} for the given key, or creates
 	 * and registers a new one if absent.
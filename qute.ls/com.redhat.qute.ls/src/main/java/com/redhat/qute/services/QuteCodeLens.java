@@ -13,8 +13,8 @@ package com.redhat.qute.services;
 
 import static com.redhat.qute.services.commands.QuteClientCommandConstants.COMMAND_JAVA_DEFINITION;
 import static com.redhat.qute.services.commands.QuteClientCommandConstants.COMMAND_OPEN_URI;
+import static com.redhat.qute.services.commands.QuteClientCommandConstants.COMMAND_SHOW_REFERENCES;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -47,7 +47,7 @@ import com.redhat.qute.project.datamodel.ExtendedDataModelParameter;
 import com.redhat.qute.project.datamodel.ExtendedDataModelTemplate;
 import com.redhat.qute.project.extensions.CodeLensParticipant;
 import com.redhat.qute.project.usages.IncludeUsages;
-import com.redhat.qute.services.commands.QuteClientCommandConstants;
+import com.redhat.qute.services.codelens.CodeLensCache;
 import com.redhat.qute.settings.SharedSettings;
 import com.redhat.qute.utils.QutePositionUtility;
 import com.redhat.qute.utils.StringUtils;
@@ -64,8 +64,11 @@ class QuteCodeLens {
 	private static final Range LEFT_TOP_RANGE = new Range(new Position(0, 0), new Position(0, 0));
 	private final QuteProjectRegistry projectRegistry;
 
+	private final CodeLensCache cache;
+
 	public QuteCodeLens(QuteProjectRegistry projectRegistry) {
 		this.projectRegistry = projectRegistry;
+		this.cache = new CodeLensCache();
 	}
 
 	public CompletableFuture<List<? extends CodeLens>> getCodelens(Template template, SharedSettings settings,
@@ -73,39 +76,90 @@ class QuteCodeLens {
 		return projectRegistry.getDataModelTemplate(template) //
 				.thenApply(templateDataModel -> {
 					cancelChecker.checkCanceled();
-					List<CodeLens> lenses = new ArrayList<>();
+					QuteProject project = template.getProject();
+					long dataModelVersion = getDataModelVersion(template, project);
+					int settingsKey = getSettingsKey(settings);
+					CodeLensCache.CachedCodeLenses cached = cache.get(template, dataModelVersion, settingsKey);
+					if (cached == null) {
+						cached = new CodeLensCache.CachedCodeLenses(template, dataModelVersion, settingsKey);
+						collectCodeLenses(templateDataModel, template, settings, project, cached, cancelChecker);
+						cache.put(cached);
+					}
+
+					// The #insert references code lenses depend on the other templates, they
+					// are computed for each request.
+					String showReferencesCommandId = settings.getCommandCapabilities().isCommandSupported(
+							COMMAND_SHOW_REFERENCES) ? COMMAND_SHOW_REFERENCES : "";
+					return cached.createLenses((section, lenses) -> collectInsertCodeLens(project, section,
+							template, showReferencesCommandId, lenses));
+				});
+	}
 
-					// Collect checked template code lenses at the root of the template
-					collectDataModelFoTemplateCodeLenses(templateDataModel, template, settings, lenses, cancelChecker);
+	private static void collectCodeLenses(ExtendedDataModelTemplate templateDataModel, Template template,
+			SharedSettings settings, QuteProject project, CodeLensCache.CachedCodeLenses cached, CancelChecker cancelChecker) {
+		List<CodeLens> lenses = cached.getLenses();
 
-					// Visit AST template to collect codelenses:
-					// * for #insert
-					// * for #fragment
-					QuteProject project = template.getProject();
-					collectCodeLenses(templateDataModel, template, template, settings, project, lenses, cancelChecker);
+		// Collect checked template code lenses at the root of the template
+		collectDataModelFoTemplateCodeLenses(templateDataModel, template, settings, lenses, cancelChecker);
 
-					if (template.isUserTag()) {
-						// Template is an user tag
-						collectUserTagCodeLenses(template, cancelChecker, lenses);
-					}
+		// Visit AST template to collect codelenses:
+		// * for #insert
+		// * for #fragment
+		collectCodeLenses(templateDataModel, template, template, settings, project, cached, cancelChecker);
 
-					// Collect code lenses from custom participant (ex: "Insert FontMatter" for Roq
-					// application)
-					if (project != null) {
+		if (template.isUserTag()) {
+			// Template is an user tag
+			collectUserTagCodeLenses(template, cancelChecker, cached);
+		}
 
-						// Included By CodeLens
-						collectIncludedByCodeLenses(template, project, settings, cancelChecker, lenses);
+		// Collect code lenses from custom participant (ex: "Insert FontMatter" for Roq
+		// application)
+		if (project != null) {
 
-						// Codelens from participant (ex: Roq page)
-						for (CodeLensParticipant codeLensParticipant : project.getCodeLensParticipants()) {
-							if (codeLensParticipant.isEnabled()) {
-								codeLensParticipant.collectCodeLenses(template, settings, lenses, cancelChecker);
-							}
-						}
-					}
+			// Included By CodeLens
+			collectIncludedByCodeLenses(template, project, settings, cancelChecker, lenses);
 
-					return lenses;
-				});
+			// Codelens from participant (ex: Roq page)
+			for (CodeLensParticipant codeLensParticipant : project.getCodeLensParticipants()) {
+				if (codeLensParticipant.isEnabled()) {
+					codeLensParticipant.collectCodeLenses(template, settings, lenses, cancelChecker);
+				}
+			}
+		}
+	}
+
+	private static long getDataModelVersion(Template template, QuteProject project) {
+		if (project == null) {
+			return -1;
+		}
+		// The code lenses depend on the Java data model and on the usages of the
+		// template ('Included by', #fragment parameters, user tag parameters), but
+		// not on the other templates which are parsed again. The #insert references
+		// are counted for each request.
+		long version = project.getJavaDataModelVersion();
+		if (template.isUserTag()) {
+			version += project.getTagRegistry().getModificationCount(template.getUserTagName());
+		}
+		String templateId = template.getTemplateId();
+		if (templateId != null) {
+			version += project.getIncludeUsagesRegistry().getModificationCount(templateId);
+		}
+		return version;
+	}
+
+	private static int getSettingsKey(SharedSettings settings) {
+		// The code lenses depend on the commands supported by the client
+		int key = 0;
+		if (settings.getCommandCapabilities().isCommandSupported(COMMAND_JAVA_DEFINITION)) {
+			key |= 1;
+		}
+		if (settings.getCommandCapabilities().isCommandSupported(COMMAND_SHOW_REFERENCES)) {
+			key |= 2;
+		}
+		if (settings.getCommandCapabilities().isCommandSupported(COMMAND_OPEN_URI)) {
+			key |= 4;
+		}
+		return key;
 	}
 
 	private static void collectDataModelFoTemplateCodeLenses(DataModelSourceProvider templateDataModel,
@@ -180,34 +234,34 @@ class QuteCodeLens {
 	}
 
 	private static void collectCodeLenses(ExtendedDataModelTemplate templateDataModel, Node parent, Template template,
-			SharedSettings settings, QuteProject project, List<CodeLens> lenses, CancelChecker cancelChecker) {
+			SharedSettings settings, QuteProject project, CodeLensCache.CachedCodeLenses cached, CancelChecker cancelChecker) {
 		cancelChecker.checkCanceled();
-		String showReferencesCommandId = settings.getCommandCapabilities().isCommandSupported(
-				QuteClientCommandConstants.COMMAND_SHOW_REFERENCES) ? QuteClientCommandConstants.COMMAND_SHOW_REFERENCES
-						: "";
 		if (parent.getKind() == NodeKind.Section) {
 			Section section = (Section) parent;
 			switch (section.getSectionKind()) {
 			case INSERT:
-				collectInsertCodeLens(project, section, template, showReferencesCommandId, lenses);
+				// The references are counted for each request
+				cached.addInsertSection(section);
 				break;
 			case FRAGMENT:
 				// [device : String]
 				// {#fragment id="menu"
-				collectFragmentCodeLens(templateDataModel, section, template, settings, project, lenses, cancelChecker);
+				collectFragmentCodeLens(templateDataModel, section, template, settings, project, cached,
+						cancelChecker);
 				break;
 			default:
 			}
 		}
 		List<Node> children = parent.getChildren();
 		for (Node node : children) {
-			collectCodeLenses(templateDataModel, node, template, settings, project, lenses, cancelChecker);
+			collectCodeLenses(templateDataModel, node, template, settings, project, cached, cancelChecker);
 		}
 	}
 
 	private static void collectFragmentCodeLens(ExtendedDataModelTemplate templateDataModel, Section section,
-			Template template, SharedSettings settings, QuteProject project, List<CodeLens> lenses,
+			Template template, SharedSettings settings, QuteProject project, CodeLensCache.CachedCodeLenses cached,
 			CancelChecker cancelChecker) {
+		List<CodeLens> lenses = cached.getLenses();
 		FragmentSection fragment = (FragmentSection) section;
 		String fragmentId = fragment.getId();
 		if (StringUtils.isEmpty(fragmentId)) {
@@ -242,10 +296,8 @@ class QuteCodeLens {
 								existingNames.add(parameterName);
 								// Don't generate codelens for template parameter of the #include
 								if (p.canHaveExpression()) {
-									String title = createNameAndTypeTitle(parameterName, project.resolveJavaType(p));
-									Command command = new Command(title.toString(), "");
-									CodeLens codeLens = new CodeLens(fragmentRange, command, null);
-									lenses.add(codeLens);
+									addNameAndTypeCodeLens(fragmentRange, parameterName, project.resolveJavaType(p),
+											cached);
 								}
 							}
 						}
@@ -278,7 +330,8 @@ class QuteCodeLens {
 	}
 
 	private static void collectUserTagCodeLenses(Template template, CancelChecker cancelChecker,
-			List<CodeLens> lenses) {
+			CodeLensCache.CachedCodeLenses cached) {
+		List<CodeLens> lenses = cached.getLenses();
 		// 1) display the user tag name as codelens
 		String userTagName = template.getUserTagName();
 		String userTagTitle = "User tag #" + userTagName;
@@ -291,17 +344,23 @@ class QuteCodeLens {
 		if (project != null) {
 			UserTagUtils.collectUserTagParameters(userTagName, template, //
 					objectPart -> {
-						String title = createNameAndTypeTitle(objectPart.getPartName(),
-								project.resolveJavaType(objectPart));
-						Range range = LEFT_TOP_RANGE;
-						Command command = new Command(title.toString(), "");
-						CodeLens codeLens = new CodeLens(range, command, null);
-						lenses.add(codeLens);
+						addNameAndTypeCodeLens(LEFT_TOP_RANGE, objectPart.getPartName(),
+								project.resolveJavaType(objectPart), cached);
 					}, cancelChecker);
 
 		}
 	}
 
+	private static void addNameAndTypeCodeLens(Range range, String name,
+			CompletableFuture<ResolvedJavaTypeInfo> future, CodeLensCache.CachedCodeLenses cached) {
+		String title = createNameAndTypeTitle(name, future);
+		Command command = new Command(title, "");
+		CodeLens codeLens = new CodeLens(range, command, null);
+		// When the Java type is resolving, the title 'name : ?' is updated once the
+		// Java type is resolved.
+		cached.addJavaTypeCodeLens(codeLens, future, f -> createNameAndTypeTitle(name, f));
+	}
+
 	private static String createNameAndTypeTitle(String name, CompletableFuture<ResolvedJavaTypeInfo> future) {
 		StringBuilder title = new StringBuilder(name) //
 				.append(" : ");
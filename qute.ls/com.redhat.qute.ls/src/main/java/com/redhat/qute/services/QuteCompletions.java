@@ -11,23 +11,34 @@
 *******************************************************************************/
 package com.redhat.qute.services;
 
+import static com.redhat.qute.services.QuteCompletableFutures.isResolvingJavaTypeOrNull;
+
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.InsertTextFormat;
+import org.eclipse.lsp4j.MarkupKind;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
+import com.redhat.qute.commons.JavaFieldInfo;
+import com.redhat.qute.commons.JavaMemberInfo;
+import com.redhat.qute.commons.JavaMethodInfo;
 import com.redhat.qute.commons.JavaTypeInfo;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
 import com.redhat.qute.ls.commons.BadLocationException;
+import com.redhat.qute.ls.commons.RequestCancelChecker;
 import com.redhat.qute.ls.commons.snippets.Snippet;
 import com.redhat.qute.ls.commons.snippets.SnippetRegistryProvider;
 import com.redhat.qute.parser.expression.Part;
@@ -44,7 +55,11 @@ import com.redhat.qute.parser.template.sections.IncludeSection;
 import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.project.QuteProjectRegistry;
 import com.redhat.qute.project.datamodel.ExtendedDataModelTemplate;
+import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
+import com.redhat.qute.project.datamodel.resolvers.ValueResolver;
 import com.redhat.qute.project.extensions.LanguageInjectionService;
+import com.redhat.qute.project.extensions.MemberResolutionParticipant;
+import com.redhat.qute.project.extensions.ProjectExtension;
 import com.redhat.qute.project.tags.UserTag;
 import com.redhat.qute.project.tags.UserTagParameter;
 import com.redhat.qute.services.completions.CompletionData;
@@ -60,6 +75,8 @@ import com.redhat.qute.settings.QuteCommandCapabilities;
 import com.redhat.qute.settings.QuteCompletionSettings;
 import com.redhat.qute.settings.QuteFormattingSettings;
 import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.utils.DocumentationUtils;
+import com.redhat.qute.utils.QutePositionUtility;
 
 /**
  * The Qute completions
@@ -288,9 +305,14 @@ public class QuteCompletions {
 		return CompletableFuture.completedFuture(list);
 	}
 
-	public CompletionItem resolveCompletionItem(CompletionItem unresolved, CompletionData data, Template template,
-			CancelChecker cancelChecker) {
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved, CompletionData data,
+			Template template, QuteCompletionSettings completionSettings, CancelChecker cancelChecker) {
 		QuteProject project = template.getProject();
+		if (project != null && data != null && (data.getJavaType() != null || data.getNamespace() != null)) {
+			// Java member (field, method, value resolver, namespace resolver)
+			return resolveJavaMemberCompletionItem(unresolved, data, template, project, completionSettings,
+					cancelChecker);
+		}
 		if (project != null) {
 			UserTag userTag = project.findUserTag(unresolved.getLabel());
 			if (userTag != null) {
@@ -339,7 +361,198 @@ public class QuteCompletions {
 
 			}
 		}
-		return unresolved;
+		return CompletableFuture.completedFuture(unresolved);
+	}
+
+	/**
+	 * Resolve the documentation of the given Java member completion item.
+	 *
+	 * @param unresolved         the unresolved completion item.
+	 * @param data               the completion data which hosts the Java base type
+	 *                           or the namespace.
+	 * @param template           the template.
+	 * @param project            the Qute project.
+	 * @param completionSettings the completion settings.
+	 * @param cancelChecker      the cancel checker.
+	 * @return the resolved completion item.
+	 */
+	private static CompletableFuture<CompletionItem> resolveJavaMemberCompletionItem(CompletionItem unresolved,
+			CompletionData data, Template template, QuteProject project, QuteCompletionSettings completionSettings,
+			CancelChecker cancelChecker) {
+		ResolvedJavaTypeInfo baseType = null;
+		JavaMemberInfo member = null;
+		if (data.getNamespace() != null) {
+			// Namespace resolver (ex : inject:bean, config:property(...))
+			member = findNamespaceResolver(unresolved, data.getNamespace(), project);
+		} else {
+			baseType = project.resolveJavaTypeSync(data.getJavaType());
+			if (isResolvingJavaTypeOrNull(baseType)) {
+				return CompletableFuture.completedFuture(unresolved);
+			}
+			member = findMember(unresolved, baseType, project, new HashSet<>());
+			if (member == null && data.getOffset() != null) {
+				// Field of an additional type contributed by a project extension (ex :
+				// page.data.title)
+				member = findAdditionalTypeField(unresolved, baseType, data.getOffset(), template, project);
+			}
+			if (member == null) {
+				// Value resolver (orEmpty, @TemplateExtension, etc)
+				for (MethodValueResolver resolver : project.getResolversFor(baseType)) {
+					if (unresolved.getLabel().equals(resolver.getSimpleSignature())) {
+						member = resolver;
+						break;
+					}
+				}
+			}
+		}
+		if (member == null) {
+			return CompletableFuture.completedFuture(unresolved);
+		}
+		boolean hasMarkdown = completionSettings != null && completionSettings.canSupportMarkupKind(MarkupKind.MARKDOWN);
+		JavaMemberInfo resolvedMember = member;
+		ResolvedJavaTypeInfo resolvedBaseType = baseType;
+		if (!resolvedMember.shouldLoadDocumentation()
+				|| (resolvedMember.getJavaTypeInfo() == null && resolvedBaseType == null)) {
+			unresolved.setDocumentation(DocumentationUtils.getDocumentation(resolvedMember, baseType, hasMarkdown));
+			return CompletableFuture.completedFuture(unresolved);
+		}
+		// Cancel the Javadoc search on the JDT side when the resolve is cancelled
+		return RequestCancelChecker
+				.cancelWithRequest(project.getJavadoc(resolvedMember, baseType, hasMarkdown), cancelChecker) //
+				.handle((documentation, e) -> {
+					if (e != null) {
+						Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+						if (cause instanceof CancellationException) {
+							throw (CancellationException) cause;
+						}
+						LOGGER.log(Level.WARNING, "Error while loading Javadoc of '" + unresolved.getLabel() + "'.",
+								cause);
+					} else {
+						resolvedMember.setDocumentation(documentation == null ? "" : documentation);
+					}
+					unresolved.setDocumentation(
+							DocumentationUtils.getDocumentation(resolvedMember, resolvedBaseType, hasMarkdown));
+					return unresolved;
+				});
+	}
+
+	/**
+	 * Returns the namespace resolver which has generated the given completion item
+	 * and null otherwise.
+	 *
+	 * @param item      the completion item.
+	 * @param namespace the namespace of the resolver.
+	 * @param project   the Qute project.
+	 * @return the namespace resolver which has generated the given completion item
+	 *         and null otherwise.
+	 */
+	private static JavaMemberInfo findNamespaceResolver(CompletionItem item, String namespace, QuteProject project) {
+		// The label is 'inject:bean' or 'bean' according to the completion position
+		String label = item.getLabel();
+		String prefix = namespace + ':';
+		String name = label.startsWith(prefix) ? label.substring(prefix.length()) : label;
+		for (ValueResolver resolver : project.getNamespaceResolvers(namespace)) {
+			String resolverName = resolver.getNamed();
+			if (resolverName == null) {
+				if (resolver instanceof JavaMethodInfo) {
+					resolverName = ((JavaMethodInfo) resolver).getSimpleSignature();
+				} else if (resolver instanceof JavaFieldInfo) {
+					resolverName = ((JavaFieldInfo) resolver).getSimpleSignature();
+				}
+			}
+			if (resolver instanceof JavaMemberInfo && name.equals(resolverName)) {
+				return (JavaMemberInfo) resolver;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the field of the additional types contributed by the project
+	 * extensions for the previous part which has generated the given completion
+	 * item and null otherwise.
+	 *
+	 * @param item     the completion item.
+	 * @param baseType the Java base type.
+	 * @param offset   the end offset of the previous part.
+	 * @param template the template.
+	 * @param project  the Qute project.
+	 * @return the field of the additional types which has generated the given
+	 *         completion item and null otherwise.
+	 */
+	private static JavaMemberInfo findAdditionalTypeField(CompletionItem item, ResolvedJavaTypeInfo baseType,
+			int offset, Template template, QuteProject project) {
+		if (offset > template.getEnd()) {
+			return null;
+		}
+		Node node = QutePositionUtility.findBestNode(offset, template.findNodeAt(offset));
+		if (node == null || node.getKind() != NodeKind.ExpressionPart) {
+			return null;
+		}
+		Part previousPart = (Part) node;
+		String label = item.getLabel();
+		for (ProjectExtension extension : project.getExtensions()) {
+			if (extension.isEnabled() && extension instanceof MemberResolutionParticipant) {
+				List<ResolvedJavaTypeInfo> additionalTypes = ((MemberResolutionParticipant) extension)
+						.getAdditionalTypes(baseType, previousPart, null, template);
+				if (additionalTypes != null) {
+					for (ResolvedJavaTypeInfo additionalType : additionalTypes) {
+						for (JavaFieldInfo field : additionalType.getFields()) {
+							if (label.equals(field.getSimpleSignature())) {
+								return field;
+							}
+						}
+					}
+				}
+			}
+		}
+		return null;
 	}
 
+	/**
+	 * Returns the field, method of the given Java type (or its super types) which
+	 * has generated the given completion item and null otherwise.
+	 *
+	 * @param item     the completion item.
+	 * @param javaType the Java type.
+	 * @param project  the Qute project.
+	 * @param visited  the Java types already visited.
+	 * @return the field, method of the given Java type (or its super types) which
+	 *         has generated the given completion item and null otherwise.
+	 */
+	private static JavaMemberInfo findMember(CompletionItem item, ResolvedJavaTypeInfo javaType, QuteProject project,
+			Set<ResolvedJavaTypeInfo> visited) {
+		if (!visited.add(javaType)) {
+			return null;
+		}
+		String label = item.getLabel();
+		if (item.getKind() == CompletionItemKind.Field) {
+			for (JavaFieldInfo field : javaType.getFields()) {
+				if (label.equals(field.getSimpleSignature())) {
+					return field;
+				}
+			}
+		} else {
+			boolean property = item.getKind() == CompletionItemKind.Property;
+			for (JavaMethodInfo method : javaType.getMethods()) {
+				if (property ? item.getFilterText().equals(method.getGetterName())
+						: label.equals(method.getSimpleSignature())) {
+					return method;
+				}
+			}
+		}
+		List<String> extendedTypes = javaType.getExtendedTypes();
+		if (extendedTypes != null) {
+			for (String extendedType : extendedTypes) {
+				ResolvedJavaTypeInfo resolvedExtendedType = project.resolveJavaTypeSync(extendedType);
+				if (!isResolvingJavaTypeOrNull(resolvedExtendedType)) {
+					JavaMemberInfo member = findMember(item, resolvedExtendedType, project, visited);
+					if (member != null) {
+						return member;
+					}
+				}
+			}
+		}
+		return null;
+	}
 }
\ No newline at end of file
@@ -34,6 +34,7 @@ import com.redhat.qute.commons.JavaMemberInfo;
 import com.redhat.qute.commons.QuteJavaDefinitionParams;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
 import com.redhat.qute.ls.commons.BadLocationException;
+import com.redhat.qute.ls.commons.RequestCancelChecker;
 import com.redhat.qute.parser.NodeBase;
 import com.redhat.qute.parser.expression.MethodPart;
 import com.redhat.qute.parser.template.JavaTypeInfoProvider;
@@ -250,7 +251,8 @@ class QuteDefinition {
 
 	private CompletableFuture<List<? extends LocationLink>> findJavaDefinition(QuteJavaDefinitionParams params,
 			QuteProject project, CancelChecker cancelChecker, Supplier<Range> originSelectionRangeProvider) {
-		return project.getProjectRegistry().getJavaDefinition(params) //
+		return RequestCancelChecker.cancelWithRequest(project.getProjectRegistry().getJavaDefinition(params),
+				cancelChecker) //
 				.thenApply(location -> {
 					cancelChecker.checkCanceled();
 					if (location != null) {
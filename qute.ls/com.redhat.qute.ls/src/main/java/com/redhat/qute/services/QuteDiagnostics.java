@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -78,6 +79,7 @@ import com.redhat.qute.project.extensions.LanguageInjectionService;
 import com.redhat.qute.project.tags.UserTag;
 import com.redhat.qute.project.tags.UserTagParameter;
 import com.redhat.qute.project.usages.IncludeUsages;
+import com.redhat.qute.project.usages.JavaMemberUsagesRegistry;
 import com.redhat.qute.services.diagnostics.CollectHtmlInputNamesVisitor;
 import com.redhat.qute.services.diagnostics.JavaBaseTypeOfPartData;
 import com.redhat.qute.services.diagnostics.QuteDiagnosticsForSyntax;
@@ -114,12 +116,17 @@ class QuteDiagnostics {
 
 		private ResolvedJavaTypeInfo whenObject;
 
+		// Ranges of the parts which resolve to a Java member, grouped by member key
+		// (shared by all contexts of a validation).
+		private final Map<String, List<Range>> memberUsages;
+
 		public ResolutionContext() {
 			this(null);
 		}
 
 		public ResolutionContext(ResolutionContext parent) {
 			this.parent = parent;
+			this.memberUsages = parent != null ? parent.memberUsages : new HashMap<>();
 		}
 
 		public ResolutionContext getParent() {
@@ -153,6 +160,17 @@ class QuteDiagnostics {
 			return null;
 		}
 
+		public void addMemberUsage(JavaMemberInfo member, Part part) {
+			String key = JavaMemberUsagesRegistry.getKey(member);
+			if (key != null) {
+				memberUsages.computeIfAbsent(key, k -> new ArrayList<>()).add(QutePositionUtility.createRange(part));
+			}
+		}
+
+		public Map<String, List<Range>> getMemberUsages() {
+			return memberUsages;
+		}
+
 	}
 
 	public QuteDiagnostics(QuteProjectRegistry projectRegistry) {
@@ -197,15 +215,22 @@ class QuteDiagnostics {
 			LOGGER.log(Level.SEVERE, "Error while validating Qute syntax'" + template.getUri() + "'.", e);
 		}
 		// Validate data model
+		ResolutionContext resolutionContext = new ResolutionContext();
 		try {
 			validateDataModel(template, template, validationSettings, nativeImagesSettings, resolvingJavaTypeContext,
-					new ResolutionContext(), diagnostics);
+					resolutionContext, diagnostics);
 		} catch (CancellationException e) {
 			throw e;
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while validating Qute data model'" + template.getUri() + "'.", e);
 		}
 		cancelChecker.checkCanceled();
+		// Update the template usages of the Java members resolved by the validation
+		QuteProject project = template.getProject();
+		if (project != null) {
+			project.getJavaMemberUsagesRegistry().updateUsages(template.getUri(),
+					resolutionContext.getMemberUsages());
+		}
 		return diagnostics;
 	}
 
@@ -1006,6 +1031,9 @@ class QuteDiagnostics {
 		}
 		JavaMemberResult result = project.findProperty(part, baseType, filter.isInNativeMode());
 		JavaMemberInfo javaMember = result.getMember();
+		if (javaMember != null) {
+			resolutionContext.addMemberUsage(javaMember, part);
+		}
 		if (javaMember == null) {
 			// ex : {@org.acme.Item item}
 			// "{item.XXXX}
@@ -1168,6 +1196,9 @@ class QuteDiagnostics {
 		JavaMemberResult result = project.findMethod(baseType, namespace, methodName, parameterTypes,
 				filter.isInNativeMode());
 		JavaMethodInfo method = (JavaMethodInfo) result.getMember();
+		if (method != null) {
+			resolutionContext.addMemberUsage(method, methodPart);
+		}
 		if (method == null) {
 			String signature = null;
 			QuteErrorCode errorCode = QuteErrorCode.UnknownMethod;
@@ -33,6 +33,7 @@ import com.redhat.qute.commons.JavaMemberInfo;
 import com.redhat.qute.commons.JavaTypeInfo;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
 import com.redhat.qute.ls.commons.BadLocationException;
+import com.redhat.qute.ls.commons.RequestCancelChecker;
 import com.redhat.qute.ls.commons.snippets.Snippet;
 import com.redhat.qute.ls.commons.snippets.SnippetRegistryProvider;
 import com.redhat.qute.parser.expression.MethodPart;
@@ -482,8 +483,9 @@ public class QuteHover {
 					}
 
 					if (memberResult.getMember().shouldLoadDocumentation() && baseType != null) {
-						CompletableFuture<Void> javadocFetchFuture = project
-								.getJavadoc(memberResult.getMember(), baseType, hasMarkdown) //
+						CompletableFuture<Void> javadocFetchFuture = RequestCancelChecker
+								.cancelWithRequest(project.getJavadoc(memberResult.getMember(), baseType, hasMarkdown),
+										cancelChecker) //
 								.thenAccept(documentation -> memberResult.getMember()
 										.setDocumentation(documentation == null ? "" : documentation));
 						return javadocFetchFuture.thenApply(alsoUnused -> {
@@ -512,7 +514,7 @@ public class QuteHover {
 						ResolvedJavaTypeInfo iterableOfResolvedType = resolvedJavaType.isArray() ? null
 								: resolvedJavaType;
 						return doHoverForPropertyPart(part, project, resolvedJavaType, iterableOfResolvedType,
-								hoverRequest);
+								hoverRequest, cancelChecker);
 					}
 					// ex: {m:applica|tion.index.subtitle}
 					List<Hover> hovers = new ArrayList<Hover>();
@@ -526,7 +528,8 @@ public class QuteHover {
 	}
 
 	private CompletableFuture<Hover> doHoverForPropertyPart(Part part, QuteProject project,
-			ResolvedJavaTypeInfo resolvedType, ResolvedJavaTypeInfo iterableOfResolvedType, HoverRequest hoverRequest) {
+			ResolvedJavaTypeInfo resolvedType, ResolvedJavaTypeInfo iterableOfResolvedType, HoverRequest hoverRequest,
+			CancelChecker cancelChecker) {
 		// The Java class type from the previous part had been resolved, resolve the
 		// property
 		if (project == null) {
@@ -543,7 +546,8 @@ public class QuteHover {
 		}
 		boolean hasMarkdown = hoverRequest.canSupportMarkupKind(MarkupKind.MARKDOWN);
 		if (member.shouldLoadDocumentation()) {
-			CompletableFuture<Void> fetchDocsFuture = project.getJavadoc(member, resolvedType, hasMarkdown) //
+			CompletableFuture<Void> fetchDocsFuture = RequestCancelChecker
+					.cancelWithRequest(project.getJavadoc(member, resolvedType, hasMarkdown), cancelChecker) //
 					.thenAccept(documentation -> member.setDocumentation(documentation == null ? "" : documentation));
 			return fetchDocsFuture.thenApply((unusedNull) -> {
 				MarkupContent content = DocumentationUtils.getDocumentation(member, resolvedType, hasMarkdown);
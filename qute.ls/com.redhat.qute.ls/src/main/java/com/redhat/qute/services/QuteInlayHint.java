@@ -11,6 +11,8 @@
 *******************************************************************************/
 package com.redhat.qute.services;
 
+import static com.redhat.qute.services.commands.QuteClientCommandConstants.COMMAND_JAVA_DEFINITION;
+
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -23,8 +25,10 @@ import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import com.redhat.qute.ls.commons.BadLocationException;
 import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.project.QuteProjectRegistry;
 import com.redhat.qute.services.inlayhint.InlayHintASTVistor;
+import com.redhat.qute.services.inlayhint.InlayHintCache;
 import com.redhat.qute.settings.QuteInlayHintSettings;
 import com.redhat.qute.settings.SharedSettings;
 
@@ -43,8 +47,11 @@ public class QuteInlayHint {
 
 	private final QuteProjectRegistry projectRegistry;
 
+	private final InlayHintCache cache;
+
 	public QuteInlayHint(QuteProjectRegistry projectRegistry) {
 		this.projectRegistry = projectRegistry;
+		this.cache = new InlayHintCache();
 	}
 
 	public CompletableFuture<List<InlayHint>> getInlayHint(Template template, Range range,
@@ -69,11 +76,27 @@ public class QuteInlayHint {
 						}
 					}
 					cancelChecker.checkCanceled();
+					QuteProject project = template.getProject();
+					long dataModelVersion = project != null ? project.getDataModelVersion() : -1;
+					boolean canSupportJavaDefinition = sharedSettings.getCommandCapabilities()
+							.isCommandSupported(COMMAND_JAVA_DEFINITION);
+					List<InlayHint> cachedHints = cache.get(template, dataModelVersion, settings,
+							canSupportJavaDefinition, startOffset, endOffset);
+					if (cachedHints != null) {
+						return cachedHints;
+					}
 					InlayHintASTVistor visitor = new InlayHintASTVistor(startOffset, endOffset,
 							sharedSettings, resolvingJavaTypeContext, cancelChecker);
 					template.accept(visitor);
 					cancelChecker.checkCanceled();
-					return visitor.getInlayHints();
+					List<InlayHint> hints = visitor.getInlayHints();
+					if (project != null && project.isDataModelLoaded() && resolvingJavaTypeContext.isEmpty()) {
+						// Cache the inlay hints only when all Java types are resolved, otherwise
+						// the inlay hints will be computed again once the Java types are resolved.
+						cache.put(template, dataModelVersion, settings, canSupportJavaDefinition, startOffset,
+								endOffset, hints);
+					}
+					return hints;
 				});
 	}
 
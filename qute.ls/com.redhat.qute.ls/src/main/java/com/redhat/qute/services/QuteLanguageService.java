@@ -11,6 +11,7 @@
 *******************************************************************************/
 package com.redhat.qute.services;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -31,15 +32,20 @@ import org.eclipse.lsp4j.LocationLink;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.ReferenceContext;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import com.redhat.qute.ls.api.QuteTemplateJavaTextEditProvider;
 import com.redhat.qute.ls.commons.snippets.Snippet;
 import com.redhat.qute.ls.commons.snippets.SnippetRegistry;
 import com.redhat.qute.ls.commons.snippets.SnippetRegistryProvider;
 import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.project.QuteProjectRegistry;
 import com.redhat.qute.services.codeactions.QuteTemplateCodeActionResolvers;
 import com.redhat.qute.services.completions.CompletionData;
@@ -71,6 +77,7 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 	private final QuteLinkedEditing linkedEditing;
 	private final QuteReference reference;
 	private final QuteRename rename;
+	private final QuteSemanticTokens semanticTokens;
 	private final QuteSymbolsProvider symbolsProvider;
 	private final QuteTemplateCodeActionResolvers codeActionResolvers;
 
@@ -90,6 +97,7 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 		this.linkedEditing = new QuteLinkedEditing();
 		this.reference = new QuteReference();
 		this.rename = new QuteRename();
+		this.semanticTokens = new QuteSemanticTokens(projectRegistry);
 		this.symbolsProvider = new QuteSymbolsProvider();
 		this.codeActionResolvers = new QuteTemplateCodeActionResolvers();
 	}
@@ -144,9 +152,14 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 				commandCapabilities, cancelChecker);
 	}
 
-	public CompletionItem resolveCompletionItem(CompletionItem unresolved, CompletionData data, Template template,
-			CancelChecker cancelChecker) {
-		return completions.resolveCompletionItem(unresolved, data, template, cancelChecker);
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved, CompletionData data,
+			Template template, CancelChecker cancelChecker) {
+		return resolveCompletionItem(unresolved, data, template, null, cancelChecker);
+	}
+
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved, CompletionData data,
+			Template template, QuteCompletionSettings completionSettings, CancelChecker cancelChecker) {
+		return completions.resolveCompletionItem(unresolved, data, template, completionSettings, cancelChecker);
 	}
 
 	/**
@@ -232,6 +245,37 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 		return inlayHint.getInlayHint(template, range, sharedSettings, resolvingJavaTypeContext, cancelChecker);
 	}
 
+	/**
+	 * Semantic tokens of the given Qute <code>template</code>.
+	 *
+	 * @param template                 the Qute template.
+	 * @param resolvingJavaTypeContext context for resolved java type in tokens.
+	 * @param cancelChecker            the cancel checker.
+	 * @return the semantic tokens of the given Qute <code>template</code>.
+	 */
+	public CompletableFuture<SemanticTokens> getSemanticTokens(Template template,
+			ResolvingJavaTypeContext resolvingJavaTypeContext, CancelChecker cancelChecker) {
+		return semanticTokens.getSemanticTokens(template, resolvingJavaTypeContext, cancelChecker);
+	}
+
+	/**
+	 * Semantic tokens edits of the given Qute <code>template</code> since the
+	 * semantic tokens sent with the given result id.
+	 *
+	 * @param template                 the Qute template.
+	 * @param previousResultId         the result id of the previous semantic
+	 *                                 tokens.
+	 * @param resolvingJavaTypeContext context for resolved java type in tokens.
+	 * @param cancelChecker            the cancel checker.
+	 * @return the semantic tokens edits or all semantic tokens if the previous
+	 *         semantic tokens are unknown.
+	 */
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> getSemanticTokensDelta(Template template,
+			String previousResultId, ResolvingJavaTypeContext resolvingJavaTypeContext, CancelChecker cancelChecker) {
+		return semanticTokens.getSemanticTokensDelta(template, previousResultId, resolvingJavaTypeContext,
+				cancelChecker);
+	}
+
 	/**
 	 * Linked editing range(s) in the given Qute <code>template</code>.
 	 *
@@ -294,6 +338,22 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 		return symbolsProvider.findSymbolInformations(template, cancelChecker);
 	}
 
+	/**
+	 * Returns the symbols (fragment ids, user tag names, #let/#set aliases,
+	 * parameter declarations) declared in the templates of the given projects
+	 * which match the given query.
+	 *
+	 * @param query         the query (prefix or camel case).
+	 * @param projects      the Qute projects.
+	 * @param cancelChecker the cancel checker.
+	 * @return the symbols declared in the templates of the given projects which
+	 *         match the given query.
+	 */
+	public List<WorkspaceSymbol> findWorkspaceSymbols(String query, Collection<QuteProject> projects,
+			CancelChecker cancelChecker) {
+		return symbolsProvider.findWorkspaceSymbols(query, projects, cancelChecker);
+	}
+
 	/**
 	 * Resolve code action in the given Qute template.
 	 *
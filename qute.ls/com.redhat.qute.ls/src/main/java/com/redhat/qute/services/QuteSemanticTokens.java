@@ -0,0 +1,97 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensLegend;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.project.QuteProjectRegistry;
+import com.redhat.qute.services.semantictokens.QuteSemanticTokenModifier;
+import com.redhat.qute.services.semantictokens.QuteSemanticTokenType;
+import com.redhat.qute.services.semantictokens.SemanticTokensASTVisitor;
+import com.redhat.qute.services.semantictokens.SemanticTokensCache;
+
+/**
+ * Qute semantic tokens support.
+ *
+ */
+public class QuteSemanticTokens {
+
+	public static final SemanticTokensLegend LEGEND = new SemanticTokensLegend(QuteSemanticTokenType.getNames(),
+			QuteSemanticTokenModifier.getNames());
+
+	private final QuteProjectRegistry projectRegistry;
+
+	private final SemanticTokensCache cache;
+
+	public QuteSemanticTokens(QuteProjectRegistry projectRegistry) {
+		this.projectRegistry = projectRegistry;
+		this.cache = new SemanticTokensCache();
+	}
+
+	public CompletableFuture<SemanticTokens> getSemanticTokens(Template template,
+			ResolvingJavaTypeContext resolvingJavaTypeContext, CancelChecker cancelChecker) {
+		return projectRegistry.getDataModelTemplate(template) //
+				.thenApply(templateDataModel -> {
+					return collectSemanticTokens(template, resolvingJavaTypeContext, cancelChecker);
+				});
+	}
+
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> getSemanticTokensDelta(Template template,
+			String previousResultId, ResolvingJavaTypeContext resolvingJavaTypeContext, CancelChecker cancelChecker) {
+		return projectRegistry.getDataModelTemplate(template) //
+				.thenApply(templateDataModel -> {
+					// Get the previous tokens before they are replaced in the cache
+					SemanticTokensCache.CachedTokens previous = cache.get(template.getUri(), previousResultId);
+					SemanticTokens tokens = collectSemanticTokens(template, resolvingJavaTypeContext, cancelChecker);
+					if (previous == null || tokens.getResultId() == null) {
+						// The previous tokens are unknown (or the current tokens are not
+						// complete): send all tokens
+						return Either.forLeft(tokens);
+					}
+					return Either.forRight(new SemanticTokensDelta(
+							SemanticTokensCache.computeEdits(previous.getData(), tokens.getData()),
+							tokens.getResultId()));
+				});
+	}
+
+	private SemanticTokens collectSemanticTokens(Template template, ResolvingJavaTypeContext resolvingJavaTypeContext,
+			CancelChecker cancelChecker) {
+		QuteProject project = template.getProject();
+		long dataModelVersion = project != null ? project.getDataModelVersion() : -1;
+		SemanticTokensCache.CachedTokens cached = cache.get(template, dataModelVersion);
+		if (cached != null) {
+			return new SemanticTokens(cached.getResultId(), cached.getData());
+		}
+		cancelChecker.checkCanceled();
+		SemanticTokensASTVisitor visitor = new SemanticTokensASTVisitor(template, resolvingJavaTypeContext,
+				cancelChecker);
+		template.accept(visitor);
+		List<Integer> data = visitor.getData();
+		cancelChecker.checkCanceled();
+		if (!resolvingJavaTypeContext.isEmpty() || (project != null && !project.isDataModelLoaded())) {
+			// Some Java types are resolving, the semantic tokens will be computed again
+			// once they are resolved: don't cache them and don't give a result id.
+			return new SemanticTokens(data);
+		}
+		SemanticTokensCache.CachedTokens entry = cache.put(template, dataModelVersion, data);
+		return new SemanticTokens(entry.getResultId(), entry.getData());
+	}
+}
@@ -12,18 +12,22 @@
 package com.redhat.qute.services;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import com.redhat.qute.parser.template.Node;
 import com.redhat.qute.parser.template.NodeKind;
 import com.redhat.qute.parser.template.Section;
 import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.project.symbols.IndexedSymbol;
 import com.redhat.qute.utils.QutePositionUtility;
 
 /**
@@ -32,6 +36,10 @@ import com.redhat.qute.utils.QutePositionUtility;
  */
 class QuteSymbolsProvider {
 
+	// The client re-sends the query while the user types, so the number of
+	// returned workspace symbols is limited.
+	private static final int MAX_WORKSPACE_SYMBOLS = 1000;
+
 	public List<DocumentSymbol> findDocumentSymbols(Template template, CancelChecker cancelChecker) {
 		List<DocumentSymbol> symbols = new ArrayList<>();
 		for (int i = 0; i < template.getChildCount(); i++) {
@@ -118,4 +126,19 @@ class QuteSymbolsProvider {
 
 		return symbols;
 	}
+
+	public List<WorkspaceSymbol> findWorkspaceSymbols(String query, Collection<QuteProject> projects,
+			CancelChecker cancelChecker) {
+		List<WorkspaceSymbol> symbols = new ArrayList<>();
+		for (QuteProject project : projects) {
+			int maxResults = MAX_WORKSPACE_SYMBOLS - symbols.size();
+			if (maxResults <= 0) {
+				break;
+			}
+			for (IndexedSymbol symbol : project.getSymbolIndex().findSymbols(query, maxResults, cancelChecker)) {
+				symbols.add(symbol.toWorkspaceSymbol());
+			}
+		}
+		return symbols;
+	}
 }
@@ -36,6 +36,7 @@ import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.settings.QuteValidationSettings.Severity;
 import com.redhat.qute.utils.QutePositionUtility;
+import com.redhat.qute.utils.SimilarValueIndex;
 
 /**
  * Abstract class for Qute code action.
@@ -63,14 +64,35 @@ public abstract class AbstractQuteCodeAction {
 			Set<String> existingProperties, Diagnostic diagnostic, List<CodeAction> codeActions) {
 		String partName = part.getPartName();
 		if (!existingProperties.contains(value) && isSimilar(value, partName)) {
-			Range rangeValue = QutePositionUtility.createRange(part);
-			CodeAction similarCodeAction = CodeActionFactory.replace(MessageFormat.format(DID_YOU_MEAN_TITLE, value),
-					rangeValue, value, template.getTextDocument(), diagnostic);
-			codeActions.add(similarCodeAction);
+			codeActions.add(createCodeActionForSimilarValue(part, value, template, diagnostic));
 			existingProperties.add(value);
 		}
 	}
 
+	/**
+	 * Generate code actions for the values of the given index which are similar to
+	 * the part name (Did you mean ...?)
+	 *
+	 * @param part        the part node.
+	 * @param index       the index of the candidate values.
+	 * @param template    the Qute template.
+	 * @param diagnostic  the diagnostic.
+	 * @param codeActions list of CodeActions.
+	 */
+	protected void doCodeActionsForSimilarValues(Part part, SimilarValueIndex index, Template template,
+			Diagnostic diagnostic, List<CodeAction> codeActions) {
+		for (String value : index.findSimilar(part.getPartName())) {
+			codeActions.add(createCodeActionForSimilarValue(part, value, template, diagnostic));
+		}
+	}
+
+	private static CodeAction createCodeActionForSimilarValue(Part part, String value, Template template,
+			Diagnostic diagnostic) {
+		Range rangeValue = QutePositionUtility.createRange(part);
+		return CodeActionFactory.replace(MessageFormat.format(DID_YOU_MEAN_TITLE, value), rangeValue, value,
+				template.getTextDocument(), diagnostic);
+	}
+
 	/**
 	 * CodeAction to change severity setting value to "ignore"
 	 *
@@ -12,6 +12,7 @@
 package com.redhat.qute.services.codeactions;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -35,6 +36,7 @@ import com.redhat.qute.services.diagnostics.QuteErrorCode;
 import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.utils.SimilarValueIndex;
 
 /**
  * Code actions for {@link QuteErrorCode#UnknownMethod}.
@@ -47,8 +49,11 @@ public class QuteCodeActionForUnknownMethod extends AbstractQuteCodeAction {
 	private static final Logger LOGGER = Logger.getLogger(QuteCodeActionForUnknownMethod.class.getName());
 	private final QuteProjectRegistry projectRegistry;
 
+	private final SimilarValueIndexCache similarValueIndexCache;
+
 	public QuteCodeActionForUnknownMethod(QuteProjectRegistry projectRegistry) {
 		this.projectRegistry = projectRegistry;
+		this.similarValueIndexCache = new SimilarValueIndexCache();
 	}
 
 	@Override
@@ -100,44 +105,51 @@ public class QuteCodeActionForUnknownMethod extends AbstractQuteCodeAction {
 			return;
 		}
 		JavaTypeFilter filter = projectRegistry.getJavaTypeFilter(project.getUri(), nativeImageSettings);
-		Set<String> existingProperties = new HashSet<>();
-
-		// Collect similar code action for methods defined in Java type
-		collectSimilarCodeActionsForJavaMethods(part, template, project, baseResolvedType, filter,
-				existingProperties, diagnostic, codeActions);
-
-		// Collect similar code action for methods defined in built-in Qute value
-		// resolvers
-		List<MethodValueResolver> resolvers = project.getResolversFor(baseResolvedType);
-		for (MethodValueResolver method : resolvers) {
-			if (method.isValidName()) {
-				doCodeActionsForSimilarValue(part, method.getMethodName(), template, existingProperties, diagnostic,
-						codeActions);
+		// In native mode, the available methods depend on the template
+		boolean cacheable = !filter.isInNativeMode();
+		SimilarValueIndex index = cacheable ? similarValueIndexCache.get(project, baseResolvedType) : null;
+		if (index == null) {
+			Set<String> methods = new LinkedHashSet<>();
+
+			// Collect methods defined in Java type
+			boolean resolved = collectJavaMethods(template, project, baseResolvedType, filter, methods,
+					new HashSet<>());
+
+			// Collect methods defined in built-in Qute value resolvers
+			List<MethodValueResolver> resolvers = project.getResolversFor(baseResolvedType);
+			for (MethodValueResolver method : resolvers) {
+				if (method.isValidName()) {
+					methods.add(method.getMethodName());
+				}
+			}
+			index = new SimilarValueIndex(methods);
+			if (cacheable && resolved) {
+				similarValueIndexCache.put(project, baseResolvedType, index);
 			}
 		}
+		doCodeActionsForSimilarValues(part, index, template, diagnostic, codeActions);
 	}
 
-	private void collectSimilarCodeActionsForJavaMethods(MethodPart part, Template template, QuteProject project,
-			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> existingProperties,
-			Diagnostic diagnostic, List<CodeAction> codeActions) {
-		collectSimilarCodeActionsForJavaMethods(part, template, project, baseResolvedType, filter,
-				existingProperties, diagnostic, codeActions, new HashSet<>());
-	}
-
-	private void collectSimilarCodeActionsForJavaMethods(MethodPart part, Template template, QuteProject project,
-			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> existingProperties,
-			Diagnostic diagnostic, List<CodeAction> codeActions, Set<ResolvedJavaTypeInfo> visited) {
+	/**
+	 * Collect the method names of the given Java type and its super types.
+	 *
+	 * @return true if all super types are resolved and false otherwise.
+	 */
+	private static boolean collectJavaMethods(Template template, QuteProject project,
+			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> methods,
+			Set<ResolvedJavaTypeInfo> visited) {
 		if (visited.contains(baseResolvedType)) {
-			return;
+			return true;
 		}
 		visited.add(baseResolvedType);
 
-		// Java method similar code actions
+		// Java methods
 		for (JavaMethodInfo method : baseResolvedType.getMethods()) {
-			doCodeActionsForSimilarValue(part, method.getName(), template, existingProperties, diagnostic, codeActions);
+			methods.add(method.getName());
 		}
 
-		// Java super method similar code actions
+		boolean resolved = true;
+		// Java super methods
 		JavaTypeAccessibiltyRule javaTypeAccessibility = filter.getJavaTypeAccessibility(baseResolvedType,
 				template.getJavaTypesSupportedInNativeMode());
 		if (!isIgnoreSuperclasses(baseResolvedType, javaTypeAccessibility, filter)) {
@@ -146,12 +158,15 @@ public class QuteCodeActionForUnknownMethod extends AbstractQuteCodeAction {
 				for (String extendedType : extendedTypes) {
 					ResolvedJavaTypeInfo resolvedExtendedType = project.resolveJavaTypeSync(extendedType);
 					if (!QuteCompletableFutures.isResolvingJavaTypeOrNull(resolvedExtendedType)) {
-						collectSimilarCodeActionsForJavaMethods(part, template, project, resolvedExtendedType,
-								filter, existingProperties, diagnostic, codeActions, visited);
+						resolved &= collectJavaMethods(template, project, resolvedExtendedType, filter, methods,
+								visited);
+					} else if (QuteCompletableFutures.isResolvingJavaType(resolvedExtendedType)) {
+						resolved = false;
 					}
 				}
 			}
 		}
+		return resolved;
 	}
 
 }
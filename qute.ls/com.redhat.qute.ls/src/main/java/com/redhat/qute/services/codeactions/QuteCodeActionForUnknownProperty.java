@@ -16,6 +16,7 @@ import static com.redhat.qute.ls.commons.CodeActionFactory.createCodeActionWithD
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +45,7 @@ import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.settings.QuteNativeSettings;
 import com.redhat.qute.settings.SharedSettings;
+import com.redhat.qute.utils.SimilarValueIndex;
 
 /**
  * Code actions for {@link QuteErrorCode#UnknownProperty}.
@@ -65,8 +67,11 @@ public class QuteCodeActionForUnknownProperty extends AbstractQuteCodeAction {
 
 	private final QuteProjectRegistry projectRegistry;
 
+	private final SimilarValueIndexCache similarValueIndexCache;
+
 	public QuteCodeActionForUnknownProperty(QuteProjectRegistry projectRegistry) {
 		this.projectRegistry = projectRegistry;
+		this.similarValueIndexCache = new SimilarValueIndexCache();
 	}
 
 	@Override
@@ -147,57 +152,64 @@ public class QuteCodeActionForUnknownProperty extends AbstractQuteCodeAction {
 		}
 
 		JavaTypeFilter filter = projectRegistry.getJavaTypeFilter(project.getUri(), nativeImageSettings);
-		Set<String> existingProperties = new HashSet<>();
-
-		// Collect similar code action for Java properties defined in Java type
-		collectSimilarCodeActionsForJavaProperties(part, template, project, baseResolvedType, filter,
-				existingProperties, diagnostic, codeActions);
-
-		// Collect similar code action for methods (getter or method which have no
-		// parameters) defined in built-in Qute value
-		// resolvers
-		List<MethodValueResolver> resolvers = project.getResolversFor(baseResolvedType);
-		for (MethodValueResolver method : resolvers) {
-			if (method.isValidName() && !method.hasParameters()) {
-				String methodName = method.getMethodName();
-				doCodeActionsForSimilarValue(part, methodName, template, existingProperties, diagnostic, codeActions);
-				String getterName = method.getGetterName();
-				if (getterName != null) {
-					doCodeActionsForSimilarValue(part, getterName, template, existingProperties, diagnostic,
-							codeActions);
+		// In native mode, the available properties depend on the template
+		boolean cacheable = !filter.isInNativeMode();
+		SimilarValueIndex index = cacheable ? similarValueIndexCache.get(project, baseResolvedType) : null;
+		if (index == null) {
+			Set<String> properties = new LinkedHashSet<>();
+
+			// Collect Java properties defined in Java type
+			boolean resolved = collectJavaProperties(template, project, baseResolvedType, filter, properties,
+					new HashSet<>());
+
+			// Collect methods (getter or method which have no parameters) defined in
+			// built-in Qute value resolvers
+			List<MethodValueResolver> resolvers = project.getResolversFor(baseResolvedType);
+			for (MethodValueResolver method : resolvers) {
+				if (method.isValidName() && !method.hasParameters()) {
+					properties.add(method.getMethodName());
+					String getterName = method.getGetterName();
+					if (getterName != null) {
+						properties.add(getterName);
+					}
 				}
 			}
+			index = new SimilarValueIndex(properties);
+			if (cacheable && resolved) {
+				similarValueIndexCache.put(project, baseResolvedType, index);
+			}
 		}
+		doCodeActionsForSimilarValues(part, index, template, diagnostic, codeActions);
 	}
 
-	private void collectSimilarCodeActionsForJavaProperties(PropertyPart part, Template template, QuteProject project,
-			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> existingProperties,
-			Diagnostic diagnostic, List<CodeAction> codeActions) {
-		collectSimilarCodeActionsForJavaProperties(part, template, project, baseResolvedType, filter,
-				existingProperties, diagnostic, codeActions, new HashSet<>());
-	}
-
-	private void collectSimilarCodeActionsForJavaProperties(PropertyPart part, Template template, QuteProject project,
-			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> existingProperties,
-			Diagnostic diagnostic, List<CodeAction> codeActions, Set<ResolvedJavaTypeInfo> visited) {
+	/**
+	 * Collect the properties (fields, getters) of the given Java type and its super
+	 * types.
+	 *
+	 * @return true if all super types are resolved and false otherwise.
+	 */
+	private static boolean collectJavaProperties(Template template, QuteProject project,
+			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> properties,
+			Set<ResolvedJavaTypeInfo> visited) {
 
 		if (visited.contains(baseResolvedType)) {
-			return;
+			return true;
 		}
 		visited.add(baseResolvedType);
 
-		// Java field similar code actions
+		// Java fields
 		for (JavaFieldInfo field : baseResolvedType.getFields()) {
-			doCodeActionsForSimilarValue(part, field.getName(), template, existingProperties, diagnostic, codeActions);
+			properties.add(field.getName());
 		}
 
-		// Java getter methods similar code actions
+		// Java getter methods
 		for (JavaMethodInfo method : baseResolvedType.getMethods()) {
 			String getterName = method.getGetterName();
 			if (getterName != null) {
-				doCodeActionsForSimilarValue(part, getterName, template, existingProperties, diagnostic, codeActions);
+				properties.add(getterName);
 			}
 		}
+		boolean resolved = true;
 
 		// Java super field similar code actions
 		JavaTypeAccessibiltyRule rule = filter.getJavaTypeAccessibility(baseResolvedType,
@@ -208,12 +220,15 @@ public class QuteCodeActionForUnknownProperty extends AbstractQuteCodeAction {
 				for (String extendedType : extendedTypes) {
 					ResolvedJavaTypeInfo resolvedExtendedType = project.resolveJavaTypeSync(extendedType);
 					if (!QuteCompletableFutures.isResolvingJavaTypeOrNull(resolvedExtendedType)) {
-						collectSimilarCodeActionsForJavaProperties(part, template, project, resolvedExtendedType,
-								filter, existingProperties, diagnostic, codeActions, visited);
+						resolved &= collectJavaProperties(template, project, resolvedExtendedType, filter,
+								properties, visited);
+					} else if (QuteCompletableFutures.isResolvingJavaType(resolvedExtendedType)) {
+						resolved = false;
 					}
 				}
 			}
 		}
+		return resolved;
 	}
 
 	private static void doCodeActionToCreateField(String missingProperty, String resolvedType, String projectUri,
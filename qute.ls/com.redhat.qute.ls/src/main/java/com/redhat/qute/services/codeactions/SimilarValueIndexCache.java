@@ -0,0 +1,92 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.codeactions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.utils.SimilarValueIndex;
+
+/**
+ * Cache of {@link SimilarValueIndex} per Java base type, used by the "Did you
+ * mean ...?" code actions.
+ *
+ * <p>
+ * An index is valid while the data model of the project doesn't change.
+ * </p>
+ *
+ */
+class SimilarValueIndexCache {
+
+	private static final int MAX_ENTRIES = 64;
+
+	private static class CachedIndex {
+
+		private final long dataModelVersion;
+
+		private final SimilarValueIndex index;
+
+		public CachedIndex(long dataModelVersion, SimilarValueIndex index) {
+			this.dataModelVersion = dataModelVersion;
+			this.index = index;
+		}
+	}
+
+	private final Map<String, CachedIndex> indexes;
+
+	public SimilarValueIndexCache() {
+		this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedIndex> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached index of the given Java base type and null otherwise.
+	 *
+	 * @param project  the Qute project.
+	 * @param baseType the Java base type.
+	 * @return the cached index of the given Java base type and null otherwise.
+	 */
+	public synchronized SimilarValueIndex get(QuteProject project, ResolvedJavaTypeInfo baseType) {
+		CachedIndex cached = indexes.get(getKey(project, baseType));
+		if (cached == null || cached.dataModelVersion != project.getDataModelVersion()) {
+			return null;
+		}
+		return cached.index;
+	}
+
+	/**
+	 * Cache the given index for the given Java base type.
+	 *
+	 * @param project  the Qute project.
+	 * @param baseType the Java base type.
+	 * @param index    the index to cache.
+	 */
+	public synchronized void put(QuteProject project, ResolvedJavaTypeInfo baseType, SimilarValueIndex index) {
+		if (!project.isDataModelLoaded()) {
+			return;
+		}
+		indexes.put(getKey(project, baseType), new CachedIndex(project.getDataModelVersion(), index));
+	}
+
+	private static String getKey(QuteProject project, ResolvedJavaTypeInfo baseType) {
+		return project.getUri() + '#' + baseType.getSignature();
+	}
+}
@@ -0,0 +1,231 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.codelens;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.CodeLens;
+
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.parser.template.Section;
+import com.redhat.qute.parser.template.Template;
+
+/**
+ * Cache of code lenses keyed by (template, data model version, settings).
+ *
+ * <p>
+ * A template instance is re-created each time its document is parsed again, so
+ * comparing the template by identity is the same thing than comparing the
+ * document version. The cached code lenses are invalidated selectively:
+ * </p>
+ * <ul>
+ * <li>the code lenses which display a Java type which was still resolving
+ * (ex : 'name : ?') are updated when their future completes, without computing
+ * again the other code lenses.</li>
+ * <li>the #insert references code lenses depend on the other templates of the
+ * project, so only their sections are cached and the references are counted for
+ * each request.</li>
+ * </ul>
+ *
+ */
+public class CodeLensCache {
+
+	private static final int MAX_ENTRIES = 64;
+
+	/**
+	 * Code lens which displays a Java type which was resolving when the code lens
+	 * was created.
+	 */
+	private static class PendingCodeLens {
+
+		private final CodeLens codeLens;
+
+		private final CompletableFuture<ResolvedJavaTypeInfo> future;
+
+		private final Function<CompletableFuture<ResolvedJavaTypeInfo>, String> titleProvider;
+
+		public PendingCodeLens(CodeLens codeLens, CompletableFuture<ResolvedJavaTypeInfo> future,
+				Function<CompletableFuture<ResolvedJavaTypeInfo>, String> titleProvider) {
+			this.codeLens = codeLens;
+			this.future = future;
+			this.titleProvider = titleProvider;
+		}
+	}
+
+	/**
+	 * Code lenses computed for a given (template, data model version, settings).
+	 */
+	public static class CachedCodeLenses {
+
+		private final Template template;
+
+		private final long dataModelVersion;
+
+		private final int settingsKey;
+
+		private final List<CodeLens> lenses;
+
+		private final List<PendingCodeLens> pendingLenses;
+
+		private final List<Section> insertSections;
+
+		private final List<Integer> insertIndexes;
+
+		public CachedCodeLenses(Template template, long dataModelVersion, int settingsKey) {
+			this.template = template;
+			this.dataModelVersion = dataModelVersion;
+			this.settingsKey = settingsKey;
+			this.lenses = new ArrayList<>();
+			this.pendingLenses = new ArrayList<>();
+			this.insertSections = new ArrayList<>();
+			this.insertIndexes = new ArrayList<>();
+		}
+
+		/**
+		 * Returns the cached code lenses.
+		 *
+		 * @return the cached code lenses.
+		 */
+		public List<CodeLens> getLenses() {
+			return lenses;
+		}
+
+		/**
+		 * Register a code lens which displays the Java type of the given future. The
+		 * title of the code lens is updated with the given title provider once the
+		 * future is completed.
+		 *
+		 * @param codeLens      the code lens.
+		 * @param future        the resolved Java type future.
+		 * @param titleProvider the title provider.
+		 */
+		public void addJavaTypeCodeLens(CodeLens codeLens, CompletableFuture<ResolvedJavaTypeInfo> future,
+				Function<CompletableFuture<ResolvedJavaTypeInfo>, String> titleProvider) {
+			lenses.add(codeLens);
+			if (!future.isDone()) {
+				pendingLenses.add(new PendingCodeLens(codeLens, future, titleProvider));
+			}
+		}
+
+		/**
+		 * Register an #insert section whose code lenses must be computed for each
+		 * request, because they depend on the other templates.
+		 *
+		 * @param section the #insert section.
+		 */
+		public void addInsertSection(Section section) {
+			insertSections.add(section);
+			insertIndexes.add(lenses.size());
+		}
+
+		/**
+		 * Returns a copy of the cached code lenses where the code lenses of the #insert
+		 * sections, collected with the given collector, are inserted at their original
+		 * position.
+		 *
+		 * @param insertCollector the #insert section code lenses collector.
+		 * @return a copy of the cached code lenses with the #insert sections code
+		 *         lenses.
+		 */
+		public List<CodeLens> createLenses(BiConsumer<Section, List<CodeLens>> insertCollector) {
+			List<CodeLens> result = new ArrayList<>(lenses.size() + insertSections.size());
+			int start = 0;
+			for (int i = 0; i < insertSections.size(); i++) {
+				int index = insertIndexes.get(i);
+				result.addAll(lenses.subList(start, index));
+				insertCollector.accept(insertSections.get(i), result);
+				start = index;
+			}
+			result.addAll(lenses.subList(start, lenses.size()));
+			return result;
+		}
+
+		/**
+		 * Update the title of the code lenses which display a Java type which was
+		 * resolving and which is now resolved.
+		 */
+		synchronized void updatePendingLenses() {
+			if (pendingLenses.isEmpty()) {
+				return;
+			}
+			Iterator<PendingCodeLens> pendingIterator = pendingLenses.iterator();
+			while (pendingIterator.hasNext()) {
+				PendingCodeLens pending = pendingIterator.next();
+				if (pending.future.isDone()) {
+					pending.codeLens.getCommand().setTitle(pending.titleProvider.apply(pending.future));
+					pendingIterator.remove();
+				}
+			}
+		}
+
+		boolean isValid(Template template, long dataModelVersion, int settingsKey) {
+			return this.template == template && this.dataModelVersion == dataModelVersion
+					&& this.settingsKey == settingsKey;
+		}
+	}
+
+	private final Map<String /* template uri */, CachedCodeLenses> entries;
+
+	public CodeLensCache() {
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedCodeLenses> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached code lenses of the given template, updated with the Java
+	 * types resolved since the code lenses were computed, and null if there is no
+	 * cached code lenses.
+	 *
+	 * @param template         the template.
+	 * @param dataModelVersion the version of the data model of the template.
+	 * @param settingsKey      the key of the settings used to compute the code
+	 *                         lenses.
+	 * @return the cached code lenses of the given template and null if there is
+	 *         no cached code lenses.
+	 */
+	public CachedCodeLenses get(Template template, long dataModelVersion, int settingsKey) {
+		CachedCodeLenses entry = null;
+		synchronized (entries) {
+			entry = entries.get(template.getUri());
+		}
+		if (entry == null || !entry.isValid(template, dataModelVersion, settingsKey)) {
+			return null;
+		}
+		entry.updatePendingLenses();
+		return entry;
+	}
+
+	/**
+	 * Cache the given code lenses.
+	 *
+	 * @param entry the code lenses to cache.
+	 */
+	public void put(CachedCodeLenses entry) {
+		synchronized (entries) {
+			entries.put(entry.template.getUri(), entry);
+		}
+	}
+}
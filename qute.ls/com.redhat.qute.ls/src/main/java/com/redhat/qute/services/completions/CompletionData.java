@@ -23,6 +23,19 @@ import com.redhat.qute.utils.JSONUtility;
  * Represents data sent to for completionItem/resolve
  *
  * { 'data': { 'offset': {...}, 'uri': {...} } }
+ *
+ * For Java member (field, method, value resolver) completion items:
+ *
+ * { 'data': { 'uri': {...}, 'javaType': {...} } }
+ *
+ * For Java member completion items contributed by a project extension for the
+ * previous part (ex : page.data.title):
+ *
+ * { 'data': { 'uri': {...}, 'javaType': {...}, 'offset': {...} } }
+ *
+ * For namespace resolver completion items (ex : inject:bean):
+ *
+ * { 'data': { 'uri': {...}, 'namespace': {...} } }
  */
 public class CompletionData {
 
@@ -30,6 +43,10 @@ public class CompletionData {
 
 	private Integer offset;
 
+	private String javaType;
+
+	private String namespace;
+
 	public CompletionData(String uri, Integer offset) {
 		setUri(uri);
 		setOffset(offset);
@@ -55,9 +72,39 @@ public class CompletionData {
 		this.offset = offset;
 	}
 
+	/**
+	 * Returns the signature of the Java base type where the Java member completion
+	 * has been triggered and null otherwise.
+	 *
+	 * @return the signature of the Java base type where the Java member completion
+	 *         has been triggered and null otherwise.
+	 */
+	public String getJavaType() {
+		return javaType;
+	}
+
+	public void setJavaType(String javaType) {
+		this.javaType = javaType;
+	}
+
+	/**
+	 * Returns the namespace of the resolver which has generated the completion
+	 * item and null otherwise.
+	 *
+	 * @return the namespace of the resolver which has generated the completion
+	 *         item and null otherwise.
+	 */
+	public String getNamespace() {
+		return namespace;
+	}
+
+	public void setNamespace(String namespace) {
+		this.namespace = namespace;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(offset, uri);
+		return Objects.hash(offset, uri, javaType, namespace);
 	}
 
 	@Override
@@ -69,7 +116,8 @@ public class CompletionData {
 		if (getClass() != obj.getClass())
 			return false;
 		CompletionData other = (CompletionData) obj;
-		return Objects.equals(offset, other.offset) && Objects.equals(uri, other.uri);
+		return Objects.equals(offset, other.offset) && Objects.equals(uri, other.uri)
+				&& Objects.equals(javaType, other.javaType) && Objects.equals(namespace, other.namespace);
 	}
 
 }
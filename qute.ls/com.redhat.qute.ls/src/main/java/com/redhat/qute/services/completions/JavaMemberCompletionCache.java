@@ -0,0 +1,200 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.completions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.InsertReplaceEdit;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
+
+/**
+ * Cache of completion items for the members (fields, methods, value resolvers)
+ * of a Java base type.
+ *
+ * <p>
+ * The completion items are stored without the request range and are keyed by (project,
+ * base resolved type, infix notation, native mode filter, snippet support, data
+ * model version). Typing <code>{item.na</code> then <code>{item.nam</code>
+ * reuses the items computed for the first request and just updates the text
+ * edit range.
+ * </p>
+ *
+ */
+class JavaMemberCompletionCache {
+
+	private static final int MAX_ENTRIES = 64;
+
+	// The range of the cached text edits is replaced with the range of the
+	// completion request.
+	private static final Range CACHED_RANGE = new Range(new Position(0, 0), new Position(0, 0));
+
+	static class Key {
+
+		private final String projectUri;
+
+		private final ResolvedJavaTypeInfo baseType;
+
+		private final boolean infixNotation;
+
+		private final boolean nativeMode;
+
+		private final JavaTypeAccessibiltyRule javaTypeAccessibility;
+
+		private final boolean snippetsSupported;
+
+		private final long dataModelVersion;
+
+		public Key(String projectUri, ResolvedJavaTypeInfo baseType, boolean infixNotation, boolean nativeMode,
+				JavaTypeAccessibiltyRule javaTypeAccessibility, boolean snippetsSupported, long dataModelVersion) {
+			this.projectUri = projectUri;
+			this.baseType = baseType;
+			this.infixNotation = infixNotation;
+			this.nativeMode = nativeMode;
+			this.javaTypeAccessibility = javaTypeAccessibility;
+			this.snippetsSupported = snippetsSupported;
+			this.dataModelVersion = dataModelVersion;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(projectUri, System.identityHashCode(baseType), infixNotation, nativeMode,
+					System.identityHashCode(javaTypeAccessibility), snippetsSupported, dataModelVersion);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			// The resolved Java type and the accessibility rule are compared by identity
+			// since they are re-created when the data model changes.
+			return baseType == other.baseType && javaTypeAccessibility == other.javaTypeAccessibility
+					&& infixNotation == other.infixNotation && nativeMode == other.nativeMode
+					&& snippetsSupported == other.snippetsSupported && dataModelVersion == other.dataModelVersion
+					&& Objects.equals(projectUri, other.projectUri);
+		}
+	}
+
+	private final Map<Key, List<CompletionItem>> items;
+
+	public JavaMemberCompletionCache() {
+		this.items = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, List<CompletionItem>> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		};
+	}
+
+	/**
+	 * Returns a copy of the cached completion items for the given key updated with
+	 * the given range and template uri and null if there is no cached items.
+	 *
+	 * @param key   the cache key.
+	 * @param range the range of the text edit.
+	 * @param uri   the template uri used by completionItem/resolve.
+	 * @return a copy of the cached completion items for the given key updated with
+	 *         the given range and template uri and null if there is no cached
+	 *         items.
+	 */
+	public List<CompletionItem> get(Key key, Range range, String uri) {
+		List<CompletionItem> cachedItems = null;
+		synchronized (items) {
+			cachedItems = items.get(key);
+		}
+		if (cachedItems == null) {
+			return null;
+		}
+		List<CompletionItem> result = new ArrayList<>(cachedItems.size());
+		CompletionData data = null;
+		if (!cachedItems.isEmpty() && cachedItems.get(0).getData() instanceof CompletionData) {
+			CompletionData cachedData = (CompletionData) cachedItems.get(0).getData();
+			data = new CompletionData(uri, null);
+			data.setJavaType(cachedData.getJavaType());
+		}
+		for (CompletionItem cachedItem : cachedItems) {
+			CompletionItem item = copy(cachedItem, range);
+			item.setData(data);
+			result.add(item);
+		}
+		return result;
+	}
+
+	/**
+	 * Cache the given completion items.
+	 *
+	 * @param key             the cache key.
+	 * @param completionItems the completion items to cache.
+	 */
+	public void put(Key key, Collection<CompletionItem> completionItems) {
+		List<CompletionItem> cachedItems = new ArrayList<>(completionItems.size());
+		for (CompletionItem completionItem : completionItems) {
+			cachedItems.add(copy(completionItem, CACHED_RANGE));
+		}
+		synchronized (items) {
+			items.put(key, cachedItems);
+		}
+	}
+
+	private static CompletionItem copy(CompletionItem item, Range range) {
+		CompletionItem copy = new CompletionItem();
+		copy.setLabel(item.getLabel());
+		copy.setLabelDetails(item.getLabelDetails());
+		copy.setKind(item.getKind());
+		copy.setTags(copyList(item.getTags()));
+		copy.setDetail(item.getDetail());
+		copy.setDocumentation(item.getDocumentation());
+		copy.setPreselect(item.getPreselect());
+		copy.setSortText(item.getSortText());
+		copy.setFilterText(item.getFilterText());
+		copy.setInsertText(item.getInsertText());
+		copy.setInsertTextFormat(item.getInsertTextFormat());
+		copy.setInsertTextMode(item.getInsertTextMode());
+		copy.setAdditionalTextEdits(copyList(item.getAdditionalTextEdits()));
+		copy.setCommitCharacters(copyList(item.getCommitCharacters()));
+		copy.setCommand(item.getCommand());
+		copy.setData(item.getData());
+		Either<TextEdit, InsertReplaceEdit> textEdit = item.getTextEdit();
+		if (textEdit != null) {
+			if (textEdit.isLeft()) {
+				copy.setTextEdit(Either.forLeft(new TextEdit(range, textEdit.getLeft().getNewText())));
+			} else {
+				copy.setTextEdit(
+						Either.forRight(new InsertReplaceEdit(textEdit.getRight().getNewText(), range, range)));
+			}
+		}
+		return copy;
+	}
+
+	private static <T> List<T> copyList(List<T> list) {
+		return list != null ? new ArrayList<>(list) : null;
+	}
+}
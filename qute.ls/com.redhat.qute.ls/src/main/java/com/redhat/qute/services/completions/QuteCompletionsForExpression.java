@@ -13,6 +13,7 @@ package com.redhat.qute.services.completions;
 
 import static com.redhat.qute.parser.template.Section.isCaseSection;
 import static com.redhat.qute.project.datamodel.resolvers.ValueResolver.MATCH_NAME_ANY;
+import static com.redhat.qute.services.QuteCompletableFutures.isResolvingJavaType;
 import static com.redhat.qute.services.QuteCompletableFutures.isResolvingJavaTypeOrNull;
 import static com.redhat.qute.services.QuteCompletableFutures.isValidJavaType;
 import static com.redhat.qute.services.QuteCompletions.EMPTY_FUTURE_COMPLETION;
@@ -108,10 +109,13 @@ public class QuteCompletionsForExpression {
 
 	private final QuteCompletionForTagSection completionForTagSection;
 
+	private final JavaMemberCompletionCache javaMemberCompletionCache;
+
 	public QuteCompletionsForExpression(QuteCompletionForTagSection completionForTagSection,
 			QuteProjectRegistry projectRegistry) {
 		this.completionForTagSection = completionForTagSection;
 		this.projectRegistry = projectRegistry;
+		this.javaMemberCompletionCache = new JavaMemberCompletionCache();
 	}
 
 	/**
@@ -303,16 +307,34 @@ public class QuteCompletionsForExpression {
 	private CompletionList doCompleteForJavaTypeMembers(ResolvedJavaTypeInfo baseType, Part previousPart, Part part, int start, int end,
 			Template template, QuteProject project, boolean infixNotation, QuteCompletionSettings completionSettings,
 			QuteFormattingSettings formattingSettings, QuteNativeSettings nativeImagesSettings) {
-		Set<CompletionItem> completionItems = new HashSet<>();
 		Range range = QutePositionUtility.createRange(start, end, template);
 
-		Set<String> existingProperties = new HashSet<>();
-		Set<String> existingMethodSignatures = new HashSet<>();
 		JavaTypeFilter filter = projectRegistry.getJavaTypeFilter(project.getUri(), nativeImagesSettings);
 		JavaTypeAccessibiltyRule javaTypeAccessibility = !filter.isInNativeMode()
 				? JavaTypeAccessibiltyRule.ALLOWED_WITHOUT_RESTRICTION
 				: filter.getJavaTypeAccessibility(baseType, template.getJavaTypesSupportedInNativeMode());
 
+		// The completion items of the base type members are cached when they don't
+		// depend on the expression (additional types contributed by a project
+		// extension for the previous part).
+		JavaMemberCompletionCache.Key cacheKey = null;
+		boolean hasAdditionalTypes = hasAdditionalTypes(baseType, previousPart, part, template, project);
+		if (project.isDataModelLoaded() && !hasAdditionalTypes) {
+			cacheKey = new JavaMemberCompletionCache.Key(project.getUri(), baseType, infixNotation,
+					filter.isInNativeMode(), javaTypeAccessibility, completionSettings.isCompletionSnippetsSupported(),
+					project.getDataModelVersion());
+			List<CompletionItem> cachedItems = javaMemberCompletionCache.get(cacheKey, range, template.getUri());
+			if (cachedItems != null) {
+				CompletionList list = new CompletionList();
+				list.setItems(cachedItems);
+				return list;
+			}
+		}
+
+		Set<CompletionItem> completionItems = new HashSet<>();
+		Set<String> existingProperties = new HashSet<>();
+		Set<String> existingMethodSignatures = new HashSet<>();
+
 		if (javaTypeAccessibility != null) {
 
 			// Some fields and methods from Java reflection must be shown.
@@ -343,11 +365,81 @@ public class QuteCompletionsForExpression {
 						formattingSettings, completionItems);
 			}
 		}
+		List<CompletionItem> items = completionItems.stream().collect(Collectors.toList());
+		// The documentation of the Java members is computed with completionItem/resolve,
+		// the items only store the template uri and the base type (and the previous
+		// part offset to retrieve the members of the additional types).
+		CompletionData data = new CompletionData(template.getUri(),
+				hasAdditionalTypes ? previousPart.getEnd() : null);
+		data.setJavaType(baseType.getSignature());
+		for (CompletionItem item : items) {
+			item.setData(data);
+		}
+		if (cacheKey != null && !hasResolvingExtendedTypes(baseType, project, new HashSet<>())) {
+			javaMemberCompletionCache.put(cacheKey, items);
+		}
 		CompletionList list = new CompletionList();
-		list.setItems(completionItems.stream().collect(Collectors.toList()));
+		list.setItems(items);
 		return list;
 	}
 
+	/**
+	 * Returns true if a project extension contributes additional types for the
+	 * given base type and false otherwise.
+	 *
+	 * @param baseType     the Java base type.
+	 * @param previousPart the previous part in the expression chain.
+	 * @param part         the part being completed (may be null).
+	 * @param template     the template.
+	 * @param project      the Qute project.
+	 * @return true if a project extension contributes additional types for the
+	 *         given base type and false otherwise.
+	 */
+	private static boolean hasAdditionalTypes(ResolvedJavaTypeInfo baseType, Part previousPart, Part part,
+			Template template, QuteProject project) {
+		if (previousPart == null) {
+			return false;
+		}
+		for (ProjectExtension extension : project.getExtensions()) {
+			if (extension.isEnabled() && extension instanceof MemberResolutionParticipant) {
+				List<ResolvedJavaTypeInfo> additionalTypes = ((MemberResolutionParticipant) extension)
+						.getAdditionalTypes(baseType, previousPart, part, template);
+				if (additionalTypes != null && !additionalTypes.isEmpty()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns true if some extended types of the given base type are not resolved
+	 * yet and false otherwise.
+	 *
+	 * @param baseType the Java base type.
+	 * @param project  the Qute project.
+	 * @param visited  the types that have already been visited.
+	 * @return true if some extended types of the given base type are not resolved
+	 *         yet and false otherwise.
+	 */
+	private static boolean hasResolvingExtendedTypes(ResolvedJavaTypeInfo baseType, QuteProject project,
+			Set<ResolvedJavaTypeInfo> visited) {
+		if (!visited.add(baseType)) {
+			return false;
+		}
+		List<String> extendedTypes = baseType.getExtendedTypes();
+		if (extendedTypes != null) {
+			for (String extendedType : extendedTypes) {
+				ResolvedJavaTypeInfo resolvedExtendedType = project.resolveJavaTypeSync(extendedType);
+				if (isResolvingJavaType(resolvedExtendedType)
+						|| (resolvedExtendedType != null && hasResolvingExtendedTypes(resolvedExtendedType, project, visited))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Make completion items for the fields of the given Java type
 	 * <code>resolvedType</code>, then add them to <code>completionItems</code>.
@@ -1075,6 +1167,7 @@ public class QuteCompletionsForExpression {
 					textEdit.setNewText(label);
 					item.setTextEdit(Either.forLeft(textEdit));
 					item.setSortText("Zb" + item.getLabel());
+					item.setData(createNamespaceCompletionData(resolver, template));
 					completionItems.add(item);
 				}
 			} else {
@@ -1087,6 +1180,7 @@ public class QuteCompletionsForExpression {
 					// Display namespace resolvers (ex : config:getConfigProperty(...)) after
 					// declared objects
 					item.setSortText("Zc" + item.getLabel());
+					item.setData(createNamespaceCompletionData(resolver, template));
 					break;
 				}
 				case FIELD: {
@@ -1097,6 +1191,7 @@ public class QuteCompletionsForExpression {
 					// Display namespace resolvers (ex : inject:bean) after
 					// declared objects
 					item.setSortText("Zb" + item.getLabel());
+					item.setData(createNamespaceCompletionData(resolver, template));
 					break;
 				}
 				case CUSTOM: {
@@ -1115,6 +1210,20 @@ public class QuteCompletionsForExpression {
 		}
 	}
 
+	/**
+	 * Returns the completion data used to resolve the documentation of the given
+	 * namespace resolver with completionItem/resolve.
+	 *
+	 * @param resolver the namespace resolver.
+	 * @param template the template.
+	 * @return the completion data of the given namespace resolver.
+	 */
+	private static CompletionData createNamespaceCompletionData(ValueResolver resolver, Template template) {
+		CompletionData data = new CompletionData(template.getUri(), null);
+		data.setNamespace(resolver.getNamespace());
+		return data;
+	}
+
 	private CompletableFuture<Void> doCompleteExpressionForObjectPartWithParentNodes(Node part, Node node, Range range,
 			int offset, Template template, Set<String> existingVars, QuteCompletionSettings completionSettings,
 			QuteFormattingSettings formattingSettings, QuteNativeSettings nativeImagesSettings,
@@ -29,6 +29,7 @@ import com.redhat.qute.commons.JavaParameterInfo;
 import com.redhat.qute.commons.JavaTypeInfo;
 import com.redhat.qute.commons.JavaTypeKind;
 import com.redhat.qute.commons.QuteJavaTypesParams;
+import com.redhat.qute.ls.commons.RequestCancelChecker;
 import com.redhat.qute.ls.commons.snippets.SnippetsBuilder;
 import com.redhat.qute.parser.template.ParameterDeclaration;
 import com.redhat.qute.parser.template.ParameterDeclaration.JavaTypeRangeOffset;
@@ -79,7 +80,9 @@ public class QuteCompletionsForParameterDeclaration {
 			boolean closed, JavaTypeRangeOffset rangeOffset, QuteProject project, Template template,
 			QuteCompletionSettings completionSettings, CancelChecker cancelChecker) {
 		QuteJavaTypesParams params = new QuteJavaTypesParams(pattern, project.getUri());
-		return projectRegistry.getJavaTypes(params) //
+		// Cancel the Java types search on the JDT side when the completion is
+		// cancelled (ex : the user continues to type)
+		return RequestCancelChecker.cancelWithRequest(projectRegistry.getJavaTypes(params), cancelChecker) //
 				.thenApply(result -> {
 					cancelChecker.checkCanceled();
 					if (result == null) {
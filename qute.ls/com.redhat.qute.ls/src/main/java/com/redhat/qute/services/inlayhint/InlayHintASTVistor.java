@@ -37,6 +37,7 @@ import com.redhat.qute.parser.expression.Part;
 import com.redhat.qute.parser.template.ASTVisitor;
 import com.redhat.qute.parser.template.Expression;
 import com.redhat.qute.parser.template.JavaTypeInfoProvider;
+import com.redhat.qute.parser.template.Node;
 import com.redhat.qute.parser.template.Parameter;
 import com.redhat.qute.parser.template.Section;
 import com.redhat.qute.parser.template.Template;
@@ -104,90 +105,84 @@ public class InlayHintASTVistor extends ASTVisitor {
 	public boolean visit(ForSection node) {
 		cancelChecker.checkCanceled();
 
-		if (!isAfterStartParameterVisible(node)) {
-			return false;
-		}
-		if (inlayHintSettings.isShowSectionParameterType()) {
-			// {#for item[:Item] in items}
-			Parameter aliasParameter = node.getAliasParameter();
-			if (aliasParameter != null) {
-				Parameter iterableParameter = node.getIterableParameter();
-				if (iterableParameter != null) {
-					Template template = node.getOwnerTemplate();
-					QuteProject project = template.getProject();
-					createJavaTypeInlayHint(aliasParameter, iterableParameter, template, project);
+		if (isStartTagVisible(node)) {
+			if (inlayHintSettings.isShowSectionParameterType()) {
+				// {#for item[:Item] in items}
+				Parameter aliasParameter = node.getAliasParameter();
+				if (aliasParameter != null) {
+					Parameter iterableParameter = node.getIterableParameter();
+					if (iterableParameter != null) {
+						Template template = node.getOwnerTemplate();
+						QuteProject project = template.getProject();
+						createJavaTypeInlayHint(aliasParameter, iterableParameter, template, project);
+					}
 				}
 			}
 		}
-		return isAfterEndParameterVisible(node);
+		return true;
 	}
 
 	@Override
 	public boolean visit(IfSection node) {
 		cancelChecker.checkCanceled();
 
-		if (!isAfterStartParameterVisible(node)) {
-			return false;
-		}
-		if (inlayHintSettings.isShowSectionParameterType()) {
-			List<Parameter> parameters = node.getParameters();
-			for (Parameter parameter : parameters) {
-				if (parameter.isOptional()) {
-					// {#if foo??}
-					Template template = node.getOwnerTemplate();
-					QuteProject project = template.getProject();
-					createJavaTypeInlayHint(parameter, template, project);
+		if (isStartTagVisible(node)) {
+			if (inlayHintSettings.isShowSectionParameterType()) {
+				List<Parameter> parameters = node.getParameters();
+				for (Parameter parameter : parameters) {
+					if (parameter.isOptional()) {
+						// {#if foo??}
+						Template template = node.getOwnerTemplate();
+						QuteProject project = template.getProject();
+						createJavaTypeInlayHint(parameter, template, project);
+					}
 				}
 			}
 		}
-		return isAfterEndParameterVisible(node);
+		return true;
 	}
 
 	@Override
 	public boolean visit(LetSection node) {
 		cancelChecker.checkCanceled();
 
-		if (!isAfterStartParameterVisible(node)) {
-			return false;
+		if (isStartTagVisible(node)) {
+			// {#let user[:User]=item.owner }
+			createInlayHintParametersSection(node);
 		}
-		// {#let user[:User]=item.owner }
-		createInlayHintParametersSection(node);
-		return isAfterEndParameterVisible(node);
+		return true;
 	}
 
 	public boolean visit(SetSection node) {
 		cancelChecker.checkCanceled();
 
-		if (!isAfterStartParameterVisible(node)) {
-			return false;
+		if (isStartTagVisible(node)) {
+			// {#set user[:User]=item.owner }
+			createInlayHintParametersSection(node);
 		}
-		// {#set user[:User]=item.owner }
-		createInlayHintParametersSection(node);
-		return isAfterEndParameterVisible(node);
+		return true;
 	}
 
 	public boolean visit(CustomSection node) {
 		cancelChecker.checkCanceled();
 
-		if (!isAfterStartParameterVisible(node)) {
-			return false;
+		if (isStartTagVisible(node)) {
+			// {#form id[:String]=item.id }
+			// {#form item.id[:String] }
+			createInlayHintParametersSection(node);
 		}
-		// {#form id[:String]=item.id }
-		// {#form item.id[:String] }
-		createInlayHintParametersSection(node);
-		return isAfterEndParameterVisible(node);
+		return true;
 	}
 
 	public boolean visit(IncludeSection node) {
 		cancelChecker.checkCanceled();
 
-		if (!isAfterStartParameterVisible(node)) {
-			return false;
+		if (isStartTagVisible(node)) {
+			// {#form id[:String]=item.id }
+			// {#form item.id[:String] }
+			createInlayHintParametersSection(node);
 		}
-		// {#form id[:String]=item.id }
-		// {#form item.id[:String] }
-		createInlayHintParametersSection(node);
-		return isAfterEndParameterVisible(node);
+		return true;
 	}
 
 	@Override
@@ -260,18 +255,26 @@ public class InlayHintASTVistor extends ASTVisitor {
 
 	}
 
-	private boolean isAfterStartParameterVisible(Section node) {
-		if (startOffset == -1) {
-			return true;
-		}
-		return node.getStart() >= startOffset;
+	@Override
+	public boolean preVisit2(Node node) {
+		// Descend only into the nodes which intersect the requested range
+		return isVisible(node.getStart(), node.getEnd());
 	}
 
-	private boolean isAfterEndParameterVisible(Section node) {
-		if (endOffset == -1) {
-			return true;
+	private boolean isStartTagVisible(Section node) {
+		// The inlay hints of a section are displayed in its start tag
+		// ex : {#for item[:Item] in items}
+		return isVisible(node.getStart(), node.getEndParametersOffset());
+	}
+
+	private boolean isVisible(int start, int end) {
+		if (startOffset != -1 && end != -1 && end < startOffset) {
+			return false;
+		}
+		if (endOffset != -1 && start > endOffset) {
+			return false;
 		}
-		return node.getEndParametersOffset() < endOffset;
+		return true;
 	}
 
 	private void createInlayHintParametersSection(Section node) {
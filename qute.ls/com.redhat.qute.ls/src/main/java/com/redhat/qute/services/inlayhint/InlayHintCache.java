@@ -0,0 +1,151 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.inlayhint;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.InlayHint;
+
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.settings.QuteInlayHintSettings;
+
+/**
+ * Cache of inlay hints keyed by (template, data model version, inlay hint
+ * settings, range offsets).
+ *
+ * <p>
+ * A template instance is re-created each time its document is parsed again, so
+ * comparing the template by identity is the same thing than comparing the
+ * document version. Scrolling back and forth in a template reuses the inlay
+ * hints computed for a viewport which has already been displayed.
+ * </p>
+ *
+ */
+public class InlayHintCache {
+
+	private static final int MAX_TEMPLATES = 32;
+
+	private static final int MAX_RANGES_PER_TEMPLATE = 16;
+
+	private static class CachedInlayHints {
+
+		private final Template template;
+
+		private final long dataModelVersion;
+
+		private final QuteInlayHintSettings settings;
+
+		private final boolean canSupportJavaDefinition;
+
+		private final Map<Long, List<InlayHint>> hintsByRange;
+
+		public CachedInlayHints(Template template, long dataModelVersion, QuteInlayHintSettings settings,
+				boolean canSupportJavaDefinition) {
+			this.template = template;
+			this.dataModelVersion = dataModelVersion;
+			// Copy the settings since they are updated when the client settings change
+			this.settings = new QuteInlayHintSettings();
+			this.settings.update(settings);
+			this.canSupportJavaDefinition = canSupportJavaDefinition;
+			this.hintsByRange = new LinkedHashMap<>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, List<InlayHint>> eldest) {
+					return size() > MAX_RANGES_PER_TEMPLATE;
+				}
+			};
+		}
+
+		public boolean isValid(Template template, long dataModelVersion, QuteInlayHintSettings settings,
+				boolean canSupportJavaDefinition) {
+			return this.template == template && this.dataModelVersion == dataModelVersion
+					&& this.canSupportJavaDefinition == canSupportJavaDefinition && this.settings.equals(settings);
+		}
+	}
+
+	private final Map<String /* template uri */, CachedInlayHints> entries;
+
+	public InlayHintCache() {
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedInlayHints> eldest) {
+				return size() > MAX_TEMPLATES;
+			}
+		};
+	}
+
+	/**
+	 * Returns a copy of the cached inlay hints for the given template and range
+	 * offsets and null if there is no cached inlay hints.
+	 *
+	 * @param template                 the template.
+	 * @param dataModelVersion         the data model version of the template
+	 *                                 project.
+	 * @param settings                 the inlay hint settings.
+	 * @param canSupportJavaDefinition true if the client supports the Java
+	 *                                 definition command.
+	 * @param startOffset              the start offset of the range and -1 if
+	 *                                 there is no range.
+	 * @param endOffset                the end offset of the range and -1 if there
+	 *                                 is no range.
+	 * @return a copy of the cached inlay hints for the given template and range
+	 *         offsets and null if there is no cached inlay hints.
+	 */
+	public synchronized List<InlayHint> get(Template template, long dataModelVersion, QuteInlayHintSettings settings,
+			boolean canSupportJavaDefinition, int startOffset, int endOffset) {
+		CachedInlayHints entry = entries.get(template.getUri());
+		if (entry == null || !entry.isValid(template, dataModelVersion, settings, canSupportJavaDefinition)) {
+			return null;
+		}
+		List<InlayHint> hints = entry.hintsByRange.get(getRangeKey(startOffset, endOffset));
+		return hints != null ? new ArrayList<>(hints) : null;
+	}
+
+	/**
+	 * Cache the given inlay hints.
+	 *
+	 * @param template                 the template.
+	 * @param dataModelVersion         the data model version of the template
+	 *                                 project.
+	 * @param settings                 the inlay hint settings.
+	 * @param canSupportJavaDefinition true if the client supports the Java
+	 *                                 definition command.
+	 * @param startOffset              the start offset of the range and -1 if
+	 *                                 there is no range.
+	 * @param endOffset                the end offset of the range and -1 if there
+	 *                                 is no range.
+	 * @param hints                    the inlay hints to cache.
+	 */
+	public synchronized void put(Template template, long dataModelVersion, QuteInlayHintSettings settings,
+			boolean canSupportJavaDefinition, int startOffset, int endOffset, List<InlayHint> hints) {
+		CachedInlayHints entry = entries.get(template.getUri());
+		if (entry == null || !entry.isValid(template, dataModelVersion, settings, canSupportJavaDefinition)) {
+			// The template has been parsed again or the data model has changed: the
+			// inlay hints of the other ranges are obsolete.
+			entry = new CachedInlayHints(template, dataModelVersion, settings, canSupportJavaDefinition);
+			entries.put(template.getUri(), entry);
+		}
+		entry.hintsByRange.put(getRangeKey(startOffset, endOffset), new ArrayList<>(hints));
+	}
+
+	private static Long getRangeKey(int startOffset, int endOffset) {
+		return ((long) startOffset << 32) | (endOffset & 0xFFFFFFFFL);
+	}
+}
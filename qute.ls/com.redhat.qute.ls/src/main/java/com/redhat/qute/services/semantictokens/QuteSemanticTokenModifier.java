@@ -0,0 +1,67 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.semantictokens;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.SemanticTokenModifiers;
+
+/**
+ * Semantic token modifiers supported by the Qute language server. The ordinal
+ * of the enum is the bit of the modifier in the semantic tokens legend.
+ *
+ */
+public enum QuteSemanticTokenModifier {
+
+	// {#let name=...}, {@org.acme.Item item}
+	DECLARATION(SemanticTokenModifiers.Declaration), //
+	// {item.XXXX} when XXXX is not a member of the resolved Java type
+	UNRESOLVED("unresolved");
+
+	private final String name;
+
+	private QuteSemanticTokenModifier(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the LSP name of the token modifier.
+	 *
+	 * @return the LSP name of the token modifier.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the bit mask of the token modifier.
+	 *
+	 * @return the bit mask of the token modifier.
+	 */
+	public int getMask() {
+		return 1 << ordinal();
+	}
+
+	/**
+	 * Returns the LSP names of all token modifiers, ordered by bit.
+	 *
+	 * @return the LSP names of all token modifiers, ordered by bit.
+	 */
+	public static List<String> getNames() {
+		List<String> names = new ArrayList<>();
+		for (QuteSemanticTokenModifier modifier : values()) {
+			names.add(modifier.getName());
+		}
+		return names;
+	}
+}
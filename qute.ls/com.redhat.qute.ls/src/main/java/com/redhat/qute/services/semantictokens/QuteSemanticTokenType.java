@@ -0,0 +1,78 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.semantictokens;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.SemanticTokenTypes;
+
+/**
+ * Semantic token types supported by the Qute language server. The ordinal of
+ * the enum is the index of the token type in the semantic tokens legend.
+ *
+ */
+public enum QuteSemanticTokenType {
+
+	// {inject:bean}, {uri:Controller.method}
+	NAMESPACE(SemanticTokenTypes.Namespace), //
+	// {@org.acme.Item item}
+	TYPE(SemanticTokenTypes.Type), //
+	// {item}, {#let name=...}, {#for item in ...}
+	VARIABLE(SemanticTokenTypes.Variable), //
+	// {#include base title=...}
+	PARAMETER(SemanticTokenTypes.Parameter), //
+	// {item.name}
+	PROPERTY(SemanticTokenTypes.Property), //
+	// {item.isAvailable(1)}
+	METHOD(SemanticTokenTypes.Method), //
+	// {#input /}
+	FUNCTION(SemanticTokenTypes.Function), //
+	// {#for}, {/for}, {#for item in items}, {true}, {null}
+	KEYWORD(SemanticTokenTypes.Keyword), //
+	// {#if item.price > 10}
+	OPERATOR(SemanticTokenTypes.Operator), //
+	// {! comment !}
+	COMMENT(SemanticTokenTypes.Comment), //
+	// {'abcd'}
+	STRING(SemanticTokenTypes.String), //
+	// {10}
+	NUMBER(SemanticTokenTypes.Number);
+
+	private final String name;
+
+	private QuteSemanticTokenType(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the LSP name of the token type.
+	 *
+	 * @return the LSP name of the token type.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the LSP names of all token types, ordered by index.
+	 *
+	 * @return the LSP names of all token types, ordered by index.
+	 */
+	public static List<String> getNames() {
+		List<String> names = new ArrayList<>();
+		for (QuteSemanticTokenType type : values()) {
+			names.add(type.getName());
+		}
+		return names;
+	}
+}
@@ -0,0 +1,255 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.semantictokens;
+
+import static com.redhat.qute.services.QuteCompletableFutures.RESOLVING_JAVA_TYPE;
+import static com.redhat.qute.services.QuteCompletableFutures.isResolvingJavaTypeOrNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.parser.expression.MethodPart;
+import com.redhat.qute.parser.expression.NamespacePart;
+import com.redhat.qute.parser.expression.ObjectPart;
+import com.redhat.qute.parser.expression.Part;
+import com.redhat.qute.parser.expression.Parts;
+import com.redhat.qute.parser.expression.PropertyPart;
+import com.redhat.qute.parser.template.ASTVisitor;
+import com.redhat.qute.parser.template.Comment;
+import com.redhat.qute.parser.template.LiteralSupport;
+import com.redhat.qute.parser.template.Node;
+import com.redhat.qute.parser.template.NodeKind;
+import com.redhat.qute.parser.template.Parameter;
+import com.redhat.qute.parser.template.ParameterDeclaration;
+import com.redhat.qute.parser.template.ParameterDeclaration.JavaTypeRangeOffset;
+import com.redhat.qute.parser.template.Section;
+import com.redhat.qute.parser.template.SectionKind;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.sections.LoopSection;
+import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+
+/**
+ * AST visitor which collects the semantic tokens of a Qute template.
+ *
+ * <p>
+ * The token type of a property or method part depends on the resolved Java
+ * type of the previous part: when the member doesn't exist, the token has the
+ * {@link QuteSemanticTokenModifier#UNRESOLVED} modifier. When a Java type is
+ * still resolving, the future is added to the resolving Java type context and
+ * the token is emitted without modifier.
+ * </p>
+ *
+ */
+public class SemanticTokensASTVisitor extends ASTVisitor {
+
+	private final SemanticTokensBuilder builder;
+
+	private final ResolvingJavaTypeContext resolvingJavaTypeContext;
+
+	private final CancelChecker cancelChecker;
+
+	public SemanticTokensASTVisitor(Template template, ResolvingJavaTypeContext resolvingJavaTypeContext,
+			CancelChecker cancelChecker) {
+		this.builder = new SemanticTokensBuilder(template);
+		this.resolvingJavaTypeContext = resolvingJavaTypeContext;
+		this.cancelChecker = cancelChecker;
+	}
+
+	/**
+	 * Returns the encoded semantic tokens data of the visited template.
+	 *
+	 * @return the encoded semantic tokens data of the visited template.
+	 */
+	public List<Integer> getData() {
+		return builder.build();
+	}
+
+	@Override
+	public void preVisit(Node node) {
+		if (node.getKind() == NodeKind.Section) {
+			cancelChecker.checkCanceled();
+			// {#for
+			Section section = (Section) node;
+			if (section.hasStartTag() && section.hasTag()) {
+				builder.addToken(section.getStartTagNameOpenOffset(), section.getStartTagNameCloseOffset(),
+						getSectionTokenType(section));
+			}
+		}
+	}
+
+	@Override
+	public void postVisit(Node node) {
+		if (node.getKind() == NodeKind.Section) {
+			// {/for}
+			Section section = (Section) node;
+			if (section.hasEndTag() && section.isEndTagClosed()) {
+				builder.addToken(section.getEndTagNameOpenOffset(), section.getEndTagCloseOffset(),
+						getSectionTokenType(section));
+			}
+		}
+	}
+
+	private static QuteSemanticTokenType getSectionTokenType(Section section) {
+		// A custom section is a user tag (ex : {#input /})
+		return section.getSectionKind() == SectionKind.CUSTOM ? QuteSemanticTokenType.FUNCTION
+				: QuteSemanticTokenType.KEYWORD;
+	}
+
+	@Override
+	public boolean visit(Comment node) {
+		// {! comment !}
+		builder.addToken(node.getStart(), node.getEnd(), QuteSemanticTokenType.COMMENT);
+		return false;
+	}
+
+	@Override
+	public boolean visit(ParameterDeclaration node) {
+		// {@org.acme.Item item}
+		List<JavaTypeRangeOffset> classNameRanges = node.getJavaTypeNameRanges();
+		if (classNameRanges != null) {
+			for (JavaTypeRangeOffset range : classNameRanges) {
+				builder.addToken(range.getStart(), range.getEnd(), QuteSemanticTokenType.TYPE);
+			}
+		}
+		if (node.hasAlias()) {
+			builder.addToken(node.getAliasStart(), node.getAliasEnd(), QuteSemanticTokenType.VARIABLE,
+					QuteSemanticTokenModifier.DECLARATION);
+		}
+		return false;
+	}
+
+	@Override
+	public boolean visit(Parameter node) {
+		Section section = node.getOwnerSection();
+		if (section == null) {
+			return true;
+		}
+		if (section.isIterable()) {
+			LoopSection loopSection = (LoopSection) section;
+			if (node == loopSection.getAliasParameter()) {
+				// {#for item in items}
+				builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.VARIABLE,
+						QuteSemanticTokenModifier.DECLARATION);
+				return false;
+			}
+			if (node != loopSection.getIterableParameter()) {
+				// {#for item in items}
+				builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.KEYWORD);
+				return false;
+			}
+			return true;
+		}
+		if (node.hasValueAssigned()) {
+			SectionKind sectionKind = section.getSectionKind();
+			if (sectionKind == SectionKind.LET || sectionKind == SectionKind.SET) {
+				// {#let name=item.name}
+				builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.VARIABLE,
+						QuteSemanticTokenModifier.DECLARATION);
+			} else {
+				// {#include base title=item.name}
+				builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.PARAMETER);
+			}
+			return true;
+		}
+		if (section.isValidOperator(node.getName())) {
+			// {#if item.price > 10}
+			builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.OPERATOR);
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean visit(NamespacePart node) {
+		// {inject:bean}
+		builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.NAMESPACE);
+		return false;
+	}
+
+	@Override
+	public boolean visit(ObjectPart node) {
+		String literalJavaType = LiteralSupport.getLiteralJavaType(node.getPartName());
+		if (literalJavaType == null) {
+			// {item}
+			builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.VARIABLE);
+		} else if ("java.lang.String".equals(literalJavaType)) {
+			// {'abcd'}
+			builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.STRING);
+		} else if ("java.lang.Boolean".equals(literalJavaType) || "null".equals(literalJavaType)) {
+			// {true}, {null}
+			builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.KEYWORD);
+		} else {
+			// {10}
+			builder.addToken(node.getStartName(), node.getEndName(), QuteSemanticTokenType.NUMBER);
+		}
+		return false;
+	}
+
+	@Override
+	public boolean visit(PropertyPart node) {
+		// {item.name}
+		addMemberToken(node, QuteSemanticTokenType.PROPERTY);
+		return false;
+	}
+
+	@Override
+	public boolean visit(MethodPart node) {
+		// {item.isAvailable(1)}
+		addMemberToken(node, QuteSemanticTokenType.METHOD);
+		return false;
+	}
+
+	private void addMemberToken(Part part, QuteSemanticTokenType type) {
+		if (isUnresolvedMember(part)) {
+			builder.addToken(part.getStartName(), part.getEndName(), type, QuteSemanticTokenModifier.UNRESOLVED);
+		} else {
+			builder.addToken(part.getStartName(), part.getEndName(), type);
+		}
+	}
+
+	private boolean isUnresolvedMember(Part part) {
+		Parts parts = part.getParent();
+		if (parts == null) {
+			return false;
+		}
+		Part previousPart = parts.getPreviousPart(part);
+		if (previousPart == null || previousPart.getPartKind() == Parts.PartKind.Namespace) {
+			// {str:concat(...)}
+			return false;
+		}
+		QuteProject project = part.getOwnerTemplate().getProject();
+		if (project == null) {
+			return false;
+		}
+		// The member is unresolved when the base type is resolved and the member
+		// doesn't exist in the base type (a member whose type can't be resolved is
+		// not unresolved).
+		ResolvedJavaTypeInfo baseType = getResolvedJavaType(previousPart, project);
+		if (isResolvingJavaTypeOrNull(baseType)) {
+			return false;
+		}
+		return project.findMember(baseType, part) == null;
+	}
+
+	private ResolvedJavaTypeInfo getResolvedJavaType(Part part, QuteProject project) {
+		CompletableFuture<ResolvedJavaTypeInfo> future = project.resolveJavaType(part);
+		ResolvedJavaTypeInfo resolvedType = future.getNow(RESOLVING_JAVA_TYPE);
+		if (resolvedType == RESOLVING_JAVA_TYPE) {
+			resolvingJavaTypeContext.add(future);
+		}
+		return resolvedType;
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.semantictokens;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.Position;
+
+import com.redhat.qute.ls.commons.BadLocationException;
+import com.redhat.qute.parser.template.Template;
+
+/**
+ * Collects semantic tokens with template offsets and encodes them with the LSP
+ * relative format (delta line, delta start character, length, token type,
+ * token modifiers).
+ *
+ * <p>
+ * A token which spans several lines (ex : a comment) is split into one token
+ * per line since the multiline token support is optional on the client side.
+ * </p>
+ *
+ */
+class SemanticTokensBuilder {
+
+	private static final Logger LOGGER = Logger.getLogger(SemanticTokensBuilder.class.getName());
+
+	private static class Token {
+
+		private final int start;
+
+		private final int end;
+
+		private final int type;
+
+		private final int modifiers;
+
+		public Token(int start, int end, int type, int modifiers) {
+			this.start = start;
+			this.end = end;
+			this.type = type;
+			this.modifiers = modifiers;
+		}
+	}
+
+	private final Template template;
+
+	private final List<Token> tokens;
+
+	public SemanticTokensBuilder(Template template) {
+		this.template = template;
+		this.tokens = new ArrayList<>();
+	}
+
+	/**
+	 * Add a token for the given offsets.
+	 *
+	 * @param start     the start offset.
+	 * @param end       the end offset.
+	 * @param type      the token type.
+	 * @param modifiers the token modifiers.
+	 */
+	public void addToken(int start, int end, QuteSemanticTokenType type, QuteSemanticTokenModifier... modifiers) {
+		if (start < 0 || end <= start) {
+			return;
+		}
+		int mask = 0;
+		for (QuteSemanticTokenModifier modifier : modifiers) {
+			mask |= modifier.getMask();
+		}
+		tokens.add(new Token(start, end, type.ordinal(), mask));
+	}
+
+	/**
+	 * Returns the encoded semantic tokens data.
+	 *
+	 * @return the encoded semantic tokens data.
+	 */
+	public List<Integer> build() {
+		tokens.sort(Comparator.comparingInt(token -> token.start));
+		String text = template.getText();
+		Encoder encoder = new Encoder(tokens.size() * 5);
+		int previousEnd = 0;
+		for (Token token : tokens) {
+			if (token.start < previousEnd) {
+				// Overlapping tokens are not supported by LSP
+				continue;
+			}
+			Position position = null;
+			try {
+				position = template.positionAt(token.start);
+			} catch (BadLocationException e) {
+				LOGGER.log(Level.SEVERE, "Error while computing the position of the semantic token", e);
+				continue;
+			}
+			int line = position.getLine();
+			int character = position.getCharacter();
+			int segmentStart = token.start;
+			int end = Math.min(token.end, text.length());
+			for (int i = segmentStart; i < end; i++) {
+				char c = text.charAt(i);
+				if (c == '\r' || c == '\n') {
+					// Emit the token segment of the current line
+					encoder.add(line, character, i - segmentStart, token);
+					if (c == '\r' && i + 1 < end && text.charAt(i + 1) == '\n') {
+						i++;
+					}
+					line++;
+					character = 0;
+					segmentStart = i + 1;
+				}
+			}
+			encoder.add(line, character, end - segmentStart, token);
+			previousEnd = token.end;
+		}
+		return encoder.data;
+	}
+
+	private static class Encoder {
+
+		private final List<Integer> data;
+
+		private int previousLine;
+
+		private int previousCharacter;
+
+		public Encoder(int capacity) {
+			this.data = new ArrayList<>(capacity);
+		}
+
+		public void add(int line, int character, int length, Token token) {
+			if (length <= 0) {
+				return;
+			}
+			int deltaLine = line - previousLine;
+			data.add(deltaLine);
+			data.add(deltaLine == 0 ? character - previousCharacter : character);
+			data.add(length);
+			data.add(token.type);
+			data.add(token.modifiers);
+			previousLine = line;
+			previousCharacter = character;
+		}
+	}
+}
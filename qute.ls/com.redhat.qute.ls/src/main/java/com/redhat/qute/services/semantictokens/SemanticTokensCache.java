@@ -0,0 +1,180 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.semantictokens;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.lsp4j.SemanticTokensEdit;
+
+import com.redhat.qute.parser.template.Template;
+
+/**
+ * Cache of the last semantic tokens sent for each template, used to answer
+ * 'textDocument/semanticTokens/full' without computing again the tokens of an
+ * unchanged template and to compute 'textDocument/semanticTokens/full/delta'
+ * from the previous token array.
+ *
+ * <p>
+ * A template instance is re-created each time its document is parsed again, so
+ * comparing the template by identity is the same thing than comparing the
+ * document version.
+ * </p>
+ *
+ */
+public class SemanticTokensCache {
+
+	private static final int MAX_ENTRIES = 64;
+
+	/**
+	 * Semantic tokens computed for a given (template, data model version).
+	 */
+	public static class CachedTokens {
+
+		private final Template template;
+
+		private final long dataModelVersion;
+
+		private final String resultId;
+
+		private final List<Integer> data;
+
+		CachedTokens(Template template, long dataModelVersion, String resultId, List<Integer> data) {
+			this.template = template;
+			this.dataModelVersion = dataModelVersion;
+			this.resultId = resultId;
+			this.data = data;
+		}
+
+		/**
+		 * Returns the result id sent to the client.
+		 *
+		 * @return the result id sent to the client.
+		 */
+		public String getResultId() {
+			return resultId;
+		}
+
+		/**
+		 * Returns the encoded semantic tokens data.
+		 *
+		 * @return the encoded semantic tokens data.
+		 */
+		public List<Integer> getData() {
+			return data;
+		}
+	}
+
+	private final Map<String /* template uri */, CachedTokens> entries;
+
+	private final AtomicLong resultIdCounter;
+
+	public SemanticTokensCache() {
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedTokens> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		};
+		this.resultIdCounter = new AtomicLong();
+	}
+
+	/**
+	 * Returns the cached semantic tokens of the given template if they were
+	 * computed with the given data model version and null otherwise.
+	 *
+	 * @param template         the template.
+	 * @param dataModelVersion the data model version of the template project.
+	 * @return the cached semantic tokens of the given template if they were
+	 *         computed with the given data model version and null otherwise.
+	 */
+	public synchronized CachedTokens get(Template template, long dataModelVersion) {
+		CachedTokens entry = entries.get(template.getUri());
+		if (entry != null && entry.template == template && entry.dataModelVersion == dataModelVersion) {
+			return entry;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the last semantic tokens sent for the given template uri with the
+	 * given result id and null otherwise.
+	 *
+	 * @param uri      the template uri.
+	 * @param resultId the result id sent to the client.
+	 * @return the last semantic tokens sent for the given template uri with the
+	 *         given result id and null otherwise.
+	 */
+	public synchronized CachedTokens get(String uri, String resultId) {
+		CachedTokens entry = entries.get(uri);
+		if (entry != null && entry.resultId.equals(resultId)) {
+			return entry;
+		}
+		return null;
+	}
+
+	/**
+	 * Cache the given semantic tokens and returns the cache entry with a new result
+	 * id.
+	 *
+	 * @param template         the template.
+	 * @param dataModelVersion the data model version of the template project.
+	 * @param data             the encoded semantic tokens data.
+	 * @return the cache entry with a new result id.
+	 */
+	public synchronized CachedTokens put(Template template, long dataModelVersion, List<Integer> data) {
+		String resultId = String.valueOf(resultIdCounter.incrementAndGet());
+		CachedTokens entry = new CachedTokens(template, dataModelVersion, resultId, data);
+		entries.put(template.getUri(), entry);
+		return entry;
+	}
+
+	/**
+	 * Returns the edits which transform the previous semantic tokens data into the
+	 * current one.
+	 *
+	 * <p>
+	 * The common prefix and suffix are kept, so an edit in a template only sends
+	 * the changed slice of the token array.
+	 * </p>
+	 *
+	 * @param previous the previous encoded semantic tokens data.
+	 * @param current  the current encoded semantic tokens data.
+	 * @return the edits which transform the previous semantic tokens data into the
+	 *         current one.
+	 */
+	public static List<SemanticTokensEdit> computeEdits(List<Integer> previous, List<Integer> current) {
+		int minSize = Math.min(previous.size(), current.size());
+		int prefix = 0;
+		while (prefix < minSize && previous.get(prefix).equals(current.get(prefix))) {
+			prefix++;
+		}
+		if (prefix == previous.size() && prefix == current.size()) {
+			return Collections.emptyList();
+		}
+		int suffix = 0;
+		while (suffix < minSize - prefix && previous.get(previous.size() - 1 - suffix)
+				.equals(current.get(current.size() - 1 - suffix))) {
+			suffix++;
+		}
+		int deleteCount = previous.size() - prefix - suffix;
+		List<Integer> data = new ArrayList<>(current.subList(prefix, current.size() - suffix));
+		return Collections.singletonList(new SemanticTokensEdit(prefix, deleteCount, data));
+	}
+}
@@ -101,6 +101,10 @@ public class ClientCapabilitiesWrapper {
 		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getInlayHint());
 	}
 
+	public boolean isSemanticTokensDynamicRegistered() {
+		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getSemanticTokens());
+	}
+
 	public boolean isRenameDynamicRegistered() {
 		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getRename());
 	}
@@ -128,6 +132,17 @@ public class ClientCapabilitiesWrapper {
 		return extendedCapabilities.shouldLanguageServerExitOnShutdown();
 	}
 
+	/**
+	 * Returns true if the client supports the
+	 * 'qute/template/binaryTemplateContents' request and false otherwise.
+	 *
+	 * @return true if the client supports the
+	 *         'qute/template/binaryTemplateContents' request and false otherwise.
+	 */
+	public boolean isBinaryTemplateContentsSupported() {
+		return extendedCapabilities != null && extendedCapabilities.isBinaryTemplateContentsSupport();
+	}
+
 	public TextDocumentClientCapabilities getTextDocument() {
 		return this.capabilities.getTextDocument();
 	}
@@ -16,6 +16,7 @@ import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.COMPLETION_ID;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_CODELENS_OPTIONS;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_DOCUMENT_LINK_OPTIONS;
+import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_SEMANTIC_TOKENS_OPTIONS;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.DOCUMENT_DEFINITION_ID;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.DOCUMENT_HIGHLIGHT_ID;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.DOCUMENT_LINK_ID;
@@ -25,6 +26,7 @@ import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.LINKED_EDITING_RANGE_ID;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.REFERENCES_ID;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.RENAME_ID;
+import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.SEMANTIC_TOKENS_ID;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_CODE_ACTION;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_CODE_LENS;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_COMPLETION;
@@ -37,6 +39,7 @@ import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_LINKED_EDITING_RANGE;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_REFERENCES;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_RENAME;
+import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.TEXT_DOCUMENT_SEMANTIC_TOKENS;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.WORKSPACE_EXECUTE_COMMAND;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.WORKSPACE_EXECUTE_COMMAND_ID;
 import static com.redhat.qute.settings.capabilities.ServerCapabilitiesConstants.WORKSPACE_WATCHED_FILES;
@@ -67,6 +70,8 @@ import org.eclipse.lsp4j.ReferenceRegistrationOptions;
 import org.eclipse.lsp4j.Registration;
 import org.eclipse.lsp4j.RegistrationParams;
 import org.eclipse.lsp4j.RenameOptions;
+import org.eclipse.lsp4j.SemanticTokensServerFull;
+import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
 import org.eclipse.lsp4j.TextDocumentRegistrationOptions;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageClient;
@@ -79,6 +84,29 @@ import com.redhat.qute.ls.commons.client.ExtendedClientCapabilities;
  */
 public class QuteCapabilityManager {
 
+	/**
+	 * File name glob patterns of the files watched by the LSP client with
+	 * 'workspace/didChangeWatchedFiles'.
+	 */
+	public static final List<String> WATCHED_FILE_NAME_PATTERNS = Collections.unmodifiableList(Arrays.asList( //
+			// Qute templates
+			"*.html", //
+			"*.json", //
+			"*.yaml", //
+			"*.yml", //
+			"*.txt", //
+			// Images (used by Roq to validate image paths)
+			"*.{jpg,jpeg,png,gif,webp,bmp,tiff,tif,svg,ico,avif,heic,heif}", //
+			// application.properties
+			"application.properties", //
+			"application-*.properties", //
+			// .qute file used by template root to mark templates as alt expression syntaxe
+			// (ex: {=foo})
+			".qute", //
+			// Renarde
+			"messages.properties", //
+			"messages_*.properties"));
+
 	private final Set<String> registeredCapabilities = new HashSet<>(3);
 	private final LanguageClient languageClient;
 
@@ -152,28 +180,27 @@ public class QuteCapabilityManager {
 			registerCapability(INLAY_HINT_ID, TEXT_DOCUMENT_INLAY_HINT, new InlayHintRegistrationOptions(),
 					QuteLanguageIds.QUTE_ALL);
 		}
+		if (this.getClientCapabilities().isSemanticTokensDynamicRegistered()) {
+			// Semantic tokens is only available for Qute templates
+			SemanticTokensWithRegistrationOptions options = new SemanticTokensWithRegistrationOptions(
+					DEFAULT_SEMANTIC_TOKENS_OPTIONS.getLegend(), new SemanticTokensServerFull(true), false);
+			List<DocumentFilter> documentSelector = new ArrayList<>();
+			for (String languageId : QuteLanguageIds.QUTE_ALL) {
+				documentSelector.add(new DocumentFilter(languageId, null, null));
+			}
+			options.setDocumentSelector(documentSelector);
+			registerCapability(SEMANTIC_TOKENS_ID, TEXT_DOCUMENT_SEMANTIC_TOKENS, options);
+		}
 		if (this.getClientCapabilities().isDidChangeWatchedFilesRegistered()) {
 			registerWatchedFiles();
 		}
 	}
 
 	private void registerWatchedFiles() {
-		List<FileSystemWatcher> watchers = new ArrayList<>(5);
-		// Qute templates
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.html")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.json")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.yaml")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.yml")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.txt")));
-		// application.properties
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/application.properties")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/application-*.properties")));
-		// .qute file used by template root to mark templates as alt expression syntaxe
-		// (ex: {=foo})
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/.qute")));
-		// Renarde
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/messages.properties")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/messages_*.properties")));
+		List<FileSystemWatcher> watchers = new ArrayList<>(WATCHED_FILE_NAME_PATTERNS.size());
+		for (String fileNamePattern : WATCHED_FILE_NAME_PATTERNS) {
+			watchers.add(new FileSystemWatcher(Either.forLeft("**/" + fileNamePattern)));
+		}
 		DidChangeWatchedFilesRegistrationOptions options = new DidChangeWatchedFilesRegistrationOptions(watchers);
 		registerCapability(WORKSPACE_WATCHED_FILES_ID, WORKSPACE_WATCHED_FILES, options);
 	}
@@ -280,6 +280,9 @@ public class LevenshteinDistance /*implements EditDistance<Integer>*/ {
                 d[min - 1] = Integer.MAX_VALUE;
             }
 
+            // minimum cost of the current row (Qute LS addition)
+            int rowMin = min == 1 ? d[0] : Integer.MAX_VALUE;
+
             // iterates through [min, max] in s
             for (int i = min; i <= max; i++) {
                 if (left.charAt(i - 1) == rightJ) {
@@ -290,6 +293,14 @@ public class LevenshteinDistance /*implements EditDistance<Integer>*/ {
                     // left and up
                     d[i] = 1 + Math.min(Math.min(d[i - 1], p[i]), p[i - 1]);
                 }
+                rowMin = Math.min(rowMin, d[i]);
+            }
+
+            // the costs of the next rows cannot be less than the minimum cost of
+            // the current row: stop as soon as the threshold is exceeded (Qute LS
+            // addition)
+            if (rowMin > threshold) {
+                return -1;
             }
 
             // copy current distance counts to 'previous row' distance counts
@@ -0,0 +1,160 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index of candidate values used to find the values similar to a given value
+ * (see {@link StringUtils#isSimilar(String, String)}), for instance to provide
+ * "Did you mean ...?" code actions.
+ *
+ * <p>
+ * Candidates are bucketed by length and each candidate stores its sorted
+ * bigrams. A candidate is compared with the Levenshtein distance only if:
+ * </p>
+ * <ul>
+ * <li>its length difference with the value is less than the similarity
+ * threshold.</li>
+ * <li>it shares enough bigrams with the value (q-gram lemma: two strings with
+ * an edit distance k share at least max(|a|, |b|) - 1 - 2k bigrams).</li>
+ * </ul>
+ *
+ */
+public class SimilarValueIndex {
+
+	private static class Candidate {
+
+		private final String value;
+
+		private final int index;
+
+		private final int threshold;
+
+		private final int[] bigrams;
+
+		public Candidate(String value, int index) {
+			this.value = value;
+			this.index = index;
+			this.threshold = StringUtils.getSimilarityThreshold(value);
+			this.bigrams = getBigrams(value);
+		}
+	}
+
+	private final TreeMap<Integer, List<Candidate>> candidatesByLength;
+
+	/**
+	 * Create an index for the given candidate values.
+	 *
+	 * @param values the candidate values (without duplicate) in the order where
+	 *               similar values must be returned.
+	 */
+	public SimilarValueIndex(Collection<String> values) {
+		this.candidatesByLength = new TreeMap<>();
+		int index = 0;
+		for (String value : values) {
+			candidatesByLength.computeIfAbsent(value.length(), k -> new ArrayList<>())
+					.add(new Candidate(value, index++));
+		}
+	}
+
+	/**
+	 * Returns the candidate values similar to the given value, in the order of the
+	 * candidates.
+	 *
+	 * @param current the value (ex : the unknown property name).
+	 * @return the candidate values similar to the given value, in the order of the
+	 *         candidates.
+	 */
+	public List<String> findSimilar(String current) {
+		if (candidatesByLength.isEmpty()) {
+			return Collections.emptyList();
+		}
+		int length = current.length();
+		// A candidate with length l is similar only if |l - length| <= 0.4 * l, so
+		// l belongs to [length / 1.4, length / 0.6]
+		int minLength = (int) Math.floor(length / 1.4) - 1;
+		int maxLength = (int) Math.ceil(length / 0.6) + 1;
+		int[] currentBigrams = null;
+		List<Candidate> matches = null;
+		for (Map.Entry<Integer, List<Candidate>> entry : candidatesByLength
+				.subMap(Math.max(0, minLength), true, maxLength, true).entrySet()) {
+			int candidateLength = entry.getKey();
+			for (Candidate candidate : entry.getValue()) {
+				if (Math.abs(candidateLength - length) > candidate.threshold) {
+					continue;
+				}
+				int minCommonBigrams = Math.max(candidateLength, length) - 1 - 2 * candidate.threshold;
+				if (minCommonBigrams > 0) {
+					if (currentBigrams == null) {
+						currentBigrams = getBigrams(current);
+					}
+					if (countCommon(candidate.bigrams, currentBigrams) < minCommonBigrams) {
+						continue;
+					}
+				}
+				if (StringUtils.isSimilar(candidate.value, current)) {
+					if (matches == null) {
+						matches = new ArrayList<>();
+					}
+					matches.add(candidate);
+				}
+			}
+		}
+		if (matches == null) {
+			return Collections.emptyList();
+		}
+		matches.sort(Comparator.comparingInt(candidate -> candidate.index));
+		List<String> values = new ArrayList<>(matches.size());
+		for (Candidate candidate : matches) {
+			values.add(candidate.value);
+		}
+		return values;
+	}
+
+	private static int[] getBigrams(String value) {
+		if (value.length() < 2) {
+			return new int[0];
+		}
+		int[] bigrams = new int[value.length() - 1];
+		for (int i = 0; i < bigrams.length; i++) {
+			bigrams[i] = (value.charAt(i) << 16) | value.charAt(i + 1);
+		}
+		Arrays.sort(bigrams);
+		return bigrams;
+	}
+
+	private static int countCommon(int[] sorted1, int[] sorted2) {
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < sorted1.length && j < sorted2.length) {
+			if (sorted1[i] == sorted2[j]) {
+				count++;
+				i++;
+				j++;
+			} else if (sorted1[i] < sorted2[j]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return count;
+	}
+}
@@ -45,9 +45,21 @@ public class StringUtils {
 	 * @return true if the two strings are similar, false otherwise
 	 */
 	public static boolean isSimilar(String reference, String current) {
-		int threshold = Math.round(MAX_DISTANCE_DIFF_RATIO * reference.length());
+		int threshold = getSimilarityThreshold(reference);
 		LevenshteinDistance levenshteinDistance = new LevenshteinDistance(threshold);
 		return levenshteinDistance.apply(reference, current) != -1;
 	}
 
+	/**
+	 * Returns the maximum Levenshtein distance for a string to be similar to the
+	 * given reference.
+	 *
+	 * @param reference the string being compared to
+	 * @return the maximum Levenshtein distance for a string to be similar to the
+	 *         given reference.
+	 */
+	public static int getSimilarityThreshold(String reference) {
+		return Math.round(MAX_DISTANCE_DIFF_RATIO * reference.length());
+	}
+
 }
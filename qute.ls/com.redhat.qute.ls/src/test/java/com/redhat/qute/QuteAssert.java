@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
@@ -384,9 +385,9 @@ public class QuteAssert {
 
 		CompletionList resolved = new CompletionList(list.getItems().stream() //
 				.map((item) -> {
-					return (CompletionItem) languageService.resolveCompletionItem(item,
-							CompletionData.getCompletionData(item), template, () -> {
-							});
+					return languageService.resolveCompletionItem(item, CompletionData.getCompletionData(item),
+							template, () -> {
+							}).join();
 				}) //
 				.collect(Collectors.toList()));
 
@@ -872,6 +873,12 @@ public class QuteAssert {
 		List<? extends CodeLens> actual = languageService.getCodeLens(template, sharedSettings, () -> {
 		}).get();
 		assertCodeLens(actual, expected);
+
+		// Second call returns the same code lenses (see QuteCodeLensCacheTest for the
+		// cache hits)
+		actual = languageService.getCodeLens(template, sharedSettings, () -> {
+		}).get();
+		assertCodeLens(actual, expected);
 	}
 
 	public static CodeLens cl(Range range, String title, String command) {
@@ -895,7 +902,7 @@ public class QuteAssert {
 	// ------------------- InlayHint assert
 
 	public static void testInlayHintFor(String value, InlayHint... expected) throws Exception {
-		testInlayHintFor(value, null, expected);
+		testInlayHintFor(value, (QuteInlayHintSettings) null, expected);
 	}
 
 	public static void testInlayHintFor(String value, QuteInlayHintSettings inlayHintSettings, InlayHint... expected)
@@ -903,8 +910,18 @@ public class QuteAssert {
 		testInlayHintFor(value, FILE_URI, null, PROJECT_URI, TEMPLATE_BASE_DIR, inlayHintSettings, expected);
 	}
 
+	public static void testInlayHintFor(String value, Range range, InlayHint... expected) throws Exception {
+		testInlayHintFor(value, FILE_URI, null, PROJECT_URI, TEMPLATE_BASE_DIR, null, range, expected);
+	}
+
 	public static void testInlayHintFor(String value, String fileUri, String templateId, String projectUri,
 			String templateBaseDir, QuteInlayHintSettings inlayHintSettings, InlayHint... expected) throws Exception {
+		testInlayHintFor(value, fileUri, templateId, projectUri, templateBaseDir, inlayHintSettings, null, expected);
+	}
+
+	public static void testInlayHintFor(String value, String fileUri, String templateId, String projectUri,
+			String templateBaseDir, QuteInlayHintSettings inlayHintSettings, Range range, InlayHint... expected)
+			throws Exception {
 		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
 		Template template = createTemplate(value, fileUri, projectUri, templateBaseDir, projectRegistry);
 		onDidOpenTextDocument(templateId, projectUri, projectRegistry, template);
@@ -916,11 +933,20 @@ public class QuteAssert {
 		}
 
 		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
-		Range range = null;
 		List<InlayHint> actual = languageService
 				.getInlayHint(template, range, settings, new ResolvingJavaTypeContext(template), () -> {
 				}).get();
 		assertInlayHint(actual, expected);
+
+		// Second call -> the inlay hints come from the cache: the same inlay hint
+		// instances are returned without visiting the template again.
+		List<InlayHint> cached = languageService
+				.getInlayHint(template, range, settings, new ResolvingJavaTypeContext(template), () -> {
+				}).get();
+		assertEquals(actual.size(), cached.size());
+		for (int i = 0; i < actual.size(); i++) {
+			assertSame(actual.get(i), cached.get(i));
+		}
 	}
 
 	public static InlayHint ih(Position position, String label) {
@@ -0,0 +1,92 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link QuteExecutors}.
+ *
+ */
+public class QuteExecutorsTest {
+
+	@Test
+	public void platformThreadsByDefault() {
+		assertNull(QuteExecutors.createVirtualThreadExecutor(null));
+		assertNull(QuteExecutors.createVirtualThreadExecutor("false"));
+
+		// The tests are executed without the 'virtualThreads' system property
+		assertFalse(QuteExecutors.isVirtualThreadsEnabled());
+		assertSame(ForkJoinPool.commonPool(), QuteExecutors.getAsyncExecutor());
+		ExecutorService requestExecutor = QuteExecutors.getRequestExecutor();
+		try {
+			assertNotNull(requestExecutor);
+		} finally {
+			requestExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void virtualThreads() throws Exception {
+		ExecutorService executor = QuteExecutors.createVirtualThreadExecutor("true");
+		if (!isVirtualThreadsSupported()) {
+			// Java < 21 : fallback to the platform threads
+			assertNull(executor);
+			return;
+		}
+		try {
+			assertNotNull(executor);
+			boolean virtual = CompletableFuture.supplyAsync(() -> isVirtual(Thread.currentThread()), executor).get();
+			assertTrue(virtual);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void sharedScheduler() {
+		ScheduledExecutorService scheduler = QuteExecutors.getScheduler();
+		assertSame(scheduler, QuteExecutors.getScheduler());
+		assertTrue(QuteExecutors.isSharedScheduler(scheduler));
+		assertFalse(QuteExecutors.isSharedScheduler(ForkJoinPool.commonPool()));
+		assertFalse(QuteExecutors.isSharedScheduler(null));
+	}
+
+	private static boolean isVirtualThreadsSupported() {
+		try {
+			Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static boolean isVirtual(Thread thread) {
+		try {
+			return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+		} catch (Exception e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RequestCancelChecker}.
+ *
+ */
+public class RequestCancelCheckerTest {
+
+	@Test
+	public void cancelJdtRequestWhenRequestIsCancelled() {
+		CompletableFuture<String> request = new CompletableFuture<>();
+		RequestCancelChecker cancelChecker = new RequestCancelChecker(request);
+		CompletableFuture<String> jdtRequest = new CompletableFuture<>();
+		assertSame(jdtRequest, RequestCancelChecker.cancelWithRequest(jdtRequest, cancelChecker));
+		assertFalse(jdtRequest.isCancelled());
+
+		request.cancel(true);
+		assertTrue(jdtRequest.isCancelled());
+		assertThrows(CancellationException.class, () -> cancelChecker.checkCanceled());
+	}
+
+	@Test
+	public void cancelJdtRequestWhenRequestIsAlreadyCancelled() {
+		CompletableFuture<String> request = new CompletableFuture<>();
+		RequestCancelChecker cancelChecker = new RequestCancelChecker(request);
+		request.cancel(true);
+
+		CompletableFuture<String> jdtRequest = new CompletableFuture<>();
+		cancelChecker.cancelWithRequest(jdtRequest);
+		assertTrue(jdtRequest.isCancelled());
+	}
+
+	@Test
+	public void doNotCancelJdtRequestWhenRequestIsCompleted() {
+		CompletableFuture<String> request = new CompletableFuture<>();
+		RequestCancelChecker cancelChecker = new RequestCancelChecker(request);
+		CompletableFuture<String> jdtRequest = new CompletableFuture<>();
+		cancelChecker.cancelWithRequest(jdtRequest);
+
+		request.complete("result");
+		assertFalse(jdtRequest.isCancelled());
+	}
+
+	@Test
+	public void ignoreOtherCancelChecker() {
+		CompletableFuture<String> request = new CompletableFuture<>();
+		CancelChecker cancelChecker = () -> {
+			if (request.isCancelled()) {
+				throw new CancellationException();
+			}
+		};
+		CompletableFuture<String> jdtRequest = new CompletableFuture<>();
+		RequestCancelChecker.cancelWithRequest(jdtRequest, cancelChecker);
+
+		request.cancel(true);
+		assertFalse(jdtRequest.isCancelled());
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons.snippets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SnippetRegistry}.
+ *
+ */
+public class SnippetRegistryTest {
+
+	private static final Range RANGE = new Range(new Position(0, 0), new Position(0, 0));
+
+	@Test
+	public void contextIsEvaluatedOnce() {
+		SnippetRegistry<Snippet> registry = new SnippetRegistry<>(null, false);
+		ISnippetContext<Object> inText = new TestSnippetContext();
+		ISnippetContext<Object> inTag = new TestSnippetContext();
+		registry.registerSnippet(createSnippet("a", inText));
+		registry.registerSnippet(createSnippet("b", inText));
+		registry.registerSnippet(createSnippet("c", inText));
+		registry.registerSnippet(createSnippet("d", inTag));
+		registry.registerSnippet(createSnippet("e", null));
+
+		List<ISnippetContext<?>> evaluatedContexts = new ArrayList<>();
+		BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter = (context, model) -> {
+			evaluatedContexts.add(context);
+			return context == inText;
+		};
+		List<CompletionItem> items = getCompletionItems(registry, contextFilter);
+
+		// 'in text' and 'in tag' contexts are evaluated once
+		assertEquals(2, evaluatedContexts.size());
+		assertTrue(evaluatedContexts.contains(inText));
+		assertTrue(evaluatedContexts.contains(inTag));
+		// snippets without context always match
+		assertEquals(Arrays.asList("a", "b", "c", "e"), getLabels(items));
+	}
+
+	@Test
+	public void documentationIsReused() {
+		SnippetRegistry<Snippet> registry = new SnippetRegistry<>(null, false);
+		Snippet snippet = createSnippet("a", null);
+		registry.registerSnippet(snippet);
+
+		CompletionItem first = getCompletionItems(registry, (context, model) -> true).get(0);
+		CompletionItem second = getCompletionItems(registry, (context, model) -> true).get(0);
+		assertSame(first.getDocumentation().getRight(), second.getDocumentation().getRight());
+
+		// The documentation is rendered again when the body changes
+		snippet.setBody(Arrays.asList("{#b}", "{/b}"));
+		CompletionItem third = getCompletionItems(registry, (context, model) -> true).get(0);
+		assertNotSame(first.getDocumentation().getRight(), third.getDocumentation().getRight());
+		assertTrue(third.getDocumentation().getRight().getValue().contains("{#b}"));
+
+		// The documentation is rendered again when the markup kind changes
+		CompletionItem plainText = registry.getCompletionItems(RANGE, "\n", "", null, false, true,
+				(context, model) -> true, null, null, "").get(0);
+		assertNotSame(third.getDocumentation().getRight(), plainText.getDocumentation().getRight());
+	}
+
+	private static class TestSnippetContext extends AbstractSnippetContext<Object> {
+
+		@Override
+		public boolean isMatch(Object value, Map<String, String> model) {
+			return true;
+		}
+	}
+
+	private static List<CompletionItem> getCompletionItems(SnippetRegistry<Snippet> registry,
+			BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter) {
+		return registry.getCompletionItems(RANGE, "\n", "", null, true, true, contextFilter, null, null, "");
+	}
+
+	private static Snippet createSnippet(String label, ISnippetContext<?> context) {
+		Snippet snippet = new Snippet();
+		snippet.setLabel(label);
+		snippet.setPrefixes(Arrays.asList(label));
+		snippet.setBody(Arrays.asList("{#" + label + "}", "{/" + label + "}"));
+		if (context != null) {
+			snippet.setContext(context);
+		}
+		return snippet;
+	}
+
+	private static List<String> getLabels(List<CompletionItem> items) {
+		List<String> labels = new ArrayList<>();
+		for (CompletionItem item : items) {
+			labels.add(item.getLabel());
+		}
+		return labels;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteTextDocument;
+import com.redhat.qute.project.QuteTextDocument;
+
+/**
+ * Tests for {@link RevalidationCoalescer}.
+ *
+ */
+public class RevalidationCoalescerTest {
+
+	private static final long WAIT_MS = 500;
+
+	@Test
+	public void revalidateOnceWhenAllFuturesAreResolved() throws InterruptedException {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		RevalidationCoalescer coalescer = new RevalidationCoalescer(document -> validated.add(document.getUri()));
+
+		QuteTextDocument document = createDocument("a.html");
+		CompletableFuture<String> dataModel = new CompletableFuture<>();
+		CompletableFuture<String> javaType = new CompletableFuture<>();
+		coalescer.revalidateWhenResolved(document, document.getTemplate(), Arrays.asList(dataModel, javaType));
+
+		dataModel.complete("dataModel");
+		Thread.sleep(WAIT_MS);
+		// The document still waits for the Java type
+		assertEquals(Collections.emptyList(), validated);
+
+		javaType.complete("javaType");
+		waitFor(validated, 1);
+		assertEquals(Arrays.asList("a.html"), validated);
+	}
+
+	@Test
+	public void batchDocumentsResolvedAtTheSameTime() throws InterruptedException {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		RevalidationCoalescer coalescer = new RevalidationCoalescer(document -> validated.add(document.getUri()));
+
+		QuteTextDocument a = createDocument("a.html");
+		QuteTextDocument b = createDocument("b.html");
+		CompletableFuture<String> future1 = new CompletableFuture<>();
+		CompletableFuture<String> future2 = new CompletableFuture<>();
+		coalescer.revalidateWhenResolved(a, a.getTemplate(), Arrays.asList(future1, future2));
+		coalescer.revalidateWhenResolved(b, b.getTemplate(), Arrays.asList(future1));
+
+		future1.complete("1");
+		future2.complete("2");
+		// The revalidation is done after the batch delay, not in the thread which
+		// completes the futures.
+		assertEquals(Collections.emptyList(), validated);
+
+		waitFor(validated, 2);
+		validated.sort(null);
+		assertEquals(Arrays.asList("a.html", "b.html"), validated);
+	}
+
+	@Test
+	public void replacePendingRevalidation() throws InterruptedException {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		RevalidationCoalescer coalescer = new RevalidationCoalescer(document -> validated.add(document.getUri()));
+
+		QuteTextDocument document = createDocument("a.html");
+		CompletableFuture<String> oldFuture = new CompletableFuture<>();
+		CompletableFuture<String> newFuture = new CompletableFuture<>();
+		coalescer.revalidateWhenResolved(document, document.getTemplate(), Arrays.asList(oldFuture));
+		coalescer.revalidateWhenResolved(document, document.getTemplate(), Arrays.asList(newFuture));
+
+		oldFuture.complete("old");
+		Thread.sleep(WAIT_MS);
+		assertEquals(Collections.emptyList(), validated);
+
+		newFuture.complete("new");
+		waitFor(validated, 1);
+		assertEquals(Arrays.asList("a.html"), validated);
+	}
+
+	@Test
+	public void dropSupersededRevalidation() throws InterruptedException {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		RevalidationCoalescer coalescer = new RevalidationCoalescer(document -> validated.add(document.getUri()));
+
+		QuteTextDocument document = createDocument("a.html");
+		// The validated template is not the current template of the document
+		Template oldTemplate = TemplateParser.parse("{foo}", "a.html");
+		CompletableFuture<String> future = new CompletableFuture<>();
+		coalescer.revalidateWhenResolved(document, oldTemplate, Arrays.asList(future));
+
+		future.complete("future");
+		Thread.sleep(WAIT_MS);
+		assertEquals(Collections.emptyList(), validated);
+	}
+
+	@Test
+	public void cancelRevalidation() throws InterruptedException {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		RevalidationCoalescer coalescer = new RevalidationCoalescer(document -> validated.add(document.getUri()));
+
+		QuteTextDocument document = createDocument("a.html");
+		CompletableFuture<String> future = new CompletableFuture<>();
+		coalescer.revalidateWhenResolved(document, document.getTemplate(), Arrays.asList(future));
+		coalescer.cancel("a.html");
+
+		future.complete("future");
+		Thread.sleep(WAIT_MS);
+		assertEquals(Collections.emptyList(), validated);
+	}
+
+	private static QuteTextDocument createDocument(String uri) {
+		return new MockQuteTextDocument(TemplateParser.parse("{foo}", uri));
+	}
+
+	private static void waitFor(List<String> validated, int expected) throws InterruptedException {
+		long end = System.currentTimeMillis() + 5000;
+		while (validated.size() < expected && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		// Wait a little to check that there are no other revalidations
+		Thread.sleep(WAIT_MS / 5);
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.FileChangeType;
+import org.eclipse.lsp4j.FileEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.redhat.qute.commons.FileUtils;
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.TemplateRootPath;
+import com.redhat.qute.project.datamodel.ExtendedDataModelProject;
+import com.redhat.qute.project.extensions.AbstractProjectExtension;
+import com.redhat.qute.project.extensions.DidChangeWatchedFilesParticipant;
+import com.redhat.qute.project.extensions.ProjectExtensionContext;
+
+/**
+ * Tests for {@link DidChangeWatchedFilesParticipant}.
+ *
+ */
+public class DidChangeWatchedFilesParticipantTest {
+
+	@TempDir
+	Path projectFolder;
+
+	private static class BatchParticipant extends AbstractProjectExtension
+			implements DidChangeWatchedFilesParticipant {
+
+		private final List<Path> changedFiles = new ArrayList<>();
+
+		private final List<Map<Path, Set<FileChangeType>>> batches = new ArrayList<>();
+
+		private final boolean batch;
+
+		public BatchParticipant(boolean batch) {
+			super(batch ? "batch" : "file");
+			this.batch = batch;
+		}
+
+		@Override
+		protected void initialize(ExtendedDataModelProject dataModelProject, boolean onLoad, boolean enabled,
+				ProjectExtensionContext context) {
+		}
+
+		@Override
+		public boolean didChangeWatchedFile(Path filePath, Set<FileChangeType> changeTypes,
+				ProjectExtensionContext context) {
+			changedFiles.add(filePath);
+			return true;
+		}
+
+		@Override
+		public boolean didChangeWatchedFiles(Map<Path, Set<FileChangeType>> fileEvents,
+				ProjectExtensionContext context) {
+			if (!batch) {
+				return DidChangeWatchedFilesParticipant.super.didChangeWatchedFiles(fileEvents, context);
+			}
+			batches.add(fileEvents);
+			return true;
+		}
+	}
+
+	@Test
+	public void oneCallPerBatch() {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		projectRegistry.setDidChangeWatchedFilesDelay(0);
+		QuteProject project = projectRegistry.getProject(new ProjectInfo(QuteQuickStartProject.PROJECT_URI, projectFolder.toString(),
+				Collections.emptyList(),
+				Arrays.asList(new TemplateRootPath(projectFolder.resolve("templates").toString())),
+				Collections.emptySet(), Collections.emptySet()));
+		BatchParticipant fileParticipant = new BatchParticipant(false);
+		BatchParticipant batchParticipant = new BatchParticipant(true);
+		project.registerExtension(fileParticipant);
+		project.registerExtension(batchParticipant);
+
+		Path authors = projectFolder.resolve("data/authors.yaml");
+		Path books = projectFolder.resolve("data/books.json");
+		projectRegistry.didChangeWatchedFiles(new DidChangeWatchedFilesParams(Arrays.asList( //
+				new FileEvent(FileUtils.toUri(authors), FileChangeType.Changed), //
+				new FileEvent(FileUtils.toUri(books), FileChangeType.Deleted))));
+
+		// The default implementation calls the participant for each file
+		assertEquals(Arrays.asList(authors, books), fileParticipant.changedFiles);
+
+		// The participant which handles the batch is called once with all the files
+		assertEquals(1, batchParticipant.batches.size());
+		assertEquals(Set.of(authors, books), batchParticipant.batches.get(0).keySet());
+		assertEquals(Collections.emptyList(), batchParticipant.changedFiles);
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static com.redhat.qute.project.QuteQuickStartProject.PROJECT_URI;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.JavaMemberInfo;
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.TemplateRootPath;
+import com.redhat.qute.parser.expression.Part;
+import com.redhat.qute.parser.template.Expression;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.parser.template.sections.TemplatePath;
+
+/**
+ * Tests for {@link ExpressionTypeTable}.
+ *
+ */
+public class ExpressionTypeTableTest {
+
+	@Test
+	public void resolvedTypesAreShared() throws Exception {
+		String value = "{@org.acme.Item item}\r\n" + //
+				"{item.review.name}";
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		Template template = createTemplate(value, projectRegistry);
+		QuteProject project = template.getProject();
+		project.getDataModelProject().get();
+
+		Part namePart = findPart(template, value.lastIndexOf("name") + 1);
+		CompletableFuture<ResolvedJavaTypeInfo> first = project.resolveJavaType(namePart);
+		assertEquals("java.lang.String", first.get().getSignature());
+
+		// item, review and name parts are stored in the table
+		ExpressionTypeTable table = template.getExpressionTypeTable();
+		assertNotNull(table);
+		assertEquals(3, table.size());
+
+		// Resolving again the part is a lookup
+		assertSame(first, project.resolveJavaType(namePart));
+		Part reviewPart = findPart(template, value.indexOf("review") + 1);
+		assertSame(table.getResolvedType(reviewPart), project.resolveJavaType(reviewPart));
+
+		// Member is stored too
+		ResolvedJavaTypeInfo reviewType = project.resolveJavaType(reviewPart).get();
+		JavaMemberInfo member = project.findMember(reviewType, namePart);
+		assertNotNull(member);
+		assertSame(member, table.getMember(namePart, reviewType));
+	}
+
+	@Test
+	public void dataModelChangeInvalidatesTable() throws Exception {
+		String value = "{@org.acme.Item item}\r\n" + //
+				"{item.name}";
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		Template template = createTemplate(value, projectRegistry);
+		QuteProject project = template.getProject();
+		project.getDataModelProject().get();
+
+		Part namePart = findPart(template, value.lastIndexOf("name") + 1);
+		project.resolveJavaType(namePart).get();
+		ExpressionTypeTable table = template.getExpressionTypeTable();
+		assertEquals(2, table.size());
+
+		project.resetJavaTypes(null);
+		project.getDataModelProject().get();
+		ExpressionTypeTable newTable = template.getExpressionTypeTable();
+		assertNotSame(table, newTable);
+		assertEquals(0, newTable.size());
+	}
+
+	@Test
+	public void callSitesChangeInvalidatesOnlyCalledTemplate() throws Exception {
+		String value = "{@org.acme.Item item}\r\n" + //
+				"{item.name}";
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		Template template = createTemplate(value, projectRegistry);
+		QuteProject project = template.getProject();
+		project.getDataModelProject().get();
+
+		Part namePart = findPart(template, value.lastIndexOf("name") + 1);
+		project.resolveJavaType(namePart).get();
+		ExpressionTypeTable table = template.getExpressionTypeTable();
+		assertEquals(2, table.size());
+
+		// Include and user tag usages of other templates don't invalidate the table
+		project.getIncludeUsagesRegistry().addUsage("other", new TemplatePath("other.html", "other", true),
+				template.getChild(0));
+		project.getTagRegistry().addUsage("myTag", new TemplatePath("page.html", "page", true),
+				template.getChild(0));
+		assertSame(table, template.getExpressionTypeTable());
+
+		// Include usages of the template invalidate the table
+		project.getIncludeUsagesRegistry().addUsage(template.getTemplateId(),
+				new TemplatePath("page.html", "page", true), template.getChild(0));
+		ExpressionTypeTable newTable = template.getExpressionTypeTable();
+		assertNotSame(table, newTable);
+		assertEquals(0, newTable.size());
+	}
+
+	private static Template createTemplate(String value, QuteProjectRegistry projectRegistry) {
+		Template template = TemplateParser.parse(value, "test.qute");
+		template.setProjectUri(PROJECT_URI);
+		projectRegistry.getProject(new ProjectInfo(PROJECT_URI, "", Collections.emptyList(),
+				Arrays.asList(new TemplateRootPath(TEMPLATE_BASE_DIR)), Collections.emptySet(), Collections.emptySet()));
+		template.setProjectRegistry(projectRegistry);
+		return template;
+	}
+
+	private static Part findPart(Template template, int offset) {
+		Expression expression = (Expression) template.findNodeAt(offset);
+		return (Part) expression.findNodeExpressionAt(offset);
+	}
+}
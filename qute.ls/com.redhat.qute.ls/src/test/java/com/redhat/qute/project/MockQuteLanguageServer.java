@@ -48,6 +48,8 @@ import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
 import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
@@ -148,6 +150,11 @@ public class MockQuteLanguageServer extends QuteLanguageServer {
 		return getResult(getTextDocumentService().codeLens(params));
 	}
 
+	public List<? extends WorkspaceSymbol> workspaceSymbol(String query) {
+		WorkspaceSymbolParams params = new WorkspaceSymbolParams(query);
+		return getResult(getWorkspaceService().symbol(params)).getRight();
+	}
+
 	public void deleteFile(Path filePath) throws Exception {
 		Files.delete(filePath);
 		String uri = FileUtils.toUri(filePath);
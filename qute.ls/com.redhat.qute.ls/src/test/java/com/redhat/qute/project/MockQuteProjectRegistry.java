@@ -31,7 +31,9 @@ import com.redhat.qute.commons.QuteJavaTypesParams;
 import com.redhat.qute.commons.QuteJavadocParams;
 import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.binary.BinaryTemplate;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateContentParams;
 import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
@@ -76,6 +78,7 @@ public class MockQuteProjectRegistry extends QuteProjectRegistry {
 		super(projectInfoProvider, javaTypeProvider, definitionProvider, resolvedClassProvider, dataModelProvider,
 				binaryTemplateProvider, javadocProvider, validator, progressSupportProvider, sharedSettings);
 		super.setAsyncValidation(false);
+		super.setDidChangeWatchedFilesDelay(0);
 		super.setDidChangeWatchedFilesSupported(true);
 	}
 
@@ -211,6 +214,11 @@ public class MockQuteProjectRegistry extends QuteProjectRegistry {
 		return CompletableFuture.completedFuture(Collections.emptyList());
 	}
 
+	@Override
+	public CompletableFuture<List<BinaryTemplate>> getBinaryTemplateContents(QuteBinaryTemplateContentParams params) {
+		return CompletableFuture.completedFuture(Collections.emptyList());
+	}
+
 	@Override
 	public CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> getDataModelProject(
 			QuteDataModelProjectParams params) {
@@ -0,0 +1,113 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
+
+/**
+ * Tests for {@link QuteProjectLoader}.
+ *
+ */
+public class QuteProjectLoaderTest {
+
+	private static class DelayedProject extends QuteProject {
+
+		private final CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> dataModel;
+
+		private boolean fetched;
+
+		public DelayedProject(String uri, QuteProjectRegistry projectRegistry) {
+			super(new ProjectInfo(uri, null, Collections.emptyList(), Collections.emptyList(),
+					Collections.emptySet(), Collections.emptySet()), projectRegistry);
+			this.dataModel = new CompletableFuture<>();
+		}
+
+		@Override
+		protected CompletableFuture<List<BinaryTemplateInfo>> getBinaryTemplates(QuteBinaryTemplateParams params) {
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		@Override
+		protected CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> getDataModelProject(
+				QuteDataModelProjectParams params) {
+			fetched = true;
+			return dataModel;
+		}
+
+		public void completeDataModel() {
+			DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<>();
+			project.setTemplates(new ArrayList<>());
+			project.setValueResolvers(new ArrayList<>());
+			project.setNamespaceResolverInfos(Collections.emptyMap());
+			dataModel.complete(project);
+		}
+	}
+
+	@Test
+	public void sortByDependencies() {
+		QuteProjectRegistry registry = new MockQuteProjectRegistry();
+		DelayedProject app = new DelayedProject("app", registry);
+		DelayedProject lib = new DelayedProject("lib", registry);
+		DelayedProject core = new DelayedProject("core", registry);
+		app.addProjectDependency(lib);
+		lib.addProjectDependency(core);
+		// Circular dependency is ignored
+		core.addProjectDependency(app);
+
+		List<QuteProject> sorted = QuteProjectLoader.sortByDependencies(List.of(app, lib, core));
+		assertEquals(List.of(core, lib, app), sorted);
+	}
+
+	@Test
+	public void concurrencyLimit() throws Exception {
+		QuteProjectRegistry registry = new MockQuteProjectRegistry();
+		DelayedProject p1 = new DelayedProject("p1", registry);
+		DelayedProject p2 = new DelayedProject("p2", registry);
+		DelayedProject p3 = new DelayedProject("p3", registry);
+		List<QuteProject> loaded = Collections.synchronizedList(new ArrayList<>());
+
+		QuteProjectLoader loader = new QuteProjectLoader(2, loaded::add);
+		CompletableFuture<Void> future = loader.load(List.of(p1, p2, p3));
+
+		// Only 2 projects are fetching their data model
+		assertTrue(p1.fetched);
+		assertTrue(p2.fetched);
+		assertFalse(p3.fetched);
+
+		// p3 is started when p1 is loaded
+		p1.completeDataModel();
+		assertTrue(p3.fetched);
+
+		p2.completeDataModel();
+		p3.completeDataModel();
+		future.get(10, TimeUnit.SECONDS);
+		assertEquals(3, loaded.size());
+	}
+}
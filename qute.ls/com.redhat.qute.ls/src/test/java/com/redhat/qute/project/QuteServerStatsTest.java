@@ -0,0 +1,81 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.stats.QuteProjectStats;
+import com.redhat.qute.commons.stats.QuteRequestStats;
+import com.redhat.qute.commons.stats.QuteServerStats;
+import com.redhat.qute.ls.commons.metrics.RequestMetrics;
+import com.redhat.qute.project.renarde.RenardeProject;
+import com.redhat.qute.project.renarde.RenardeProjectQuteLanguageServer;
+
+/**
+ * Tests for the 'qute/server/stats' request.
+ *
+ */
+public class QuteServerStatsTest {
+
+	@Test
+	public void serverStats() throws Exception {
+		RenardeProjectQuteLanguageServer server = new RenardeProjectQuteLanguageServer();
+		server.didOpenWithContent("main.html", "{@java.lang.String userName}\n{userName.length()}");
+		server.hoverFile("main.html", 1, 12);
+
+		QuteServerStats stats = server.getServerStats().get(10, TimeUnit.SECONDS);
+		assertTrue(stats.getMaxHeapBytes() > 0);
+		assertEquals(1, stats.getProjects().size());
+
+		QuteProjectStats projectStats = stats.getProjects().get(0);
+		assertEquals(RenardeProject.PROJECT_URI, projectStats.getUri());
+		assertEquals(1, projectStats.getOpenedDocuments());
+		assertTrue(projectStats.getClosedDocuments() > 0);
+		assertTrue(projectStats.getTemplateContentBytes() > 0);
+		assertTrue(projectStats.getResolvedJavaTypes() > 0);
+		assertTrue(projectStats.getJavaTypeCacheHits() + projectStats.getJavaTypeCacheMisses() > 0);
+		assertEquals(1, projectStats.getNamespaceResolvers());
+	}
+
+	@Test
+	public void requestStats() throws Exception {
+		RenardeProjectQuteLanguageServer server = new RenardeProjectQuteLanguageServer();
+		server.didOpenWithContent("main.html", "{@java.lang.String userName}\n{userName.length()}");
+		server.hoverFile("main.html", 1, 12);
+		server.hoverFile("main.html", 1, 3);
+
+		QuteServerStats stats = server.getServerStats().get(10, TimeUnit.SECONDS);
+		QuteRequestStats hover = findRequestStats(stats, "textDocument/hover");
+		assertNotNull(hover);
+		assertEquals(RequestMetrics.REQUEST_KIND, hover.getKind());
+		assertEquals(2, hover.getCount());
+		assertEquals(0, hover.getCancelled());
+		assertTrue(hover.getMaxMillis() >= hover.getP50Millis());
+
+		QuteRequestStats validation = findRequestStats(stats, RequestMetrics.VALIDATION_KIND);
+		assertNotNull(validation);
+		assertTrue(validation.getCount() > 0);
+	}
+
+	private static QuteRequestStats findRequestStats(QuteServerStats stats, String method) {
+		return stats.getRequests().stream() //
+				.filter(request -> method.equals(request.getMethod())) //
+				.findFirst() //
+				.orElse(null);
+	}
+}
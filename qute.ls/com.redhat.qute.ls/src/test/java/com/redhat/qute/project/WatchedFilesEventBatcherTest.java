@@ -0,0 +1,78 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.FileChangeType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link WatchedFilesEventBatcher}.
+ *
+ */
+public class WatchedFilesEventBatcherTest {
+
+	@TempDir
+	Path projectFolder;
+
+	@Test
+	public void mergeBatches() throws Exception {
+		List<Map<Path, Set<FileChangeType>>> batches = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch processed = new CountDownLatch(1);
+		WatchedFilesEventBatcher batcher = new WatchedFilesEventBatcher(events -> {
+			batches.add(events);
+			processed.countDown();
+		});
+		batcher.setDebounceDelay(200);
+
+		Path base = projectFolder.resolve("base.html");
+		Path page = projectFolder.resolve("page.html");
+		batcher.addEvents(Map.of(base, Set.of(FileChangeType.Created)));
+		batcher.addEvents(Map.of(base, Set.of(FileChangeType.Deleted), page, Set.of(FileChangeType.Changed)));
+
+		assertTrue(processed.await(10, TimeUnit.SECONDS));
+		// Wait a little to check that there is no other processed batch
+		Thread.sleep(300);
+		assertEquals(1, batches.size());
+
+		Map<Path, Set<FileChangeType>> events = batches.get(0);
+		assertEquals(2, events.size());
+		// base.html doesn't exist: created then deleted
+		assertEquals(Set.of(FileChangeType.Deleted), events.get(base));
+		assertEquals(Set.of(FileChangeType.Changed), events.get(page));
+	}
+
+	@Test
+	public void noDelay() {
+		List<Map<Path, Set<FileChangeType>>> batches = new ArrayList<>();
+		WatchedFilesEventBatcher batcher = new WatchedFilesEventBatcher(batches::add);
+		batcher.setDebounceDelay(0);
+
+		Path base = projectFolder.resolve("base.html");
+		batcher.addEvents(Map.of(base, Set.of(FileChangeType.Changed)));
+		assertEquals(1, batches.size());
+		batcher.addEvents(Map.of(base, Set.of(FileChangeType.Changed)));
+		assertEquals(2, batches.size());
+	}
+}
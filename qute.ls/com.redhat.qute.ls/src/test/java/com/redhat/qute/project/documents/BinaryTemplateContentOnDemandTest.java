@@ -0,0 +1,259 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.documents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.binary.BinaryTemplate;
+import com.redhat.qute.commons.binary.BinaryTemplateInfo;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateContentParams;
+import com.redhat.qute.commons.binary.QuteBinaryTemplateParams;
+import com.redhat.qute.parser.template.JavaTypeInfoProvider;
+import com.redhat.qute.parser.template.Parameter;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.project.QuteProjectRegistry;
+
+/**
+ * Tests for binary templates collected without their content.
+ *
+ */
+public class BinaryTemplateContentOnDemandTest {
+
+	private static final Map<String, String> CONTENTS = Map.of( //
+			"jar:tags/button.html", "<button>{label}</button>", //
+			"jar:layouts/main.html", "<html>{#insert /}</html>", //
+			"jar:partials/footer.html", "<footer>{#button label='Top' /}{#include layouts/main /}</footer>");
+
+	private static class ContentOnDemandProject extends QuteProject {
+
+		private final List<QuteBinaryTemplateContentParams> contentRequests = new ArrayList<>();
+
+		private final List<String> paths;
+
+		private boolean contentOnDemand;
+
+		private CompletableFuture<Void> contentLoaded = CompletableFuture.completedFuture(null);
+
+		public ContentOnDemandProject(String uri, QuteProjectRegistry projectRegistry, String... paths) {
+			super(new ProjectInfo(uri, null, Collections.emptyList(), Collections.emptyList(),
+					Collections.emptySet(), Collections.emptySet()), projectRegistry);
+			this.paths = List.of(paths);
+		}
+
+		@Override
+		protected CompletableFuture<List<BinaryTemplateInfo>> getBinaryTemplates(QuteBinaryTemplateParams params) {
+			contentOnDemand = params.isContentOnDemand();
+			List<BinaryTemplate> templates = new ArrayList<>();
+			for (String path : paths) {
+				templates.add(createTemplate(path));
+			}
+			BinaryTemplateInfo info = new BinaryTemplateInfo();
+			info.setBinaryName("roq-theme-1.0.jar");
+			info.setTemplates(templates);
+			return CompletableFuture.completedFuture(List.of(info));
+		}
+
+		@Override
+		protected CompletableFuture<List<BinaryTemplate>> getBinaryTemplateContents(
+				QuteBinaryTemplateContentParams params) {
+			contentRequests.add(params);
+			return contentLoaded.thenApply(_unused -> {
+				List<BinaryTemplate> templates = new ArrayList<>();
+				for (String uri : params.getUris()) {
+					BinaryTemplate template = new BinaryTemplate();
+					template.setUri(uri);
+					template.setContent(CONTENTS.get(uri));
+					templates.add(template);
+				}
+				return templates;
+			});
+		}
+
+		private static BinaryTemplate createTemplate(String path) {
+			String uri = "jar:" + path;
+			BinaryTemplate template = new BinaryTemplate();
+			template.setPath(path);
+			template.setUri(uri);
+			template.setSize(CONTENTS.get(uri).length());
+			template.setChecksum(Integer.toHexString(CONTENTS.get(uri).hashCode()));
+			return template;
+		}
+	}
+
+	@Test
+	public void loadContentOnDemand() throws Exception {
+		QuteProjectRegistry registry = new MockQuteProjectRegistry();
+		registry.setBinaryTemplateContentOnDemand(true);
+		ContentOnDemandProject project = new ContentOnDemandProject("project", registry, "tags/button.html",
+				"layouts/main.html");
+		project.getBinaryTemplates().get(10, TimeUnit.SECONDS);
+		assertTrue(project.contentOnDemand);
+
+		// The binary templates are registered without their content
+		QuteBinaryTextDocument button = (QuteBinaryTextDocument) project.getBinaryDocument("jar:tags/button.html");
+		QuteBinaryTextDocument main = (QuteBinaryTextDocument) project.getBinaryDocument("jar:layouts/main.html");
+		assertEquals(0, project.contentRequests.size());
+
+		// The content of all templates of the JAR is loaded with one request when a
+		// template is required
+		assertEquals("<button>{label}</button>", button.getTemplateFuture().get(10, TimeUnit.SECONDS).getText());
+		assertEquals(1, project.contentRequests.size());
+		assertEquals(2, project.contentRequests.get(0).getUris().size());
+		assertEquals("<html>{#insert /}</html>", main.getTemplate().getText());
+		assertEquals(1, project.contentRequests.size());
+	}
+
+	@Test
+	public void waitForContent() throws Exception {
+		QuteProjectRegistry registry = new MockQuteProjectRegistry();
+		registry.setBinaryTemplateContentOnDemand(true);
+		ContentOnDemandProject project = new ContentOnDemandProject("project", registry, "tags/button.html");
+		project.contentLoaded = new CompletableFuture<>();
+		CompletableFuture<?> binaryTemplates = project.getBinaryTemplates();
+
+		// The binary templates are resolved without waiting for their content
+		assertTrue(binaryTemplates.isDone());
+		QuteBinaryTextDocument button = (QuteBinaryTextDocument) project.getBinaryDocument("jar:tags/button.html");
+
+		// getTemplate() doesn't wait for the content
+		assertEquals("", button.getTemplate().getText());
+		CompletableFuture<Template> template = button.getTemplateFuture();
+		assertFalse(template.isDone());
+
+		project.contentLoaded.complete(null);
+		assertEquals("<button>{label}</button>", template.get(10, TimeUnit.SECONDS).getText());
+		assertEquals("<button>{label}</button>", button.getTemplate().getText());
+		assertEquals(1, project.contentRequests.size());
+	}
+
+	@Test
+	public void collectUsages() throws Exception {
+		QuteProjectRegistry registry = new MockQuteProjectRegistry();
+		registry.setBinaryTemplateContentOnDemand(true);
+		ContentOnDemandProject project = new ContentOnDemandProject("project", registry, "tags/button.html",
+				"layouts/main.html", "partials/footer.html");
+		project.getBinaryTemplates().get(10, TimeUnit.SECONDS);
+		assertNull(project.getTagRegistry().getUsages("button"));
+		assertNull(project.getIncludeUsagesRegistry().getUsages("layouts/main"));
+
+		// The usages of the user tag and of the included template are collected
+		// when the content of the JAR is loaded
+		QuteBinaryTextDocument button = (QuteBinaryTextDocument) project.getBinaryDocument("jar:tags/button.html");
+		button.getTemplateFuture().get(10, TimeUnit.SECONDS);
+		assertNotNull(project.getTagRegistry().getUsages("button"));
+		assertNotNull(project.getIncludeUsagesRegistry().getUsages("layouts/main"));
+	}
+
+	@Test
+	public void shareUsages() throws Exception {
+		QuteProjectRegistry registry = new MockQuteProjectRegistry();
+		registry.setBinaryTemplateContentOnDemand(true);
+		ContentOnDemandProject project1 = new ContentOnDemandProject("project1", registry, "tags/button.html",
+				"partials/footer.html");
+		ContentOnDemandProject project2 = new ContentOnDemandProject("project2", registry, "tags/button.html",
+				"partials/footer.html");
+		project1.getBinaryTemplates().get(10, TimeUnit.SECONDS);
+		project2.getBinaryTemplates().get(10, TimeUnit.SECONDS);
+		QuteBinaryTextDocument button1 = (QuteBinaryTextDocument) project1.getBinaryDocument("jar:tags/button.html");
+		QuteBinaryTextDocument footer1 = (QuteBinaryTextDocument) project1.getBinaryDocument("jar:partials/footer.html");
+		QuteBinaryTextDocument button2 = (QuteBinaryTextDocument) project2.getBinaryDocument("jar:tags/button.html");
+		QuteBinaryTextDocument footer2 = (QuteBinaryTextDocument) project2.getBinaryDocument("jar:partials/footer.html");
+		button1.getTemplateFuture().get(10, TimeUnit.SECONDS);
+		button2.getTemplateFuture().get(10, TimeUnit.SECONDS);
+
+		// The usages of the footer are collected once and registered in both projects
+		// without parsing the footer
+		assertSame(footer1.getSharedTemplate().getUsages(), footer2.getSharedTemplate().getUsages());
+		assertEquals(Set.of("partials/footer.html"),
+				project1.getTagRegistry().getUsages("button").getCallingTemplateIds());
+		assertEquals(Set.of("partials/footer.html"),
+				project2.getTagRegistry().getUsages("button").getCallingTemplateIds());
+		assertNotNull(project2.getIncludeUsagesRegistry().getUsages("layouts/main"));
+		assertNull(footer1.template);
+		assertNull(footer2.template);
+
+		// The parameters of the call site are resolved with the footer template of the
+		// project when they are required
+		JavaTypeInfoProvider label = project1.getTagRegistry().getUsages("button").findTypeProvider("label");
+		assertNotNull(label);
+		assertSame(footer1.template, ((Parameter) label).getOwnerTemplate());
+		assertNull(footer2.template);
+		assertEquals(1, project1.contentRequests.size());
+		assertEquals(0, project2.contentRequests.size());
+	}
+
+	@Test
+	public void shareLoadedContent() throws Exception {
+		QuteProjectRegistry registry = new MockQuteProjectRegistry();
+		registry.setBinaryTemplateContentOnDemand(true);
+		ContentOnDemandProject project1 = new ContentOnDemandProject("project1", registry, "tags/button.html",
+				"layouts/main.html");
+		ContentOnDemandProject project2 = new ContentOnDemandProject("project2", registry, "tags/button.html",
+				"layouts/main.html");
+		project1.getBinaryTemplates().get(10, TimeUnit.SECONDS);
+		project2.getBinaryTemplates().get(10, TimeUnit.SECONDS);
+		assertEquals(2, registry.getBinaryTemplateStore().size());
+
+		QuteBinaryTextDocument button1 = (QuteBinaryTextDocument) project1.getBinaryDocument("jar:tags/button.html");
+		QuteBinaryTextDocument button2 = (QuteBinaryTextDocument) project2.getBinaryDocument("jar:tags/button.html");
+		button1.getTemplateFuture().get(10, TimeUnit.SECONDS);
+		assertEquals("<button>{label}</button>", button1.getContent());
+
+		// The content loaded by project1 is used by project2
+		assertEquals("<button>{label}</button>", button2.getContent());
+		assertEquals("<button>{label}</button>", button2.getTemplateFuture().get(10, TimeUnit.SECONDS).getText());
+		assertEquals(1, project1.contentRequests.size());
+		assertEquals(0, project2.contentRequests.size());
+	}
+
+	@Test
+	public void shareContentLoading() throws Exception {
+		QuteProjectRegistry registry = new MockQuteProjectRegistry();
+		registry.setBinaryTemplateContentOnDemand(true);
+		ContentOnDemandProject project1 = new ContentOnDemandProject("project1", registry, "tags/button.html");
+		ContentOnDemandProject project2 = new ContentOnDemandProject("project2", registry, "tags/button.html");
+		project1.getBinaryTemplates().get(10, TimeUnit.SECONDS);
+		project2.getBinaryTemplates().get(10, TimeUnit.SECONDS);
+		project1.contentLoaded = new CompletableFuture<>();
+
+		QuteBinaryTextDocument button1 = (QuteBinaryTextDocument) project1.getBinaryDocument("jar:tags/button.html");
+		QuteBinaryTextDocument button2 = (QuteBinaryTextDocument) project2.getBinaryDocument("jar:tags/button.html");
+		CompletableFuture<Template> template1 = button1.getTemplateFuture();
+		CompletableFuture<Template> template2 = button2.getTemplateFuture();
+
+		// project2 waits for the content of the JAR loaded by project1
+		assertFalse(template2.isDone());
+		project1.contentLoaded.complete(null);
+		assertEquals("<button>{label}</button>", template1.get(10, TimeUnit.SECONDS).getText());
+		assertEquals("<button>{label}</button>", template2.get(10, TimeUnit.SECONDS).getText());
+		assertEquals(1, project1.contentRequests.size());
+		assertEquals(0, project2.contentRequests.size());
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.documents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.binary.BinaryTemplate;
+import com.redhat.qute.project.documents.BinaryTemplateStore.SharedBinaryTemplate;
+
+/**
+ * Tests for {@link BinaryTemplateStore}.
+ *
+ */
+public class BinaryTemplateStoreTest {
+
+	@Test
+	public void shareSameTemplate() {
+		BinaryTemplateStore store = new BinaryTemplateStore();
+		SharedBinaryTemplate project1 = store.acquire("roq-2.0.jar",
+				createTemplate("tags/search.html", new String("<input>")));
+		SharedBinaryTemplate project2 = store.acquire("roq-2.0.jar",
+				createTemplate("tags/search.html", new String("<input>")));
+		assertSame(project1, project2);
+		assertEquals("<input>", project2.getContent());
+		assertEquals(1, store.size());
+
+		store.release(project1);
+		assertEquals(1, store.size());
+		store.release(project2);
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	public void doNotShareDifferentContent() {
+		BinaryTemplateStore store = new BinaryTemplateStore();
+		SharedBinaryTemplate v1 = store.acquire("roq-2.0.jar", createTemplate("tags/search.html", "<input>"));
+		SharedBinaryTemplate v2 = store.acquire("roq-2.0.jar", createTemplate("tags/search.html", "<input />"));
+		SharedBinaryTemplate otherJar = store.acquire("roq-2.1.jar", createTemplate("tags/search.html", "<input>"));
+		assertNotSame(v1, v2);
+		assertNotSame(v1, otherJar);
+		assertEquals(3, store.size());
+	}
+
+	private static BinaryTemplate createTemplate(String path, String content) {
+		BinaryTemplate template = new BinaryTemplate();
+		template.setPath(path);
+		template.setUri("jdt://jarentry/templates/" + path);
+		template.setContent(content);
+		return template;
+	}
+}
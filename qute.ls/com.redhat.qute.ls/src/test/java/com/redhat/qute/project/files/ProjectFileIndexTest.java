@@ -0,0 +1,169 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.lsp4j.FileChangeType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ProjectFileIndex}.
+ *
+ */
+public class ProjectFileIndexTest {
+
+	@TempDir
+	Path projectFolder;
+
+	@Test
+	public void filesAreIndexed() throws Exception {
+		Path templates = Files.createDirectories(projectFolder.resolve("templates/layouts"));
+		Path base = Files.createFile(templates.resolve("base.html"));
+		ProjectFileIndex files = new ProjectFileIndex(() -> List.of(projectFolder), () -> true);
+
+		assertTrue(files.exists(base));
+		assertTrue(files.isDirectory(templates));
+		assertFalse(files.isDirectory(base));
+		assertEquals(List.of(base), files.getChildren(templates));
+
+		// Without file events, the index is not updated
+		Path page = Files.createFile(templates.resolve("page.html"));
+		assertFalse(files.exists(page));
+
+		// Created
+		files.didChangeWatchedFile(page, Set.of(FileChangeType.Created));
+		assertTrue(files.exists(page));
+		assertEquals(2, files.getChildren(templates).size());
+
+		// Deleted
+		Files.delete(base);
+		files.didChangeWatchedFile(base, Set.of(FileChangeType.Deleted));
+		assertFalse(files.exists(base));
+		assertEquals(List.of(page), files.getChildren(templates));
+	}
+
+	@Test
+	public void createdInNewDirectory() throws Exception {
+		ProjectFileIndex files = new ProjectFileIndex(() -> List.of(projectFolder), () -> true);
+		Path images = projectFolder.resolve("public/images");
+		Path image = images.resolve("logo.png");
+		assertFalse(files.exists(image));
+		assertFalse(files.isDirectory(images));
+
+		Files.createDirectories(images);
+		Files.createFile(image);
+		files.didChangeWatchedFile(image, Set.of(FileChangeType.Created));
+		assertTrue(files.exists(image));
+		assertTrue(files.isDirectory(images));
+		assertTrue(files.isDirectory(projectFolder.resolve("public")));
+	}
+
+	@Test
+	public void notWatchedFiles() throws Exception {
+		Path content = Files.createDirectories(projectFolder.resolve("content"));
+		Path page = Files.createFile(content.resolve("page.html"));
+		// Only the events of the html files are received (ex : LSP client watchers)
+		ProjectFileIndex files = new ProjectFileIndex(() -> List.of(projectFolder), () -> true,
+				path -> path.getFileName().toString().endsWith(".html"));
+		assertTrue(files.exists(page));
+		Path post = content.resolve("post.md");
+		assertFalse(files.exists(post));
+		assertEquals(List.of(page), files.getChildren(content));
+
+		// No event is received for the markdown file and the directory, the disk is
+		// used.
+		Files.createFile(post);
+		assertTrue(files.exists(post));
+		assertEquals(2, files.getChildren(content).size());
+		Path posts = Files.createDirectories(content.resolve("posts"));
+		assertTrue(files.isDirectory(posts));
+		Files.delete(post);
+		assertFalse(files.exists(post));
+	}
+
+	@Test
+	public void directoryDeletedWithoutEvents() throws Exception {
+		Path layouts = Files.createDirectories(projectFolder.resolve("templates/layouts"));
+		Path base = Files.createFile(layouts.resolve("base.html"));
+		// Only the events of the html files are received (ex : LSP client watchers),
+		// the deletion of a directory is not reported.
+		ProjectFileIndex files = new ProjectFileIndex(() -> List.of(projectFolder), () -> true,
+				path -> path.getFileName().toString().endsWith(".html"));
+		assertTrue(files.exists(base));
+		assertFalse(files.isDirectory(base));
+		assertEquals(List.of(base), files.getChildren(layouts));
+
+		// The templates directory is deleted
+		Path templates = layouts.getParent();
+		Files.delete(base);
+		Files.delete(layouts);
+		Files.delete(templates);
+		assertFalse(files.exists(base));
+		assertFalse(files.isDirectory(layouts));
+		assertEquals(List.of(), files.getChildren(layouts));
+
+		// The templates directory is created again
+		Files.createDirectories(layouts);
+		Path page = Files.createFile(layouts.resolve("page.html"));
+		files.didChangeWatchedFile(page, Set.of(FileChangeType.Created));
+		assertFalse(files.exists(base));
+		assertTrue(files.exists(page));
+	}
+
+	@Test
+	public void directoryEventEvictsSubtree() throws Exception {
+		Path layouts = Files.createDirectories(projectFolder.resolve("templates/layouts"));
+		Path base = Files.createFile(layouts.resolve("base.html"));
+		ProjectFileIndex files = new ProjectFileIndex(() -> List.of(projectFolder), () -> true);
+		assertTrue(files.exists(base));
+
+		// The templates directory is deleted and created again with other files
+		Path templates = layouts.getParent();
+		Files.delete(base);
+		Files.delete(layouts);
+		Path page = Files.createFile(Files.createDirectories(templates.resolve("pages")).resolve("page.html"));
+		files.didChangeWatchedFile(templates, Set.of(FileChangeType.Changed));
+
+		assertFalse(files.exists(base));
+		assertFalse(files.isDirectory(layouts));
+		assertTrue(files.exists(page));
+
+		// The templates directory is deleted
+		Files.delete(page);
+		Files.delete(page.getParent());
+		Files.delete(templates);
+		files.didChangeWatchedFile(templates, Set.of(FileChangeType.Deleted));
+		assertFalse(files.exists(page));
+		assertFalse(files.isDirectory(templates));
+		assertEquals(List.of(), files.getChildren(projectFolder));
+	}
+
+	@Test
+	public void disabled() throws Exception {
+		ProjectFileIndex files = new ProjectFileIndex(() -> List.of(projectFolder), () -> false);
+		Path base = projectFolder.resolve("base.html");
+		assertFalse(files.exists(base));
+
+		// The disk is used when the file events are not supported
+		Files.createFile(base);
+		assertTrue(files.exists(base));
+	}
+}
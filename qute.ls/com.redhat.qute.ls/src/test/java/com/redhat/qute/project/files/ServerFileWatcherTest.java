@@ -0,0 +1,111 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.lsp4j.FileChangeType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ServerFileWatcher}.
+ *
+ */
+public class ServerFileWatcherTest {
+
+	@TempDir
+	Path projectFolder;
+
+	@Test
+	public void watchRecursively() throws Exception {
+		Path templates = Files.createDirectories(projectFolder.resolve("templates"));
+		Map<Path, Set<FileChangeType>> events = new ConcurrentHashMap<>();
+		ServerFileWatcher watcher = new ServerFileWatcher(events::putAll);
+		try {
+			watcher.start();
+			watcher.watch(List.of(templates));
+
+			// Created
+			Path base = Files.createFile(templates.resolve("base.html"));
+			assertTrue(waitFor(() -> events.containsKey(base)));
+			assertTrue(events.get(base).contains(FileChangeType.Created));
+
+			// File created in a new directory
+			Path layouts = Files.createDirectories(templates.resolve("layouts"));
+			Path page = Files.createFile(layouts.resolve("page.html"));
+			assertTrue(waitFor(() -> events.containsKey(page)));
+			assertTrue(watcher.isWatched(layouts));
+
+			// Deleted
+			Files.delete(base);
+			assertTrue(waitFor(() -> events.get(base).contains(FileChangeType.Deleted)));
+		} finally {
+			watcher.dispose();
+		}
+	}
+
+	@Test
+	public void rescan() throws Exception {
+		Path templates = Files.createDirectories(projectFolder.resolve("templates"));
+		Path layouts = Files.createDirectories(templates.resolve("layouts"));
+		Path page = Files.createFile(layouts.resolve("page.html"));
+		ServerFileWatcher watcher = new ServerFileWatcher(events -> {
+		});
+		try {
+			watcher.start();
+			watcher.watch(List.of(templates));
+			assertTrue(watcher.isWatched(layouts));
+
+			// Changes done while the events are lost
+			Path base = Files.createFile(templates.resolve("base.html"));
+			Path partials = Files.createDirectories(templates.resolve("partials"));
+			Path item = Files.createFile(partials.resolve("item.html"));
+			Files.delete(page);
+			Files.delete(layouts);
+
+			Map<Path, Set<FileChangeType>> events = new LinkedHashMap<>();
+			watcher.rescan(templates, events);
+
+			assertEquals(Set.of(FileChangeType.Changed), events.get(templates));
+			assertEquals(Set.of(FileChangeType.Changed), events.get(base));
+			assertEquals(Set.of(FileChangeType.Changed), events.get(item));
+			assertTrue(watcher.isWatched(partials));
+			assertFalse(watcher.isWatched(layouts));
+		} finally {
+			watcher.dispose();
+		}
+	}
+
+	private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+		long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(20);
+		while (System.currentTimeMillis() < end) {
+			if (condition.getAsBoolean()) {
+				return true;
+			}
+			Thread.sleep(50);
+		}
+		return false;
+	}
+}
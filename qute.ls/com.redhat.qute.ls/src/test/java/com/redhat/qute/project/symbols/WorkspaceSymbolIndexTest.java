@@ -0,0 +1,134 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.symbols;
+
+import static com.redhat.qute.QuteAssert.r;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteTextDocument;
+import com.redhat.qute.project.renarde.RenardeProjectQuteLanguageServer;
+
+/**
+ * Tests for {@link WorkspaceSymbolIndex}.
+ *
+ */
+public class WorkspaceSymbolIndexTest {
+
+	@Test
+	public void workspaceSymbols() throws Exception {
+		RenardeProjectQuteLanguageServer server = new RenardeProjectQuteLanguageServer();
+		server.didOpenWithContent("tags/input.html", "<input name=\"{name}\" />");
+		String mainUri = server.didOpenWithContent("main.html", //
+				"{@java.lang.String userName}\n" + //
+						"{#fragment id=itemDetails}{#let itemPrice=10}{/let}{/fragment}")
+				.getUri();
+
+		// Prefix
+		List<? extends WorkspaceSymbol> symbols = server.workspaceSymbol("item");
+		assertEquals(2, symbols.size());
+		assertSymbol(symbols.get(0), "itemDetails", SymbolKind.Module, mainUri, 1, 11, 1, 25);
+		assertSymbol(symbols.get(1), "itemPrice", SymbolKind.Variable, mainUri, 1, 32, 1, 41);
+
+		// Camel case
+		symbols = server.workspaceSymbol("uN");
+		assertEquals(1, symbols.size());
+		assertSymbol(symbols.get(0), "userName", SymbolKind.Field, mainUri, 0, 19, 0, 27);
+
+		// User tag
+		symbols = server.workspaceSymbol("inp");
+		assertEquals(1, symbols.size());
+		assertEquals("input", symbols.get(0).getName());
+		assertEquals(SymbolKind.Function, symbols.get(0).getKind());
+
+		// Update the opened template: itemPrice -> itemCost
+		server.didChangeFile("main.html", "Cost", 1, 36, 41);
+		assertEquals(List.of("itemCost", "itemDetails"), names(server.workspaceSymbol("item")));
+		assertTrue(server.workspaceSymbol("itemP").isEmpty());
+	}
+
+	@Test
+	public void queryDoesNotParseTemplates() throws Exception {
+		AtomicInteger getTemplateCount = new AtomicInteger();
+		MockQuteTextDocument document = new MockQuteTextDocument(
+				TemplateParser.parse("{#let itemPrice=10}{/let}", "main.html")) {
+
+			@Override
+			public Template getTemplate() {
+				getTemplateCount.incrementAndGet();
+				return super.getTemplate();
+			}
+
+			@Override
+			public Path getTemplatePath() {
+				return Paths.get("main.html");
+			}
+		};
+		WorkspaceSymbolIndex index = new WorkspaceSymbolIndex();
+		index.addDocument(document);
+		assertEquals(1, getTemplateCount.get());
+
+		// The query only reads the index
+		assertEquals(List.of("itemPrice"), indexedNames(index.findSymbols("item", 10, () -> {
+		})));
+		assertEquals(1, getTemplateCount.get());
+
+		// The template is parsed again -> the index is updated
+		index.updateDocument(document, TemplateParser.parse("{#let itemCost=10}{/let}", "main.html"));
+		assertEquals(List.of("itemCost"), indexedNames(index.findSymbols("item", 10, () -> {
+		})));
+		assertEquals(1, getTemplateCount.get());
+	}
+
+	@Test
+	public void camelCaseMatch() {
+		assertTrue(WorkspaceSymbolIndex.isCamelCaseMatch("uTN", "userTagName"));
+		assertTrue(WorkspaceSymbolIndex.isCamelCaseMatch("usTaN", "userTagName"));
+		assertTrue(WorkspaceSymbolIndex.isCamelCaseMatch("utn", "userTagName"));
+		assertTrue(WorkspaceSymbolIndex.isCamelCaseMatch("rdh", "roq-default/hero"));
+		assertFalse(WorkspaceSymbolIndex.isCamelCaseMatch("uTx", "userTagName"));
+		assertFalse(WorkspaceSymbolIndex.isCamelCaseMatch("TN", "userTagName"));
+	}
+
+	private static void assertSymbol(WorkspaceSymbol symbol, String name, SymbolKind kind, String uri,
+			int startLine, int startCharacter, int endLine, int endCharacter) {
+		assertEquals(name, symbol.getName());
+		assertEquals(kind, symbol.getKind());
+		assertEquals(uri, symbol.getLocation().getLeft().getUri());
+		assertEquals(r(startLine, startCharacter, endLine, endCharacter), symbol.getLocation().getLeft().getRange());
+	}
+
+	private static List<String> indexedNames(List<IndexedSymbol> symbols) {
+		return symbols.stream() //
+				.map(IndexedSymbol::getName) //
+				.collect(Collectors.toList());
+	}
+
+	private static List<String> names(List<? extends WorkspaceSymbol> symbols) {
+		return symbols.stream() //
+				.map(WorkspaceSymbol::getName) //
+				.collect(Collectors.toList());
+	}
+}
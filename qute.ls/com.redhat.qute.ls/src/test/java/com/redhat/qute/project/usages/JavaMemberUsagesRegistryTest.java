@@ -0,0 +1,129 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.usages;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static com.redhat.qute.QuteAssert.assertLocations;
+import static com.redhat.qute.QuteAssert.l;
+import static com.redhat.qute.QuteAssert.r;
+import static com.redhat.qute.project.QuteQuickStartProject.PROJECT_URI;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.QuteJavaTemplateUsagesParams;
+import com.redhat.qute.commons.TemplateRootPath;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.QuteProjectRegistry;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+
+/**
+ * Tests for {@link JavaMemberUsagesRegistry}.
+ *
+ */
+public class JavaMemberUsagesRegistryTest {
+
+	private static final String TEMPLATE_URI = "test.qute";
+
+	@Test
+	public void templateUsages() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		validate("{@org.acme.Item item}\r\n" + //
+				"{item.price}\r\n" + //
+				"{item.isAvailable(1)} {item.price}", projectRegistry);
+
+		assertLocations(projectRegistry.findJavaMemberTemplateUsages(field("org.acme.Item", "price")), //
+				l(TEMPLATE_URI, r(1, 6, 1, 11)), //
+				l(TEMPLATE_URI, r(2, 28, 2, 33)));
+		assertLocations(projectRegistry.findJavaMemberTemplateUsages(method("org.acme.Item", "isAvailable")), //
+				l(TEMPLATE_URI, r(2, 6, 2, 17)));
+		assertTrue(projectRegistry.findJavaMemberTemplateUsages(field("org.acme.Item", "review")).isEmpty());
+
+		// Validate the template again -> the previous usages are replaced
+		validate("{@org.acme.Item item}\r\n" + //
+				"{item.review}", projectRegistry);
+		assertTrue(projectRegistry.findJavaMemberTemplateUsages(field("org.acme.Item", "price")).isEmpty());
+		assertLocations(projectRegistry.findJavaMemberTemplateUsages(field("org.acme.Item", "review")), //
+				l(TEMPLATE_URI, r(1, 6, 1, 12)));
+	}
+
+	@Test
+	public void getterBackedPropertyUsages() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		// org.acme.Item#review2 is a property backed by the getReview2() getter
+		validate("{@org.acme.Item item}\r\n" + //
+				"{item.review2}\r\n" + //
+				"{item.getReview2()}", projectRegistry);
+
+		// Search by field name
+		assertLocations(projectRegistry.findJavaMemberTemplateUsages(field("org.acme.Item", "review2")), //
+				l(TEMPLATE_URI, r(1, 6, 1, 13)), //
+				l(TEMPLATE_URI, r(2, 6, 2, 16)));
+		// Search by getter name
+		assertLocations(projectRegistry.findJavaMemberTemplateUsages(method("org.acme.Item", "getReview2")), //
+				l(TEMPLATE_URI, r(1, 6, 1, 13)), //
+				l(TEMPLATE_URI, r(2, 6, 2, 16)));
+	}
+
+	@Test
+	public void methodWithParametersIsNotGetter() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		// org.acme.Item#isAvailable() is a getter, org.acme.Item#isAvailable(int) is
+		// not a getter
+		validate("{@org.acme.Item item}\r\n" + //
+				"{item.available}\r\n" + //
+				"{item.isAvailable(1)}", projectRegistry);
+
+		// Search by property name: only the getter
+		assertLocations(projectRegistry.findJavaMemberTemplateUsages(field("org.acme.Item", "available")), //
+				l(TEMPLATE_URI, r(1, 6, 1, 15)));
+		// Search by method name: the getter and the method with parameters
+		assertLocations(projectRegistry.findJavaMemberTemplateUsages(method("org.acme.Item", "isAvailable")), //
+				l(TEMPLATE_URI, r(1, 6, 1, 15)), //
+				l(TEMPLATE_URI, r(2, 6, 2, 17)));
+	}
+
+	private static void validate(String value, QuteProjectRegistry projectRegistry) throws Exception {
+		Template template = TemplateParser.parse(value, TEMPLATE_URI);
+		template.setProjectUri(PROJECT_URI);
+		projectRegistry.getProject(new ProjectInfo(PROJECT_URI, "", Collections.emptyList(),
+				Arrays.asList(new TemplateRootPath(TEMPLATE_BASE_DIR)), Collections.emptySet(), Collections.emptySet()));
+		template.setProjectRegistry(projectRegistry);
+		template.getProject().getDataModelProject().get();
+
+		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
+		languageService.doDiagnostics(template, QuteValidationSettings.DEFAULT, new QuteNativeSettings(),
+				new ResolvingJavaTypeContext(template), () -> {
+				});
+	}
+
+	private static QuteJavaTemplateUsagesParams field(String sourceType, String sourceField) {
+		QuteJavaTemplateUsagesParams params = new QuteJavaTemplateUsagesParams(sourceType, PROJECT_URI);
+		params.setSourceField(sourceField);
+		return params;
+	}
+
+	private static QuteJavaTemplateUsagesParams method(String sourceType, String sourceMethod) {
+		QuteJavaTemplateUsagesParams params = new QuteJavaTemplateUsagesParams(sourceType, PROJECT_URI);
+		params.setSourceMethod(sourceMethod);
+		return params;
+	}
+}
@@ -0,0 +1,206 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.codelens;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static com.redhat.qute.QuteAssert.assertCodeLens;
+import static com.redhat.qute.QuteAssert.cl;
+import static com.redhat.qute.QuteAssert.createSharedSettings;
+import static com.redhat.qute.QuteAssert.r;
+import static com.redhat.qute.project.QuteQuickStartProject.PROJECT_URI;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.Command;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.TemplateRootPath;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.MockQuteTextDocument;
+import com.redhat.qute.project.QuteProjectRegistry;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.commands.QuteClientCommandConstants;
+import com.redhat.qute.settings.SharedSettings;
+
+/**
+ * Tests for {@link CodeLensCache}.
+ *
+ */
+public class QuteCodeLensCacheTest {
+
+	private static final String ITEMS_URI = "src/main/resources/templates/ItemResource/items.qute.html";
+
+	@Test
+	public void cacheHit() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
+		Template template = createTemplate("", ITEMS_URI, null, projectRegistry);
+		SharedSettings settings = createSharedSettings(false);
+
+		List<? extends CodeLens> lenses = getCodeLens(template, settings, languageService);
+		assertCodeLens(lenses, //
+				cl(r(0, 0, 0, 0), "ItemResource$Templates#items(...)",
+						QuteClientCommandConstants.COMMAND_JAVA_DEFINITION), //
+				cl(r(0, 0, 0, 0), "items : List<Item>", QuteClientCommandConstants.COMMAND_JAVA_DEFINITION));
+
+		// Same template, same data model, same settings -> the cached code lenses are
+		// returned
+		assertSameCodeLenses(lenses, getCodeLens(template, settings, languageService));
+	}
+
+	@Test
+	public void dataModelChanged() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
+		Template template = createTemplate("", ITEMS_URI, null, projectRegistry);
+		SharedSettings settings = createSharedSettings(false);
+
+		List<? extends CodeLens> lenses = getCodeLens(template, settings, languageService);
+		assertEquals(2, lenses.size());
+
+		// A Java file has changed -> the data model version changes and the code lenses
+		// are computed again
+		template.getProject().resetJavaTypes(null);
+		List<? extends CodeLens> updatedLenses = getCodeLens(template, settings, languageService);
+		assertEquals(2, updatedLenses.size());
+		assertNotSame(lenses.get(0), updatedLenses.get(0));
+		assertNotSame(lenses.get(1), updatedLenses.get(1));
+	}
+
+	@Test
+	public void settingsChanged() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
+		Template template = createTemplate("", ITEMS_URI, null, projectRegistry);
+
+		List<? extends CodeLens> lenses = getCodeLens(template, createSharedSettings(false), languageService);
+		assertCodeLens(lenses, //
+				cl(r(0, 0, 0, 0), "ItemResource$Templates#items(...)",
+						QuteClientCommandConstants.COMMAND_JAVA_DEFINITION), //
+				cl(r(0, 0, 0, 0), "items : List<Item>", QuteClientCommandConstants.COMMAND_JAVA_DEFINITION));
+
+		// The client doesn't support the Java definition command -> the code lenses
+		// are computed again without command
+		List<? extends CodeLens> updatedLenses = getCodeLens(template, new SharedSettings(), languageService);
+		assertCodeLens(updatedLenses, //
+				cl(r(0, 0, 0, 0), "ItemResource$Templates#items(...)", ""), //
+				cl(r(0, 0, 0, 0), "items : List<Item>", ""));
+	}
+
+	@Test
+	public void resolvingJavaTypeTitle() throws Exception {
+		Template template = TemplateParser.parse("", "test.qute");
+		CodeLensCache cache = new CodeLensCache();
+
+		// 'name : ?' while the Java type is resolving
+		CompletableFuture<ResolvedJavaTypeInfo> future = new CompletableFuture<>();
+		CodeLens codeLens = new CodeLens(r(0, 0, 0, 0), new Command("name : ?", ""), null);
+		CodeLensCache.CachedCodeLenses cached = new CodeLensCache.CachedCodeLenses(template, 1, 0);
+		cached.addJavaTypeCodeLens(codeLens, future, f -> "name : " + f.getNow(null).getName());
+		cache.put(cached);
+
+		assertSame(cached, cache.get(template, 1, 0));
+		assertEquals("name : ?", codeLens.getCommand().getTitle());
+
+		// The Java type is resolved -> the title of the cached code lens is updated
+		ResolvedJavaTypeInfo javaType = new ResolvedJavaTypeInfo();
+		javaType.setSignature("java.lang.String");
+		future.complete(javaType);
+		assertSame(cached, cache.get(template, 1, 0));
+		assertEquals("name : java.lang.String", codeLens.getCommand().getTitle());
+
+		// Other data model version, other settings or template parsed again -> no
+		// cached code lenses
+		assertNull(cache.get(template, 2, 0));
+		assertNull(cache.get(template, 1, 1));
+		assertNull(cache.get(TemplateParser.parse("", "test.qute"), 1, 0));
+	}
+
+	@Test
+	public void insertReferences() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
+		SharedSettings settings = createSharedSettings(false);
+		Template base = createTemplate("{#insert cacheContent}No content!{/}", //
+				TEMPLATE_BASE_DIR + "/cache/base.html", "cache/base", projectRegistry);
+		assertCodeLens(getCodeLens(base, settings, languageService));
+
+		// Another template includes 'base' -> the include usages change, so the code
+		// lenses are computed again with the 'Included by' code lenses
+		createTemplate("{#include cache/base}{#cacheContent}Hello{/cacheContent}{/include}", //
+				TEMPLATE_BASE_DIR + "/cache/page.html", "cache/page", projectRegistry);
+		List<? extends CodeLens> lenses = getCodeLens(base, settings, languageService);
+		assertCodeLens(lenses, //
+				cl(r(0, 9, 0, 21), "1 reference", QuteClientCommandConstants.COMMAND_SHOW_REFERENCES), //
+				cl(r(0, 0, 0, 0), "Included by:", ""), //
+				cl(r(0, 0, 0, 0), "cache/page", ""));
+
+		// Another template defines a 'cacheContent' section without including 'base'
+		// -> the cached code lenses are returned, only the #insert references are
+		// counted again
+		createTemplate("{#cacheContent}World{/cacheContent}", //
+				TEMPLATE_BASE_DIR + "/cache/other.html", "cache/other", projectRegistry);
+		List<? extends CodeLens> updatedLenses = getCodeLens(base, settings, languageService);
+		assertCodeLens(updatedLenses, //
+				cl(r(0, 9, 0, 21), "2 references", QuteClientCommandConstants.COMMAND_SHOW_REFERENCES), //
+				cl(r(0, 0, 0, 0), "Included by:", ""), //
+				cl(r(0, 0, 0, 0), "cache/page", ""));
+		assertSame(lenses.get(1), updatedLenses.get(1));
+		assertSame(lenses.get(2), updatedLenses.get(2));
+	}
+
+	private static List<? extends CodeLens> getCodeLens(Template template, SharedSettings settings,
+			QuteLanguageService languageService) throws Exception {
+		return languageService.getCodeLens(template, settings, () -> {
+		}).get();
+	}
+
+	private static void assertSameCodeLenses(List<? extends CodeLens> expected, List<? extends CodeLens> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertSame(expected.get(i), actual.get(i));
+		}
+	}
+
+	private static Template createTemplate(String value, String uri, String templateId,
+			QuteProjectRegistry projectRegistry) throws Exception {
+		Template template = TemplateParser.parse(value, uri);
+		template.setProjectUri(PROJECT_URI);
+		projectRegistry.getProject(new ProjectInfo(PROJECT_URI, "", Collections.emptyList(),
+				Arrays.asList(new TemplateRootPath(TEMPLATE_BASE_DIR)), Collections.emptySet(), Collections.emptySet()));
+		template.setProjectRegistry(projectRegistry);
+		template.setTemplateId(templateId);
+		projectRegistry.onDidOpenTextDocument(new MockQuteTextDocument(template) {
+
+			@Override
+			public Path getTemplatePath() {
+				// Several templates are opened in the project
+				return Paths.get(uri);
+			}
+		});
+		return template;
+	}
+}
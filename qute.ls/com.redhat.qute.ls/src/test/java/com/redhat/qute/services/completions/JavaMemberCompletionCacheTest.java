@@ -0,0 +1,150 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.completions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lsp4j.Command;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.CompletionItemLabelDetails;
+import org.eclipse.lsp4j.CompletionItemTag;
+import org.eclipse.lsp4j.InsertTextFormat;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+
+/**
+ * Tests for {@link JavaMemberCompletionCache}.
+ *
+ */
+public class JavaMemberCompletionCacheTest {
+
+	private static final String PROJECT_URI = "project";
+
+	private static final String TEMPLATE_URI = "test.qute";
+
+	@Test
+	public void cacheHit() {
+		JavaMemberCompletionCache cache = new JavaMemberCompletionCache();
+		ResolvedJavaTypeInfo item = createType("org.acme.Item");
+		JavaMemberCompletionCache.Key key = createKey(item, 1);
+		assertNull(cache.get(key, r(0, 6, 0, 6), TEMPLATE_URI));
+
+		cache.put(key, Arrays.asList(createItem("name", r(0, 6, 0, 6))));
+
+		List<CompletionItem> items = cache.get(createKey(item, 1), r(0, 6, 0, 8), TEMPLATE_URI);
+		assertEquals(1, items.size());
+		assertEquals("name", items.get(0).getLabel());
+
+		// Another data model version doesn't hit the cache
+		assertNull(cache.get(createKey(item, 2), r(0, 6, 0, 8), TEMPLATE_URI));
+	}
+
+	@Test
+	public void keyedByBaseType() {
+		JavaMemberCompletionCache cache = new JavaMemberCompletionCache();
+		ResolvedJavaTypeInfo item = createType("org.acme.Item");
+		ResolvedJavaTypeInfo review = createType("org.acme.Review");
+		cache.put(createKey(item, 1), Arrays.asList(createItem("name", r(0, 6, 0, 6))));
+		cache.put(createKey(review, 1), Arrays.asList(createItem("average", r(0, 6, 0, 6))));
+
+		assertEquals("name", cache.get(createKey(item, 1), r(0, 6, 0, 6), TEMPLATE_URI).get(0).getLabel());
+		assertEquals("average", cache.get(createKey(review, 1), r(0, 6, 0, 6), TEMPLATE_URI).get(0).getLabel());
+
+		// The base type is compared by identity, a re-loaded type doesn't hit the cache
+		assertNull(cache.get(createKey(createType("org.acme.Item"), 1), r(0, 6, 0, 6), TEMPLATE_URI));
+	}
+
+	@Test
+	public void rangeIsRewritten() {
+		JavaMemberCompletionCache cache = new JavaMemberCompletionCache();
+		JavaMemberCompletionCache.Key key = createKey(createType("org.acme.Item"), 1);
+		cache.put(key, Arrays.asList(createItem("name", r(0, 6, 0, 6))));
+
+		CompletionItem first = cache.get(key, r(0, 6, 0, 7), TEMPLATE_URI).get(0);
+		CompletionItem second = cache.get(key, r(2, 10, 2, 13), TEMPLATE_URI).get(0);
+		assertNotSame(first, second);
+		assertEquals(r(0, 6, 0, 7), first.getTextEdit().getLeft().getRange());
+		assertEquals(r(2, 10, 2, 13), second.getTextEdit().getLeft().getRange());
+		assertEquals("name", second.getTextEdit().getLeft().getNewText());
+	}
+
+	@Test
+	public void allFieldsAreCopied() {
+		JavaMemberCompletionCache cache = new JavaMemberCompletionCache();
+		JavaMemberCompletionCache.Key key = createKey(createType("org.acme.Item"), 1);
+		CompletionItem cachedItem = createItem("getName()", r(0, 6, 0, 6));
+		CompletionItemLabelDetails labelDetails = new CompletionItemLabelDetails();
+		labelDetails.setDetail("()");
+		cachedItem.setLabelDetails(labelDetails);
+		cachedItem.setTags(Arrays.asList(CompletionItemTag.Deprecated));
+		cachedItem.setPreselect(true);
+		cachedItem.setSortText("a");
+		cachedItem.setInsertText("getName()");
+		cachedItem.setAdditionalTextEdits(Arrays.asList(new TextEdit(r(0, 0, 0, 0), "{@org.acme.Item item}")));
+		cachedItem.setCommitCharacters(Arrays.asList("."));
+		cachedItem.setCommand(new Command("Trigger Suggest", "editor.action.triggerSuggest"));
+		cache.put(key, Arrays.asList(cachedItem));
+
+		CompletionItem item = cache.get(key, r(0, 6, 0, 7), TEMPLATE_URI).get(0);
+		assertEquals("getName()", item.getLabel());
+		assertEquals("()", item.getLabelDetails().getDetail());
+		assertEquals(CompletionItemKind.Method, item.getKind());
+		assertEquals(Arrays.asList(CompletionItemTag.Deprecated), item.getTags());
+		assertEquals("java.lang.String", item.getDetail());
+		assertTrue(item.getPreselect());
+		assertEquals("a", item.getSortText());
+		assertEquals("getName", item.getFilterText());
+		assertEquals("getName()", item.getInsertText());
+		assertEquals(InsertTextFormat.PlainText, item.getInsertTextFormat());
+		assertEquals(Arrays.asList(new TextEdit(r(0, 0, 0, 0), "{@org.acme.Item item}")),
+				item.getAdditionalTextEdits());
+		assertEquals(Arrays.asList("."), item.getCommitCharacters());
+		assertEquals("editor.action.triggerSuggest", item.getCommand().getCommand());
+	}
+
+	private static JavaMemberCompletionCache.Key createKey(ResolvedJavaTypeInfo baseType, long dataModelVersion) {
+		return new JavaMemberCompletionCache.Key(PROJECT_URI, baseType, false, false, null, true,
+				dataModelVersion);
+	}
+
+	private static ResolvedJavaTypeInfo createType(String signature) {
+		ResolvedJavaTypeInfo type = new ResolvedJavaTypeInfo();
+		type.setSignature(signature);
+		return type;
+	}
+
+	private static CompletionItem createItem(String label, Range range) {
+		CompletionItem item = new CompletionItem(label);
+		item.setKind(CompletionItemKind.Method);
+		item.setDetail("java.lang.String");
+		item.setFilterText("getName");
+		item.setInsertTextFormat(InsertTextFormat.PlainText);
+		item.setTextEdit(Either.forLeft(new TextEdit(range, label)));
+		return item;
+	}
+
+	private static Range r(int startLine, int startCharacter, int endLine, int endCharacter) {
+		return new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter));
+	}
+}
@@ -15,7 +15,13 @@ import static com.redhat.qute.QuteAssert.RESOLVERS_SIZE;
 import static com.redhat.qute.QuteAssert.c;
 import static com.redhat.qute.QuteAssert.r;
 import static com.redhat.qute.QuteAssert.testCompletionFor;
+import static com.redhat.qute.QuteAssert.testCompletionItemResolveFor;
 
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -70,6 +76,37 @@ public class QuteCompletionInExpressionTest {
 				c("item", "item", r(1, 13, 1, 13)));
 	}
 
+	@Test
+	public void completionItemResolveForPropertyPart() throws Exception {
+		String template = "{@org.acme.Item item}\r\n" + //
+				"Item: {item.|}";
+		testCompletionItemResolveFor(template, //
+				cd("base : String", "base", r(1, 12, 1, 12), //
+						"String org.acme.BaseItem.base"), // comes from BaseItem extended by Item
+				cd("name : String", "name", r(1, 12, 1, 12), //
+						"String org.acme.Item.name" + System.lineSeparator() + "The name of the item"), //
+				cd("review2 : Review", "review2", r(1, 12, 1, 12), //
+						"Review org.acme.Item.getReview2()"), //
+				cd("getReview2() : Review", "getReview2", r(1, 12, 1, 12), //
+						"Review org.acme.Item.getReview2()"));
+	}
+
+	@Test
+	public void completionItemResolveForNamespace() throws Exception {
+		String template = "{inject:|}";
+		testCompletionItemResolveFor(template, //
+				cd("bean", "bean", r(0, 8, 0, 8), //
+						"String org.acme.Bean.bean"));
+
+		template = "{|}";
+		testCompletionItemResolveFor(template, //
+				cd("inject:bean", "inject:bean", r(0, 1, 0, 1), //
+						"String org.acme.Bean.bean"), //
+				cd("config:property(propertyName : String) : Object", "config:property(propertyName)",
+						r(0, 1, 0, 1), //
+						"Object io.quarkus.qute.runtime.extensions.ConfigTemplateExtensions.property(String propertyName)"));
+	}
+
 	@Test
 	public void completionInExpressionForPropertyPart() throws Exception {
 		String template = "{@org.acme.Item item}\r\n" + //
@@ -431,4 +468,10 @@ public class QuteCompletionInExpressionTest {
 		testCompletionFor(template, 6);
 	}
 
+	private static CompletionItem cd(String label, String newText, Range range, String documentation) {
+		CompletionItem item = c(label, newText, range);
+		item.setDocumentation(Either.forRight(new MarkupContent(MarkupKind.PLAINTEXT, documentation)));
+		return item;
+	}
+
 }
\ No newline at end of file
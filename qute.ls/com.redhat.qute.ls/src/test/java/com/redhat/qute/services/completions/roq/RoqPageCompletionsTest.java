@@ -17,6 +17,10 @@ import static com.redhat.qute.QuteAssert.r;
 import java.util.Collections;
 
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.junit.jupiter.api.Test;
 
 import com.redhat.qute.CompletionParameters;
@@ -82,6 +86,19 @@ public class RoqPageCompletionsTest {
 				c("title : String", "title", r(4, 11, 4, 11)));
 	}
 
+	@Test
+	public void pageDataWithYamlFrontMatterResolve() throws Exception {
+		// The documentation of the YAML front matter properties is resolved with the
+		// additional types of the MemberResolutionParticipant
+		String template = "---\r\n" + //
+				"layout: main\r\n" + //
+				"---\r\n" + //
+				"{page.data.|}";
+		testCompletionItemResolveFor(template, //
+				cd("layout : String", "layout", r(3, 11, 3, 11), "String layout"), //
+				cd("tag : String", "tag", r(3, 11, 3, 11), "String tag"));
+	}
+
 	@Test
 	public void pageDataWithNoFrontMatter() throws Exception {
 		// No YAML front matter - JsonObject methods + tagging properties should appear
@@ -143,4 +160,18 @@ public class RoqPageCompletionsTest {
 		QuteAssert.testCompletionFor(value, p, expectedItems);
 	}
 
+	private static void testCompletionItemResolveFor(String value, CompletionItem... expectedItems)
+			throws Exception {
+		CompletionParameters p = new CompletionParameters();
+		p.setProjectUri(RoqProject.PROJECT_URI);
+		p.setInjectionDetectors(Collections.singletonList(new YamlFrontMatterDetector()));
+		QuteAssert.testCompletionItemResolveFor(value, p, expectedItems);
+	}
+
+	private static CompletionItem cd(String label, String newText, Range range, String documentation) {
+		CompletionItem item = c(label, newText, range);
+		item.setDocumentation(Either.forRight(new MarkupContent(MarkupKind.PLAINTEXT, documentation)));
+		return item;
+	}
+
 }
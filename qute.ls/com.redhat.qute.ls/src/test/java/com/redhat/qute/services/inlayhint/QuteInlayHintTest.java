@@ -14,6 +14,7 @@ package com.redhat.qute.services.inlayhint;
 import static com.redhat.qute.QuteAssert.ih;
 import static com.redhat.qute.QuteAssert.ihLabel;
 import static com.redhat.qute.QuteAssert.p;
+import static com.redhat.qute.QuteAssert.r;
 import static com.redhat.qute.QuteAssert.testInlayHintFor;
 
 import org.eclipse.lsp4j.Command;
@@ -53,6 +54,27 @@ public class QuteInlayHintTest {
 
 	}
 
+	@Test
+	public void inlayHintInRange() throws Exception {
+		String template = "{@java.util.List<org.acme.Item> items}\r\n" + //
+				"{#for item in items}\r\n" + // item[:Item]
+				"  {#let name=item.name}\r\n" + // name[:String]=item.name
+				"  {/let}\r\n" + //
+				"{/for}";
+		// Range which contains the #for start tag
+		testInlayHintFor(template, r(0, 0, 1, 20), //
+				ih(p(1, 10), ihLabel(":"), ihLabel("Item", "Open `org.acme.Item` Java type.", cd("org.acme.Item"))));
+
+		// Range inside the #for section -> the #let section is visited although the
+		// #for section starts before the range
+		testInlayHintFor(template, r(2, 0, 3, 0), //
+				ih(p(2, 12), ihLabel(":"),
+						ihLabel("String", "Open `java.lang.String` Java type.", cd("java.lang.String"))));
+
+		// Range after the sections
+		testInlayHintFor(template, r(4, 6, 4, 6));
+	}
+
 	@Test
 	public void parameterCustomSection() throws Exception {
 		String template = "{@org.acme.Item item}\r\n" + //
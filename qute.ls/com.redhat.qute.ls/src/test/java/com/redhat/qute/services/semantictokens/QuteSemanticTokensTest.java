@@ -0,0 +1,211 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.semantictokens;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static com.redhat.qute.project.QuteQuickStartProject.PROJECT_URI;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.TemplateRootPath;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.QuteProjectRegistry;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+
+/**
+ * Tests for Qute semantic tokens.
+ *
+ */
+public class QuteSemanticTokensTest {
+
+	private static final String TEMPLATE_URI = "test.qute";
+
+	@Test
+	public void semanticTokens() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
+		Template template = createTemplate("{@org.acme.Item item}\r\n" + //
+				"{! a comment !}\r\n" + //
+				"{#let name=item.name}{name}{/let}\r\n" + //
+				"{item.XXXX} {item.isAvailable(1)} {inject:bean}", projectRegistry);
+
+		SemanticTokens tokens = getSemanticTokens(template, languageService);
+		assertTokens(tokens.getData(), //
+				"0:2:13:type", //
+				"0:16:4:variable:declaration", //
+				"1:0:15:comment", //
+				"2:1:4:keyword", //
+				"2:6:4:variable:declaration", //
+				"2:11:4:variable", //
+				"2:16:4:property", //
+				"2:22:4:variable", //
+				"2:28:4:keyword", //
+				"3:1:4:variable", //
+				"3:6:4:property:unresolved", //
+				"3:13:4:variable", //
+				"3:18:11:method", //
+				"3:35:6:namespace", //
+				"3:42:4:variable");
+	}
+
+	@Test
+	public void memberWithUnresolvedType() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
+		// rest.Login#login() exists but returns io.quarkus.qute.TemplateInstance
+		// which cannot be resolved
+		Template template = createTemplate("{@rest.Login login}\r\n" + //
+				"{login.login} {login.XXXX}", projectRegistry);
+
+		SemanticTokens tokens = getSemanticTokens(template, languageService);
+		assertTokens(tokens.getData(), //
+				"0:2:10:type", //
+				"0:13:5:variable:declaration", //
+				"1:1:5:variable", //
+				"1:7:5:property", //
+				"1:15:5:variable", //
+				"1:21:4:property:unresolved");
+	}
+
+	@Test
+	public void semanticTokensDelta() throws Exception {
+		QuteProjectRegistry projectRegistry = new MockQuteProjectRegistry();
+		QuteLanguageService languageService = new QuteLanguageService(projectRegistry);
+		Template template = createTemplate("{@org.acme.Item item}\r\n" + //
+				"{item.name}\r\n" + //
+				"{item.price}", projectRegistry);
+		SemanticTokens tokens = getSemanticTokens(template, languageService);
+		assertNotNull(tokens.getResultId());
+
+		// Same template -> the cached tokens are returned with the same result id
+		assertEquals(tokens.getResultId(), getSemanticTokens(template, languageService).getResultId());
+
+		// {item.name} -> {item.XXXX}
+		Template updatedTemplate = createTemplate("{@org.acme.Item item}\r\n" + //
+				"{item.XXXX}\r\n" + //
+				"{item.price}", projectRegistry);
+		Either<SemanticTokens, SemanticTokensDelta> result = getSemanticTokensDelta(updatedTemplate,
+				tokens.getResultId(), languageService);
+		assertTrue(result.isRight());
+		SemanticTokensDelta delta = result.getRight();
+		assertNotNull(delta.getResultId());
+		// Only the modifier of the 'XXXX' property token is updated
+		assertEquals(1, delta.getEdits().size());
+		SemanticTokensEdit edit = delta.getEdits().get(0);
+		assertEquals(19, edit.getStart());
+		assertEquals(1, edit.getDeleteCount());
+		assertEquals(Arrays.asList(QuteSemanticTokenModifier.UNRESOLVED.getMask()), edit.getData());
+
+		// Unknown previous result id -> all tokens
+		result = getSemanticTokensDelta(updatedTemplate, "unknown", languageService);
+		assertTrue(result.isLeft());
+	}
+
+	@Test
+	public void computeEdits() {
+		assertTrue(SemanticTokensCache.computeEdits(Arrays.asList(1, 2, 3), Arrays.asList(1, 2, 3)).isEmpty());
+
+		SemanticTokensEdit edit = SemanticTokensCache
+				.computeEdits(Arrays.asList(1, 2, 3, 4, 5), Arrays.asList(1, 2, 6, 7, 4, 5)).get(0);
+		assertEquals(2, edit.getStart());
+		assertEquals(1, edit.getDeleteCount());
+		assertEquals(Arrays.asList(6, 7), edit.getData());
+
+		edit = SemanticTokensCache.computeEdits(Arrays.asList(1, 2, 3), Arrays.asList(1, 2)).get(0);
+		assertEquals(2, edit.getStart());
+		assertEquals(1, edit.getDeleteCount());
+		assertEquals(Collections.emptyList(), edit.getData());
+	}
+
+	private static SemanticTokens getSemanticTokens(Template template, QuteLanguageService languageService)
+			throws Exception {
+		while (true) {
+			ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template);
+			SemanticTokens tokens = languageService
+					.getSemanticTokens(template, resolvingJavaTypeContext, () -> {
+					}).get();
+			if (resolvingJavaTypeContext.isEmpty()) {
+				return tokens;
+			}
+			waitForResolvedJavaTypes(resolvingJavaTypeContext);
+		}
+	}
+
+	private static Either<SemanticTokens, SemanticTokensDelta> getSemanticTokensDelta(Template template,
+			String previousResultId, QuteLanguageService languageService) throws Exception {
+		while (true) {
+			ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template);
+			Either<SemanticTokens, SemanticTokensDelta> result = languageService
+					.getSemanticTokensDelta(template, previousResultId, resolvingJavaTypeContext, () -> {
+					}).get();
+			if (resolvingJavaTypeContext.isEmpty()) {
+				return result;
+			}
+			waitForResolvedJavaTypes(resolvingJavaTypeContext);
+		}
+	}
+
+	private static void waitForResolvedJavaTypes(ResolvingJavaTypeContext resolvingJavaTypeContext)
+			throws Exception {
+		CompletableFuture.allOf(
+				resolvingJavaTypeContext.toArray(new CompletableFuture[resolvingJavaTypeContext.size()])).get();
+	}
+
+	private static Template createTemplate(String value, QuteProjectRegistry projectRegistry) throws Exception {
+		Template template = TemplateParser.parse(value, TEMPLATE_URI);
+		template.setProjectUri(PROJECT_URI);
+		projectRegistry.getProject(new ProjectInfo(PROJECT_URI, "", Collections.emptyList(),
+				Arrays.asList(new TemplateRootPath(TEMPLATE_BASE_DIR)), Collections.emptySet(), Collections.emptySet()));
+		template.setProjectRegistry(projectRegistry);
+		template.getProject().getDataModelProject().get();
+		return template;
+	}
+
+	private static void assertTokens(List<Integer> data, String... expected) {
+		List<String> actual = new ArrayList<>();
+		int line = 0;
+		int character = 0;
+		for (int i = 0; i < data.size(); i += 5) {
+			int deltaLine = data.get(i);
+			line += deltaLine;
+			character = deltaLine == 0 ? character + data.get(i + 1) : data.get(i + 1);
+			StringBuilder token = new StringBuilder();
+			token.append(line).append(':').append(character).append(':').append(data.get(i + 2)).append(':')
+					.append(QuteSemanticTokenType.values()[data.get(i + 3)].getName());
+			int modifiers = data.get(i + 4);
+			for (QuteSemanticTokenModifier modifier : QuteSemanticTokenModifier.values()) {
+				if ((modifiers & modifier.getMask()) != 0) {
+					token.append(':').append(modifier.getName());
+				}
+			}
+			actual.add(token.toString());
+		}
+		assertEquals(Arrays.asList(expected), actual);
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SimilarValueIndex} and the bounded
+ * {@link LevenshteinDistance}.
+ *
+ */
+public class SimilarValueIndexTest {
+
+	private static final List<String> CANDIDATES = Arrays.asList("name", "names", "getName", "price", "prices",
+			"review", "reviews", "average", "averageRating", "orEmpty", "ifTruthy", "or", "id", "size", "isEmpty",
+			"toString", "hashCode", "equals", "getClass", "a", "ab");
+
+	@Test
+	public void thresholdCutoff() {
+		SimilarValueIndex index = new SimilarValueIndex(Arrays.asList("name", "price", "review"));
+		// 'nme' : distance 1 with 'name' (threshold 2)
+		assertEquals(Arrays.asList("name"), index.findSimilar("nme"));
+		// 'nam' : distance 1 with 'name'
+		assertEquals(Arrays.asList("name"), index.findSimilar("nam"));
+		// 'xxme' : distance 2 with 'name' (threshold 2)
+		assertEquals(Arrays.asList("name"), index.findSimilar("xxme"));
+		// 'xxxe' : distance 3 with 'name', greater than the threshold
+		assertEquals(Collections.emptyList(), index.findSimilar("xxxe"));
+		assertEquals(Collections.emptyList(), index.findSimilar("foo"));
+		assertEquals(Collections.emptyList(), new SimilarValueIndex(Collections.emptyList()).findSimilar("name"));
+	}
+
+	@Test
+	public void rankingTies() {
+		// All candidates are at the distance 1 of 'name' and are returned in the
+		// order of the candidates, whatever their length.
+		SimilarValueIndex index = new SimilarValueIndex(Arrays.asList("price", "nme", "names", "nam"));
+		assertEquals(Arrays.asList("nme", "names", "nam"), index.findSimilar("name"));
+
+		index = new SimilarValueIndex(Arrays.asList("nam", "names", "price", "nme"));
+		assertEquals(Arrays.asList("nam", "names", "nme"), index.findSimilar("name"));
+	}
+
+	@Test
+	public void sameResultAsLevenshteinDistance() {
+		SimilarValueIndex index = new SimilarValueIndex(CANDIDATES);
+		List<String> values = new ArrayList<>(CANDIDATES);
+		values.addAll(Arrays.asList("nam", "nmae", "getname", "pirce", "reveiw", "averge", "orEmty", "x", "", "sizee",
+				"tostring", "hashcod", "averageRatings", "eqals"));
+		for (String value : values) {
+			List<String> expected = new ArrayList<>();
+			for (String candidate : CANDIDATES) {
+				if (StringUtils.isSimilar(candidate, value)) {
+					expected.add(candidate);
+				}
+			}
+			assertEquals(expected, index.findSimilar(value), "Similar values of '" + value + "'");
+		}
+	}
+
+	@Test
+	public void limitedLevenshteinDistance() {
+		List<String> values = new ArrayList<>(CANDIDATES);
+		values.addAll(Arrays.asList("", "abcdef", "uvwxyz", "elephant", "hippo", "kitten", "sitting"));
+		LevenshteinDistance unlimited = new LevenshteinDistance();
+		for (String left : values) {
+			for (String right : values) {
+				int distance = unlimited.apply(left, right);
+				for (int threshold = 0; threshold < 10; threshold++) {
+					int expected = distance <= threshold ? distance : -1;
+					assertEquals(expected, new LevenshteinDistance(threshold).apply(left, right),
+							"Distance between '" + left + "' and '" + right + "' with threshold " + threshold);
+				}
+			}
+		}
+		// The minimum of the first rows already exceeds the threshold
+		assertEquals(-1, new LevenshteinDistance(2).apply("abcdef", "uvwxyz"));
+		assertEquals(3, new LevenshteinDistance(3).apply("kitten", "sitting"));
+		assertEquals(-1, new LevenshteinDistance(2).apply("kitten", "sitting"));
+	}
+}